@@ -0,0 +1,36 @@
+package com.example.community.common.compression;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Post.content / Comment.content 에 붙인다. Hibernate 가 스프링 빈 컨테이너로 만들면 설정된 ContentCodec 을 받고,
+ * 컨테이너 없이 만들어지면(슬라이스 테스트 등) 압축은 하지 않고 압축된 값만 풀어 읽는다.
+ */
+@Component
+@Converter
+public class CompressedContentConverter implements AttributeConverter<String, String> {
+
+    private final ContentCodec codec;
+
+    public CompressedContentConverter() {
+        this(ContentCodec.disabled());
+    }
+
+    @Autowired
+    public CompressedContentConverter(ContentCodec codec) {
+        this.codec = codec;
+    }
+
+    @Override
+    public String convertToDatabaseColumn(String attribute) {
+        return codec.encode(attribute);
+    }
+
+    @Override
+    public String convertToEntityAttribute(String dbData) {
+        return codec.decode(dbData);
+    }
+}
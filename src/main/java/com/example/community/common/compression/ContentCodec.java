@@ -0,0 +1,111 @@
+package com.example.community.common.compression;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 본문 저장 형식. minLength 자 이상이고 압축해서 실제로 작아지는 본문만 "\u0001z1:" + Base64(Deflate) 로 저장한다.
+ * 짧은 본문과 잘 줄지 않는 본문은 그대로 둔다. 읽을 때는 접두어로 구분하므로 두 형식이 한 테이블에 섞여 있어도 된다.
+ * enabled 가 꺼져 있어도 압축된 값은 풀어서 읽는다.
+ * 원문이 접두어로 시작하면 그대로 두었을 때 압축된 값과 구분되지 않으므로 설정과 상관없이 압축한다.
+ */
+@Component
+public class ContentCodec {
+
+    static final String PREFIX = "\u0001z1:";
+
+    private final boolean enabled;
+    private final int minLength;
+
+    @Autowired
+    public ContentCodec(@Value("${community.content.compression.enabled:false}") boolean enabled,
+                        @Value("${community.content.compression.min-length:512}") int minLength) {
+        this.enabled = enabled;
+        this.minLength = minLength;
+    }
+
+    public static ContentCodec disabled() {
+        return new ContentCodec(false, Integer.MAX_VALUE);
+    }
+
+    public String encode(String content) {
+        if (content == null) return null;
+
+        boolean ambiguous = content.startsWith(PREFIX);
+        if (!ambiguous && (!enabled || content.length() < minLength)) {
+            return content;
+        }
+
+        byte[] raw = content.getBytes(StandardCharsets.UTF_8);
+        String encoded = PREFIX + Base64.getEncoder().encodeToString(deflate(raw));
+        // Base64 와 접두어는 모두 1바이트 문자이므로 길이가 곧 저장 바이트 수다.
+        if (!ambiguous && encoded.length() >= raw.length) {
+            return content;
+        }
+        return encoded;
+    }
+
+    public String decode(String stored) {
+        if (stored == null || !stored.startsWith(PREFIX)) return stored;
+
+        try {
+            byte[] compressed = Base64.getDecoder().decode(stored.substring(PREFIX.length()));
+            return new String(inflate(compressed), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException | DataFormatException e) {
+            // 이 형식이 생기기 전에 같은 접두어로 저장된 원문
+            return stored;
+        }
+    }
+
+    public boolean isCompressed(String stored) {
+        return stored != null && stored.startsWith(PREFIX);
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        try {
+            deflater.setDictionary(ContentDictionary.V1);
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 2));
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] compressed) throws DataFormatException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(compressed.length * 3);
+            byte[] buffer = new byte[4096];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0) {
+                    if (inflater.needsDictionary()) {
+                        inflater.setDictionary(ContentDictionary.V1);
+                    } else if (inflater.needsInput()) {
+                        throw new DataFormatException("압축 데이터가 중간에 끊겼습니다.");
+                    }
+                }
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } finally {
+            inflater.end();
+        }
+    }
+}
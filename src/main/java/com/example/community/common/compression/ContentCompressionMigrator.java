@@ -0,0 +1,140 @@
+package com.example.community.common.compression;
+
+import com.example.community.domain.Post;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 이미 저장된 post / comment 본문을 지금 ContentCodec 설정에 맞는 형식으로 다시 쓴다.
+ * 압축을 켠 뒤 돌리면 긴 본문이 압축되고, 끈 뒤 돌리면 모두 원문으로 돌아간다.
+ * id 순으로 chunkSize 행씩 읽고 바뀐 행만 갱신한다. 읽은 뒤 수정된 행은 modified_date 조건에 걸려 건너뛴다.
+ * excerpt 가 비어 있는 예전 글은 목록 쿼리가 content 를 잘라 쓰므로, 압축하기 전에 excerpt 를 채운다.
+ */
+@Slf4j
+@Component
+public class ContentCompressionMigrator {
+
+    public enum Table {
+        POST("post", "post_id"),
+        COMMENT("comment", "id");
+
+        private final String name;
+        private final String idColumn;
+
+        Table(String name, String idColumn) {
+            this.name = name;
+            this.idColumn = idColumn;
+        }
+    }
+
+    public record Result(Table table, int scanned, int rewritten, long bytesBefore, long bytesAfter) {
+    }
+
+    private record Row(long id, String content, String excerpt, Timestamp modifiedDate) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ContentCodec codec;
+    private final boolean migrateOnStartup;
+    private final int chunkSize;
+
+    @Autowired
+    public ContentCompressionMigrator(JdbcTemplate jdbcTemplate,
+                                      ContentCodec codec,
+                                      @Value("${community.content.compression.migrate-on-startup:false}") boolean migrateOnStartup,
+                                      @Value("${community.content.compression.migrate-chunk-size:500}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.codec = codec;
+        this.migrateOnStartup = migrateOnStartup;
+        this.chunkSize = chunkSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (!migrateOnStartup) return;
+
+        for (Table table : Table.values()) {
+            Result result = migrate(table);
+            log.info("본문 저장 형식 변환 - table={}, scanned={}, rewritten={}, bytes {} -> {}",
+                    table.name, result.scanned(), result.rewritten(), result.bytesBefore(), result.bytesAfter());
+        }
+    }
+
+    public Result migrate(Table table) {
+        String select = "SELECT " + table.idColumn + " AS id, content, "
+                + (table == Table.POST ? "excerpt" : "NULL") + " AS excerpt, modified_date FROM " + table.name
+                + " WHERE " + table.idColumn + " > ? ORDER BY " + table.idColumn + " LIMIT ?";
+
+        long lastId = 0;
+        int scanned = 0;
+        int rewritten = 0;
+        long bytesBefore = 0;
+        long bytesAfter = 0;
+        while (true) {
+            List<Row> rows = jdbcTemplate.query(select, (rs, i) -> new Row(rs.getLong("id"), rs.getString("content"),
+                    rs.getString("excerpt"), rs.getTimestamp("modified_date")), lastId, chunkSize);
+            if (rows.isEmpty()) break;
+
+            List<Object[]> touched = new ArrayList<>();
+            List<Object[]> untouched = new ArrayList<>();
+            for (Row row : rows) {
+                String content = codec.decode(row.content());
+                String target = codec.encode(content);
+                bytesBefore += storedBytes(row.content());
+                bytesAfter += storedBytes(target);
+                if (target == null || target.equals(row.content())) continue;
+
+                String excerpt = row.excerpt() != null ? row.excerpt() : Post.excerptOf(content);
+                if (row.modifiedDate() != null) {
+                    touched.add(args(table, target, excerpt, row.id(), row.modifiedDate()));
+                } else {
+                    untouched.add(args(table, target, excerpt, row.id(), null));
+                }
+            }
+
+            rewritten += update(table, touched, " AND modified_date = ?");
+            rewritten += update(table, untouched, " AND modified_date IS NULL");
+            scanned += rows.size();
+            lastId = rows.get(rows.size() - 1).id();
+        }
+        return new Result(table, scanned, rewritten, bytesBefore, bytesAfter);
+    }
+
+    private int update(Table table, List<Object[]> args, String condition) {
+        if (args.isEmpty()) return 0;
+
+        String sql = "UPDATE " + table.name + " SET content = ?"
+                + (table == Table.POST ? ", excerpt = ?" : "")
+                + " WHERE " + table.idColumn + " = ?" + condition;
+        // rewriteBatchedStatements 를 켠 MySQL 드라이버는 행마다 SUCCESS_NO_INFO 를 돌려주므로 한 행으로 센다.
+        int updated = 0;
+        for (int count : jdbcTemplate.batchUpdate(sql, args)) {
+            updated += count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(count, 0);
+        }
+        return updated;
+    }
+
+    private static Object[] args(Table table, String content, String excerpt, long id, Timestamp modifiedDate) {
+        List<Object> args = new ArrayList<>(4);
+        args.add(content);
+        if (table == Table.POST) args.add(excerpt);
+        args.add(id);
+        if (modifiedDate != null) args.add(modifiedDate);
+        return args.toArray();
+    }
+
+    private static long storedBytes(String stored) {
+        return stored == null ? 0 : stored.getBytes(StandardCharsets.UTF_8).length;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.community.common.compression;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Deflate 미리 채워 두는 공용 사전. 글마다 따로 압축해도 자주 나오는 표현은 첫 등장부터 역참조로 줄어든다.
+ * 뒤쪽에 둔 문자열일수록 가까운 거리로 참조되므로 자주 쓰는 표현을 뒤에 둔다.
+ * 내용을 바꾸면 예전 사전으로 압축한 값을 풀 수 없으므로, 바꿀 때는 새 버전을 추가한다.
+ */
+final class ContentDictionary {
+
+    static final byte[] V1 = (
+            "https://www. .com .png .jpg http:// <br> ```java ``` - [ ] 1. 2. 3. " +
+            "the and that this with for you have are not but what from " +
+            "감사합니다. 안녕하세요. 질문이 있습니다. 답변 부탁드립니다. 확인 부탁드립니다. " +
+            "혹시 아시는 분 계신가요? 도움이 되었으면 좋겠습니다. 참고하세요. 공유합니다. " +
+            "에러가 발생합니다. 해결 방법을 찾고 있습니다. 코드는 다음과 같습니다. " +
+            "스프링 자바 데이터베이스 서버 클라이언트 프론트엔드 백엔드 배포 테스트 " +
+            "그리고 그래서 하지만 그런데 때문에 이번에 오늘은 생각합니다 있습니다 없습니다 " +
+            "했습니다 합니다 입니다 습니다 는데 에서 으로 에게 까지 부터 처럼 보다 " +
+            "이 가 은 는 을 를 의 에 와 과 도 만 요. 다. 고 서 면 지 게 "
+    ).getBytes(StandardCharsets.UTF_8);
+
+    private ContentDictionary() {
+    }
+}
@@ -14,6 +14,9 @@ public enum ErrorMessage {
     BAD_REQUEST(HttpStatus.BAD_REQUEST, "잘못된 접근입니다."),
     PASSWORD_MISMATCH(HttpStatus.BAD_REQUEST, "비밀번호가 일치하지 않습니다."),
     NO_IMAGE_IN_POST(HttpStatus.BAD_REQUEST, "해당 게시물에 존재하지 않는 이미지입니다."),
+    TOO_MANY_POST_IDS(HttpStatus.BAD_REQUEST, "한 번에 조회할 수 있는 게시글 수를 초과했습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "잘못된 커서입니다."),
+    INVALID_INCLUDE(HttpStatus.BAD_REQUEST, "지원하지 않는 include 항목입니다."),
 
     RESOURCE_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 페이지입니다."),
 
@@ -0,0 +1,23 @@
+package com.example.community.common.paging;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * totalElements 가 추정값일 수 있는 페이지. approximate 가 true 면 마지막 페이지 번호도 정확하지 않다.
+ */
+public class ApproximatePage<T> extends PageImpl<T> {
+
+    private final boolean approximate;
+
+    public ApproximatePage(List<T> content, Pageable pageable, PageTotal total) {
+        super(content, pageable, total.value());
+        this.approximate = total.approximate();
+    }
+
+    public boolean isApproximate() {
+        return approximate;
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.community.common.paging;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 정확한 count 결과를 ttl 동안 재사용한다. 캐시에서 꺼낸 값은 그 사이 바뀌었을 수 있어 approximate 로 표시한다.
+ * 글/댓글이 추가·삭제되면 해당 테이블의 값을 모두 버린다.
+ */
+@Component
+@ConditionalOnProperty(name = "community.paging.count-strategy", havingValue = "cached", matchIfMissing = true)
+public class CachedCountStrategy implements CountStrategy {
+
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final LongSupplier clock;
+
+    private final ConcurrentHashMap<CountKey, Cached> cache = new ConcurrentHashMap<>();
+
+    @Autowired
+    public CachedCountStrategy(@Value("${community.paging.count-cache-ttl-ms:30000}") long ttlMillis,
+                               @Value("${community.paging.count-cache-max-entries:10000}") int maxEntries) {
+        this(ttlMillis, maxEntries, System::currentTimeMillis);
+    }
+
+    CachedCountStrategy(long ttlMillis, int maxEntries, LongSupplier clock) {
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    @Override
+    public PageTotal count(CountKey key, LongSupplier exactCount) {
+        long now = clock.getAsLong();
+        Cached cached = cache.get(key);
+        if (cached != null && cached.expiresAt() > now) {
+            return PageTotal.approximate(cached.value());
+        }
+
+        long value = exactCount.getAsLong();
+        if (cache.size() >= maxEntries) {
+            cache.clear();
+        }
+        cache.put(key, new Cached(value, now + ttlMillis));
+        return PageTotal.exact(value);
+    }
+
+    @Override
+    public void invalidate(String table) {
+        cache.keySet().removeIf(key -> key.table().equals(table));
+    }
+
+    private record Cached(long value, long expiresAt) {
+    }
+}
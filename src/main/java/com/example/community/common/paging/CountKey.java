@@ -0,0 +1,19 @@
+package com.example.community.common.paging;
+
+/**
+ * 전체 수를 캐시하거나 추정할 단위. filter 가 null 이면 테이블 전체다.
+ */
+public record CountKey(String table, String filter) {
+
+    public static CountKey all(String table) {
+        return new CountKey(table, null);
+    }
+
+    public static CountKey of(String table, String column, Object value) {
+        return new CountKey(table, column + "=" + value);
+    }
+
+    public boolean isWholeTable() {
+        return filter == null;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.community.common.paging;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 페이지 응답의 전체 수를 구하는 방법. community.paging.count-strategy 로 고른다.
+ * exactCount 는 정확한 count 쿼리이며, 전략에 따라 호출하지 않을 수 있다.
+ */
+public interface CountStrategy {
+
+    PageTotal count(CountKey key, LongSupplier exactCount);
+
+    /**
+     * 해당 테이블에 행이 추가/삭제되어 저장해 둔 값을 버려야 할 때 호출된다.
+     */
+    default void invalidate(String table) {
+    }
+}
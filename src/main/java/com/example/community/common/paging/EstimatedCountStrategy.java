@@ -0,0 +1,44 @@
+package com.example.community.common.paging;
+
+import com.example.community.repository.stats.TableStatisticsRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.OptionalLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 테이블 전체 수는 DB 통계의 추정 행 수를 쓴다. 조건이 붙은 수는 통계로 알 수 없어 캐시된 정확한 값을 쓰고,
+ * 통계를 읽을 수 없는 DB 에서도 같은 방식으로 돌아간다.
+ */
+@Component
+@ConditionalOnProperty(name = "community.paging.count-strategy", havingValue = "estimated")
+public class EstimatedCountStrategy implements CountStrategy {
+
+    private final TableStatisticsRepository tableStatisticsRepository;
+    private final CachedCountStrategy fallback;
+
+    public EstimatedCountStrategy(TableStatisticsRepository tableStatisticsRepository,
+                                  @Value("${community.paging.count-cache-ttl-ms:30000}") long ttlMillis,
+                                  @Value("${community.paging.count-cache-max-entries:10000}") int maxEntries) {
+        this.tableStatisticsRepository = tableStatisticsRepository;
+        this.fallback = new CachedCountStrategy(ttlMillis, maxEntries);
+    }
+
+    @Override
+    public PageTotal count(CountKey key, LongSupplier exactCount) {
+        if (key.isWholeTable()) {
+            OptionalLong estimate = tableStatisticsRepository.estimateRowCount(key.table());
+            if (estimate.isPresent()) {
+                return PageTotal.approximate(estimate.getAsLong());
+            }
+        }
+        return fallback.count(key, exactCount);
+    }
+
+    @Override
+    public void invalidate(String table) {
+        fallback.invalidate(table);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.community.common.paging;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.function.LongSupplier;
+
+@Component
+@ConditionalOnProperty(name = "community.paging.count-strategy", havingValue = "exact")
+public class ExactCountStrategy implements CountStrategy {
+
+    @Override
+    public PageTotal count(CountKey key, LongSupplier exactCount) {
+        return PageTotal.exact(exactCount.getAsLong());
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.community.common.paging;
+
+import com.example.community.common.util.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * count 쿼리 없이 읽어 온 목록에 CountStrategy 로 구한 전체 수를 붙여 Page 로 만든다.
+ * 목록만으로 전체 수가 확정되는 경우(마지막 페이지)에는 count 를 구하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PageCounter {
+
+    public static final String POST = "post";
+    public static final String COMMENT = "comment";
+
+    private final CountStrategy countStrategy;
+
+    public <T> Page<T> toPage(List<T> content, Pageable pageable, CountKey key, LongSupplier exactCount) {
+        return new ApproximatePage<>(content, pageable, total(content, pageable, key, exactCount));
+    }
+
+    public PageTotal count(CountKey key, LongSupplier exactCount) {
+        return countStrategy.count(key, exactCount);
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋된 뒤에 버린다. 커밋 전에 버리면 그 사이 다른 요청이 이전 수를 다시 캐시할 수 있다.
+     */
+    public void invalidate(String table) {
+        TransactionCallbacks.afterCommit(() -> countStrategy.invalidate(table));
+    }
+
+    private PageTotal total(List<?> content, Pageable pageable, CountKey key, LongSupplier exactCount) {
+        if (pageable.isUnpaged()) {
+            return PageTotal.exact(content.size());
+        }
+        if (content.size() < pageable.getPageSize() && (!content.isEmpty() || pageable.getOffset() == 0)) {
+            return PageTotal.exact(pageable.getOffset() + content.size());
+        }
+        return countStrategy.count(key, exactCount);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.community.common.paging;
+
+public record PageTotal(long value, boolean approximate) {
+
+    public static PageTotal exact(long value) {
+        return new PageTotal(value, false);
+    }
+
+    public static PageTotal approximate(long value) {
+        return new PageTotal(value, true);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.community.common.util;
+
+import com.example.community.common.exception.custom.BadRequestException;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static com.example.community.common.exception.ErrorMessage.INVALID_CURSOR;
+
+/**
+ * 게시글 목록 커서. 마지막으로 내려준 게시글 id 를 감싸 클라이언트에는 불투명한 문자열로 보인다.
+ */
+public class PostCursor {
+
+    private static final String PREFIX = "p:";
+
+    public static String encode(Long lastPostId) {
+        if (lastPostId == null) return null;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + lastPostId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 비어 있으면 첫 페이지로 보고 null 을 돌려준다.
+     */
+    public static Long decode(String cursor) {
+        if (!StringUtils.hasText(cursor)) return null;
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(PREFIX)) {
+                throw new BadRequestException(INVALID_CURSOR);
+            }
+            return Long.parseLong(decoded.substring(PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(INVALID_CURSOR);
+        }
+    }
+}
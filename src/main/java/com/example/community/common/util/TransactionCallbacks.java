@@ -0,0 +1,41 @@
+package com.example.community.common.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 결과에 맞춰 메모리 색인/캐시를 고치는 콜백. 게시글 변경은 PostChangedEvent 리스너로 받고,
+ * 이벤트가 없는 변경(좋아요, 닉네임, 카운트 캐시 등)만 여기를 쓴다.
+ */
+public class TransactionCallbacks {
+
+    /**
+     * 트랜잭션 안이면 커밋된 뒤에, 밖이면 바로 실행한다. 롤백되면 실행하지 않는다.
+     */
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋이든 롤백이든 끝난 뒤에 실행한다. 밖이면 아무것도 하지 않는다.
+     */
+    public static void afterCompletion(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.run();
+                }
+            });
+        }
+    }
+}
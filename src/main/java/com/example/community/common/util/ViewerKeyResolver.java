@@ -0,0 +1,34 @@
+package com.example.community.common.util;
+
+import com.example.community.domain.User;
+import com.example.community.security.CustomUserDetails;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+public class ViewerKeyResolver {
+
+    /**
+     * 비로그인 조회자는 접속 IP 로 구분한다. X-Forwarded-For 는 클라이언트가 마음대로 보낼 수 있으므로 직접 읽지 않고,
+     * 신뢰하는 프록시를 거친 요청만 ForwardedHeaderConfig 의 RemoteIpValve 가 getRemoteAddr 에 반영한다.
+     */
+    public static String resolve(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return "user:" + userDetails.getUser().getId();
+        }
+
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    /**
+     * 로그인하지 않은 요청이면 null. 비로그인도 허용하는 GET 에서 @LoginUser 대신 쓴다.
+     */
+    public static User resolveUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.getUser();
+        }
+        return null;
+    }
+}
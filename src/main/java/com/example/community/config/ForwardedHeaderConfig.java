@@ -0,0 +1,31 @@
+package com.example.community.config;
+
+import org.apache.catalina.valves.RemoteIpValve;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+/**
+ * 직접 연결한 상대가 trusted-proxies 에 맞을 때만 X-Forwarded-For / X-Forwarded-Proto 를 요청에 반영한다.
+ * 비우면 Tomcat 기본값(사설망, loopback 대역)을 프록시로 믿는다. 그 밖의 클라이언트가 보낸 헤더는 무시된다.
+ */
+@Configuration
+public class ForwardedHeaderConfig {
+
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> remoteIpValveCustomizer(
+            @Value("${community.web.trusted-proxies:}") String trustedProxies) {
+        return factory -> {
+            RemoteIpValve valve = new RemoteIpValve();
+            if (StringUtils.hasText(trustedProxies)) {
+                valve.setInternalProxies(trustedProxies);
+            }
+            valve.setRemoteIpHeader("X-Forwarded-For");
+            valve.setProtocolHeader("X-Forwarded-Proto");
+            factory.addEngineValves(valve);
+        };
+    }
+}
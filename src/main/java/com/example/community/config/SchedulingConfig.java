@@ -0,0 +1,25 @@
+package com.example.community.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * @Scheduled 작업과 ViewCountFlushScheduler 가 함께 쓰는 스케줄러.
+ * 기본 스케줄러는 스레드가 하나라 순위/자동완성 재구성 같은 긴 작업이 좋아요 반영, 조회수 flush 를 밀어낸다.
+ * 같은 작업은 겹쳐 돌지 않고, 서로 다른 작업만 동시에 돈다. 종료 시 진행 중인 작업이 끝나길 기다린다.
+ */
+@Configuration
+public class SchedulingConfig {
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${community.scheduling.pool-size:8}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("community-scheduling-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        return scheduler;
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.community.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hibernate 2차 캐시. 노드마다 따로 두는 Caffeine(JCache) 영역이며, 영역마다 최대 개수와 만료 시간을 둔다.
+ * 설정에 없는 영역을 쓰면 부팅이 실패하도록 해 크기 제한 없는 영역이 생기지 않게 한다.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    public static final String USER_REGION = "user";
+    public static final String POST_IMAGE_REGION = "postImage";
+    public static final String POST_IMAGES_REGION = "post.postImages";
+    public static final List<String> REGIONS = List.of(USER_REGION, POST_IMAGE_REGION, POST_IMAGES_REGION);
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${community.l2-cache.user.max-entries:10000}") long userMaxEntries,
+            @Value("${community.l2-cache.post-image.max-entries:50000}") long postImageMaxEntries,
+            @Value("${community.l2-cache.post-images.max-entries:10000}") long postImagesMaxEntries,
+            @Value("${community.l2-cache.ttl-ms:600000}") long ttlMillis) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        // 테스트처럼 한 JVM 에 컨텍스트가 여럿 떠도 영역 이름이 부딪히지 않도록 컨텍스트마다 따로 만든다.
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("community-l2-" + UUID.randomUUID()), SecondLevelCacheConfig.class.getClassLoader());
+
+        cacheManager.createCache(USER_REGION, region(userMaxEntries, ttlMillis));
+        cacheManager.createCache(POST_IMAGE_REGION, region(postImageMaxEntries, ttlMillis));
+        cacheManager.createCache(POST_IMAGES_REGION, region(postImagesMaxEntries, ttlMillis));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    @Bean
+    public SecondLevelCacheMetrics secondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        return new SecondLevelCacheMetrics(entityManagerFactory.unwrap(SessionFactory.class).getStatistics(), REGIONS);
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(long maxEntries, long ttlMillis) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxEntries));
+        configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.MILLISECONDS.toNanos(ttlMillis)));
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.community.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * 2차 캐시 영역별 지표. region 태그로 구분한다.
+ * hibernate.l2.requests   result=hit|miss 조회 수
+ * hibernate.l2.puts       캐시에 넣은 수
+ * hibernate.l2.hit.ratio  누적 적중률 (조회가 없으면 NaN)
+ */
+public class SecondLevelCacheMetrics implements MeterBinder {
+
+    private final Statistics statistics;
+    private final List<String> regions;
+
+    public SecondLevelCacheMetrics(Statistics statistics, List<String> regions) {
+        this.statistics = statistics;
+        this.regions = regions;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String region : regions) {
+            FunctionCounter.builder("hibernate.l2.requests", statistics, count(region, CacheRegionStatistics::getHitCount))
+                    .tag("region", region)
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("hibernate.l2.requests", statistics, count(region, CacheRegionStatistics::getMissCount))
+                    .tag("region", region)
+                    .tag("result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("hibernate.l2.puts", statistics, count(region, CacheRegionStatistics::getPutCount))
+                    .tag("region", region)
+                    .register(registry);
+            Gauge.builder("hibernate.l2.hit.ratio", this, metrics -> metrics.hitRatio(region))
+                    .tag("region", region)
+                    .description("2차 캐시 누적 적중률")
+                    .register(registry);
+        }
+    }
+
+    public double hitRatio(String region) {
+        CacheRegionStatistics stats = statistics.getCacheRegionStatistics(region);
+        if (stats == null) return Double.NaN;
+        long requests = stats.getHitCount() + stats.getMissCount();
+        return requests == 0 ? Double.NaN : (double) stats.getHitCount() / requests;
+    }
+
+    private static ToDoubleFunction<Statistics> count(String region, ToLongFunction<CacheRegionStatistics> counter) {
+        return statistics -> {
+            CacheRegionStatistics stats = statistics.getCacheRegionStatistics(region);
+            return stats != null ? counter.applyAsLong(stats) : 0L;
+        };
+    }
+}
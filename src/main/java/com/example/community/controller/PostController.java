@@ -2,24 +2,39 @@ package com.example.community.controller;
 
 import com.example.community.common.annotation.LoginUser;
 import com.example.community.common.response.APIResponse;
+import com.example.community.common.util.ViewerKeyResolver;
 import com.example.community.domain.User;
 import com.example.community.dto.request.post.PostRequestDto;
 import com.example.community.dto.request.post.PostUpdateDto;
+import com.example.community.dto.response.autocomplete.AutocompleteResponse;
 import com.example.community.dto.response.post.PostCreateResponse;
+import com.example.community.dto.response.post.PostCursorResponse;
+import com.example.community.dto.response.post.PostDetailCompositeResponse;
 import com.example.community.dto.response.post.PostDetailResponse;
 import com.example.community.dto.response.post.PostListResponse;
+import com.example.community.dto.response.post.PostViewCountResponse;
+import com.example.community.dto.response.post.TrendingPostResponse;
+import com.example.community.service.autocomplete.AutocompleteService;
 import com.example.community.service.post.PostService;
+import com.example.community.service.post.cache.CachedPostReader;
+import com.example.community.service.post.detail.PostDetailComposer;
+import com.example.community.service.post.detail.PostDetailPart;
+import com.example.community.service.post.search.PostSearchService;
+import com.example.community.service.post.trending.TrendingPostService;
 import com.example.community.service.post.viewcount.PostViewService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 
 @RestController
@@ -29,22 +44,97 @@ public class PostController {
 
     private final PostService postService;
     private final PostViewService postViewService;
+    private final TrendingPostService trendingPostService;
+    private final CachedPostReader cachedPostReader;
+    private final PostSearchService postSearchService;
+    private final AutocompleteService autocompleteService;
+    private final PostDetailComposer postDetailComposer;
 
+    /**
+     * If-None-Match 가 현재 목록 버전의 ETag 와 같으면 PostService 를 부르지 않고 304 로 답한다.
+     */
     @GetMapping
     public ResponseEntity<APIResponse<Page<PostListResponse>>> getAllPost(
-            @PageableDefault(size = 20, sort = "id", direction = Sort.Direction.DESC) Pageable pageable
+            @PageableDefault(size = 20, sort = "id", direction = Sort.Direction.DESC) Pageable pageable,
+            WebRequest webRequest
     ) {
-        Page<PostListResponse> postList = postService.getAllPost(pageable);
+        if (webRequest.checkNotModified(cachedPostReader.listEtag())) {
+            return null;
+        }
+        Page<PostListResponse> postList = cachedPostReader.getAllPost(pageable);
         return ResponseEntity.status(HttpStatus.OK).body(APIResponse.success("게시글 목록 조회 성공", postList));
     }
 
+    /**
+     * 무한 스크롤용 커서 목록. 첫 요청은 cursor 를 비워 보내고, 이후에는 응답의 nextCursor 를 그대로 넘긴다.
+     */
+    @GetMapping(params = "cursor")
+    public ResponseEntity<APIResponse<PostCursorResponse>> getAllPostByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        PostCursorResponse posts = postService.getAllPostByCursor(cursor, size);
+        return ResponseEntity.status(HttpStatus.OK).body(APIResponse.success("게시글 목록 조회 성공", posts));
+    }
+
+    @GetMapping("/trending")
+    public ResponseEntity<APIResponse<List<TrendingPostResponse>>> getTrendingPost(@RequestParam(defaultValue = "10") int size) {
+        List<TrendingPostResponse> posts = trendingPostService.getTrending(size);
+        return ResponseEntity.status(HttpStatus.OK).body(APIResponse.success("인기 게시글 조회 성공", posts));
+    }
+
+    /**
+     * 제목과 본문에 검색어가 들어 있는 글을 최신순으로 내려준다. 한 글자 검색어도 받는다.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<APIResponse<List<PostListResponse>>> searchPost(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        List<PostListResponse> posts = postSearchService.search(q, size);
+        return ResponseEntity.status(HttpStatus.OK).body(APIResponse.success("게시글 검색 성공", posts));
+    }
+
+    @GetMapping("/autocomplete")
+    public ResponseEntity<APIResponse<List<AutocompleteResponse>>> autocompleteTitle(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        List<AutocompleteResponse> titles = autocompleteService.suggestPostTitles(prefix, size);
+        return ResponseEntity.status(HttpStatus.OK).body(APIResponse.success("게시글 제목 자동완성 성공", titles));
+    }
+
+    /**
+     * If-None-Match 가 현재 글 버전의 ETag 와 같으면 PostService 를 부르지 않고 304 로 답한다. 조회수는 그대로 센다.
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<APIResponse<PostDetailResponse>> getPost(@PathVariable Long id) {
-        PostDetailResponse post = postService.getPost(id);
+    public ResponseEntity<APIResponse<PostDetailResponse>> getPost(@PathVariable Long id, HttpServletRequest request, WebRequest webRequest) {
+        String viewer = ViewerKeyResolver.resolve(request);
+        if (webRequest.checkNotModified(cachedPostReader.detailEtag(id))) {
+            cachedPostReader.recordView(id, viewer);
+            return null;
+        }
+        PostDetailResponse post = cachedPostReader.getPost(id, viewer);
         return ResponseEntity.status(HttpStatus.OK).body(APIResponse.success("게시글 조회 성공", post));
     }
 
 
+    /**
+     * 상세 화면용 묶음 조회. include 에 images, comments, likes 를 쉼표로 골라 보내면
+     * 게시글과 함께 동시에 읽어 한 번에 내려준다. 댓글은 comments 쪽 page/size 파라미터를 그대로 쓴다.
+     */
+    @GetMapping(value = "/{id}", params = "include")
+    public ResponseEntity<APIResponse<PostDetailCompositeResponse>> getPostComposite(
+            @PathVariable Long id,
+            @RequestParam String include,
+            @PageableDefault(size = 10, sort = "id", direction = Sort.Direction.DESC) Pageable commentPageable,
+            HttpServletRequest request
+    ) {
+        PostDetailCompositeResponse post = postDetailComposer.compose(id, ViewerKeyResolver.resolve(request),
+                ViewerKeyResolver.resolveUser(), PostDetailPart.parse(include), commentPageable);
+        return ResponseEntity.status(HttpStatus.OK).body(APIResponse.success("게시글 조회 성공", post));
+    }
+
     @PatchMapping("/{id}")
     public ResponseEntity<APIResponse<PostDetailResponse>> updatePost(@PathVariable Long id, @RequestBody @Valid PostUpdateDto dto, @LoginUser User user) {
         PostDetailResponse post = postService.update(dto, id, user);
@@ -64,20 +154,8 @@ public class PostController {
     }
 
     @GetMapping("/{id}/viewcounts")
-    public ResponseEntity<APIResponse<Long>> getViewCount(@PathVariable Long id) {
-        Long viewCount = postViewService.getViewCount(id);
+    public ResponseEntity<APIResponse<PostViewCountResponse>> getViewCount(@PathVariable Long id) {
+        PostViewCountResponse viewCount = postViewService.getViewCount(id);
         return ResponseEntity.status(HttpStatus.OK).body(APIResponse.success("조회수 조회 성공", viewCount));
     }
-
-/*    *//**
-     * 무한 스크롤링 구현을 위해..
-     * @param pageable
-     * @return
-     *//*
-    @GetMapping("/slice")
-    public ResponseEntity<APIResponse<Slice<PostListResponse>>> getAllPostSlice(
-            @PageableDefault(size = 10, sort = "id", direction = Sort.Direction.DESC) Pageable pageable) {
-        Slice<PostListResponse> posts = postService.getAllPostSlice(pageable);
-        return ResponseEntity.status(HttpStatus.OK).body(APIResponse.success("게시글 조회 성공", posts));
-    }*/
 }
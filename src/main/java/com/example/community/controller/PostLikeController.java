@@ -10,6 +10,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/posts")
@@ -44,4 +46,13 @@ public class PostLikeController {
         return ResponseEntity.status(HttpStatus.OK).body(APIResponse.success("좋아요 조회 성공", postLikeResponse));
     }
 
+    @GetMapping("/likes")
+    public ResponseEntity<APIResponse<List<PostLikeResponse>>> getLikes(
+            @RequestParam List<Long> postIds,
+            @LoginUser User user
+    ) {
+        List<PostLikeResponse> postLikeResponses = postLikeService.getLikes(postIds, user);
+        return ResponseEntity.status(HttpStatus.OK).body(APIResponse.success("좋아요 조회 성공", postLikeResponses));
+    }
+
 }
@@ -2,8 +2,10 @@ package com.example.community.controller;
 
 import com.example.community.common.response.APIResponse;
 import com.example.community.dto.request.user.UserSignUpDto;
+import com.example.community.dto.response.autocomplete.AutocompleteResponse;
 import com.example.community.dto.response.user.SignUpResponse;
 import com.example.community.dto.response.user.UserDetailResponse;
+import com.example.community.service.autocomplete.AutocompleteService;
 import com.example.community.service.user.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -11,12 +13,15 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/users")
 public class UserController {
 
     private final UserService userService;
+    private final AutocompleteService autocompleteService;
 
     @PostMapping
     public ResponseEntity<APIResponse<SignUpResponse>> register(@Valid @RequestBody UserSignUpDto dto) {
@@ -47,6 +52,18 @@ public class UserController {
         return ResponseEntity.status(HttpStatus.OK).body(APIResponse.success("닉네임 중복 체크 성공", nicknameDuplicated));
     }
 
+    /**
+     * 멘션 입력용 닉네임 자동완성. 글을 많이 쓴 사용자가 먼저 나온다.
+     */
+    @GetMapping("/autocomplete")
+    public ResponseEntity<APIResponse<List<AutocompleteResponse>>> autocompleteNickname(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        List<AutocompleteResponse> nicknames = autocompleteService.suggestNicknames(prefix, size);
+        return ResponseEntity.status(HttpStatus.OK).body(APIResponse.success("닉네임 자동완성 성공", nicknames));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(@PathVariable Long id) {
         userService.delete(id);
@@ -1,16 +1,28 @@
 package com.example.community.domain;
 
 import com.example.community.common.BasicTimeEntity;
+import com.example.community.common.compression.CompressedContentConverter;
 import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.SQLRestriction;
 
+import java.time.LocalDateTime;
+
+/**
+ * deletedAt 이 채워진 댓글은 삭제된 댓글이다. 모든 JPQL 조회에서 빠지고 PostPurgeWorker 가 나중에 지운다.
+ */
 @Getter
 @Entity
 @NoArgsConstructor
 @EqualsAndHashCode(callSuper = false)
+@SQLRestriction("deleted_at IS NULL")
+@Table(indexes = {
+        @Index(name = "idx_comment_post_deleted_at", columnList = "post_id, deleted_at"),
+        @Index(name = "idx_comment_deleted_at", columnList = "deleted_at")
+})
 public class Comment extends BasicTimeEntity {
 
     @Id
@@ -19,6 +31,7 @@ public class Comment extends BasicTimeEntity {
 
     @Lob
     @Column(nullable = false)
+    @Convert(converter = CompressedContentConverter.class)
     private String content;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -29,6 +42,7 @@ public class Comment extends BasicTimeEntity {
     @JoinColumn(name = "POST_ID")
     private Post post;
 
+    private LocalDateTime deletedAt;
 
     @Builder
     public Comment(String content, User user, Post post) {
@@ -1,20 +1,35 @@
 package com.example.community.domain;
 
 import com.example.community.common.BasicTimeEntity;
+import com.example.community.common.compression.CompressedContentConverter;
 import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.SQLRestriction;
+
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * deletedAt 이 채워진 글은 삭제된 글이다. 모든 JPQL 조회에서 빠지고 PostPurgeWorker 가 나중에 지운다.
+ */
 @Getter
 @Entity
 @NoArgsConstructor
 @EqualsAndHashCode(callSuper = false)
+@SQLRestriction("deleted_at IS NULL")
+@Table(indexes = {
+        @Index(name = "idx_post_deleted_at", columnList = "deleted_at, post_id")
+})
 public class Post extends BasicTimeEntity {
 
+    public static final int EXCERPT_LENGTH = 100;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "POST_ID")
@@ -25,31 +40,61 @@ public class Post extends BasicTimeEntity {
 
     @Lob
     @Column(nullable = false)
+    @Convert(converter = CompressedContentConverter.class)
     private String content;
 
+    /**
+     * 목록 화면용 본문 앞부분. 목록 조회가 @Lob 인 content 를 읽지 않도록 작성/수정 시 함께 저장한다.
+     */
+    @Column(length = EXCERPT_LENGTH)
+    private String excerpt;
+
     private Long viewCount;
 
-    @OneToMany(mappedBy = "post", cascade = CascadeType.REMOVE, orphanRemoval = true)
+    private Long likeCount;
+
+    /**
+     * 글을 지울 때 댓글/이미지는 PostDeleter 가 post_id 조건으로 한꺼번에 지운다.
+     * cascade 를 두면 자식을 모두 영속성 컨텍스트에 올려 한 행씩 지우므로 두지 않는다.
+     */
+    @OneToMany(mappedBy = "post")
     private List<Comment> comments = new ArrayList<>();
 
-    @OneToMany(mappedBy = "post", cascade = CascadeType.REMOVE, orphanRemoval = true)
+    /**
+     * 이미지 id 목록만 컬렉션 캐시에 두고, 각 이미지는 postImage 엔티티 캐시에서 읽는다.
+     */
+    @OneToMany(mappedBy = "post")
+    @OrderBy("id ASC")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "post.postImages")
     private List<PostImage> postImages = new ArrayList<>();
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "USER_ID")
     private User user;
 
+    private LocalDateTime deletedAt;
+
     @Builder
     public Post(String title, String content, User user) {
         this.title = title;
         this.content = content;
+        this.excerpt = excerptOf(content);
         this.viewCount = 0L;
+        this.likeCount = 0L;
         this.user = user;
     }
 
     public void update(String title, String content) {
         this.title = title;
         this.content = content;
+        this.excerpt = excerptOf(content);
+    }
+
+    public static String excerptOf(String content) {
+        if (content == null || content.codePointCount(0, content.length()) <= EXCERPT_LENGTH) {
+            return content;
+        }
+        return content.substring(0, content.offsetByCodePoints(0, EXCERPT_LENGTH));
     }
 
     public void setMappingUser(User user) {
@@ -62,6 +107,14 @@ public class Post extends BasicTimeEntity {
     }
 
 
+    /**
+     * 작성자 연결도 끊어, 지우는 동안 작성자가 탈퇴해도 외래 키에 걸리지 않게 한다.
+     */
+    public void markDeleted(LocalDateTime now) {
+        this.deletedAt = now;
+        this.user = null;
+    }
+
     public void upViewcount(Long viewCount) {
         this.viewCount = viewCount;
     }
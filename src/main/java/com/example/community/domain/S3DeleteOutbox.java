@@ -0,0 +1,68 @@
+package com.example.community.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 지워야 할 S3 객체 키. 키를 더 이상 참조하지 않게 되는 트랜잭션 안에서 함께 쌓이고,
+ * S3DeleteOutboxWorker 가 지우는 데 성공하면 행을 지운다. 재시도 한도를 넘기면 DEAD 로 남는다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(
+        name = "s3_delete_outbox",
+        indexes = {
+                @Index(name = "idx_s3_delete_outbox_status_next_attempt", columnList = "status, next_attempt_at")
+        }
+)
+public class S3DeleteOutbox {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 1024)
+    private String objectKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private S3DeleteStatus status;
+
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public S3DeleteOutbox(String objectKey, LocalDateTime now) {
+        this.objectKey = objectKey;
+        this.status = S3DeleteStatus.PENDING;
+        this.nextAttemptAt = now;
+        this.createdAt = now;
+    }
+
+    /**
+     * 실패를 기록한다. 시도 횟수가 maxAttempts 에 이르면 DEAD 로 바꾸고 true 를 돌려준다.
+     */
+    public boolean fail(String error, LocalDateTime nextAttemptAt, int maxAttempts) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        if (attempts >= maxAttempts) {
+            this.status = S3DeleteStatus.DEAD;
+            return true;
+        }
+        this.nextAttemptAt = nextAttemptAt;
+        return false;
+    }
+}
@@ -0,0 +1,5 @@
+package com.example.community.domain;
+
+public enum S3DeleteStatus {
+    PENDING, DEAD
+}
@@ -6,9 +6,19 @@ import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+/**
+ * 게시글/댓글 응답마다 작성자 닉네임과 프로필 이미지를 읽으므로 2차 캐시에 둔다.
+ * 캐시에 없는 작성자는 BatchSize 로 한 번에 모아 읽는다.
+ */
 @Getter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
+@BatchSize(size = 100)
 @NoArgsConstructor
 @EqualsAndHashCode(callSuper = false)
 public class User extends BasicTimeEntity {
@@ -0,0 +1,29 @@
+package com.example.community.dto.response.autocomplete;
+
+import com.example.community.service.autocomplete.PrefixIndex;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class AutocompleteResponse {
+
+    private Long id;
+    private String text;
+
+
+    @Builder
+    public AutocompleteResponse(Long id, String text) {
+        this.id = id;
+        this.text = text;
+    }
+
+
+    public static AutocompleteResponse from(PrefixIndex.Suggestion suggestion) {
+        return AutocompleteResponse.builder()
+                .id(suggestion.id())
+                .text(suggestion.text())
+                .build();
+    }
+}
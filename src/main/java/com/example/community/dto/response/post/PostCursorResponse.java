@@ -0,0 +1,24 @@
+package com.example.community.dto.response.post;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class PostCursorResponse {
+
+    private List<PostListResponse> posts;
+    private String nextCursor;
+    private boolean hasNext;
+
+
+    @Builder
+    public PostCursorResponse(List<PostListResponse> posts, String nextCursor, boolean hasNext) {
+        this.posts = posts;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.community.dto.response.post;
+
+import com.example.community.dto.response.comment.CommentResponse;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/**
+ * 게시글 상세 화면을 한 번에 그리기 위한 응답. include 로 요청하지 않은 항목은 내려가지 않는다.
+ */
+@Getter
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PostDetailCompositeResponse {
+
+    private PostDetailResponse post;
+    private List<PostImageResponse> images;
+    private Page<CommentResponse> comments;
+    private PostLikeResponse likes;
+
+
+    @Builder
+    public PostDetailCompositeResponse(PostDetailResponse post, List<PostImageResponse> images,
+                                       Page<CommentResponse> comments, PostLikeResponse likes) {
+        this.post = post;
+        this.images = images;
+        this.comments = comments;
+        this.likes = likes;
+    }
+}
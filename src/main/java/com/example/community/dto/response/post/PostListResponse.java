@@ -2,10 +2,14 @@ package com.example.community.dto.response.post;
 
 import com.example.community.common.util.DateTimeUtils;
 import com.example.community.domain.Post;
+import com.example.community.domain.PostImage;
+import com.example.community.repository.post.PostListRow;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.Comparator;
+
 @Getter
 @NoArgsConstructor
 public class PostListResponse {
@@ -16,29 +20,63 @@ public class PostListResponse {
     private String writer;
     private String profileImage;
     private Long viewCount;
+    private Long likeCount;
+    private Long commentCount;
+    private String coverImageUrl;
     private String createdDate;
 
 
-    @Builder
-    public PostListResponse(Long postId, String title, String content, String writer, String profileImage, Long viewCount, String createdDate) {
+    @Builder(toBuilder = true)
+    public PostListResponse(Long postId, String title, String content, String writer, String profileImage, Long viewCount,
+                            Long likeCount, Long commentCount, String coverImageUrl, String createdDate) {
         this.postId = postId;
         this.title = title;
         this.content = content;
         this.writer = writer;
         this.profileImage = profileImage;
         this.viewCount = viewCount;
+        this.likeCount = likeCount;
+        this.commentCount = commentCount;
+        this.coverImageUrl = coverImageUrl;
         this.createdDate = createdDate;
     }
 
 
+    /**
+     * content 에는 본문 전체가 아니라 목록용 excerpt 가 들어간다.
+     */
+    public static PostListResponse fromRow(PostListRow row, long commentCount, String coverImageUrl) {
+        return PostListResponse.builder()
+                .postId(row.getPostId())
+                .title(row.getTitle())
+                .content(row.getExcerpt())
+                .writer(row.getWriter())
+                .profileImage(row.getProfileImage())
+                .viewCount(row.getViewCount())
+                .likeCount(row.getLikeCount())
+                .commentCount(commentCount)
+                .coverImageUrl(coverImageUrl)
+                .createdDate(DateTimeUtils.format(row.getCreatedDate()))
+                .build();
+    }
+
+    /**
+     * 댓글 수는 채우지 않는다. 필요한 쪽에서 알고 있는 값으로 채운다.
+     */
     public static PostListResponse fromEntity(Post post) {
         return PostListResponse.builder()
                 .postId(post.getId())
                 .title(post.getTitle())
-                .content(post.getContent())
+                .content(post.getExcerpt())
                 .writer(post.getUser().getNickname())
                 .profileImage(post.getUser().getProfileImage())
                 .viewCount(post.getViewCount())
+                .likeCount(post.getLikeCount())
+                .coverImageUrl(post.getPostImages().stream()
+                        .filter(image -> image.getId() != null)
+                        .min(Comparator.comparing(PostImage::getId))
+                        .map(PostImage::getPostImageUrl)
+                        .orElse(null))
                 .createdDate(DateTimeUtils.format(post.getCreatedDate()))
                 .build();
     }
@@ -0,0 +1,21 @@
+package com.example.community.dto.response.post;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class PostViewCountResponse {
+
+    private Long postId;
+    private Long viewCount;
+    private Long uniqueViewCount;
+
+    @Builder
+    public PostViewCountResponse(Long postId, Long viewCount, Long uniqueViewCount) {
+        this.postId = postId;
+        this.viewCount = viewCount;
+        this.uniqueViewCount = uniqueViewCount;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.community.dto.response.post;
+
+import com.example.community.common.util.DateTimeUtils;
+import com.example.community.domain.Post;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class TrendingPostResponse {
+
+    private Long postId;
+    private String title;
+    private String writer;
+    private String profileImage;
+    private Long viewCount;
+    private Double score;
+    private String createdDate;
+
+
+    @Builder
+    public TrendingPostResponse(Long postId, String title, String writer, String profileImage, Long viewCount, Double score, String createdDate) {
+        this.postId = postId;
+        this.title = title;
+        this.writer = writer;
+        this.profileImage = profileImage;
+        this.viewCount = viewCount;
+        this.score = score;
+        this.createdDate = createdDate;
+    }
+
+
+    public static TrendingPostResponse fromEntity(Post post, double score) {
+        return TrendingPostResponse.builder()
+                .postId(post.getId())
+                .title(post.getTitle())
+                .writer(post.getUser().getNickname())
+                .profileImage(post.getUser().getProfileImage())
+                .viewCount(post.getViewCount())
+                .score(score)
+                .createdDate(DateTimeUtils.format(post.getCreatedDate()))
+                .build();
+    }
+}
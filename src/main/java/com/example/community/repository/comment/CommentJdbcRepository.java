@@ -0,0 +1,43 @@
+package com.example.community.repository.comment;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 물리 삭제용. Comment 의 @SQLRestriction 을 거치지 않아야 삭제 표시된 댓글까지 지울 수 있으므로 SQL 로 다룬다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CommentJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int deleteAllByPostId(Long postId) {
+        return jdbcTemplate.update("DELETE FROM comment WHERE post_id = ?", postId);
+    }
+
+    public List<Long> findIdsByPostId(Long postId, int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM comment WHERE post_id = ? ORDER BY id LIMIT ?", Long.class, postId, limit);
+    }
+
+    /**
+     * 살아 있는 글의 삭제 표시된 댓글만 고른다. 지워지는 글의 댓글은 글 정리(purgeChunk)가 함께 지운다.
+     */
+    public List<Long> findDeletedIds(int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT c.id FROM comment c JOIN post p ON p.post_id = c.post_id AND p.deleted_at IS NULL " +
+                        "WHERE c.deleted_at IS NOT NULL ORDER BY c.id LIMIT ?", Long.class, limit);
+    }
+
+    public int deleteAllByIdIn(List<Long> ids) {
+        if (ids.isEmpty()) return 0;
+
+        String sql = "DELETE FROM comment WHERE id IN (" + String.join(", ", Collections.nCopies(ids.size(), "?")) + ")";
+        return jdbcTemplate.update(sql, ids.toArray());
+    }
+}
@@ -2,12 +2,14 @@ package com.example.community.repository.comment;
 
 import com.example.community.domain.Comment;
 import com.example.community.domain.User;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,17 +20,36 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Query(value = "SELECT c FROM Comment c JOIN FETCH c.user WHERE c.id = :commentId")
     Optional<Comment> findByIdWithUser(Long commentId);
 
-    @Query(value = "SELECT c FROM Comment  c JOIN FETCH c.user WHERE c.post.id = :postId")
-    Page<Comment> findAllByPostIdWithUser(Long postId, Pageable pageable);
+    /**
+     * count 쿼리를 함께 보내지 않는다. 전체 수는 PageCounter 가 붙인다.
+     * 작성자는 fetch join 하지 않는다. user 2차 캐시에서 읽고, 캐시에 없는 작성자만 BatchSize 로 모아 읽는다.
+     * c.post.id 만 비교하면 post 를 조인하지 않아 삭제된 글의 댓글도 나오므로, 글을 조인해 삭제 여부를 함께 본다.
+     */
+    @Query(value = "SELECT c FROM Comment c JOIN c.post p WHERE p.id = :postId AND p.deletedAt IS NULL")
+    List<Comment> findAllByPostId(Long postId, Pageable pageable);
 
     @Query("SELECT c FROM Comment c JOIN FETCH c.user JOIN FETCH c.post WHERE c.user = :user")
-    Page<Comment> findAllByUser(User user, Pageable pageable);
+    List<Comment> findAllByUser(User user, Pageable pageable);
 
     List<Comment> findAllByUser(User user);
 
-    @Query(value = "SELECT count(c) from Comment c WHERE c.post.id = :postId")
+    @Query(value = "SELECT count(c) from Comment c JOIN c.post p WHERE p.id = :postId AND p.deletedAt IS NULL")
     long countByPostId(Long postId);
 
+    @Query(value = "SELECT c.post.id AS postId, count(c) AS commentCount FROM Comment c " +
+            "WHERE c.post.id IN :postIds GROUP BY c.post.id")
+    List<PostCommentCount> countByPostIdIn(Collection<Long> postIds);
+
     @Query(value = "SELECT count(c) from Comment c WHERE c.user.id = :userId")
     long countByUserId(Long userId);
+
+    @Query("SELECT c.id FROM Comment c WHERE c.post.id = :postId ORDER BY c.id")
+    List<Long> findIdsByPostId(Long postId, Pageable pageable);
+
+    /**
+     * 행을 읽지 않고 UPDATE 한 번으로 삭제 표시한다. 작성자 연결도 끊어 작성자 탈퇴가 외래 키에 걸리지 않게 한다.
+     */
+    @Modifying
+    @Query("UPDATE Comment c SET c.deletedAt = :now, c.user = null WHERE c.id = :commentId")
+    int markDeleted(Long commentId, LocalDateTime now);
 }
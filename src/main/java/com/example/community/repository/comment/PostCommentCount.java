@@ -0,0 +1,8 @@
+package com.example.community.repository.comment;
+
+public interface PostCommentCount {
+
+    Long getPostId();
+
+    Long getCommentCount();
+}
@@ -0,0 +1,8 @@
+package com.example.community.repository.post;
+
+public interface PostCoverImage {
+
+    Long getPostId();
+
+    String getImageUrl();
+}
@@ -2,12 +2,29 @@ package com.example.community.repository.post;
 
 import com.example.community.domain.PostImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface PostImageRepository extends JpaRepository<PostImage, Long> {
 
     List<PostImage> findAllByPostId(Long postId);
+
+    @Query("SELECT pi.postImageUrl FROM PostImage pi WHERE pi.post.id = :postId")
+    List<String> findUrlsByPostId(Long postId);
+
+    @Modifying
+    @Query("DELETE FROM PostImage pi WHERE pi.post.id = :postId")
+    int deleteAllByPostId(Long postId);
+
+    /**
+     * 글마다 가장 먼저 올린 이미지 하나.
+     */
+    @Query(value = "SELECT pi.post.id AS postId, pi.postImageUrl AS imageUrl FROM PostImage pi " +
+            "WHERE pi.id IN (SELECT MIN(pi2.id) FROM PostImage pi2 WHERE pi2.post.id IN :postIds GROUP BY pi2.post.id)")
+    List<PostCoverImage> findCoverImagesByPostIdIn(Collection<Long> postIds);
 }
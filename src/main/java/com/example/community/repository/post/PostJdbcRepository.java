@@ -1,22 +1,196 @@
 package com.example.community.repository.post;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.BatchUpdateException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 @Repository
 @RequiredArgsConstructor
 public class PostJdbcRepository {
 
+    private static final String INSERT_LIKE_IF_ABSENT =
+            "INSERT INTO post_like (post_id, user_id) " +
+                    "SELECT p.post_id, ? FROM post p WHERE p.post_id = ? AND p.deleted_at IS NULL " +
+                    "AND NOT EXISTS (SELECT 1 FROM post_like pl WHERE pl.post_id = ? AND pl.user_id = ?)";
+    private static final String DELETE_LIKE =
+            "DELETE FROM post_like WHERE post_id = ? AND user_id = ?";
+    private static final int LOCK_CHUNK_SIZE = 1000;
+
     private final JdbcTemplate jdbcTemplate;
 
-    public void bulkUpdateViewcounts(Map<Long, Long> viewcounts) {
+    /**
+     * 게시글이 있고 아직 좋아요하지 않았을 때만 넣는다. 넣었으면 true.
+     * 호출 측은 같은 트랜잭션에서 lockPost 로 게시글 행을 먼저 잠근다. 그러면 이 문장이 게시글 행에 거는 공유 락과
+     * 뒤이은 like_count UPDATE 의 배타 락이 이미 잡은 락 안에서 처리되어, 같은 게시글의 좋아요끼리 교착되지 않는다.
+     * 잠그지 않은 경로와 경합해 유니크 제약에 걸리면 이미 좋아요한 것으로 본다. MySQL 과 H2 모두에서 같은 문장으로 동작한다.
+     */
+    public boolean insertLikeIfAbsent(Long postId, Long userId) {
+        try {
+            return jdbcTemplate.update(INSERT_LIKE_IF_ABSENT, userId, postId, postId, userId) == 1;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 좋아요 변경 전에 게시글 행에 배타 락을 먼저 걸고, 잠근 시점의 좋아요 수를 함께 읽는다. 삭제된 게시글이면 비어 있다.
+     * post_like INSERT 는 외래 키 확인으로 게시글 행에 공유 락을 걸고 like_count UPDATE 는 배타 락이 필요하므로,
+     * 락을 먼저 잡지 않으면 같은 게시글에 동시에 들어온 좋아요 둘이 서로의 공유 락을 기다리며 교착된다.
+     * 락을 쥔 동안에는 다른 트랜잭션이 like_count 를 바꿀 수 없으므로, 호출 측은 이 값에 자기 변경만 더하면 된다.
+     */
+    public Optional<Long> lockPost(Long postId) {
+        return jdbcTemplate.queryForList(
+                "SELECT like_count FROM post WHERE post_id = ? AND deleted_at IS NULL FOR UPDATE", Long.class, postId)
+                .stream().findFirst();
+    }
+
+    /**
+     * 여러 게시글을 post_id 오름차순으로 잠근다. 모든 경로가 같은 순서로 잡으므로 서로 교착되지 않는다.
+     * 삭제되지 않은 게시글 id 를 돌려준다.
+     */
+    public Set<Long> lockPosts(Collection<Long> postIds) {
+        List<Long> sorted = postIds.stream().distinct().sorted().toList();
+        Set<Long> locked = new HashSet<>();
+        for (int from = 0; from < sorted.size(); from += LOCK_CHUNK_SIZE) {
+            List<Long> chunk = sorted.subList(from, Math.min(from + LOCK_CHUNK_SIZE, sorted.size()));
+            String sql = "SELECT post_id FROM post WHERE post_id IN (" +
+                    String.join(", ", Collections.nCopies(chunk.size(), "?")) +
+                    ") AND deleted_at IS NULL ORDER BY post_id FOR UPDATE";
+            locked.addAll(jdbcTemplate.queryForList(sql, Long.class, chunk.toArray()));
+        }
+        return locked;
+    }
+
+    public boolean deleteLike(Long postId, Long userId) {
+        return jdbcTemplate.update(DELETE_LIKE, postId, userId) == 1;
+    }
+
+    /**
+     * 조건부 INSERT 를 JDBC 배치로 보낸다. 반환값은 키마다 영향받은 행 수다.
+     * 호출 측이 lockPosts 로 게시글을 먼저 잠그면 유니크 제약에 걸릴 일이 없다. 그래도 걸리면 드라이버가 돌려준
+     * 행별 결과를 그대로 쓰고, 실패했거나 실행되지 않은 행만 한 건씩 다시 넣는다.
+     * MySQL Connector/J 는 기본적으로 실패한 행 뒤로도 배치를 계속 실행하므로, 결과를 버리고 전부 다시 넣으면
+     * 이미 들어간 행이 0 으로 집계된다.
+     */
+    public int[] batchInsertLikesIfAbsent(List<PostLikeKey> keys) {
+        try {
+            return jdbcTemplate.batchUpdate(INSERT_LIKE_IF_ABSENT, keys.stream()
+                    .map(key -> new Object[]{key.userId(), key.postId(), key.postId(), key.userId()})
+                    .toList());
+        } catch (DuplicateKeyException e) {
+            int[] counts = batchUpdateCounts(e);
+            int[] results = new int[keys.size()];
+            for (int i = 0; i < keys.size(); i++) {
+                int count = i < counts.length ? counts[i] : Statement.EXECUTE_FAILED;
+                if (count == Statement.EXECUTE_FAILED) {
+                    PostLikeKey key = keys.get(i);
+                    results[i] = insertLikeIfAbsent(key.postId(), key.userId()) ? 1 : 0;
+                } else {
+                    // INSERT ... SELECT 는 드라이버가 다중 VALUES 로 재작성하지 않으므로 SUCCESS_NO_INFO 는 한 행 성공이다
+                    results[i] = count == Statement.SUCCESS_NO_INFO ? 1 : count;
+                }
+            }
+            return results;
+        }
+    }
+
+    private static int[] batchUpdateCounts(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof BatchUpdateException batch && batch.getUpdateCounts() != null) {
+                return batch.getUpdateCounts();
+            }
+        }
+        return new int[0];
+    }
+
+    public int[] batchDeleteLikes(List<PostLikeKey> keys) {
+        return jdbcTemplate.batchUpdate(DELETE_LIKE, keys.stream()
+                .map(key -> new Object[]{key.postId(), key.userId()})
+                .toList());
+    }
+
+    public void bulkAdjustLikeCounts(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) return;
+
+        jdbcTemplate.batchUpdate(
+                "UPDATE post SET like_count = GREATEST(COALESCE(like_count, 0) + ?, 0) WHERE post_id = ?",
+                deltas.entrySet(),
+                deltas.size(),
+                (ps, entry) -> {
+                    ps.setLong(1, entry.getValue());
+                    ps.setLong(2, entry.getKey());
+                });
+    }
+
+    /**
+     * 이미지 행을 다중 VALUES INSERT 한 문장으로 넣는다. 드라이버의 배치 재작성 설정과 상관없이 문장 수가 이미지 수에 따라 늘지 않는다.
+     * 생성된 id 는 돌려주지 않으므로 호출 측은 post.postImages 컬렉션을 다시 읽어야 한다.
+     */
+    public int insertPostImages(Long postId, List<String> imageUrls) {
+        if (imageUrls.isEmpty()) return 0;
+
+        String sql = "INSERT INTO post_image (post_id, post_image_url) VALUES " +
+                String.join(", ", Collections.nCopies(imageUrls.size(), "(?, ?)"));
+        Object[] args = new Object[imageUrls.size() * 2];
+        for (int i = 0; i < imageUrls.size(); i++) {
+            args[i * 2] = postId;
+            args[i * 2 + 1] = imageUrls.get(i);
+        }
+        return jdbcTemplate.update(sql, args);
+    }
+
+    /**
+     * 삭제 표시만 하고 아직 지우지 못한 글. Post 의 @SQLRestriction 을 거치지 않도록 SQL 로 읽는다.
+     */
+    public List<Long> findPostIdsPendingPurge(int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT post_id FROM post WHERE deleted_at IS NOT NULL ORDER BY post_id LIMIT ?", Long.class, limit);
+    }
+
+    public boolean deletePendingPost(Long postId) {
+        return jdbcTemplate.update("DELETE FROM post WHERE post_id = ? AND deleted_at IS NOT NULL", postId) == 1;
+    }
+
+    public long findMaxPostId() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(post_id), 0) FROM post", Long.class);
+        return maxId != null ? maxId : 0L;
+    }
+
+    /**
+     * [fromId, toId) 구간 게시글의 like_count 를 post_like 기준으로 다시 맞춘다.
+     * onlyMissing 이면 아직 값이 없는 게시글만 채운다.
+     */
+    public int reconcileLikeCounts(long fromId, long toId, boolean onlyMissing) {
+        String sql = "UPDATE post SET like_count = " +
+                "(SELECT COUNT(*) FROM post_like pl WHERE pl.post_id = post.post_id) " +
+                "WHERE post_id >= ? AND post_id < ?" +
+                (onlyMissing ? " AND like_count IS NULL" : "");
+        return jdbcTemplate.update(sql, fromId, toId);
+    }
+
+    /**
+     * 배치 크기는 호출 측(ViewCountFlushPolicy)이 정하므로 넘어온 증가분을 한 번의 JDBC 배치로 보낸다.
+     */
+    @Transactional
+    public void bulkIncreaseViewcounts(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) return;
+
         jdbcTemplate.batchUpdate(
-                "UPDATE post SET view_count = ? WHERE post_id = ?",
-                viewcounts.entrySet(),
-                100,
+                "UPDATE post SET view_count = COALESCE(view_count, 0) + ? WHERE post_id = ?",
+                deltas.entrySet(),
+                deltas.size(),
                 (ps, entry) -> {
                     ps.setLong(1, entry.getValue());
                     ps.setLong(2, entry.getKey());
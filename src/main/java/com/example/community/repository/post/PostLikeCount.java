@@ -0,0 +1,8 @@
+package com.example.community.repository.post;
+
+public interface PostLikeCount {
+
+    Long getPostId();
+
+    Long getLikeCount();
+}
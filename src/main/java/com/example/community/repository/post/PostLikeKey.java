@@ -0,0 +1,4 @@
+package com.example.community.repository.post;
+
+public record PostLikeKey(Long postId, Long userId) {
+}
@@ -1,6 +1,7 @@
 package com.example.community.repository.post;
 
 import com.example.community.domain.PostLike;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -15,6 +16,12 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
 
     long countByPostId(Long postId);
 
+    @Query("SELECT pl.post.id FROM PostLike pl WHERE pl.user.id = :userId")
+    List<Long> findPostIdsByUserId(Long userId);
+
+    @Query("SELECT pl.id FROM PostLike pl WHERE pl.post.id = :postId ORDER BY pl.id")
+    List<Long> findIdsByPostId(Long postId, Pageable pageable);
+
     @Modifying
     @Query("DELETE FROM PostLike pl WHERE pl.post.id = :postId")
     void deleteAllByPostId(Long postId);
@@ -0,0 +1,22 @@
+package com.example.community.repository.post;
+
+import java.time.LocalDateTime;
+
+public interface PostListRow {
+
+    Long getPostId();
+
+    String getTitle();
+
+    String getExcerpt();
+
+    String getWriter();
+
+    String getProfileImage();
+
+    Long getViewCount();
+
+    Long getLikeCount();
+
+    LocalDateTime getCreatedDate();
+}
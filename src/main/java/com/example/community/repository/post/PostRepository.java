@@ -2,34 +2,93 @@ package com.example.community.repository.post;
 
 import com.example.community.domain.Post;
 import com.example.community.domain.User;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
 
-    @Query(value = "SELECT p FROM Post p JOIN FETCH p.user WHERE p.id = :postId")
-    Optional<Post> findByIdWithUser(Long postId);
+    String LIST_ROW_COLUMNS = "p.id AS postId, p.title AS title, " +
+            "COALESCE(p.excerpt, SUBSTRING(p.content, 1, " + Post.EXCERPT_LENGTH + ")) AS excerpt, " +
+            "u.nickname AS writer, u.profileImage AS profileImage, p.viewCount AS viewCount, " +
+            "COALESCE(p.likeCount, 0) AS likeCount, p.createdDate AS createdDate";
 
-    @Query(value = "SELECT p FROM Post p JOIN FETCH p.user")
-    Page<Post> findAllWithUser(Pageable pageable);
+    /**
+     * 목록 화면에 필요한 컬럼만 읽는 프로젝션. content 대신 저장된 excerpt 를 쓰고, excerpt 가 없는 예전 글만 DB 에서 잘라 온다.
+     * 엔티티가 아니라서 영속성 컨텍스트에 올라가지 않고 변경 감지도 없다.
+     * count 쿼리를 함께 보내지 않으며, 전체 수는 PageCounter 가 붙인다.
+     */
+    @Query(value = "SELECT " + LIST_ROW_COLUMNS + " FROM Post p JOIN p.user u")
+    List<PostListRow> findAllListRows(Pageable pageable);
 
-    @Query(value = "SELECT p FROM Post p JOIN FETCH p.user WHERE p.user = :user")
-    Page<Post> findAllByUser(User user , Pageable pageable);
+    @Query(value = "SELECT " + LIST_ROW_COLUMNS + " FROM Post p JOIN p.user u WHERE p.user = :user")
+    List<PostListRow> findAllListRowsByUser(User user, Pageable pageable);
 
     @Query(value = "SELECT p FROM Post p JOIN FETCH p.user WHERE p.user = :user")
     List<Post> findAllByUser(User user);
 
-    @Query(value = "SELECT p FROM Post p JOIN FETCH p.user")
-    Slice<Post> findAllWithUserSlice(Pageable pageable);
+    /**
+     * PK 인덱스로 cursorId 바로 다음 위치를 찾아 읽으므로 깊은 페이지도 첫 페이지와 비용이 같다. count 쿼리는 없다.
+     */
+    @Query(value = "SELECT " + LIST_ROW_COLUMNS + " FROM Post p JOIN p.user u WHERE p.id < :cursorId ORDER BY p.id DESC")
+    Slice<PostListRow> findListRowsBefore(Long cursorId, Pageable pageable);
+
+    @Query(value = "SELECT p.viewCount FROM Post p WHERE p.id = :postId")
+    Optional<Long> findViewCountById(Long postId);
+
+    @Query(value = "SELECT COALESCE(p.likeCount, 0) FROM Post p WHERE p.id = :postId")
+    Optional<Long> findLikeCountById(Long postId);
+
+    @Query(value = "SELECT p.id AS postId, COALESCE(p.likeCount, 0) AS likeCount FROM Post p WHERE p.id IN :postIds")
+    List<PostLikeCount> findLikeCountsByIdIn(Collection<Long> postIds);
+
+    @Modifying
+    @Query(value = "UPDATE Post p SET p.likeCount = COALESCE(p.likeCount, 0) + 1 WHERE p.id = :postId")
+    int increaseLikeCount(Long postId);
+
+    @Modifying
+    @Query(value = "UPDATE Post p SET p.likeCount = p.likeCount - 1 WHERE p.id = :postId AND p.likeCount > 0")
+    int decreaseLikeCount(Long postId);
 
     @Query(value = "SELECT count(p) FROM Post p WHERE p.user.id = :userId")
     long countByUserId(Long userId);
+
+    @Query(value = "SELECT p FROM Post p JOIN FETCH p.user WHERE p.id IN :postIds")
+    List<Post> findAllByIdInWithUser(Collection<Long> postIds);
+
+    @Query(value = "SELECT " + LIST_ROW_COLUMNS + " FROM Post p JOIN p.user u WHERE p.id IN :postIds")
+    List<PostListRow> findListRowsByIdIn(Collection<Long> postIds);
+
+    /**
+     * 검색 색인 재구성용. id 순 keyset 으로 끊어 읽어 본문을 한꺼번에 올리지 않는다.
+     */
+    @Query(value = "SELECT p.id AS postId, p.title AS title, p.content AS content FROM Post p " +
+            "WHERE p.id > :afterId ORDER BY p.id")
+    List<PostSearchSource> findSearchSourcesAfter(Long afterId, Pageable pageable);
+
+    @Query(value = "SELECT p.id AS postId, p.title AS title, p.content AS content FROM Post p " +
+            "WHERE p.id > :afterId AND (p.modifiedDate >= :since OR p.createdDate >= :since) ORDER BY p.id")
+    List<PostSearchSource> findSearchSourcesModifiedSince(LocalDateTime since, Long afterId, Pageable pageable);
+
+    /**
+     * 자동완성 색인 재구성용. 인기 점수는 조회수 + 좋아요 수 * 5 로 인기 게시글과 같은 비중을 쓴다.
+     */
+    @Query(value = "SELECT p.id AS postId, p.title AS title, " +
+            "(COALESCE(p.viewCount, 0) + COALESCE(p.likeCount, 0) * 5) AS score FROM Post p")
+    List<PostTitleSource> findTitleSources();
+
+    @Query(value = "SELECT p.id AS postId, p.viewCount AS viewCount, p.createdDate AS createdDate, " +
+            "(SELECT count(pl) FROM PostLike pl WHERE pl.post = p) AS likeCount, " +
+            "(SELECT count(c) FROM Comment c WHERE c.post = p) AS commentCount " +
+            "FROM Post p WHERE p.createdDate >= :since")
+    List<PostTrendingSource> findTrendingSources(LocalDateTime since);
 }
@@ -0,0 +1,10 @@
+package com.example.community.repository.post;
+
+public interface PostSearchSource {
+
+    Long getPostId();
+
+    String getTitle();
+
+    String getContent();
+}
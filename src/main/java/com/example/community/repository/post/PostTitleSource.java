@@ -0,0 +1,10 @@
+package com.example.community.repository.post;
+
+public interface PostTitleSource {
+
+    Long getPostId();
+
+    String getTitle();
+
+    Long getScore();
+}
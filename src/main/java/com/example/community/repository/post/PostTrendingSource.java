@@ -0,0 +1,16 @@
+package com.example.community.repository.post;
+
+import java.time.LocalDateTime;
+
+public interface PostTrendingSource {
+
+    Long getPostId();
+
+    Long getViewCount();
+
+    Long getLikeCount();
+
+    Long getCommentCount();
+
+    LocalDateTime getCreatedDate();
+}
@@ -0,0 +1,20 @@
+package com.example.community.repository.s3;
+
+import com.example.community.domain.S3DeleteOutbox;
+import com.example.community.domain.S3DeleteStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface S3DeleteOutboxRepository extends JpaRepository<S3DeleteOutbox, Long> {
+
+    @Query("SELECT o FROM S3DeleteOutbox o WHERE o.status = :status AND o.nextAttemptAt <= :now ORDER BY o.id")
+    List<S3DeleteOutbox> findDue(S3DeleteStatus status, LocalDateTime now, Pageable pageable);
+
+    long countByStatus(S3DeleteStatus status);
+}
@@ -0,0 +1,36 @@
+package com.example.community.repository.stats;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class TableStatisticsRepository {
+
+    private static final String ESTIMATE_ROW_COUNT =
+            "SELECT table_rows FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * MySQL(InnoDB) 가 통계로 들고 있는 추정 행 수. 실제와 수십 % 까지 차이 날 수 있다.
+     * 통계를 제공하지 않는 DB 이거나 조회에 실패하면 비어 있다.
+     */
+    public OptionalLong estimateRowCount(String table) {
+        try {
+            List<Long> rows = jdbcTemplate.queryForList(ESTIMATE_ROW_COUNT, Long.class, table);
+            if (rows.isEmpty() || rows.get(0) == null) return OptionalLong.empty();
+            return OptionalLong.of(rows.get(0));
+        } catch (DataAccessException e) {
+            log.debug("테이블 통계 조회 실패 - {}", table, e);
+            return OptionalLong.empty();
+        }
+    }
+}
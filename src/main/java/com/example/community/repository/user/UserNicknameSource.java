@@ -0,0 +1,10 @@
+package com.example.community.repository.user;
+
+public interface UserNicknameSource {
+
+    Long getUserId();
+
+    String getNickname();
+
+    Long getPostCount();
+}
@@ -2,8 +2,10 @@ package com.example.community.repository.user;
 
 import com.example.community.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 
@@ -18,4 +20,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Boolean existsByNickname(String nickname);
 
+    @Query(value = "SELECT u.id AS userId, u.nickname AS nickname, " +
+            "(SELECT count(p) FROM Post p WHERE p.user = u) AS postCount FROM User u")
+    List<UserNicknameSource> findNicknameSources();
+
 }
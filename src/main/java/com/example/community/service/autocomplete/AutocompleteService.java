@@ -0,0 +1,18 @@
+package com.example.community.service.autocomplete;
+
+import com.example.community.dto.response.autocomplete.AutocompleteResponse;
+
+import java.util.List;
+
+public interface AutocompleteService {
+
+    List<AutocompleteResponse> suggestPostTitles(String prefix, int size);
+
+    List<AutocompleteResponse> suggestNicknames(String prefix, int size);
+
+    void onNicknameChanged(Long userId, String nickname);
+
+    void onUserDeleted(Long userId);
+
+    void rebuild();
+}
@@ -0,0 +1,100 @@
+package com.example.community.service.autocomplete;
+
+import com.example.community.common.util.TransactionCallbacks;
+import com.example.community.dto.response.autocomplete.AutocompleteResponse;
+import com.example.community.repository.post.PostRepository;
+import com.example.community.repository.user.UserRepository;
+import com.example.community.service.post.PostChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 검색창과 멘션 입력의 자동완성. 키 입력마다 DB 를 읽지 않도록 게시글 제목과 닉네임을 메모리 PrefixIndex 로 들고 있는다.
+ * 색인은 주기적으로 DB 에서 다시 만들고, 그 사이의 변경은 커밋 직후 Autocompleter 의 overlay 로 바로 반영한다.
+ * 게시글 제목은 PostChangedEvent 로, 닉네임은 UserServiceImpl 의 호출로 받는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AutocompleteServiceImpl implements AutocompleteService {
+
+    private static final int MAX_SIZE = 20;
+
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final Autocompleter postTitles = new Autocompleter();
+    private final Autocompleter nicknames = new Autocompleter();
+
+
+    @Override
+    public List<AutocompleteResponse> suggestPostTitles(String prefix, int size) {
+        return suggest(postTitles, prefix, size);
+    }
+
+    @Override
+    public List<AutocompleteResponse> suggestNicknames(String prefix, int size) {
+        return suggest(nicknames, prefix, size);
+    }
+
+    /**
+     * 작성/수정/삭제가 커밋된 뒤에 제목 overlay 에 반영한다.
+     */
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.type() == PostChangedEvent.Type.DELETED) {
+            postTitles.remove(event.postId());
+        } else {
+            postTitles.put(event.postId(), event.row().getTitle());
+        }
+    }
+
+    @Override
+    public void onNicknameChanged(Long userId, String nickname) {
+        TransactionCallbacks.afterCommit(() -> nicknames.put(userId, nickname));
+    }
+
+    @Override
+    public void onUserDeleted(Long userId) {
+        TransactionCallbacks.afterCommit(() -> nicknames.remove(userId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${community.autocomplete.rebuild-interval-ms:300000}",
+            initialDelayString = "${community.autocomplete.rebuild-interval-ms:300000}")
+    public void rebuild() {
+        long titleMark = postTitles.mark();
+        PrefixIndex titleIndex = new PrefixIndex(postRepository.findTitleSources().stream()
+                .map(source -> new PrefixIndex.Suggestion(source.getPostId(), source.getTitle(), nullToZero(source.getScore())))
+                .toList());
+        postTitles.rebuilt(titleIndex, titleMark);
+
+        long nicknameMark = nicknames.mark();
+        PrefixIndex nicknameIndex = new PrefixIndex(userRepository.findNicknameSources().stream()
+                .map(source -> new PrefixIndex.Suggestion(source.getUserId(), source.getNickname(), nullToZero(source.getPostCount())))
+                .toList());
+        nicknames.rebuilt(nicknameIndex, nicknameMark);
+
+        log.debug("자동완성 색인 재구성 - 제목 {}건, 닉네임 {}건", titleIndex.size(), nicknameIndex.size());
+    }
+
+    private static List<AutocompleteResponse> suggest(Autocompleter autocompleter, String prefix, int size) {
+        if (prefix == null || prefix.isBlank()) return List.of();
+        return autocompleter.suggest(prefix, Math.max(1, Math.min(size, MAX_SIZE))).stream()
+                .map(AutocompleteResponse::from)
+                .toList();
+    }
+
+    private static long nullToZero(Long value) {
+        return value != null ? value : 0L;
+    }
+}
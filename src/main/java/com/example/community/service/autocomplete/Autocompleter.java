@@ -0,0 +1,72 @@
+package com.example.community.service.autocomplete;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 주기적으로 다시 만드는 PrefixIndex 와, 그 사이의 가입/닉네임 변경/글 작성을 담는 작은 overlay.
+ * overlay 에 있는 id 는 색인 쪽 항목을 가리고(수정·삭제), 재구성이 끝나면 재구성 시작 전에 들어온 patch 만 지운다.
+ */
+public class Autocompleter {
+
+    private static final Comparator<PrefixIndex.Suggestion> RANKING =
+            Comparator.comparingLong(PrefixIndex.Suggestion::score).reversed()
+                    .thenComparing(suggestion -> PrefixIndex.normalize(suggestion.text()));
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Long, Patch> patches = new ConcurrentHashMap<>();
+    private volatile PrefixIndex index = PrefixIndex.EMPTY;
+
+    public List<PrefixIndex.Suggestion> suggest(String prefix, int size) {
+        PrefixIndex current = index;
+        List<PrefixIndex.Suggestion> indexed = current.topK(prefix, size, patches::containsKey);
+
+        String normalized = PrefixIndex.normalize(prefix);
+        if (patches.isEmpty() || normalized.isEmpty()) return indexed;
+
+        Stream<PrefixIndex.Suggestion> patched = patches.values().stream()
+                .map(Patch::suggestion)
+                .filter(suggestion -> suggestion != null && PrefixIndex.normalize(suggestion.text()).startsWith(normalized));
+        return Stream.concat(indexed.stream(), patched)
+                .sorted(RANKING)
+                .limit(size)
+                .toList();
+    }
+
+    /**
+     * text 가 바뀌어도 인기 점수는 색인의 값을 이어받는다.
+     */
+    public void put(long id, String text) {
+        Patch previous = patches.get(id);
+        long score = previous != null && previous.suggestion() != null ? previous.suggestion().score() : index.score(id);
+        patches.put(id, new Patch(sequence.incrementAndGet(), new PrefixIndex.Suggestion(id, text, score)));
+    }
+
+    public void remove(long id) {
+        patches.put(id, new Patch(sequence.incrementAndGet(), null));
+    }
+
+    /**
+     * 재구성을 시작하기 직전의 patch 순번. 이 값을 rebuilt 에 넘긴다.
+     */
+    public long mark() {
+        return sequence.get();
+    }
+
+    public void rebuilt(PrefixIndex rebuilt, long mark) {
+        index = rebuilt;
+        patches.values().removeIf(patch -> patch.sequence() <= mark);
+    }
+
+    int patchCount() {
+        return patches.size();
+    }
+
+    private record Patch(long sequence, PrefixIndex.Suggestion suggestion) {
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.community.service.autocomplete;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.LongPredicate;
+
+/**
+ * 정규화한 문자열을 정렬한 배열 위의 불변 접두사 색인.
+ * 접두사에 해당하는 구간은 이진 탐색 두 번으로 찾고, 그 구간의 인기순 상위 K 개는
+ * 점수 최댓값 세그먼트 트리에서 최댓값을 꺼내고 양옆 구간을 다시 넣는 방식으로 O(K log N) 에 뽑는다.
+ */
+public final class PrefixIndex {
+
+    public static final PrefixIndex EMPTY = new PrefixIndex(List.of());
+
+    private final String[] keys;
+    private final String[] texts;
+    private final long[] ids;
+    private final long[] scores;
+    private final int[] tree;
+    private final int leaves;
+    private final Map<Long, Integer> positions;
+
+    public PrefixIndex(List<Suggestion> suggestions) {
+        List<Suggestion> sorted = suggestions.stream()
+                .filter(suggestion -> suggestion.text() != null && !suggestion.text().isBlank())
+                .sorted(Comparator.comparing((Suggestion suggestion) -> normalize(suggestion.text()))
+                        .thenComparingLong(Suggestion::id))
+                .toList();
+
+        int size = sorted.size();
+        this.keys = new String[size];
+        this.texts = new String[size];
+        this.ids = new long[size];
+        this.scores = new long[size];
+        this.positions = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            Suggestion suggestion = sorted.get(i);
+            keys[i] = normalize(suggestion.text());
+            texts[i] = suggestion.text();
+            ids[i] = suggestion.id();
+            scores[i] = suggestion.score();
+            positions.put(suggestion.id(), i);
+        }
+
+        int leaves = 1;
+        while (leaves < size) leaves <<= 1;
+        this.leaves = leaves;
+        this.tree = new int[leaves * 2];
+        for (int i = 0; i < leaves; i++) {
+            tree[leaves + i] = i < size ? i : -1;
+        }
+        for (int node = leaves - 1; node >= 1; node--) {
+            tree[node] = better(tree[node * 2], tree[node * 2 + 1]);
+        }
+    }
+
+    public static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT).strip();
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * 색인을 만들 때의 점수. 없으면 0.
+     */
+    public long score(long id) {
+        Integer position = positions.get(id);
+        return position != null ? scores[position] : 0L;
+    }
+
+    /**
+     * prefix 로 시작하는 항목을 점수 내림차순(같으면 사전순)으로 최대 k 개. skip 에 걸린 id 는 건너뛴다.
+     */
+    public List<Suggestion> topK(String prefix, int k, LongPredicate skip) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty() || k <= 0 || keys.length == 0) return List.of();
+
+        int from = lowerBound(normalized);
+        int to = upperBound(normalized, from);
+        if (from >= to) return List.of();
+
+        // (구간 시작, 구간 끝, 구간 최댓값 위치)
+        PriorityQueue<int[]> ranges = new PriorityQueue<>((a, b) -> better(a[2], b[2]) == a[2] ? -1 : 1);
+        ranges.add(new int[]{from, to, rangeMax(from, to)});
+
+        List<Suggestion> result = new ArrayList<>(k);
+        while (!ranges.isEmpty() && result.size() < k) {
+            int[] range = ranges.poll();
+            int best = range[2];
+            if (!skip.test(ids[best])) {
+                result.add(new Suggestion(ids[best], texts[best], scores[best]));
+            }
+            if (range[0] < best) ranges.add(new int[]{range[0], best, rangeMax(range[0], best)});
+            if (best + 1 < range[1]) ranges.add(new int[]{best + 1, range[1], rangeMax(best + 1, range[1])});
+        }
+        return result;
+    }
+
+    private int lowerBound(String prefix) {
+        int low = 0, high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(prefix) < 0) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    // from 이후로 prefix 로 시작하는 키는 연속되어 있으므로 "시작하는가" 로 이진 탐색한다.
+    private int upperBound(String prefix, int from) {
+        int low = from, high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].startsWith(prefix)) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    private int rangeMax(int from, int to) {
+        int best = -1;
+        for (int left = from + leaves, right = to + leaves; left < right; left >>= 1, right >>= 1) {
+            if ((left & 1) == 1) best = better(best, tree[left++]);
+            if ((right & 1) == 1) best = better(best, tree[--right]);
+        }
+        return best;
+    }
+
+    private int better(int a, int b) {
+        if (a < 0) return b;
+        if (b < 0) return a;
+        if (scores[a] != scores[b]) return scores[a] > scores[b] ? a : b;
+        return Math.min(a, b);
+    }
+
+    public record Suggestion(long id, String text, long score) {
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.community.service.comment;
 
+import com.example.community.common.paging.CountKey;
+import com.example.community.common.paging.PageCounter;
 import com.example.community.common.util.AuthValidator;
 import com.example.community.common.exception.custom.ResourceNotFoundException;
 import com.example.community.common.exception.custom.UnauthorizedException;
@@ -11,12 +13,17 @@ import com.example.community.dto.response.comment.CommentResponse;
 import com.example.community.repository.comment.CommentRepository;
 import com.example.community.repository.post.PostRepository;
 import com.example.community.repository.user.UserRepository;
+import com.example.community.service.post.trending.TrendingPostService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import static com.example.community.common.exception.ErrorMessage.*;
 
 @Service
@@ -28,6 +35,11 @@ public class CommentServiceImpl implements CommentService{
     private final UserRepository userRepository;
     private final PostRepository postRepository;
     private final AuthValidator authValidator;
+    private final TrendingPostService trendingPostService;
+    private final PageCounter pageCounter;
+
+    @Value("${community.delete.soft:true}")
+    private boolean softDelete;
 
     @Override
     public CommentResponse createComment(CommentRequestDto dto, Long postId, User user) {
@@ -40,22 +52,31 @@ public class CommentServiceImpl implements CommentService{
         comment.setMappingPost(post);
 
         Comment savedComment = commentRepository.save(comment);
+        trendingPostService.recordComment(postId);
+        pageCounter.invalidate(PageCounter.COMMENT);
 
         return CommentResponse.fromEntity(savedComment);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<CommentResponse> getCommentByPost(Long postId, Pageable pageable) {
 
-        Page<Comment> comments = commentRepository.findAllByPostIdWithUser(postId, pageable);
-        return comments.map(CommentResponse::fromEntity);
+        List<CommentResponse> comments = commentRepository.findAllByPostId(postId, pageable).stream()
+                .map(CommentResponse::fromEntity)
+                .toList();
+        return pageCounter.toPage(comments, pageable, CountKey.of(PageCounter.COMMENT, "post_id", postId),
+                () -> commentRepository.countByPostId(postId));
     }
 
     @Override
     public Page<CommentResponse> getCommentByUser(User user, Pageable pageable) {
 
-        Page<Comment> comments = commentRepository.findAllByUser(user, pageable);
-        return comments.map(CommentResponse::fromEntity);
+        List<CommentResponse> comments = commentRepository.findAllByUser(user, pageable).stream()
+                .map(CommentResponse::fromEntity)
+                .toList();
+        return pageCounter.toPage(comments, pageable, CountKey.of(PageCounter.COMMENT, "user_id", user.getId()),
+                () -> commentRepository.countByUserId(user.getId()));
     }
 
     @Override
@@ -82,6 +103,12 @@ public class CommentServiceImpl implements CommentService{
 
     @Override
     public void delete(Long id) {
-        commentRepository.deleteById(id);
+        // soft 모드면 UPDATE 한 번으로 표시만 하고, 행은 PostPurgeWorker 가 나중에 지운다.
+        if (softDelete) {
+            commentRepository.markDeleted(id, LocalDateTime.now());
+        } else {
+            commentRepository.deleteById(id);
+        }
+        pageCounter.invalidate(PageCounter.COMMENT);
     }
 }
@@ -0,0 +1,26 @@
+package com.example.community.service.post;
+
+import com.example.community.dto.response.post.PostListResponse;
+
+/**
+ * 게시글 작성/수정/삭제가 커밋된 뒤 목록 캐시, 검색 색인, 자동완성 등을 갱신하기 위한 이벤트.
+ * row 의 content 는 목록용 excerpt 라 검색 색인용 본문 전체는 content 로 따로 싣는다. 삭제 시 row 와 content 는 null 이다.
+ */
+public record PostChangedEvent(Long postId, Type type, PostListResponse row, String content) {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    public static PostChangedEvent created(PostListResponse row, String content) {
+        return new PostChangedEvent(row.getPostId(), Type.CREATED, row, content);
+    }
+
+    public static PostChangedEvent updated(PostListResponse row, String content) {
+        return new PostChangedEvent(row.getPostId(), Type.UPDATED, row, content);
+    }
+
+    public static PostChangedEvent deleted(Long postId) {
+        return new PostChangedEvent(postId, Type.DELETED, null, null);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.community.service.post;
+
+import com.example.community.dto.response.post.PostListResponse;
+import com.example.community.repository.comment.CommentRepository;
+import com.example.community.repository.comment.PostCommentCount;
+import com.example.community.repository.post.PostCoverImage;
+import com.example.community.repository.post.PostImageRepository;
+import com.example.community.repository.post.PostListRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 목록 한 페이지의 글 id 로 댓글 수와 대표 이미지를 한 번씩 묶어 조회해 붙인다.
+ * 좋아요 수는 post.like_count 라 목록 쿼리에서 함께 읽으므로, 페이지 크기와 관계없이 쿼리는 목록 1 + 집계 2 번이다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostListAssembler {
+
+    private final CommentRepository commentRepository;
+    private final PostImageRepository postImageRepository;
+
+    public List<PostListResponse> assemble(List<PostListRow> rows) {
+        if (rows.isEmpty()) return List.of();
+
+        List<Long> postIds = rows.stream().map(PostListRow::getPostId).toList();
+        Map<Long, Long> commentCounts = commentRepository.countByPostIdIn(postIds).stream()
+                .collect(Collectors.toMap(PostCommentCount::getPostId, PostCommentCount::getCommentCount));
+        Map<Long, String> coverImages = postImageRepository.findCoverImagesByPostIdIn(postIds).stream()
+                .collect(Collectors.toMap(PostCoverImage::getPostId, PostCoverImage::getImageUrl));
+
+        return rows.stream()
+                .map(row -> PostListResponse.fromRow(row,
+                        commentCounts.getOrDefault(row.getPostId(), 0L),
+                        coverImages.get(row.getPostId())))
+                .toList();
+    }
+}
@@ -4,12 +4,12 @@ import com.example.community.domain.User;
 import com.example.community.dto.request.post.PostRequestDto;
 import com.example.community.dto.request.post.PostUpdateDto;
 import com.example.community.dto.response.post.PostCreateResponse;
+import com.example.community.dto.response.post.PostCursorResponse;
 import com.example.community.dto.response.post.PostDetailResponse;
 import com.example.community.dto.response.post.PostImageResponse;
 import com.example.community.dto.response.post.PostListResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -17,7 +17,7 @@ public interface PostService {
 
     PostCreateResponse createPost(PostRequestDto dto, User user);
 
-    PostDetailResponse getPost(Long id);
+    PostDetailResponse getPost(Long id, String viewer);
 
     PostDetailResponse update(PostUpdateDto dto, Long id, User user);
 
@@ -25,7 +25,7 @@ public interface PostService {
 
     Page<PostListResponse> getAllPostByUser(User user, Pageable pageable);
 
-//    Slice<PostListResponse> getAllPostSlice(Pageable pageable);
+    PostCursorResponse getAllPostByCursor(String cursor, int size);
 
     List<PostImageResponse> getAllPostImageByPostId(Long id);
 
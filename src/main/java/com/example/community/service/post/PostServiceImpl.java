@@ -1,32 +1,39 @@
 package com.example.community.service.post;
 
-import com.example.community.common.exception.custom.BadRequestException;
 import com.example.community.common.exception.custom.ForbiddenException;
 import com.example.community.common.exception.custom.UnauthorizedException;
+import com.example.community.common.paging.CountKey;
+import com.example.community.common.paging.PageCounter;
 import com.example.community.common.util.AuthValidator;
+import com.example.community.common.util.PostCursor;
 import com.example.community.common.exception.custom.ResourceNotFoundException;
 import com.example.community.domain.Post;
-import com.example.community.domain.PostImage;
 import com.example.community.domain.User;
 import com.example.community.dto.request.post.PostRequestDto;
 import com.example.community.dto.request.post.PostUpdateDto;
 import com.example.community.dto.response.post.PostCreateResponse;
+import com.example.community.dto.response.post.PostCursorResponse;
 import com.example.community.dto.response.post.PostDetailResponse;
 import com.example.community.dto.response.post.PostImageResponse;
 import com.example.community.dto.response.post.PostListResponse;
-import com.example.community.repository.post.PostLikeRepository;
-import com.example.community.repository.post.PostRepository;
+import com.example.community.repository.post.PostCoverImage;
 import com.example.community.repository.post.PostImageRepository;
+import com.example.community.repository.post.PostListRow;
+import com.example.community.repository.post.PostRepository;
 import com.example.community.repository.user.UserRepository;
+import com.example.community.service.post.delete.PostDeleter;
+import com.example.community.service.post.feed.RecentPostFeed;
+import com.example.community.service.post.image.PostImageWriter;
 import com.example.community.service.post.viewcount.PostViewService;
+import com.example.community.service.s3.S3DeleteQueue;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 
 
 import java.util.List;
@@ -38,18 +45,21 @@ import static com.example.community.common.exception.ErrorMessage.*;
 @Transactional
 public class PostServiceImpl implements PostService{
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final PostRepository postRepository;
-    private final PostImageRepository postImageRepository;
-    private final PostLikeRepository postLikeRepository;
     private final UserRepository userRepository;
+    private final PostImageRepository postImageRepository;
 
     private final PostViewService postViewService;
+    private final RecentPostFeed recentPostFeed;
+    private final PageCounter pageCounter;
+    private final PostListAssembler postListAssembler;
+    private final PostImageWriter postImageWriter;
+    private final PostDeleter postDeleter;
+    private final ApplicationEventPublisher eventPublisher;
     private final AuthValidator authValidator;
-
-    private final S3Client s3Client;
-
-    @Value("${aws.s3.bucket}")
-    private String bucket;
+    private final S3DeleteQueue s3DeleteQueue;
 
 
     @Override
@@ -69,28 +79,27 @@ public class PostServiceImpl implements PostService{
 
         Post savedPost = postRepository.save(post);
 
-        if (dto.getPostImageUrls() != null && !dto.getPostImageUrls().isEmpty()) {
-            for (String imageUrl : dto.getPostImageUrls()) {
-                PostImage postImage = PostImage.builder()
-                        .post(savedPost)
-                        .postImageUrl(imageUrl)
-                        .build();
-                postImageRepository.save(postImage);
-                savedPost.addPostImages(postImage);
-            }
-        }
+        List<String> imageUrls = dto.getPostImageUrls() == null ? List.of() : dto.getPostImageUrls();
+        postImageWriter.attach(savedPost.getId(), imageUrls);
 
+        pageCounter.invalidate(PageCounter.POST);
+        // 이미지는 JDBC 로 넣어 savedPost.postImages 에 없으므로 대표 이미지는 첫 URL 로 채운다.
+        eventPublisher.publishEvent(PostChangedEvent.created(PostListResponse.fromEntity(savedPost).toBuilder()
+                .coverImageUrl(imageUrls.isEmpty() ? null : imageUrls.getFirst())
+                .build(), savedPost.getContent()));
         return PostCreateResponse.fromEntity(savedPost);
     }
 
     @Override
-    public PostDetailResponse getPost(Long id) {
+    @Transactional(readOnly = true)
+    public PostDetailResponse getPost(Long id, String viewer) {
 
+        // 작성자는 fetch join 하지 않고 user 2차 캐시에서 읽는다.
         Post post = postRepository
-                .findByIdWithUser(id)
+                .findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(RESOURCE_NOT_FOUND));
 
-        postViewService.increaseViewcount(id);
+        postViewService.increaseViewcount(id, viewer);
         return PostDetailResponse.fromEntity(post);
     }
 
@@ -105,72 +114,70 @@ public class PostServiceImpl implements PostService{
 
         post.update(dto.getTitle(), dto.getContent());
 
-        if (dto.getDeletedImageIds() != null && !dto.getDeletedImageIds().isEmpty()) {
-
-            for (Long imageId : dto.getDeletedImageIds()) {
-
-                PostImage postImage = postImageRepository.findById(imageId)
-                        .orElseThrow(() -> new ResourceNotFoundException(RESOURCE_NOT_FOUND));
-
-                if (!postImage.getPost().getId().equals(post.getId())) {
-                    throw new BadRequestException(NO_IMAGE_IN_POST);
-                }
-
-                s3Client.deleteObject(DeleteObjectRequest.builder()
-                        .bucket(bucket)
-                        .key(postImage.getPostImageUrl())
-                        .build());
-
-                postImageRepository.delete(postImage);
-
-                post.getPostImages().remove(postImage);
-            }
-        }
-
-        if (dto.getNewPostImageUrls() != null && !dto.getNewPostImageUrls().isEmpty()) {
-
-            for (String imageUrl : dto.getNewPostImageUrls()) {
-
-                PostImage newImage = PostImage.builder()
-                        .post(post)
-                        .postImageUrl(imageUrl)
-                        .build();
-
-                postImageRepository.save(newImage);
-
-                post.addPostImages(newImage);
-            }
-        }
-
+        List<String> removedImageUrls = postImageWriter.detach(post.getId(), dto.getDeletedImageIds());
+        postImageWriter.attach(post.getId(), dto.getNewPostImageUrls());
+        s3DeleteQueue.enqueue(removedImageUrls);
+
+        // 이미지는 JDBC 로 바꿔 post.postImages 가 예전 상태이므로, 대표 이미지는 바뀐 뒤의 DB 에서 읽는다.
+        String coverImageUrl = postImageRepository.findCoverImagesByPostIdIn(List.of(post.getId())).stream()
+                .findFirst()
+                .map(PostCoverImage::getImageUrl)
+                .orElse(null);
+        eventPublisher.publishEvent(PostChangedEvent.updated(PostListResponse.fromEntity(post).toBuilder()
+                .coverImageUrl(coverImageUrl)
+                .build(), post.getContent()));
         return PostDetailResponse.fromEntity(post);
     }
 
 
+    /**
+     * 첫 페이지 기본 정렬 요청은 최신 글 캐시로 답하고, 그 밖의 요청만 DB 를 읽는다.
+     */
     @Override
+    @Transactional(readOnly = true)
     public Page<PostListResponse> getAllPost(Pageable pageable) {
-        Page<Post> posts = postRepository.findAllWithUser(pageable);
-        return posts.map(PostListResponse::fromEntity);
+        return recentPostFeed.firstPage(pageable).orElseGet(
+                () -> pageCounter.toPage(postListAssembler.assemble(postRepository.findAllListRows(pageable)), pageable,
+                        CountKey.all(PageCounter.POST), postRepository::count)
+        );
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<PostListResponse> getAllPostByUser(User user, Pageable pageable) {
-        Page<Post> posts = postRepository.findAllByUser(user, pageable);
+        List<PostListRow> posts = postRepository.findAllListRowsByUser(user, pageable);
 
-        return posts.map(PostListResponse::fromEntity);
+        return pageCounter.toPage(postListAssembler.assemble(posts), pageable, CountKey.of(PageCounter.POST, "user_id", user.getId()),
+                () -> postRepository.countByUserId(user.getId()));
     }
 
-/*    @Override
-    public Slice<PostListResponse> getAllPostSlice(Pageable pageable) {
-        Slice<Post> posts = postRepository.findAllWithUserSlice(pageable);
-
-        return posts.map(PostListResponse::fromEntity);
-    }*/
+    /**
+     * 커서가 없으면 가장 최신 글부터, 있으면 커서 id 보다 작은 글부터 size 개를 내려준다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PostCursorResponse getAllPostByCursor(String cursor, int size) {
+        Long cursorId = PostCursor.decode(cursor);
+        Pageable pageable = PageRequest.of(0, Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+
+        Slice<PostListRow> posts = postRepository.findListRowsBefore(cursorId == null ? Long.MAX_VALUE : cursorId, pageable);
+        List<PostListResponse> content = postListAssembler.assemble(posts.getContent());
+
+        String nextCursor = posts.hasNext() ? PostCursor.encode(content.get(content.size() - 1).getPostId()) : null;
+        return PostCursorResponse.builder()
+                .posts(content)
+                .nextCursor(nextCursor)
+                .hasNext(posts.hasNext())
+                .build();
+    }
 
     @Override
+    @Transactional(readOnly = true)
     public List<PostImageResponse> getAllPostImageByPostId(Long id) {
-        List<PostImage> postImages = postImageRepository.findAllByPostId(id);
-
-        return postImages.stream().map(PostImageResponse::fromEntity).toList();
+        // 이미지 목록은 post.postImages 컬렉션 캐시에서 읽으므로 캐시가 살아 있으면 게시글 PK 조회 한 번으로 끝난다.
+        return postRepository.findById(id)
+                .map(post -> post.getPostImages().stream().map(PostImageResponse::fromEntity).toList())
+                .orElseGet(List::of);
     }
 
     @Override
@@ -179,15 +186,9 @@ public class PostServiceImpl implements PostService{
                 () -> new ResourceNotFoundException(RESOURCE_NOT_FOUND)
         );
 
-        List<PostImage> postImages = postImageRepository.findAllByPostId(post.getId());
-        for (PostImage postImage : postImages) {
-            s3Client.deleteObject(DeleteObjectRequest.builder()
-                    .bucket(bucket)
-                            .key(postImage.getPostImageUrl()).build());
-        }
-
-        postLikeRepository.deleteAllByPostId(post.getId());
-
-        postRepository.delete(post);
+        postDeleter.delete(post);
+        pageCounter.invalidate(PageCounter.POST);
+        pageCounter.invalidate(PageCounter.COMMENT);
+        eventPublisher.publishEvent(PostChangedEvent.deleted(post.getId()));
     }
 }
@@ -0,0 +1,71 @@
+package com.example.community.service.post.cache;
+
+import com.example.community.dto.response.post.PostDetailResponse;
+import com.example.community.dto.response.post.PostListResponse;
+import com.example.community.service.post.PostService;
+import com.example.community.service.post.viewcount.PostViewService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * PostResponseCache 를 먼저 보고, 없을 때만 PostService 로 읽어 채운다.
+ * 트랜잭션 밖에서 캐시를 보므로 캐시에 있으면 DB 커넥션을 잡지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CachedPostReader {
+
+    private final PostService postService;
+    private final PostViewService postViewService;
+    private final PostResponseCache postResponseCache;
+
+    /**
+     * 캐시된 응답이 있으면 DB 를 읽지 않고, 조회수만 메모리 카운터에 더한다.
+     */
+    public PostDetailResponse getPost(Long id, String viewer) {
+        Optional<PostDetailResponse> cached = postResponseCache.findDetail(id);
+        if (cached.isPresent()) {
+            postViewService.increaseViewcount(id, viewer);
+            return cached.get();
+        }
+
+        long version = postResponseCache.detailVersion(id);
+        PostDetailResponse post = postService.getPost(id, viewer);
+        postResponseCache.putDetail(id, version, post);
+        return post;
+    }
+
+    /**
+     * PostService 를 부르기 전에 If-None-Match 와 비교할 ETag. 캐시 항목과 같은 버전으로 만든다.
+     */
+    public String detailEtag(Long id) {
+        return postResponseCache.detailEtag(id);
+    }
+
+    public String listEtag() {
+        return postResponseCache.listEtag();
+    }
+
+    /**
+     * 304 로 답할 때도 본문을 받은 것과 같이 조회수를 센다.
+     */
+    public void recordView(Long id, String viewer) {
+        postViewService.increaseViewcount(id, viewer);
+    }
+
+    public Page<PostListResponse> getAllPost(Pageable pageable) {
+        Optional<Page<PostListResponse>> cached = postResponseCache.findList(pageable);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        long version = postResponseCache.listVersion();
+        Page<PostListResponse> posts = postService.getAllPost(pageable);
+        postResponseCache.putList(pageable, version, posts);
+        return posts;
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.community.service.post.cache;
+
+import com.example.community.dto.response.post.PostDetailResponse;
+import com.example.community.dto.response.post.PostListResponse;
+import com.example.community.service.post.PostChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 게시글 상세/목록 조회 결과를 ttl 동안 들고 있다. 읽기는 CachedPostReader 가 맡는다.
+ * 수정/삭제가 커밋되면 해당 글의 버전과 목록 버전을 올려 이전 항목을 버린다. 좋아요/댓글 수 같은 값은 ttl 만큼 늦게 반영된다.
+ * ETag 도 같은 버전으로 만들어, 컨트롤러가 PostService 를 부르기 전에 If-None-Match 를 비교할 수 있다.
+ */
+@Component
+public class PostResponseCache {
+
+    private final long ttlMillis;
+    private final long etagMaxAgeMillis;
+    private final LongSupplier clock;
+    private final String bootId;
+
+    private final Map<String, Entry> entries;
+    private final ConcurrentHashMap<Long, Long> postVersions = new ConcurrentHashMap<>();
+    private final AtomicLong listVersion = new AtomicLong();
+
+    @Autowired
+    public PostResponseCache(@Value("${community.response-cache.ttl-ms:5000}") long ttlMillis,
+                             @Value("${community.response-cache.max-entries:10000}") int maxEntries,
+                             @Value("${community.response-cache.etag-max-age-ms:60000}") long etagMaxAgeMillis) {
+        this(ttlMillis, maxEntries, etagMaxAgeMillis, System::currentTimeMillis);
+    }
+
+    PostResponseCache(long ttlMillis, int maxEntries, long etagMaxAgeMillis, LongSupplier clock) {
+        this.ttlMillis = ttlMillis;
+        this.etagMaxAgeMillis = etagMaxAgeMillis;
+        this.clock = clock;
+        this.bootId = Long.toString(clock.getAsLong(), 36);
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    public Optional<PostDetailResponse> findDetail(Long postId) {
+        return find(detailKey(postId), detailVersion(postId));
+    }
+
+    public long detailVersion(Long postId) {
+        return postVersions.getOrDefault(postId, 0L);
+    }
+
+    /**
+     * version 은 조회를 시작하기 전에 읽은 값이다. 그 사이 수정/삭제가 있었으면 저장하지 않는다.
+     */
+    public void putDetail(Long postId, long version, PostDetailResponse detail) {
+        put(detailKey(postId), version, detailVersion(postId), detail);
+    }
+
+    public Optional<Page<PostListResponse>> findList(Pageable pageable) {
+        return find(listKey(pageable), listVersion());
+    }
+
+    public long listVersion() {
+        return listVersion.get();
+    }
+
+    public void putList(Pageable pageable, long version, Page<PostListResponse> page) {
+        put(listKey(pageable), version, listVersion(), page);
+    }
+
+    /**
+     * 글 버전과 etag-max-age 구간으로 만든 ETag. DB 를 읽지 않고 만들 수 있다.
+     * 조회수처럼 버전을 올리지 않는 값과 다른 서버에서의 수정은 구간이 바뀔 때까지, 즉 최대 etag-max-age 만큼 늦게 반영된다.
+     */
+    public String detailEtag(Long postId) {
+        return etag("p" + postId, detailVersion(postId));
+    }
+
+    public String listEtag() {
+        return etag("l", listVersion());
+    }
+
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        postVersions.merge(event.postId(), 1L, Long::sum);
+        entries.remove(detailKey(event.postId()));
+        listVersion.incrementAndGet();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Optional<T> find(String key, long currentVersion) {
+        Entry cached = entries.get(key);
+        if (cached == null) return Optional.empty();
+        if (cached.version() != currentVersion || cached.expiresAt() <= clock.getAsLong()) {
+            entries.remove(key, cached);
+            return Optional.empty();
+        }
+        return Optional.of((T) cached.value());
+    }
+
+    private void put(String key, long version, long currentVersion, Object value) {
+        if (version == currentVersion) {
+            entries.put(key, new Entry(value, version, clock.getAsLong() + ttlMillis));
+        }
+    }
+
+    private String etag(String prefix, long version) {
+        long window = clock.getAsLong() / etagMaxAgeMillis;
+        return "\"" + prefix + "-" + bootId + "-" + version + "-" + window + "\"";
+    }
+
+    private static String detailKey(Long postId) {
+        return "detail:" + postId;
+    }
+
+    private static String listKey(Pageable pageable) {
+        return "list:" + pageable.getPageNumber() + ":" + pageable.getPageSize() + ":" + pageable.getSort();
+    }
+
+    private record Entry(Object value, long version, long expiresAt) {
+    }
+}
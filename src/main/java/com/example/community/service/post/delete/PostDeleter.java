@@ -0,0 +1,116 @@
+package com.example.community.service.post.delete;
+
+import com.example.community.domain.Post;
+import com.example.community.repository.comment.CommentJdbcRepository;
+import com.example.community.repository.comment.CommentRepository;
+import com.example.community.repository.post.PostImageRepository;
+import com.example.community.repository.post.PostJdbcRepository;
+import com.example.community.repository.post.PostLikeRepository;
+import com.example.community.repository.post.PostRepository;
+import com.example.community.service.s3.S3DeleteQueue;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 게시글과 댓글/이미지/좋아요를 post_id 조건의 벌크 DELETE 로 지운다. 자식 행을 영속성 컨텍스트에 올리지 않는다.
+ * soft 모드이거나 댓글/좋아요가 inlineLimit 를 넘는 글은 요청 안에서 지우지 않고 삭제 표시(UPDATE 한 번)만 한다.
+ * 표시된 글은 조회에서 바로 빠지고, PostPurgeWorker 가 chunkSize 행씩 나눈 트랜잭션으로 지운다.
+ */
+@Component
+public class PostDeleter {
+
+    private final PostRepository postRepository;
+    private final PostImageRepository postImageRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final CommentRepository commentRepository;
+    private final CommentJdbcRepository commentJdbcRepository;
+    private final PostJdbcRepository postJdbcRepository;
+    private final S3DeleteQueue s3DeleteQueue;
+    private final boolean softDelete;
+    private final int inlineLimit;
+    private final int chunkSize;
+
+    public PostDeleter(PostRepository postRepository,
+                       PostImageRepository postImageRepository,
+                       PostLikeRepository postLikeRepository,
+                       CommentRepository commentRepository,
+                       CommentJdbcRepository commentJdbcRepository,
+                       PostJdbcRepository postJdbcRepository,
+                       S3DeleteQueue s3DeleteQueue,
+                       @Value("${community.delete.soft:true}") boolean softDelete,
+                       @Value("${community.post.delete.inline-limit:1000}") int inlineLimit,
+                       @Value("${community.post.delete.chunk-size:500}") int chunkSize) {
+        this.postRepository = postRepository;
+        this.postImageRepository = postImageRepository;
+        this.postLikeRepository = postLikeRepository;
+        this.commentRepository = commentRepository;
+        this.commentJdbcRepository = commentJdbcRepository;
+        this.postJdbcRepository = postJdbcRepository;
+        this.s3DeleteQueue = s3DeleteQueue;
+        this.softDelete = softDelete;
+        this.inlineLimit = inlineLimit;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 호출한 트랜잭션 안에서 지운다. 바로 지웠으면 true, 백그라운드로 넘겼으면 false.
+     * 댓글 수는 전체를 세지 않고 inlineLimit + 1 개까지만 읽어 본다.
+     */
+    public boolean delete(Post post) {
+        Long postId = post.getId();
+        boolean manyLikes = post.getLikeCount() != null && post.getLikeCount() > inlineLimit;
+        if (softDelete || manyLikes || commentRepository.findIdsByPostId(postId, PageRequest.of(0, inlineLimit + 1)).size() > inlineLimit) {
+            post.markDeleted(LocalDateTime.now());
+            return false;
+        }
+
+        deleteImages(postId);
+        postLikeRepository.deleteAllByPostId(postId);
+        commentJdbcRepository.deleteAllByPostId(postId);
+        postRepository.delete(post);
+        return true;
+    }
+
+    /**
+     * 삭제 표시된 글을 한 트랜잭션에 chunkSize 행 이하만 지운다. 댓글(삭제 표시된 댓글 포함), 좋아요, 이미지, 글 순서다.
+     * 글까지 지웠으면 true. 그 사이 다른 요청이 댓글을 넣었으면 글 삭제가 외래 키에 걸려 예외가 나고, 다음 호출이 다시 지운다.
+     */
+    @Transactional
+    public boolean purgeChunk(Long postId) {
+        List<Long> commentIds = commentJdbcRepository.findIdsByPostId(postId, chunkSize);
+        if (!commentIds.isEmpty()) {
+            commentJdbcRepository.deleteAllByIdIn(commentIds);
+            return false;
+        }
+
+        List<Long> likeIds = postLikeRepository.findIdsByPostId(postId, PageRequest.of(0, chunkSize));
+        if (!likeIds.isEmpty()) {
+            postLikeRepository.deleteAllByIdInBatch(likeIds);
+            return false;
+        }
+
+        deleteImages(postId);
+        return postJdbcRepository.deletePendingPost(postId);
+    }
+
+    /**
+     * 살아 있는 글에 달린, 삭제 표시된 댓글을 chunkSize 개 이하 지우고 지운 수를 돌려준다.
+     */
+    @Transactional
+    public int purgeDeletedComments() {
+        return commentJdbcRepository.deleteAllByIdIn(commentJdbcRepository.findDeletedIds(chunkSize));
+    }
+
+    private void deleteImages(Long postId) {
+        List<String> imageUrls = postImageRepository.findUrlsByPostId(postId);
+        if (imageUrls.isEmpty()) return;
+
+        s3DeleteQueue.enqueue(imageUrls);
+        postImageRepository.deleteAllByPostId(postId);
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.community.service.post.delete;
+
+import com.example.community.repository.post.PostJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalTime;
+import java.util.function.Supplier;
+
+/**
+ * 삭제 표시된 게시글과 댓글을 chunk 단위로 물리 삭제한다. S3 이미지는 outbox 로 넘긴다.
+ * window(예: 02:00-06:00) 안에서만 돌고, 한 번 실행에 maxChunksPerRun 개의 chunk 트랜잭션만 돌려
+ * DB 부하와 스케줄러 점유 시간을 묶어 둔다. window 를 비우면 항상 돈다.
+ */
+@Slf4j
+@Component
+public class PostPurgeWorker {
+
+    // 한 번에 읽어 오는 삭제 대기 글 수
+    static final int PENDING_POSTS_PER_RUN = 10;
+
+    private final PostJdbcRepository postJdbcRepository;
+    private final PostDeleter postDeleter;
+    private final int maxChunksPerRun;
+    private final LocalTime windowStart;
+    private final LocalTime windowEnd;
+    private final Supplier<LocalTime> clock;
+
+    @Autowired
+    public PostPurgeWorker(PostJdbcRepository postJdbcRepository,
+                           PostDeleter postDeleter,
+                           @Value("${community.post.purge.max-chunks-per-run:20}") int maxChunksPerRun,
+                           @Value("${community.post.purge.window:02:00-06:00}") String window) {
+        this(postJdbcRepository, postDeleter, maxChunksPerRun, window, LocalTime::now);
+    }
+
+    PostPurgeWorker(PostJdbcRepository postJdbcRepository, PostDeleter postDeleter, int maxChunksPerRun,
+                    String window, Supplier<LocalTime> clock) {
+        this.postJdbcRepository = postJdbcRepository;
+        this.postDeleter = postDeleter;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.clock = clock;
+        if (StringUtils.hasText(window)) {
+            String[] range = window.split("-");
+            this.windowStart = LocalTime.parse(range[0].trim());
+            this.windowEnd = LocalTime.parse(range[1].trim());
+        } else {
+            this.windowStart = null;
+            this.windowEnd = null;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${community.post.purge.interval-ms:1000}")
+    public void purge() {
+        runOnce();
+    }
+
+    /**
+     * 쓴 chunk 수를 돌려준다.
+     */
+    int runOnce() {
+        if (!inWindow(clock.get())) return 0;
+
+        int chunks = 0;
+        for (Long postId : postJdbcRepository.findPostIdsPendingPurge(PENDING_POSTS_PER_RUN)) {
+            while (chunks < maxChunksPerRun) {
+                chunks++;
+                try {
+                    if (postDeleter.purgeChunk(postId)) {
+                        log.info("게시글 삭제 완료 - postId={}", postId);
+                        break;
+                    }
+                } catch (DataAccessException e) {
+                    log.warn("게시글 삭제 chunk 실패 - postId={}, error={}", postId, e.getMessage());
+                    break;
+                }
+            }
+            if (chunks >= maxChunksPerRun) return chunks;
+        }
+
+        while (chunks < maxChunksPerRun && postDeleter.purgeDeletedComments() > 0) {
+            chunks++;
+        }
+        return chunks;
+    }
+
+    /**
+     * 끝이 시작보다 이르면 자정을 넘기는 구간이다.
+     */
+    boolean inWindow(LocalTime now) {
+        if (windowStart == null) return true;
+        if (!windowStart.isAfter(windowEnd)) {
+            return !now.isBefore(windowStart) && now.isBefore(windowEnd);
+        }
+        return !now.isBefore(windowStart) || now.isBefore(windowEnd);
+    }
+}
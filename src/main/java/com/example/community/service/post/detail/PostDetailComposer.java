@@ -0,0 +1,79 @@
+package com.example.community.service.post.detail;
+
+import com.example.community.domain.User;
+import com.example.community.dto.response.comment.CommentResponse;
+import com.example.community.dto.response.post.PostDetailCompositeResponse;
+import com.example.community.dto.response.post.PostDetailResponse;
+import com.example.community.dto.response.post.PostImageResponse;
+import com.example.community.dto.response.post.PostLikeResponse;
+import com.example.community.service.comment.CommentService;
+import com.example.community.service.post.PostService;
+import com.example.community.service.post.like.PostLikeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 게시글 상세, 이미지, 댓글 첫 페이지, 좋아요 상태를 요청마다 만든 가상 스레드에서 동시에 읽어 한 응답으로 묶는다.
+ * 각 조회는 서로 다른 스레드에서 각자의 읽기 전용 트랜잭션(커넥션)으로 돌기 때문에, 응답 시간은 합이 아니라 가장 느린 조회 하나에 가깝다.
+ * 동시 커넥션 수는 커넥션 풀 크기가 상한이 된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PostDetailComposer {
+
+    private final PostService postService;
+    private final CommentService commentService;
+    private final PostLikeService postLikeService;
+
+
+    public PostDetailCompositeResponse compose(Long postId, String viewer, User user,
+                                               Set<PostDetailPart> parts, Pageable commentPageable) {
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            Future<PostDetailResponse> post = executor.submit(() -> postService.getPost(postId, viewer));
+            Future<List<PostImageResponse>> images = submitIf(executor, parts.contains(PostDetailPart.IMAGES),
+                    () -> postService.getAllPostImageByPostId(postId));
+            Future<Page<CommentResponse>> comments = submitIf(executor, parts.contains(PostDetailPart.COMMENTS),
+                    () -> commentService.getCommentByPost(postId, commentPageable));
+            Future<PostLikeResponse> likes = submitIf(executor, parts.contains(PostDetailPart.LIKES),
+                    () -> postLikeService.getLikeCount(postId, user));
+
+            return PostDetailCompositeResponse.builder()
+                    .post(join(post))
+                    .images(join(images))
+                    .comments(join(comments))
+                    .likes(join(likes))
+                    .build();
+        } finally {
+            // 게시글이 없어 먼저 실패했으면 남은 조회는 기다리지 않고 중단시킨다.
+            executor.shutdownNow();
+        }
+    }
+
+    private static <T> Future<T> submitIf(ExecutorService executor, boolean enabled, Callable<T> task) {
+        return enabled ? executor.submit(task) : null;
+    }
+
+    private static <T> T join(Future<T> future) {
+        if (future == null) return null;
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("게시글 상세 조회가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
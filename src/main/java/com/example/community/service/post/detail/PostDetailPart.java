@@ -0,0 +1,33 @@
+package com.example.community.service.post.detail;
+
+import com.example.community.common.exception.custom.BadRequestException;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+import static com.example.community.common.exception.ErrorMessage.*;
+
+public enum PostDetailPart {
+
+    IMAGES, COMMENTS, LIKES;
+
+    /**
+     * "images,comments" 처럼 쉼표로 구분한 include 값을 읽는다. 대소문자와 공백은 가리지 않는다.
+     */
+    public static Set<PostDetailPart> parse(String include) {
+        Set<PostDetailPart> parts = EnumSet.noneOf(PostDetailPart.class);
+        if (include == null) return parts;
+
+        for (String token : include.split(",")) {
+            String name = token.strip();
+            if (name.isEmpty()) continue;
+            try {
+                parts.add(PostDetailPart.valueOf(name.toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException(INVALID_INCLUDE);
+            }
+        }
+        return parts;
+    }
+}
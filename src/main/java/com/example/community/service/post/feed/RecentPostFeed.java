@@ -0,0 +1,197 @@
+package com.example.community.service.post.feed;
+
+import com.example.community.common.paging.ApproximatePage;
+import com.example.community.common.paging.CountKey;
+import com.example.community.common.paging.PageCounter;
+import com.example.community.common.paging.PageTotal;
+import com.example.community.dto.response.post.PostListResponse;
+import com.example.community.repository.post.PostRepository;
+import com.example.community.service.post.PostChangedEvent;
+import com.example.community.service.post.PostListAssembler;
+import com.example.community.service.post.viewcount.ViewCounter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+/**
+ * 게시글 목록 첫 페이지(id 내림차순)용으로 최신 글 capacity 개를 메모리에 들고 있는다.
+ * 작성/수정/삭제는 커밋 직후 PostChangedEvent 로 바로 반영한다. 다른 노드의 변경과 어긋난 목록과 전체 수는
+ * 몇 분 간격의 refresh 로 다시 읽어 맞춘다. refresh 가 연달아 실패해 마지막 성공이 maxStaleness 보다 오래됐으면
+ * 캐시를 쓰지 않고 DB 로 넘긴다.
+ * 조회수는 DB 값에 아직 반영되지 않은 ViewCounter 증가분을 읽을 때 더한다.
+ */
+@Slf4j
+@Component
+public class RecentPostFeed {
+
+    static final Sort ID_DESC = Sort.by(Sort.Direction.DESC, "id");
+
+    private final PostRepository postRepository;
+    private final ViewCounter viewCounter;
+    private final PageCounter pageCounter;
+    private final PostListAssembler postListAssembler;
+    private final int capacity;
+    private final long maxStalenessMillis;
+    private final LongSupplier clock;
+
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public RecentPostFeed(PostRepository postRepository,
+                          ViewCounter viewCounter,
+                          PageCounter pageCounter,
+                          PostListAssembler postListAssembler,
+                          @Value("${community.feed.size:100}") int capacity,
+                          @Value("${community.feed.max-staleness-ms:600000}") long maxStalenessMillis) {
+        this(postRepository, viewCounter, pageCounter, postListAssembler, capacity, maxStalenessMillis, System::currentTimeMillis);
+    }
+
+    RecentPostFeed(PostRepository postRepository, ViewCounter viewCounter, PageCounter pageCounter,
+                   PostListAssembler postListAssembler, int capacity, long maxStalenessMillis, LongSupplier clock) {
+        this.postRepository = postRepository;
+        this.viewCounter = viewCounter;
+        this.pageCounter = pageCounter;
+        this.postListAssembler = postListAssembler;
+        this.capacity = capacity;
+        this.maxStalenessMillis = maxStalenessMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * 캐시로 답할 수 없는 요청(첫 페이지가 아님, 다른 정렬, 너무 큰 size, 오래된 캐시)이면 비어 있다.
+     */
+    public Optional<Page<PostListResponse>> firstPage(Pageable pageable) {
+        Snapshot current = snapshot;
+        if (current == null || clock.getAsLong() - current.loadedAt() > maxStalenessMillis) {
+            return Optional.empty();
+        }
+        if (pageable.getPageNumber() != 0 || !ID_DESC.equals(pageable.getSort())) {
+            return Optional.empty();
+        }
+
+        List<PostListResponse> rows = current.rows();
+        int size = pageable.getPageSize();
+        if (size > rows.size() && rows.size() < current.total()) {
+            return Optional.empty();
+        }
+
+        List<PostListResponse> content = rows.subList(0, Math.min(size, rows.size())).stream()
+                .map(this::withPendingViews)
+                .toList();
+        PageTotal total = new PageTotal(Math.max(current.total(), content.size()), current.approximate());
+        return Optional.of(new ApproximatePage<>(content, pageable, total));
+    }
+
+    @Scheduled(fixedDelayString = "${community.feed.refresh-interval-ms:300000}")
+    public synchronized void refresh() {
+        try {
+            long loadedAt = clock.getAsLong();
+            List<PostListResponse> rows = postListAssembler.assemble(
+                    postRepository.findAllListRows(PageRequest.of(0, capacity, ID_DESC)));
+            PageTotal total = rows.size() < capacity
+                    ? PageTotal.exact(rows.size())
+                    : pageCounter.count(CountKey.all(PageCounter.POST), postRepository::count);
+            snapshot = new Snapshot(rows, total.value(), total.approximate(), loadedAt);
+        } catch (Exception e) {
+            log.warn("최신 글 목록 캐시 갱신 실패 - 이전 값 유지", e);
+        }
+    }
+
+    @TransactionalEventListener
+    public synchronized void onPostChanged(PostChangedEvent event) {
+        Snapshot current = snapshot;
+        if (current == null) return;
+
+        List<PostListResponse> rows = new ArrayList<>(current.rows());
+        int index = indexOf(rows, event.postId());
+        long total = current.total();
+
+        switch (event.type()) {
+            case CREATED -> {
+                if (index >= 0) return;
+                int at = insertionPoint(rows, event.postId());
+                if (at >= capacity) return;
+                rows.add(at, event.row().toBuilder().commentCount(0L).build());
+                if (rows.size() > capacity) {
+                    rows.remove(rows.size() - 1);
+                }
+                total++;
+            }
+            case UPDATED -> {
+                if (index < 0) return;
+                PostListResponse cached = rows.get(index);
+                rows.set(index, event.row().toBuilder()
+                        .viewCount(cached.getViewCount())
+                        .commentCount(cached.getCommentCount())
+                        .build());
+            }
+            case DELETED -> {
+                if (index >= 0) {
+                    rows.remove(index);
+                }
+                total = Math.max(0, total - 1);
+            }
+        }
+        snapshot = new Snapshot(List.copyOf(rows), total, current.approximate(), current.loadedAt());
+    }
+
+    /**
+     * 조회수 flush 로 DB 에 반영된 증가분을 캐시된 기준값에도 더한다. ViewCounter 에서 빠진 만큼이다.
+     */
+    public synchronized void onViewCountsFlushed(Map<Long, Long> flushed) {
+        Snapshot current = snapshot;
+        if (current == null || flushed.isEmpty()) return;
+
+        List<PostListResponse> rows = current.rows().stream()
+                .map(row -> {
+                    Long delta = flushed.get(row.getPostId());
+                    return delta == null ? row : withViewCount(row, viewCountOf(row) + delta);
+                })
+                .toList();
+        snapshot = new Snapshot(rows, current.total(), current.approximate(), current.loadedAt());
+    }
+
+    private PostListResponse withPendingViews(PostListResponse row) {
+        long pending = viewCounter.get(row.getPostId());
+        return pending == 0 ? row : withViewCount(row, viewCountOf(row) + pending);
+    }
+
+    private static long viewCountOf(PostListResponse row) {
+        return row.getViewCount() != null ? row.getViewCount() : 0L;
+    }
+
+    private static PostListResponse withViewCount(PostListResponse row, long viewCount) {
+        return row.toBuilder().viewCount(viewCount).build();
+    }
+
+    private static int indexOf(List<PostListResponse> rows, Long postId) {
+        for (int i = 0; i < rows.size(); i++) {
+            if (rows.get(i).getPostId().equals(postId)) return i;
+        }
+        return -1;
+    }
+
+    private static int insertionPoint(List<PostListResponse> rows, Long postId) {
+        int at = 0;
+        while (at < rows.size() && rows.get(at).getPostId() > postId) {
+            at++;
+        }
+        return at;
+    }
+
+    private record Snapshot(List<PostListResponse> rows, long total, boolean approximate, long loadedAt) {
+    }
+}
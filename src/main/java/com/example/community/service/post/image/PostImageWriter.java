@@ -0,0 +1,76 @@
+package com.example.community.service.post.image;
+
+import com.example.community.common.exception.custom.BadRequestException;
+import com.example.community.common.exception.custom.ResourceNotFoundException;
+import com.example.community.common.util.TransactionCallbacks;
+import com.example.community.domain.Post;
+import com.example.community.domain.PostImage;
+import com.example.community.repository.post.PostImageRepository;
+import com.example.community.repository.post.PostJdbcRepository;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.example.community.common.exception.ErrorMessage.*;
+
+/**
+ * 게시글 이미지 변경을 이미지 수와 상관없이 정해진 문장 수로 반영한다.
+ * 추가는 다중 VALUES INSERT 한 번, 삭제는 IN 조회 한 번과 IN 벌크 삭제 한 번이다.
+ * 두 경로 모두 영속성 컨텍스트를 거치지 않으므로 post.postImages 컬렉션 캐시를 직접 비운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostImageWriter {
+
+    private static final String POST_IMAGES_ROLE = Post.class.getName() + ".postImages";
+
+    private final PostImageRepository postImageRepository;
+    private final PostJdbcRepository postJdbcRepository;
+    private final EntityManagerFactory entityManagerFactory;
+
+
+    public void attach(Long postId, List<String> imageUrls) {
+        if (imageUrls == null || imageUrls.isEmpty()) return;
+
+        postJdbcRepository.insertPostImages(postId, imageUrls);
+        evictPostImages(postId);
+    }
+
+    /**
+     * 모든 id 가 이 게시글의 이미지일 때만 지운다. 지운 이미지의 URL 을 돌려준다.
+     */
+    public List<String> detach(Long postId, Collection<Long> imageIds) {
+        if (imageIds == null || imageIds.isEmpty()) return List.of();
+
+        Set<Long> ids = new LinkedHashSet<>(imageIds);
+        List<PostImage> images = postImageRepository.findAllById(ids);
+
+        if (images.size() != ids.size()) {
+            throw new ResourceNotFoundException(RESOURCE_NOT_FOUND);
+        }
+        if (images.stream().anyMatch(image -> !image.getPost().getId().equals(postId))) {
+            throw new BadRequestException(NO_IMAGE_IN_POST);
+        }
+
+        postImageRepository.deleteAllByIdInBatch(ids);
+        evictPostImages(postId);
+        return images.stream().map(PostImage::getPostImageUrl).toList();
+    }
+
+    /**
+     * 지금 비워서 이 트랜잭션 안의 다음 읽기가 DB 를 보게 하고, 트랜잭션이 끝날 때 한 번 더 비운다.
+     * 그 사이 다른 요청이나 이 트랜잭션이 커밋 전 상태를 캐시에 올렸더라도 커밋이든 롤백이든 남지 않는다.
+     */
+    private void evictPostImages(Long postId) {
+        Runnable evict = () -> entityManagerFactory.unwrap(SessionFactory.class).getCache()
+                .evictCollectionData(POST_IMAGES_ROLE, postId);
+        evict.run();
+        TransactionCallbacks.afterCompletion(evict);
+    }
+}
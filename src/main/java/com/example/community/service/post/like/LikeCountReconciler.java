@@ -0,0 +1,49 @@
+package com.example.community.service.post.like;
+
+import com.example.community.repository.post.PostJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * post.like_count 를 post_like 의 실제 개수로 맞춘다.
+ * 좋아요 추가/취소는 같은 트랜잭션에서 like_count 를 증감하므로 평소에는 어긋나지 않지만,
+ * 컬럼 추가 이전 데이터와 직접 수정된 데이터를 위해 기동 시 빈 값을 채우고 주기적으로 전체를 다시 센다.
+ * 한 번에 post_id 구간 CHUNK_SIZE 만큼만 갱신해 락을 오래 잡지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeCountReconciler {
+
+    static final long CHUNK_SIZE = 1000;
+
+    private final PostJdbcRepository postJdbcRepository;
+
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void fillMissing() {
+        int updated = reconcile(true);
+        if (updated > 0) {
+            log.info("좋아요 수 초기화 - {}건", updated);
+        }
+    }
+
+    @Scheduled(cron = "${community.like.reconcile-cron:0 30 4 * * *}")
+    public void reconcileAll() {
+        int updated = reconcile(false);
+        log.info("좋아요 수 재계산 - {}건", updated);
+    }
+
+    int reconcile(boolean onlyMissing) {
+        long maxId = postJdbcRepository.findMaxPostId();
+        int updated = 0;
+        for (long from = 1; from <= maxId; from += CHUNK_SIZE) {
+            updated += postJdbcRepository.reconcileLikeCounts(from, from + CHUNK_SIZE, onlyMissing);
+        }
+        return updated;
+    }
+}
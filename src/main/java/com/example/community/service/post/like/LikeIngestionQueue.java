@@ -0,0 +1,214 @@
+package com.example.community.service.post.like;
+
+import com.example.community.repository.post.PostJdbcRepository;
+import com.example.community.repository.post.PostLikeKey;
+import com.example.community.service.post.trending.TrendingPostService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 좋아요/취소 요청을 바로 DB 에 쓰지 않고 (postId, userId) 별 마지막 의도만 모아 두었다가 짧은 주기로 배치 반영한다.
+ * 같은 사용자가 연달아 누르면 마지막 상태 한 번만 쓰인다.
+ * 대기 중인 키가 capacity 를 넘으면 offer 가 false 를 돌려주고, 호출 측은 동기 경로로 처리한다.
+ * 의도마다 DB 에 반영되면 좋아요 수가 얼마나 바뀔지(delta)를 함께 들고 있어, 조회 쪽이 반영 전에도
+ * 자기가 누른 상태와 그만큼 바뀐 좋아요 수를 읽을 수 있다. delta 는 반영 중인 의도가 있으면 그 상태를,
+ * 없으면 LikedPostIndex 의 커밋된 상태를 기준으로 잡고, 반영이 커밋되면 빠진다.
+ * 기본은 꺼져 있고 community.like.async.enabled=true 로 켠다.
+ */
+@Slf4j
+@Component
+public class LikeIngestionQueue {
+
+    private final PostJdbcRepository postJdbcRepository;
+    private final LikedPostIndex likedPostIndex;
+    private final TrendingPostService trendingPostService;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int capacity;
+
+    private final Object intentLock = new Object();
+    private final Map<PostLikeKey, Intent> pending = new HashMap<>();
+    private final Map<PostLikeKey, Intent> inFlight = new HashMap<>();
+    private final Map<Long, Long> pendingDeltas = new HashMap<>();
+
+    public LikeIngestionQueue(PostJdbcRepository postJdbcRepository,
+                              LikedPostIndex likedPostIndex,
+                              TrendingPostService trendingPostService,
+                              TransactionTemplate transactionTemplate,
+                              @Value("${community.like.async.enabled:false}") boolean enabled,
+                              @Value("${community.like.async.capacity:10000}") int capacity) {
+        this.postJdbcRepository = postJdbcRepository;
+        this.likedPostIndex = likedPostIndex;
+        this.trendingPostService = trendingPostService;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.capacity = capacity;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 이미 대기 중인 키는 의도만 덮어쓰므로 용량과 관계없이 받는다.
+     */
+    public boolean offer(Long postId, Long userId, boolean liked) {
+        if (!enabled) return false;
+
+        PostLikeKey key = new PostLikeKey(postId, userId);
+        if (isFull(key)) return false;
+
+        // 비트맵 적재는 DB 를 읽을 수 있으므로 락 밖에서 한다
+        boolean committed = likedPostIndex.isLiked(userId, postId);
+        synchronized (intentLock) {
+            if (isFull(key)) return false;
+
+            Intent base = inFlight.get(key);
+            boolean before = base != null ? base.liked() : committed;
+            Intent intent = new Intent(liked, (liked ? 1L : 0L) - (before ? 1L : 0L));
+            Intent previous = pending.put(key, intent);
+            adjustDelta(postId, intent.delta() - (previous != null ? previous.delta() : 0L));
+        }
+        return true;
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 이 사용자의 마지막 의도. 없으면 null 이다.
+     */
+    public Boolean pendingLiked(Long postId, Long userId) {
+        if (!enabled) return null;
+
+        PostLikeKey key = new PostLikeKey(postId, userId);
+        synchronized (intentLock) {
+            Intent intent = pending.get(key);
+            if (intent == null) {
+                intent = inFlight.get(key);
+            }
+            return intent != null ? intent.liked() : null;
+        }
+    }
+
+    /**
+     * 대기 중이거나 반영 중인 의도가 모두 반영되면 like_count 가 바뀔 양.
+     */
+    public long pendingDelta(Long postId) {
+        if (!enabled) return 0L;
+
+        synchronized (intentLock) {
+            return pendingDeltas.getOrDefault(postId, 0L);
+        }
+    }
+
+    public int pendingSize() {
+        synchronized (intentLock) {
+            return pending.size();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${community.like.async.flush-interval-ms:200}")
+    public synchronized void flush() {
+        Map<PostLikeKey, Boolean> intents = drain();
+        if (intents.isEmpty()) return;
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> apply(intents));
+            settle(true);
+        } catch (Exception e) {
+            settle(false);
+            log.error("좋아요 배치 반영 실패 - {}건 재시도 대기", intents.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 대기 중인 의도를 반영 중으로 옮긴다. delta 는 커밋될 때까지 그대로 남겨 조회에 계속 더해지게 한다.
+     */
+    private Map<PostLikeKey, Boolean> drain() {
+        synchronized (intentLock) {
+            Map<PostLikeKey, Boolean> intents = new HashMap<>();
+            pending.forEach((key, intent) -> intents.put(key, intent.liked()));
+            inFlight.putAll(pending);
+            pending.clear();
+            return intents;
+        }
+    }
+
+    /**
+     * 커밋됐으면 반영 중이던 delta 를 뺀다. 실패했으면 의도를 대기열로 되돌리되, 그 사이 들어온 더 새로운 의도가 있으면
+     * 그것을 남기고 delta 만 합친다. 새 의도의 delta 는 반영 중이던 상태를 기준으로 잡혀 있기 때문이다.
+     */
+    private void settle(boolean committed) {
+        synchronized (intentLock) {
+            inFlight.forEach((key, intent) -> {
+                if (committed) {
+                    adjustDelta(key.postId(), -intent.delta());
+                } else {
+                    pending.merge(key, intent, (newer, old) -> new Intent(newer.liked(), newer.delta() + old.delta()));
+                }
+            });
+            inFlight.clear();
+        }
+    }
+
+    private boolean isFull(PostLikeKey key) {
+        synchronized (intentLock) {
+            return pending.size() >= capacity && !pending.containsKey(key);
+        }
+    }
+
+    private void adjustDelta(Long postId, long delta) {
+        if (delta == 0) return;
+        pendingDeltas.merge(postId, delta, (a, b) -> a + b == 0 ? null : a + b);
+    }
+
+    private void apply(Map<PostLikeKey, Boolean> intents) {
+        List<PostLikeKey> likes = new ArrayList<>();
+        List<PostLikeKey> unlikes = new ArrayList<>();
+        intents.forEach((key, liked) -> (liked ? likes : unlikes).add(key));
+
+        // 동기 경로와 같은 순서(게시글 -> post_like)로 락을 잡는다
+        postJdbcRepository.lockPosts(intents.keySet().stream().map(PostLikeKey::postId).toList());
+        int[] inserted = likes.isEmpty() ? new int[0] : postJdbcRepository.batchInsertLikesIfAbsent(likes);
+        int[] deleted = unlikes.isEmpty() ? new int[0] : postJdbcRepository.batchDeleteLikes(unlikes);
+
+        Map<Long, Long> deltas = new HashMap<>();
+        List<PostLikeKey> added = changed(likes, inserted, 1L, deltas);
+        List<PostLikeKey> removed = changed(unlikes, deleted, -1L, deltas);
+        postJdbcRepository.bulkAdjustLikeCounts(deltas);
+
+        added.forEach(key -> onChanged(key, true));
+        removed.forEach(key -> onChanged(key, false));
+    }
+
+    private List<PostLikeKey> changed(List<PostLikeKey> keys, int[] results, long delta, Map<Long, Long> deltas) {
+        List<PostLikeKey> changed = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            if (results[i] > 0) {
+                changed.add(keys.get(i));
+                deltas.merge(keys.get(i).postId(), delta, Long::sum);
+            }
+        }
+        return changed;
+    }
+
+    private void onChanged(PostLikeKey key, boolean liked) {
+        likedPostIndex.onLikeChanged(key.userId(), key.postId(), liked);
+        trendingPostService.recordLike(key.postId(), liked);
+    }
+
+    private record Intent(boolean liked, long delta) {
+    }
+}
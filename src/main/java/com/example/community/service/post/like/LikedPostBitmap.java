@@ -0,0 +1,181 @@
+package com.example.community.service.post.like;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 한 사용자가 좋아요한 게시글 id 집합을 Roaring 방식으로 압축해 담는다.
+ * id 의 상위 48비트로 컨테이너를 나누고, 컨테이너 안의 하위 16비트는
+ * 4096개 이하면 정렬된 char 배열(원소당 2바이트), 넘으면 65536비트 비트맵(8KB)에 담는다.
+ * 게시글 id 는 순차 증가라 좋아요가 몇 개의 컨테이너에 몰리고, 대부분 배열 컨테이너로 끝난다.
+ * 스레드 안전하지 않으므로 호출 측에서 동기화한다.
+ */
+public class LikedPostBitmap {
+
+    private static final int ARRAY_MAX = 4096;
+
+    private final Map<Long, Container> containers = new HashMap<>();
+
+    public static LikedPostBitmap of(Collection<Long> postIds) {
+        LikedPostBitmap bitmap = new LikedPostBitmap();
+        postIds.forEach(bitmap::add);
+        return bitmap;
+    }
+
+    public boolean add(long postId) {
+        long key = postId >>> 16;
+        Container container = containers.get(key);
+        if (container == null) {
+            container = new ArrayContainer();
+        }
+        int before = container.cardinality();
+        container = container.add((char) postId);
+        containers.put(key, container);
+        return container.cardinality() > before;
+    }
+
+    public boolean remove(long postId) {
+        long key = postId >>> 16;
+        Container container = containers.get(key);
+        if (container == null) return false;
+
+        int before = container.cardinality();
+        container = container.remove((char) postId);
+        if (container.cardinality() == 0) {
+            containers.remove(key);
+        } else {
+            containers.put(key, container);
+        }
+        return container.cardinality() < before;
+    }
+
+    public boolean contains(long postId) {
+        Container container = containers.get(postId >>> 16);
+        return container != null && container.contains((char) postId);
+    }
+
+    public int cardinality() {
+        int total = 0;
+        for (Container container : containers.values()) {
+            total += container.cardinality();
+        }
+        return total;
+    }
+
+    private interface Container {
+
+        Container add(char low);
+
+        Container remove(char low);
+
+        boolean contains(char low);
+
+        int cardinality();
+    }
+
+    private static final class ArrayContainer implements Container {
+
+        private char[] values = new char[4];
+        private int size;
+
+        @Override
+        public Container add(char low) {
+            int index = Arrays.binarySearch(values, 0, size, low);
+            if (index >= 0) return this;
+
+            if (size == ARRAY_MAX) {
+                return toBitmap().add(low);
+            }
+
+            int insertAt = -index - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX, size * 2));
+            }
+            System.arraycopy(values, insertAt, values, insertAt + 1, size - insertAt);
+            values[insertAt] = low;
+            size++;
+            return this;
+        }
+
+        @Override
+        public Container remove(char low) {
+            int index = Arrays.binarySearch(values, 0, size, low);
+            if (index < 0) return this;
+
+            System.arraycopy(values, index + 1, values, index, size - index - 1);
+            size--;
+            return this;
+        }
+
+        @Override
+        public boolean contains(char low) {
+            return Arrays.binarySearch(values, 0, size, low) >= 0;
+        }
+
+        @Override
+        public int cardinality() {
+            return size;
+        }
+
+        private BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < size; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    private static final class BitmapContainer implements Container {
+
+        private final long[] words = new long[1 << 10];
+        private int cardinality;
+
+        @Override
+        public Container add(char low) {
+            long mask = 1L << low;
+            int word = low >>> 6;
+            if ((words[word] & mask) == 0) {
+                words[word] |= mask;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        public Container remove(char low) {
+            long mask = 1L << low;
+            int word = low >>> 6;
+            if ((words[word] & mask) != 0) {
+                words[word] &= ~mask;
+                cardinality--;
+            }
+            return cardinality <= ARRAY_MAX ? toArray() : this;
+        }
+
+        @Override
+        public boolean contains(char low) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        private ArrayContainer toArray() {
+            ArrayContainer array = new ArrayContainer();
+            array.values = new char[Math.max(cardinality, 4)];
+            for (int word = 0; word < words.length; word++) {
+                long bits = words[word];
+                while (bits != 0) {
+                    array.values[array.size++] = (char) ((word << 6) + Long.numberOfTrailingZeros(bits));
+                    bits &= bits - 1;
+                }
+            }
+            return array;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.community.service.post.like;
+
+import com.example.community.common.util.TransactionCallbacks;
+import com.example.community.repository.post.PostLikeRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * 사용자별 "좋아요한 게시글" 비트맵을 처음 조회될 때 DB 에서 한 번 읽어 메모리에 두고,
+ * 이후 좋아요/취소는 커밋 직후 비트맵에 반영한다. 게시글 목록 한 페이지의 좋아요 여부를 쿼리 없이 답한다.
+ * 최근에 쓰인 maxUsers 명까지만 유지한다.
+ * 다른 노드에서 일어난 변경은 이 노드에 알려지지 않으므로, 적재한 지 ttl 이 지난 비트맵은 다음 조회 때 다시 읽는다.
+ */
+@Component
+public class LikedPostIndex {
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final PostLikeRepository postLikeRepository;
+    private final TransactionOperations loadTransaction;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+    private final Map<Long, Loaded> bitmaps;
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    @Autowired
+    public LikedPostIndex(PostLikeRepository postLikeRepository,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${community.like.bitmap.max-users:10000}") int maxUsers,
+                          @Value("${community.like.bitmap.ttl-seconds:60}") long ttlSeconds) {
+        this(postLikeRepository, newLoadTransaction(transactionManager), maxUsers,
+                Duration.ofSeconds(ttlSeconds).toMillis(), System::currentTimeMillis);
+    }
+
+    LikedPostIndex(PostLikeRepository postLikeRepository, TransactionOperations loadTransaction, int maxUsers,
+                   long ttlMillis, LongSupplier clock) {
+        this.postLikeRepository = postLikeRepository;
+        this.loadTransaction = loadTransaction;
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+        this.bitmaps = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Loaded> eldest) {
+                return size() > maxUsers;
+            }
+        });
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    public boolean isLiked(Long userId, Long postId) {
+        LikedPostBitmap bitmap = load(userId);
+        synchronized (bitmap) {
+            return bitmap.contains(postId);
+        }
+    }
+
+    public Map<Long, Boolean> likedOf(Long userId, Collection<Long> postIds) {
+        LikedPostBitmap bitmap = load(userId);
+        Map<Long, Boolean> liked = new LinkedHashMap<>();
+        synchronized (bitmap) {
+            for (Long postId : postIds) {
+                liked.put(postId, bitmap.contains(postId));
+            }
+        }
+        return liked;
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋된 뒤에 반영한다.
+     * 커밋 전에 반영하면 그 사이 다른 스레드가 DB 에서 비트맵을 새로 읽어 변경이 빠질 수 있다.
+     */
+    public void onLikeChanged(Long userId, Long postId, boolean liked) {
+        TransactionCallbacks.afterCommit(() -> apply(userId, postId, liked));
+    }
+
+    private void apply(Long userId, Long postId, boolean liked) {
+        synchronized (lockOf(userId)) {
+            Loaded loaded = bitmaps.get(userId);
+            if (loaded == null) return;
+
+            LikedPostBitmap bitmap = loaded.bitmap();
+            synchronized (bitmap) {
+                if (liked) {
+                    bitmap.add(postId);
+                } else {
+                    bitmap.remove(postId);
+                }
+            }
+        }
+    }
+
+    /**
+     * 같은 사용자의 적재와 반영은 같은 락을 잡으므로, 적재 중에 커밋된 변경도 적재가 끝난 뒤 반영된다.
+     * 적재는 호출 측 트랜잭션과 별도의 새 트랜잭션에서 읽는다. 호출 측이 이미 다른 조회로 스냅샷을 잡았다면
+     * 그 뒤에 커밋되어 반영을 건너뛴 변경이 빠진 채로 캐시되기 때문이다.
+     */
+    private LikedPostBitmap load(Long userId) {
+        Loaded loaded = bitmaps.get(userId);
+        if (isFresh(loaded)) return loaded.bitmap();
+
+        synchronized (lockOf(userId)) {
+            loaded = bitmaps.get(userId);
+            if (!isFresh(loaded)) {
+                long loadedAt = clock.getAsLong();
+                List<Long> postIds = loadTransaction.execute(status -> postLikeRepository.findPostIdsByUserId(userId));
+                loaded = new Loaded(LikedPostBitmap.of(postIds), loadedAt);
+                bitmaps.put(userId, loaded);
+            }
+            return loaded.bitmap();
+        }
+    }
+
+    private boolean isFresh(Loaded loaded) {
+        return loaded != null && clock.getAsLong() - loaded.loadedAt() < ttlMillis;
+    }
+
+    private static TransactionOperations newLoadTransaction(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    private Object lockOf(Long userId) {
+        return locks[Math.floorMod(Long.hashCode(userId), LOCK_STRIPES)];
+    }
+
+    private record Loaded(LikedPostBitmap bitmap, long loadedAt) {
+    }
+}
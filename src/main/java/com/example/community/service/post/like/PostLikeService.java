@@ -3,6 +3,8 @@ package com.example.community.service.post.like;
 import com.example.community.domain.User;
 import com.example.community.dto.response.post.PostLikeResponse;
 
+import java.util.List;
+
 public interface PostLikeService {
 
     PostLikeResponse addLike(Long postId, User user);
@@ -11,4 +13,6 @@ public interface PostLikeService {
 
     PostLikeResponse getLikeCount(Long postId, User usr);
 
+    List<PostLikeResponse> getLikes(List<Long> postIds, User user);
+
 }
@@ -1,17 +1,21 @@
 package com.example.community.service.post.like;
 
 import com.example.community.common.exception.custom.BadRequestException;
-import com.example.community.common.exception.custom.DuplicatedException;
 import com.example.community.common.exception.custom.ResourceNotFoundException;
-import com.example.community.domain.Post;
-import com.example.community.domain.PostLike;
 import com.example.community.domain.User;
 import com.example.community.dto.response.post.PostLikeResponse;
-import com.example.community.repository.post.PostLikeRepository;
+import com.example.community.repository.post.PostJdbcRepository;
+import com.example.community.repository.post.PostLikeCount;
 import com.example.community.repository.post.PostRepository;
+import com.example.community.service.post.trending.TrendingPostService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static com.example.community.common.exception.ErrorMessage.*;
 
@@ -19,51 +23,145 @@ import static com.example.community.common.exception.ErrorMessage.*;
 @RequiredArgsConstructor
 public class PostLikeServiceImpl implements PostLikeService{
 
-    private final PostRepository postRepository;
-    private final PostLikeRepository postLikeRepository;
-
+    private static final int MAX_BATCH_SIZE = 100;
 
+    private final PostRepository postRepository;
+    private final PostJdbcRepository postJdbcRepository;
+    private final TrendingPostService trendingPostService;
+    private final LikedPostIndex likedPostIndex;
+    private final LikeIngestionQueue likeIngestionQueue;
+    private final TransactionTemplate transactionTemplate;
+
+
+    /**
+     * 이미 좋아요한 게시글이면 아무것도 바꾸지 않고 현재 상태를 돌려준다.
+     * 게시글 행을 잠그며 좋아요 수를 읽고, 조건부 INSERT 가 실제로 들어갔을 때만 좋아요 수를 올린다.
+     * 동기 경로의 왕복은 잠금/읽기, INSERT, UPDATE 세 번이다.
+     * 비동기 모드에서는 큐에 넣고 바로 돌려준다. 좋아요 수는 커밋된 값에 반영 대기 중인 변경을 더한 값이라,
+     * 상태가 실제로 바뀌었으면 그만큼 달라진다. 이 경로는 쓰기 트랜잭션을 열지 않는다. 큐가 가득 차면 동기로 처리한다.
+     */
     @Override
     public PostLikeResponse addLike(Long postId, User user) {
-        Post post = postRepository.findById(postId).orElseThrow(
-                () -> new ResourceNotFoundException(RESOURCE_NOT_FOUND)
-        );
-
-        if (postLikeRepository.existsByPostIdAndUserId(postId, user.getId())) {
-            throw new DuplicatedException(DUPLICATED_LIKES);
+        if (likeIngestionQueue.isEnabled()) {
+            long likeCount = findLikeCount(postId);
+            if (likeIngestionQueue.offer(postId, user.getId(), true)) {
+                return new PostLikeResponse(postId, true, withPending(postId, likeCount));
+            }
         }
 
-        PostLike postLike = PostLike.builder()
-                .post(post)
-                .user(user).build();
-
-        postLikeRepository.save(postLike);
+        return transactionTemplate.execute(status -> addLikeNow(postId, user));
+    }
 
-        long likeCount = postLikeRepository.countByPostId(postId);
+    private PostLikeResponse addLikeNow(Long postId, User user) {
+        long likeCount = lockPost(postId);
+        if (postJdbcRepository.insertLikeIfAbsent(postId, user.getId())) {
+            postRepository.increaseLikeCount(postId);
+            likedPostIndex.onLikeChanged(user.getId(), postId, true);
+            trendingPostService.recordLike(postId, true);
+            likeCount++;
+        }
 
-        return PostLikeResponse.fromEntity(postLike, true, likeCount);
+        return new PostLikeResponse(postId, true, likeCount);
     }
 
+    /**
+     * 좋아요하지 않은 게시글이면 아무것도 바꾸지 않고 현재 상태를 돌려준다.
+     */
     @Override
     public PostLikeResponse removeLike(Long postId, User user) {
-        PostLike like = postLikeRepository.findByPostIdAndUserId(postId, user.getId())
-                .orElseThrow(() -> new BadRequestException(NOT_LIKED_POST));
+        if (likeIngestionQueue.isEnabled()) {
+            long likeCount = findLikeCount(postId);
+            if (likeIngestionQueue.offer(postId, user.getId(), false)) {
+                return new PostLikeResponse(postId, false, withPending(postId, likeCount));
+            }
+        }
 
-        postLikeRepository.delete(like);
+        return transactionTemplate.execute(status -> removeLikeNow(postId, user));
+    }
 
-        long likeCount = postLikeRepository.countByPostId(postId);
+    private PostLikeResponse removeLikeNow(Long postId, User user) {
+        long likeCount = lockPost(postId);
+        if (postJdbcRepository.deleteLike(postId, user.getId())) {
+            postRepository.decreaseLikeCount(postId);
+            likedPostIndex.onLikeChanged(user.getId(), postId, false);
+            trendingPostService.recordLike(postId, false);
+            likeCount = Math.max(0, likeCount - 1);
+        }
 
-        return new PostLikeResponse(postId, false, likeCount);    }
+        return new PostLikeResponse(postId, false, likeCount);
+    }
 
     @Override
     @Transactional(readOnly = true)
     public PostLikeResponse getLikeCount(Long postId, User user) {
-        Boolean liked = postLikeRepository.existsByPostIdAndUserId(postId, user.getId());
-        long likeCount = postLikeRepository.countByPostId(postId);
+        boolean liked = user != null && isLiked(user.getId(), postId);
+        long likeCount = postRepository.findLikeCountById(postId).orElse(0L);
         return PostLikeResponse.builder()
                 .postId(postId)
                 .liked(liked)
-                .likeCount(likeCount)
+                .likeCount(withPending(postId, likeCount))
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 게시글 목록 한 페이지의 좋아요 상태를 한 번에 조회한다.
+     * 좋아요 여부는 사용자 비트맵에서, 좋아요 수는 게시글 id IN 조회 한 번으로 가져온다.
+     * 비동기 모드면 아직 반영되지 않은 의도를 겹쳐, 사용자가 방금 누른 상태가 그대로 보이게 한다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<PostLikeResponse> getLikes(List<Long> postIds, User user) {
+        List<Long> ids = postIds.stream().distinct().toList();
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException(TOO_MANY_POST_IDS);
+        }
+        if (ids.isEmpty()) return List.of();
+
+        // 비트맵 적재가 이 트랜잭션의 스냅샷보다 앞서도록 먼저 읽는다
+        Map<Long, Boolean> liked = user != null ? likedPostIndex.likedOf(user.getId(), ids) : Map.of();
+        Map<Long, Long> likeCounts = postRepository.findLikeCountsByIdIn(ids).stream()
+                .collect(Collectors.toMap(PostLikeCount::getPostId, PostLikeCount::getLikeCount));
+
+        return ids.stream()
+                .filter(likeCounts::containsKey)
+                .map(postId -> PostLikeResponse.builder()
+                        .postId(postId)
+                        .liked(user != null && overlay(user.getId(), postId, liked.getOrDefault(postId, false)))
+                        .likeCount(withPending(postId, likeCounts.get(postId)))
+                        .build())
+                .toList();
+    }
+
+    /**
+     * 좋아요와 취소 모두 게시글 행 -> post_like 행 순서로 락을 잡아 좋아요 수 UPDATE 와 교착되지 않게 한다.
+     * 잠그면서 읽은 좋아요 수를 돌려주므로, 변경 뒤 다시 조회하지 않는다.
+     */
+    private long lockPost(Long postId) {
+        return postJdbcRepository.lockPost(postId).orElseThrow(
+                () -> new ResourceNotFoundException(RESOURCE_NOT_FOUND)
+        );
+    }
+
+    private boolean isLiked(Long userId, Long postId) {
+        Boolean pending = likeIngestionQueue.pendingLiked(postId, userId);
+        return pending != null ? pending : likedPostIndex.isLiked(userId, postId);
+    }
+
+    private boolean overlay(Long userId, Long postId, boolean committed) {
+        Boolean pending = likeIngestionQueue.pendingLiked(postId, userId);
+        return pending != null ? pending : committed;
+    }
+
+    private long withPending(Long postId, long likeCount) {
+        return Math.max(0, likeCount + likeIngestionQueue.pendingDelta(postId));
+    }
+
+    /**
+     * 트랜잭션 밖에서 부르면 리포지토리의 읽기 전용 트랜잭션으로 읽는다.
+     */
+    private long findLikeCount(Long postId) {
+        return postRepository.findLikeCountById(postId).orElseThrow(
+                () -> new ResourceNotFoundException(RESOURCE_NOT_FOUND)
+        );
+    }
+}
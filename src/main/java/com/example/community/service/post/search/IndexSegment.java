@@ -0,0 +1,194 @@
+package com.example.community.service.post.search;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * 디스크에 한 번 쓰고 나면 바뀌지 않는 색인 세그먼트. 파일 전체를 읽기 전용으로 mmap 해서 쓴다.
+ *
+ * <pre>
+ * header   : magic, version, minGen, maxGen (int) / coveredUntil (long) / docCount, tombstoneCount, gramCount (int)
+ * docs     : (postId long, gen int) * docCount
+ * tombs    : (postId long, gen int) * tombstoneCount
+ * dict     : (gram long, postingsIndex int, postingsCount int) * gramCount  -- gram 오름차순
+ * postings : postId long * 합계                                            -- gram 별 오름차순
+ * </pre>
+ *
+ * 사전이 고정 폭이라 매핑된 버퍼 위에서 바로 이진 탐색한다.
+ */
+final class IndexSegment {
+
+    static final String SUFFIX = ".seg";
+
+    private static final int MAGIC = 0x50534758;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 4 * 4 + 8 + 4 * 3;
+    private static final int DOC_BYTES = 8 + 4;
+    private static final int DICT_BYTES = 8 + 4 + 4;
+
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private final int minGen;
+    private final int maxGen;
+    private final long coveredUntil;
+    private final int docCount;
+    private final int tombstoneCount;
+    private final int gramCount;
+    private final int dictStart;
+    private final int postingsStart;
+
+    private IndexSegment(Path path, MappedByteBuffer buffer) throws IOException {
+        this.path = path;
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("검색 세그먼트 형식이 아닙니다: " + path);
+        }
+        this.minGen = buffer.getInt(8);
+        this.maxGen = buffer.getInt(12);
+        this.coveredUntil = buffer.getLong(16);
+        this.docCount = buffer.getInt(24);
+        this.tombstoneCount = buffer.getInt(28);
+        this.gramCount = buffer.getInt(32);
+        this.dictStart = HEADER_BYTES + (docCount + tombstoneCount) * DOC_BYTES;
+        this.postingsStart = dictStart + gramCount * DICT_BYTES;
+    }
+
+    static IndexSegment open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new IndexSegment(path, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * 임시 파일에 다 쓴 뒤 원자적으로 옮긴다. 중간에 죽어도 반쯤 쓴 세그먼트가 보이지 않는다.
+     */
+    static IndexSegment write(Path dir, int minGen, int maxGen, long coveredUntil,
+                              Map<Long, Integer> docs, Map<Long, Integer> tombstones,
+                              SortedMap<Long, long[]> postings) throws IOException {
+        Path target = dir.resolve(fileName(minGen, maxGen));
+        Path tmp = dir.resolve(fileName(minGen, maxGen) + ".tmp");
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(minGen);
+            out.writeInt(maxGen);
+            out.writeLong(coveredUntil);
+            out.writeInt(docs.size());
+            out.writeInt(tombstones.size());
+            out.writeInt(postings.size());
+            for (Map.Entry<Long, Integer> doc : docs.entrySet()) {
+                out.writeLong(doc.getKey());
+                out.writeInt(doc.getValue());
+            }
+            for (Map.Entry<Long, Integer> tombstone : tombstones.entrySet()) {
+                out.writeLong(tombstone.getKey());
+                out.writeInt(tombstone.getValue());
+            }
+            int postingsIndex = 0;
+            for (Map.Entry<Long, long[]> entry : postings.entrySet()) {
+                out.writeLong(entry.getKey());
+                out.writeInt(postingsIndex);
+                out.writeInt(entry.getValue().length);
+                postingsIndex += entry.getValue().length;
+            }
+            for (long[] ids : postings.values()) {
+                for (long id : ids) {
+                    out.writeLong(id);
+                }
+            }
+        }
+        Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return open(target);
+    }
+
+    static String fileName(int minGen, int maxGen) {
+        return String.format("%010d-%010d%s", minGen, maxGen, SUFFIX);
+    }
+
+    Path path() {
+        return path;
+    }
+
+    int minGen() {
+        return minGen;
+    }
+
+    int maxGen() {
+        return maxGen;
+    }
+
+    long coveredUntil() {
+        return coveredUntil;
+    }
+
+    boolean covers(int gen) {
+        return minGen <= gen && gen <= maxGen;
+    }
+
+    long[] postings(long gram) {
+        int low = 0;
+        int high = gramCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int entry = dictStart + mid * DICT_BYTES;
+            long key = buffer.getLong(entry);
+            if (key < gram) {
+                low = mid + 1;
+            } else if (key > gram) {
+                high = mid - 1;
+            } else {
+                return readPostings(buffer.getInt(entry + 8), buffer.getInt(entry + 12));
+            }
+        }
+        return new long[0];
+    }
+
+    void forEachDoc(DocVisitor visitor) {
+        visitDocs(HEADER_BYTES, docCount, visitor);
+    }
+
+    void forEachTombstone(DocVisitor visitor) {
+        visitDocs(HEADER_BYTES + docCount * DOC_BYTES, tombstoneCount, visitor);
+    }
+
+    void forEachGram(GramVisitor visitor) {
+        for (int i = 0; i < gramCount; i++) {
+            int entry = dictStart + i * DICT_BYTES;
+            visitor.visit(buffer.getLong(entry), readPostings(buffer.getInt(entry + 8), buffer.getInt(entry + 12)));
+        }
+    }
+
+    private void visitDocs(int start, int count, DocVisitor visitor) {
+        for (int i = 0; i < count; i++) {
+            int offset = start + i * DOC_BYTES;
+            visitor.visit(buffer.getLong(offset), buffer.getInt(offset + 8));
+        }
+    }
+
+    private long[] readPostings(int index, int count) {
+        long[] ids = new long[count];
+        int offset = postingsStart + index * 8;
+        for (int i = 0; i < count; i++) {
+            ids[i] = buffer.getLong(offset + i * 8);
+        }
+        return ids;
+    }
+
+    interface DocVisitor {
+        void visit(long postId, int gen);
+    }
+
+    interface GramVisitor {
+        void visit(long gram, long[] postIds);
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.community.service.post.search;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * 글자/숫자 연속 구간마다 코드 포인트 단위 2-gram 과 1-gram 을 만든다.
+ * 한글은 띄어쓰기와 조사가 붙어 단어 단위로 자르면 부분 검색이 안 되므로 n-gram 을 쓴다.
+ * gram 은 코드 포인트 두 개(각 21비트)를 long 하나로 묶은 값이고, 1-gram 은 두 번째 자리가 0 이다.
+ */
+final class NGramTokenizer {
+
+    private static final int CODE_POINT_BITS = 21;
+
+    private NGramTokenizer() {
+    }
+
+    /**
+     * 색인용. 모든 1-gram 과 2-gram 을 중복 없이 정렬해 돌려준다.
+     */
+    static long[] indexGrams(String... texts) {
+        GramCollector grams = new GramCollector();
+        for (String text : texts) {
+            forEachToken(text, token -> {
+                for (int i = 0; i < token.length; i++) {
+                    grams.add(gram(token[i], 0));
+                    if (i + 1 < token.length) {
+                        grams.add(gram(token[i], token[i + 1]));
+                    }
+                }
+            });
+        }
+        return grams.toSortedArray();
+    }
+
+    /**
+     * 검색어용. 두 글자 이상인 토큰은 2-gram 만, 한 글자 토큰은 1-gram 을 쓴다.
+     */
+    static long[] queryGrams(String query) {
+        GramCollector grams = new GramCollector();
+        forEachToken(query, token -> {
+            if (token.length == 1) {
+                grams.add(gram(token[0], 0));
+                return;
+            }
+            for (int i = 0; i + 1 < token.length; i++) {
+                grams.add(gram(token[i], token[i + 1]));
+            }
+        });
+        return grams.toSortedArray();
+    }
+
+    static long gram(int first, int second) {
+        return ((long) first << CODE_POINT_BITS) | second;
+    }
+
+    private static void forEachToken(String text, TokenConsumer consumer) {
+        if (text == null || text.isEmpty()) return;
+
+        int[] codePoints = Normalizer.normalize(text, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .codePoints()
+                .toArray();
+        int start = -1;
+        for (int i = 0; i <= codePoints.length; i++) {
+            boolean wordChar = i < codePoints.length && Character.isLetterOrDigit(codePoints[i]);
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                consumer.accept(Arrays.copyOfRange(codePoints, start, i));
+                start = -1;
+            }
+        }
+    }
+
+    private interface TokenConsumer {
+        void accept(int[] token);
+    }
+
+    private static final class GramCollector {
+        private long[] grams = new long[64];
+        private int size;
+
+        void add(long gram) {
+            if (size == grams.length) {
+                grams = Arrays.copyOf(grams, size * 2);
+            }
+            grams[size++] = gram;
+        }
+
+        long[] toSortedArray() {
+            long[] sorted = Arrays.copyOf(grams, size);
+            Arrays.sort(sorted);
+            int unique = 0;
+            for (int i = 0; i < sorted.length; i++) {
+                if (i == 0 || sorted[i] != sorted[i - 1]) {
+                    sorted[unique++] = sorted[i];
+                }
+            }
+            return Arrays.copyOf(sorted, unique);
+        }
+    }
+}
@@ -0,0 +1,343 @@
+package com.example.community.service.post.search;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+/**
+ * 게시글 제목/본문의 n-gram 역색인.
+ * 변경은 메모리 버퍼에 쌓았다가 주기적으로 불변 세그먼트 파일로 내리고, 세그먼트가 많아지면 하나로 합친다.
+ *
+ * 버퍼마다 세대(gen)를 하나씩 주고 owners 에 글마다 마지막으로 쓰인 세대를 기록한다.
+ * 세그먼트에 남은 이전 버전이나 삭제된 글은 owners 의 세대와 맞지 않으므로 검색에서 걸러진다.
+ * 그래서 수정/삭제 때 기존 세그먼트를 고칠 필요가 없다.
+ */
+@Slf4j
+@Component
+public class PostSearchIndex {
+
+    private final Path dir;
+    private final int maxSegments;
+    private final LongSupplier clock;
+
+    private final ConcurrentHashMap<Long, Integer> owners = new ConcurrentHashMap<>();
+    private final Object bufferLock = new Object();
+    private final Object segmentLock = new Object();
+
+    private int nextGen = 1;
+    private volatile PostingBuffer active;
+    private volatile State state = new State(List.of(), List.of());
+
+    @Autowired
+    public PostSearchIndex(@Value("${community.search.dir:./data/search-index}") String dir,
+                           @Value("${community.search.max-segments:8}") int maxSegments) {
+        this(Paths.get(dir), maxSegments, System::currentTimeMillis);
+    }
+
+    PostSearchIndex(Path dir, int maxSegments, LongSupplier clock) {
+        this.dir = dir;
+        this.maxSegments = maxSegments;
+        this.clock = clock;
+        this.active = new PostingBuffer(nextGen++, clock.getAsLong());
+    }
+
+    /**
+     * 저장된 세그먼트를 매핑하고 owners 를 복원한다.
+     * 병합 도중 죽어 범위가 겹치는 세그먼트가 남았으면 더 넓은 쪽만 쓴다.
+     */
+    @PostConstruct
+    public void open() {
+        synchronized (segmentLock) {
+            List<IndexSegment> segments = new ArrayList<>();
+            try {
+                Files.createDirectories(dir);
+                try (Stream<Path> files = Files.list(dir)) {
+                    for (Path file : files.sorted().toList()) {
+                        String name = file.getFileName().toString();
+                        if (name.endsWith(".tmp")) {
+                            Files.deleteIfExists(file);
+                        } else if (name.endsWith(IndexSegment.SUFFIX)) {
+                            segments.add(IndexSegment.open(file));
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("검색 색인을 열 수 없습니다: " + dir, e);
+            }
+
+            segments.sort(Comparator.comparingInt(IndexSegment::minGen)
+                    .thenComparing(Comparator.comparingInt(IndexSegment::maxGen).reversed()));
+            List<IndexSegment> kept = new ArrayList<>();
+            for (IndexSegment segment : segments) {
+                if (!kept.isEmpty() && segment.maxGen() <= kept.get(kept.size() - 1).maxGen()) {
+                    deleteQuietly(segment.path());
+                    continue;
+                }
+                kept.add(segment);
+            }
+
+            owners.clear();
+            for (IndexSegment segment : kept) {
+                segment.forEachDoc((postId, gen) -> owners.merge(postId, gen, Math::max));
+            }
+            for (IndexSegment segment : kept) {
+                segment.forEachTombstone((postId, gen) -> owners.computeIfPresent(postId, (id, owner) -> owner < gen ? null : owner));
+            }
+
+            synchronized (bufferLock) {
+                nextGen = kept.stream().mapToInt(IndexSegment::maxGen).max().orElse(0) + 1;
+                active = new PostingBuffer(nextGen++, clock.getAsLong());
+            }
+            state = new State(List.copyOf(kept), List.of());
+            log.info("검색 색인 로드: segments={}, posts={}", kept.size(), owners.size());
+        }
+    }
+
+    /**
+     * 디스크에 확실히 반영된 시점. 이 이후의 변경은 재시작 때 DB 에서 다시 읽어야 한다.
+     * 세그먼트가 하나도 없으면 비어 있다. 쓰기에 실패해 frozen 에 남은 버퍼가 있으면 그 시작 시점까지로 낮춘다.
+     */
+    public OptionalLong durableUntil() {
+        State snapshot = state;
+        OptionalLong covered = snapshot.segments().stream().mapToLong(IndexSegment::coveredUntil).max();
+        OptionalLong pending = snapshot.frozen().stream().mapToLong(PostingBuffer::createdAt).min();
+        if (covered.isEmpty() || pending.isEmpty()) return covered;
+        return OptionalLong.of(Math.min(covered.getAsLong(), pending.getAsLong()));
+    }
+
+    public boolean isEmpty() {
+        return owners.isEmpty();
+    }
+
+    /**
+     * 바로 반영한다. 게시글 변경은 PostSearchServiceImpl 이 커밋된 뒤의 PostChangedEvent 로 넘겨 준다.
+     */
+    public void index(Long postId, String title, String content) {
+        long[] grams = NGramTokenizer.indexGrams(title, content);
+        synchronized (bufferLock) {
+            active.put(postId, grams);
+            owners.put(postId, active.gen());
+        }
+    }
+
+    public void delete(Long postId) {
+        synchronized (bufferLock) {
+            active.delete(postId);
+            owners.remove(postId);
+        }
+    }
+
+    /**
+     * 검색어의 모든 gram 을 포함하는 글 id 를 최신순(id 내림차순)으로 최대 limit 개 돌려준다.
+     */
+    public List<Long> search(String query, int limit) {
+        long[] grams = NGramTokenizer.queryGrams(query);
+        if (grams.length == 0 || limit <= 0) return List.of();
+
+        // flush 가 active 를 frozen 으로 옮기는 중에도 빠지지 않도록 active 를 먼저 읽는다.
+        PostingBuffer current = active;
+        State snapshot = state;
+
+        TreeSet<Long> hits = new TreeSet<>(Comparator.reverseOrder());
+        collect(hits, grams, current::postings, postId -> owners.get(postId) instanceof Integer gen && gen == current.gen());
+        for (PostingBuffer frozen : snapshot.frozen()) {
+            collect(hits, grams, frozen::postings, postId -> owners.get(postId) instanceof Integer gen && gen == frozen.gen());
+        }
+        for (IndexSegment segment : snapshot.segments()) {
+            collect(hits, grams, segment::postings, postId -> owners.get(postId) instanceof Integer gen && segment.covers(gen));
+        }
+        return hits.stream().limit(limit).toList();
+    }
+
+    /**
+     * 버퍼를 새 세그먼트로 내린다. 쓰는 동안에도 검색되도록 frozen 에 잠시 남겨 둔다.
+     */
+    @Scheduled(fixedDelayString = "${community.search.flush-interval-ms:10000}")
+    public void flush() {
+        synchronized (segmentLock) {
+            PostingBuffer frozen;
+            synchronized (bufferLock) {
+                if (active.isEmpty()) return;
+                frozen = active;
+                active = new PostingBuffer(nextGen++, clock.getAsLong());
+                state = state.withFrozen(frozen);
+            }
+
+            Map<Long, Integer> docs = new HashMap<>();
+            frozen.docIds().forEach(postId -> docs.put(postId, frozen.gen()));
+            Map<Long, Integer> tombstones = new HashMap<>();
+            frozen.tombstoneIds().forEach(postId -> tombstones.put(postId, frozen.gen()));
+
+            IndexSegment segment;
+            try {
+                Files.createDirectories(dir);
+                segment = IndexSegment.write(dir, frozen.gen(), frozen.gen(), active.createdAt(),
+                        docs, tombstones, frozen.sortedPostings());
+            } catch (IOException e) {
+                // frozen 에 그대로 두면 검색은 계속되고, 다음 재시작 때 DB 에서 다시 색인한다.
+                log.warn("검색 세그먼트 쓰기 실패: gen={}", frozen.gen(), e);
+                return;
+            }
+            state = state.withSegment(segment, frozen);
+        }
+        mergeIfNeeded();
+    }
+
+    /**
+     * 세그먼트가 maxSegments 를 넘으면 전부 하나로 합친다. 살아 있는 버전만 옮기므로 삭제 표시도 함께 사라진다.
+     */
+    public void mergeIfNeeded() {
+        synchronized (segmentLock) {
+            List<IndexSegment> segments = state.segments();
+            if (segments.size() <= maxSegments) return;
+            merge(segments);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        flush();
+    }
+
+    int segmentCount() {
+        return state.segments().size();
+    }
+
+    private void merge(List<IndexSegment> segments) {
+        int minGen = segments.stream().mapToInt(IndexSegment::minGen).min().orElseThrow();
+        int maxGen = segments.stream().mapToInt(IndexSegment::maxGen).max().orElseThrow();
+        long coveredUntil = segments.stream().mapToLong(IndexSegment::coveredUntil).max().orElseThrow();
+
+        Map<Long, Integer> docs = new HashMap<>();
+        TreeMap<Long, List<Long>> merged = new TreeMap<>();
+        for (IndexSegment segment : segments) {
+            Set<Long> live = new HashSet<>();
+            segment.forEachDoc((postId, gen) -> {
+                if (Integer.valueOf(gen).equals(owners.get(postId))) {
+                    live.add(postId);
+                    docs.put(postId, gen);
+                }
+            });
+            if (live.isEmpty()) continue;
+            segment.forEachGram((gram, postIds) -> {
+                for (long postId : postIds) {
+                    if (live.contains(postId)) {
+                        merged.computeIfAbsent(gram, g -> new ArrayList<>()).add(postId);
+                    }
+                }
+            });
+        }
+
+        TreeMap<Long, long[]> postings = new TreeMap<>();
+        merged.forEach((gram, ids) -> postings.put(gram, ids.stream().mapToLong(Long::longValue).sorted().toArray()));
+
+        IndexSegment segment;
+        try {
+            segment = IndexSegment.write(dir, minGen, maxGen, coveredUntil, docs, Map.of(), postings);
+        } catch (IOException e) {
+            log.warn("검색 세그먼트 병합 실패: gens={}..{}", minGen, maxGen, e);
+            return;
+        }
+        state = state.replaceSegments(segments, segment);
+        segments.forEach(old -> {
+            if (!old.path().equals(segment.path())) {
+                deleteQuietly(old.path());
+            }
+        });
+        log.info("검색 세그먼트 병합: {} 개 -> gens={}..{}, posts={}", segments.size(), minGen, maxGen, docs.size());
+    }
+
+    private static void collect(Set<Long> hits, long[] grams, PostingsSource source, LivePredicate live) {
+        long[] candidates = source.postings(grams[0]);
+        for (int i = 1; i < grams.length && candidates.length > 0; i++) {
+            candidates = intersect(candidates, source.postings(grams[i]));
+        }
+        for (long postId : candidates) {
+            if (live.test(postId)) {
+                hits.add(postId);
+            }
+        }
+    }
+
+    private static long[] intersect(long[] left, long[] right) {
+        long[] result = new long[Math.min(left.length, right.length)];
+        int i = 0, j = 0, size = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                result[size++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("검색 세그먼트 삭제 실패: {}", path, e);
+        }
+    }
+
+    private interface PostingsSource {
+        long[] postings(long gram);
+    }
+
+    private interface LivePredicate {
+        boolean test(long postId);
+    }
+
+    private record State(List<IndexSegment> segments, List<PostingBuffer> frozen) {
+
+        State withFrozen(PostingBuffer buffer) {
+            List<PostingBuffer> next = new ArrayList<>(frozen);
+            next.add(buffer);
+            return new State(segments, List.copyOf(next));
+        }
+
+        State withSegment(IndexSegment segment, PostingBuffer flushed) {
+            List<IndexSegment> nextSegments = new ArrayList<>(segments);
+            nextSegments.add(segment);
+            List<PostingBuffer> nextFrozen = new ArrayList<>(frozen);
+            nextFrozen.remove(flushed);
+            return new State(List.copyOf(nextSegments), List.copyOf(nextFrozen));
+        }
+
+        State replaceSegments(List<IndexSegment> merged, IndexSegment segment) {
+            List<IndexSegment> nextSegments = new ArrayList<>(segments);
+            nextSegments.removeAll(merged);
+            nextSegments.add(segment);
+            nextSegments.sort(Comparator.comparingInt(IndexSegment::minGen));
+            return new State(List.copyOf(nextSegments), frozen);
+        }
+    }
+}
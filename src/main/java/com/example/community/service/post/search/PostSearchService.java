@@ -0,0 +1,12 @@
+package com.example.community.service.post.search;
+
+import com.example.community.dto.response.post.PostListResponse;
+
+import java.util.List;
+
+public interface PostSearchService {
+
+    List<PostListResponse> search(String query, int size);
+
+    void catchUp();
+}
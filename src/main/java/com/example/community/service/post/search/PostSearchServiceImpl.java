@@ -0,0 +1,125 @@
+package com.example.community.service.post.search;
+
+import com.example.community.dto.response.post.PostListResponse;
+import com.example.community.service.post.PostChangedEvent;
+import com.example.community.repository.post.PostListRow;
+import com.example.community.repository.post.PostRepository;
+import com.example.community.repository.post.PostSearchSource;
+import com.example.community.service.post.PostListAssembler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostSearchServiceImpl implements PostSearchService {
+
+    private static final int MAX_SIZE = 50;
+    private static final int CATCH_UP_CHUNK = 500;
+    // 지워진 글이 몰려 있어도 검색 한 번에 색인과 DB 를 오가는 횟수를 제한한다.
+    private static final int MAX_REFILL_ROUNDS = 4;
+    // 커밋 직후 반영(PostChangedEvent)과 세그먼트 기록 시각 사이의 틈을 덮는 여유
+    private static final Duration CATCH_UP_MARGIN = Duration.ofMinutes(1);
+
+    private final PostSearchIndex postSearchIndex;
+    private final PostRepository postRepository;
+    private final PostListAssembler postListAssembler;
+
+
+    /**
+     * 색인에 남아 있지만 DB 에서 읽히지 않는 글(삭제됐는데 재시작 전 세그먼트에 삭제 표시가 내려가지 못한 글 등)은
+     * 색인에서 지우고, 빠진 만큼 다음 후보를 다시 찾아 채운다.
+     * 트랜잭션으로 묶지 않는다. 색인에는 커밋된 뒤에만 들어가므로, 쿼리마다 최신 커밋을 보면 읽히지 않는 글은 정말 없는 글이다.
+     */
+    @Override
+    public List<PostListResponse> search(String query, int size) {
+        if (query == null || query.isBlank()) return List.of();
+
+        int limit = Math.max(1, Math.min(size, MAX_SIZE));
+        Set<Long> checked = new HashSet<>();
+        List<PostListRow> rows = new ArrayList<>();
+        for (int round = 0; round < MAX_REFILL_ROUNDS && rows.size() < limit; round++) {
+            List<Long> postIds = postSearchIndex.search(query, limit);
+            List<Long> candidates = postIds.stream().filter(checked::add).toList();
+            if (candidates.isEmpty()) break;
+
+            List<PostListRow> found = postRepository.findListRowsByIdIn(candidates);
+            rows.addAll(found);
+            dropMissing(candidates, found);
+            if (postIds.size() < limit) break;
+        }
+
+        return postListAssembler.assemble(rows.stream()
+                .sorted(Comparator.comparing(PostListRow::getPostId).reversed())
+                .limit(limit)
+                .toList());
+    }
+
+    /**
+     * 재시작 뒤 세그먼트에 내려가지 못한 변경만 DB 에서 다시 색인한다. 세그먼트가 하나도 없을 때만 전체를 다시 만든다.
+     */
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void catchUp() {
+        OptionalLong durableUntil = postSearchIndex.durableUntil();
+        LocalDateTime since = durableUntil.isPresent()
+                ? LocalDateTime.ofInstant(Instant.ofEpochMilli(durableUntil.getAsLong()), ZoneId.systemDefault()).minus(CATCH_UP_MARGIN)
+                : null;
+
+        long afterId = 0L;
+        int indexed = 0;
+        while (true) {
+            PageRequest chunk = PageRequest.of(0, CATCH_UP_CHUNK);
+            List<PostSearchSource> sources = since == null
+                    ? postRepository.findSearchSourcesAfter(afterId, chunk)
+                    : postRepository.findSearchSourcesModifiedSince(since, afterId, chunk);
+            for (PostSearchSource source : sources) {
+                postSearchIndex.index(source.getPostId(), source.getTitle(), source.getContent());
+            }
+            indexed += sources.size();
+            if (sources.size() < CATCH_UP_CHUNK) break;
+            afterId = sources.get(sources.size() - 1).getPostId();
+        }
+
+        postSearchIndex.flush();
+        log.info("검색 색인 따라잡기 - {}건 (since={})", indexed, since != null ? since : "전체");
+    }
+
+    /**
+     * 작성/수정/삭제가 커밋된 뒤에 색인에 반영한다. 롤백된 글은 검색되지 않는다.
+     */
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.type() == PostChangedEvent.Type.DELETED) {
+            postSearchIndex.delete(event.postId());
+        } else {
+            postSearchIndex.index(event.postId(), event.row().getTitle(), event.content());
+        }
+    }
+
+    private void dropMissing(List<Long> candidates, List<PostListRow> found) {
+        Set<Long> foundIds = found.stream().map(PostListRow::getPostId).collect(Collectors.toSet());
+        for (Long postId : candidates) {
+            if (!foundIds.contains(postId)) {
+                postSearchIndex.delete(postId);
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.community.service.post.search;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 아직 세그먼트로 내려가지 않은 변경. 한 버퍼의 문서는 모두 같은 세대(gen)를 가진다.
+ */
+final class PostingBuffer {
+
+    private final int gen;
+    private final long createdAt;
+    private final Map<Long, Set<Long>> postings = new HashMap<>();
+    private final Map<Long, long[]> docs = new HashMap<>();
+    private final Set<Long> tombstones = new HashSet<>();
+
+    PostingBuffer(int gen, long createdAt) {
+        this.gen = gen;
+        this.createdAt = createdAt;
+    }
+
+    int gen() {
+        return gen;
+    }
+
+    long createdAt() {
+        return createdAt;
+    }
+
+    synchronized void put(Long postId, long[] grams) {
+        removeDoc(postId);
+        docs.put(postId, grams);
+        for (long gram : grams) {
+            postings.computeIfAbsent(gram, g -> new HashSet<>()).add(postId);
+        }
+    }
+
+    synchronized void delete(Long postId) {
+        removeDoc(postId);
+        tombstones.add(postId);
+    }
+
+    synchronized long[] postings(long gram) {
+        Set<Long> ids = postings.get(gram);
+        if (ids == null) return new long[0];
+        return ids.stream().mapToLong(Long::longValue).sorted().toArray();
+    }
+
+    synchronized boolean isEmpty() {
+        return docs.isEmpty() && tombstones.isEmpty();
+    }
+
+    synchronized Set<Long> docIds() {
+        return new HashSet<>(docs.keySet());
+    }
+
+    synchronized Set<Long> tombstoneIds() {
+        return new HashSet<>(tombstones);
+    }
+
+    synchronized TreeMap<Long, long[]> sortedPostings() {
+        TreeMap<Long, long[]> sorted = new TreeMap<>();
+        postings.forEach((gram, ids) -> sorted.put(gram, ids.stream().mapToLong(Long::longValue).sorted().toArray()));
+        return sorted;
+    }
+
+    private void removeDoc(Long postId) {
+        long[] grams = docs.remove(postId);
+        if (grams == null) return;
+        for (long gram : grams) {
+            Set<Long> ids = postings.get(gram);
+            if (ids != null && ids.remove(postId) && ids.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.community.service.post.trending;
+
+import com.example.community.dto.response.post.TrendingPostResponse;
+
+import java.util.List;
+
+public interface TrendingPostService {
+
+    void recordView(Long postId);
+
+    void recordLike(Long postId, boolean liked);
+
+    void recordComment(Long postId);
+
+    List<TrendingPostResponse> getTrending(int size);
+
+    void rebuild();
+}
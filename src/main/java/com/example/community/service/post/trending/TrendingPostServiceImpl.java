@@ -0,0 +1,120 @@
+package com.example.community.service.post.trending;
+
+import com.example.community.domain.Post;
+import com.example.community.dto.response.post.TrendingPostResponse;
+import com.example.community.repository.post.PostRepository;
+import com.example.community.repository.post.PostTrendingSource;
+import com.example.community.service.post.PostChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendingPostServiceImpl implements TrendingPostService {
+
+    static final double VIEW_WEIGHT = 1.0;
+    static final double LIKE_WEIGHT = 5.0;
+    static final double COMMENT_WEIGHT = 3.0;
+
+    private static final int MAX_SIZE = 50;
+    // 삭제된 글이 몰려 있어도 조회 한 번에 순위와 DB 를 오가는 횟수를 제한한다.
+    private static final int MAX_REFILL_ROUNDS = 4;
+    private static final Duration REBUILD_WINDOW = Duration.ofDays(7);
+
+    private final TrendingRanking trendingRanking;
+    private final PostRepository postRepository;
+
+
+    @Override
+    public void recordView(Long postId) {
+        trendingRanking.add(postId, VIEW_WEIGHT);
+    }
+
+    @Override
+    public void recordLike(Long postId, boolean liked) {
+        trendingRanking.add(postId, liked ? LIKE_WEIGHT : -LIKE_WEIGHT);
+    }
+
+    @Override
+    public void recordComment(Long postId) {
+        trendingRanking.add(postId, COMMENT_WEIGHT);
+    }
+
+    /**
+     * 순위에는 남아 있지만 DB 에서 읽히지 않는 게시글(다른 노드에서 삭제된 글 등)은 순위에서 빼고 다음 순위로 채운다.
+     * 순위에는 커밋된 게시글만 오르므로, 읽히지 않는 게시글은 정말 삭제된 글이다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<TrendingPostResponse> getTrending(int size) {
+        int limit = Math.max(1, Math.min(size, MAX_SIZE));
+        Map<Long, Post> posts = new HashMap<>();
+        Set<Long> checked = new HashSet<>();
+        List<TrendingRanking.Entry> top = List.of();
+        for (int round = 0; round < MAX_REFILL_ROUNDS; round++) {
+            top = trendingRanking.top(limit);
+            List<Long> candidates = top.stream().map(TrendingRanking.Entry::postId).filter(checked::add).toList();
+            if (candidates.isEmpty()) break;
+
+            postRepository.findAllByIdInWithUser(candidates).forEach(post -> posts.put(post.getId(), post));
+            List<Long> missing = candidates.stream().filter(postId -> !posts.containsKey(postId)).toList();
+            if (missing.isEmpty()) break;
+            missing.forEach(trendingRanking::remove);
+        }
+
+        return top.stream()
+                .filter(entry -> posts.containsKey(entry.postId()))
+                .map(entry -> TrendingPostResponse.fromEntity(posts.get(entry.postId()), entry.score()))
+                .toList();
+    }
+
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.type() == PostChangedEvent.Type.DELETED) {
+            trendingRanking.remove(event.postId());
+        }
+    }
+
+    /**
+     * 재시작 직후나 순위에서 밀려난 게시글처럼 메모리 순위에 없는 게시글만 DB 누적 수치로 채운다.
+     * DB 에는 이벤트 시각이 없어 작성 이후 경과 시간만큼 감쇠한 근사값이므로, 이벤트로 쌓인 점수를 덮어쓰지 않는다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @Scheduled(fixedDelayString = "${community.trending.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        List<PostTrendingSource> sources = postRepository.findTrendingSources(now.minus(REBUILD_WINDOW));
+
+        Map<Long, Double> scores = new HashMap<>();
+        for (PostTrendingSource source : sources) {
+            double base = VIEW_WEIGHT * nullToZero(source.getViewCount())
+                    + LIKE_WEIGHT * nullToZero(source.getLikeCount())
+                    + COMMENT_WEIGHT * nullToZero(source.getCommentCount());
+            if (base <= 0) continue;
+
+            Duration age = Duration.between(source.getCreatedDate(), now);
+            scores.put(source.getPostId(), base * trendingRanking.decayFactor(age));
+        }
+
+        trendingRanking.seed(scores);
+        log.debug("인기 게시글 순위 보충 - 후보 {}건", scores.size());
+    }
+
+    private static long nullToZero(Long value) {
+        return value != null ? value : 0L;
+    }
+}
@@ -0,0 +1,204 @@
+package com.example.community.service.post.trending;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간에 따라 감쇠하는 점수로 게시글 순위를 메모리에 유지한다.
+ * 모든 점수를 주기적으로 깎는 대신 이벤트 가중치를 기준 시각(epoch) 이후 흐른 시간만큼 키워서 더한다(forward decay).
+ * 감쇠율이 모두 같으므로 저장된 값의 순서가 곧 현재 점수의 순서이고, 실제 점수는 읽을 때만 나눠 구한다.
+ * 점수 내림차순 skip list 를 함께 두어 상위 K 개는 앞에서부터 K 개만 읽는다.
+ * 용량을 넘어 밀려나거나 삭제된 게시글은 최근 capacity 개까지 기억해, DB 근사값으로 다시 채우지 않는다.
+ */
+@Component
+public class TrendingRanking {
+
+    // 2^900 근처에서 double 이 넘치기 전에 기준 시각을 옮긴다
+    private static final double MAX_EXPONENT = 900;
+    // 기준 시각을 옮길 때 이보다 작게 감쇠한 게시글은 버린다
+    private static final double MIN_SCORE = 1e-6;
+
+    private static final Comparator<Ranked> ORDER = Comparator
+            .comparingDouble(Ranked::score).reversed()
+            .thenComparing(Ranked::postId, Comparator.reverseOrder());
+
+    private final double halfLifeMillis;
+    private final int capacity;
+    private final LongSupplier clock;
+
+    private final Set<Long> dropped;
+
+    private volatile State state;
+
+    public TrendingRanking(@Value("${community.trending.half-life-minutes:360}") long halfLifeMinutes,
+                           @Value("${community.trending.capacity:1000}") int capacity) {
+        this(Duration.ofMinutes(halfLifeMinutes).toMillis(), capacity, System::currentTimeMillis);
+    }
+
+    TrendingRanking(long halfLifeMillis, int capacity, LongSupplier clock) {
+        this.halfLifeMillis = halfLifeMillis;
+        this.capacity = capacity;
+        this.clock = clock;
+        this.dropped = Collections.newSetFromMap(Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Boolean> eldest) {
+                return size() > capacity;
+            }
+        }));
+        this.state = new State(clock.getAsLong());
+    }
+
+    /**
+     * 지금 시각 기준 weight 만큼 점수를 더한다. 음수면 뺀다(좋아요 취소 등).
+     */
+    public void add(Long postId, double weight) {
+        long now = clock.getAsLong();
+        State current = state;
+        if (current.exponent(now) > MAX_EXPONENT) {
+            current = rebase(now);
+        }
+        dropped.remove(postId);
+        current.add(postId, weight * Math.pow(2, current.exponent(now)));
+    }
+
+    /**
+     * 삭제된 게시글을 순위에서 뺀다. 다음 보충 때 DB 근사값으로 되살아나지 않는다.
+     */
+    public void remove(Long postId) {
+        dropped.add(postId);
+        state.remove(postId);
+    }
+
+    public List<Entry> top(int k) {
+        State current = state;
+        double growth = Math.pow(2, current.exponent(clock.getAsLong()));
+
+        List<Entry> result = new ArrayList<>(k);
+        Iterator<Ranked> it = current.index.iterator();
+        while (result.size() < k && it.hasNext()) {
+            Ranked ranked = it.next();
+            result.add(new Entry(ranked.postId(), ranked.score() / growth));
+        }
+        return result;
+    }
+
+    /**
+     * 순위에 없는 게시글만 현재 시각 기준 점수로 채운다.
+     * 이미 있는 게시글은 이벤트 시각으로 쌓인 점수(아직 DB 에 반영되지 않은 조회 포함)를 그대로 둔다.
+     * 용량에서 밀려났거나 삭제된 게시글도 건너뛴다. 그 게시글은 새 이벤트가 들어올 때만 다시 순위에 든다.
+     */
+    public void seed(Map<Long, Double> scores) {
+        long now = clock.getAsLong();
+        State current = state.exponent(now) > MAX_EXPONENT ? rebase(now) : state;
+        double growth = Math.pow(2, current.exponent(now));
+        scores.forEach((postId, score) -> {
+            if (!dropped.contains(postId)) {
+                current.addIfAbsent(postId, score * growth);
+            }
+        });
+    }
+
+    /**
+     * age 만큼 지난 점수에 곱할 감쇠 계수.
+     */
+    public double decayFactor(Duration age) {
+        return Math.pow(2, -age.toMillis() / halfLifeMillis);
+    }
+
+    private synchronized State rebase(long now) {
+        State current = state;
+        if (current.exponent(now) <= MAX_EXPONENT) {
+            return current;
+        }
+
+        double shrink = Math.pow(2, current.exponent(now));
+        State next = new State(now);
+        current.scores.forEach((postId, score) -> {
+            double decayed = score / shrink;
+            if (decayed >= MIN_SCORE) {
+                next.add(postId, decayed);
+            }
+        });
+        state = next;
+        return next;
+    }
+
+    public record Entry(Long postId, double score) {
+    }
+
+    private record Ranked(Long postId, double score) {
+    }
+
+    private final class State {
+
+        private final long epoch;
+        private final ConcurrentHashMap<Long, Double> scores = new ConcurrentHashMap<>();
+        private final ConcurrentSkipListSet<Ranked> index = new ConcurrentSkipListSet<>(ORDER);
+
+        private State(long epoch) {
+            this.epoch = epoch;
+        }
+
+        private double exponent(long now) {
+            return (now - epoch) / halfLifeMillis;
+        }
+
+        /**
+         * 같은 게시글의 갱신은 compute 로 직렬화되어 index 에 항상 한 항목만 남는다.
+         */
+        private void add(Long postId, double amount) {
+            scores.compute(postId, (id, old) -> {
+                if (old != null) {
+                    index.remove(new Ranked(id, old));
+                }
+                double next = (old != null ? old : 0.0) + amount;
+                if (next <= 0) {
+                    return null;
+                }
+                index.add(new Ranked(id, next));
+                return next;
+            });
+            evictOverCapacity();
+        }
+
+        private void addIfAbsent(Long postId, double amount) {
+            if (amount <= 0) return;
+
+            scores.computeIfAbsent(postId, id -> {
+                index.add(new Ranked(id, amount));
+                return amount;
+            });
+            evictOverCapacity();
+        }
+
+        private void remove(Long postId) {
+            scores.computeIfPresent(postId, (id, old) -> {
+                index.remove(new Ranked(id, old));
+                return null;
+            });
+        }
+
+        private void evictOverCapacity() {
+            while (scores.size() > capacity) {
+                Ranked lowest = index.pollLast();
+                if (lowest == null) break;
+                if (scores.remove(lowest.postId(), lowest.score())) {
+                    dropped.add(lowest.postId());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.community.service.post.viewcount;
+
+import java.util.Arrays;
+
+/**
+ * 고정 크기(4KB) 레지스터로 서로 다른 조회자 수를 추정한다. 표준 오차는 약 1.6% 이다.
+ * 조회자가 적은 동안은 값이 있는 레지스터만 (index, rank) 로 모아 두고, SPARSE_LIMIT 을 넘으면 4KB 배열로 바꾼다.
+ * 대부분의 게시글은 조회자가 적으므로 게시글당 메모리가 수십~수백 바이트에 머문다.
+ */
+public class HyperLogLog {
+
+    private static final int PRECISION = 12;
+    private static final int REGISTER_COUNT = 1 << PRECISION;
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTER_COUNT);
+    // 희소 표현이 밀집 표현의 1/4(1KB)에 이르면 바꾼다.
+    private static final int SPARSE_LIMIT = REGISTER_COUNT / 16;
+
+    // index << 8 | rank
+    private int[] sparse = new int[4];
+    private int sparseSize;
+    private byte[] registers;
+
+    public synchronized boolean add(long hash) {
+        int index = (int) (hash >>> (Long.SIZE - PRECISION));
+        long remaining = (hash << PRECISION) | (1L << (PRECISION - 1));
+        byte rank = (byte) (Long.numberOfLeadingZeros(remaining) + 1);
+
+        if (registers != null) {
+            if (rank > registers[index]) {
+                registers[index] = rank;
+                return true;
+            }
+            return false;
+        }
+        return addSparse(index, rank);
+    }
+
+    public synchronized long estimate() {
+        double sum = 0;
+        int zeros = 0;
+        if (registers != null) {
+            for (byte register : registers) {
+                sum += 1.0 / (1L << register);
+                if (register == 0) {
+                    zeros++;
+                }
+            }
+        } else {
+            zeros = REGISTER_COUNT - sparseSize;
+            sum = zeros;
+            for (int i = 0; i < sparseSize; i++) {
+                sum += 1.0 / (1L << (sparse[i] & 0xff));
+            }
+        }
+
+        double estimate = ALPHA * REGISTER_COUNT * REGISTER_COUNT / sum;
+        if (estimate <= 2.5 * REGISTER_COUNT && zeros > 0) {
+            estimate = REGISTER_COUNT * Math.log((double) REGISTER_COUNT / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    synchronized boolean isSparse() {
+        return registers == null;
+    }
+
+    private boolean addSparse(int index, byte rank) {
+        for (int i = 0; i < sparseSize; i++) {
+            if (sparse[i] >>> 8 == index) {
+                if (rank > (sparse[i] & 0xff)) {
+                    sparse[i] = index << 8 | rank;
+                    return true;
+                }
+                return false;
+            }
+        }
+
+        if (sparseSize == sparse.length) {
+            sparse = Arrays.copyOf(sparse, sparse.length * 2);
+        }
+        sparse[sparseSize++] = index << 8 | rank;
+        if (sparseSize > SPARSE_LIMIT) {
+            toDense();
+        }
+        return true;
+    }
+
+    private void toDense() {
+        registers = new byte[REGISTER_COUNT];
+        for (int i = 0; i < sparseSize; i++) {
+            registers[sparse[i] >>> 8] = (byte) (sparse[i] & 0xff);
+        }
+        sparse = null;
+        sparseSize = 0;
+    }
+}
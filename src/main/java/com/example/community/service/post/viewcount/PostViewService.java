@@ -1,12 +1,12 @@
 package com.example.community.service.post.viewcount;
 
-public interface PostViewService {
+import com.example.community.dto.response.post.PostViewCountResponse;
 
-    Long increaseViewcount(Long postId);
+public interface PostViewService {
 
-    Long getViewCount(Long postId);
+    void increaseViewcount(Long postId, String viewer);
 
-    void syncViewCount();
+    PostViewCountResponse getViewCount(Long postId);
 
     void syncViewCountBulk();
 }
@@ -1,123 +1,121 @@
 package com.example.community.service.post.viewcount;
 
 import com.example.community.common.exception.custom.ResourceNotFoundException;
-import com.example.community.domain.Post;
-import com.example.community.repository.post.PostJdbcRepository;
-import com.example.community.repository.post.PostRepository;
+import com.example.community.dto.response.post.PostViewCountResponse;
+import com.example.community.service.post.feed.RecentPostFeed;
+import com.example.community.service.post.trending.TrendingPostService;
+import com.example.community.service.post.viewcount.store.ViewCounterStore;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
-import org.springframework.cache.annotation.CachePut;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static com.example.community.common.exception.ErrorMessage.*;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class PostViewServiceImpl implements PostViewService {
 
-    private final PostRepository postRepository;
-    private final PostJdbcRepository postJdbcRepository;
-    private final CacheManager cacheManager;
-
-
-    @Transactional
-    @CachePut(value = "viewcount", key = "#postId")
-    public Long increaseViewcount(Long postId) {
-        Post post = postRepository.findById(postId).orElseThrow(
-                () -> new ResourceNotFoundException(RESOURCE_NOT_FOUND)
-        );
-
-        Cache cache = cacheManager.getCache("viewcount");
-        Long current = cache != null ? cache.get(postId, Long.class) : null;
-
-        if (current == null) {
-            current = post.getViewCount();
-        }
+    private final ViewCounterStore viewCounterStore;
+    private final ViewCounter viewCounter;
+    private final ViewCountJournal viewCountJournal;
+    private final UniqueViewTracker uniqueViewTracker;
+    private final ViewCountFlushPolicy flushPolicy;
+    private final ViewCountFlushMetrics flushMetrics;
+    private final TrendingPostService trendingPostService;
+    private final RecentPostFeed recentPostFeed;
 
-        Long updated = current + 1L;
+    // 같은 checkpoint 를 두 flush 가 함께 반영하면 DB 에 두 번 더해진다.
+    private final ReentrantLock flushLock = new ReentrantLock();
 
-        if (cache != null) {
-            cache.put(postId, updated);
+    @Override
+    public void increaseViewcount(Long postId, String viewer) {
+        if (uniqueViewTracker.record(postId, viewer)) {
+            viewCounter.increment(postId);
+            trendingPostService.recordView(postId);
         }
-
-        log.info("postId: {}, viewCount: {}", postId, updated);
-
-        return updated;
     }
 
-    @Cacheable(value = "viewcount", key = "#postId")
-    public Long getViewCount(Long postId) {
-        Cache cache = cacheManager.getCache("viewcount");
-        Long viewcount = cache != null ? cache.get(postId, Long.class) : null;
-
-        if (viewcount != null) {
-            return viewcount;
-        }
-
-        Post post = postRepository.findById(postId).orElseThrow(
+    @Override
+    public PostViewCountResponse getViewCount(Long postId) {
+        Long viewCount = viewCounterStore.find(postId).orElseThrow(
                 () -> new ResourceNotFoundException(RESOURCE_NOT_FOUND)
         );
 
-        return post.getViewCount();
+        return PostViewCountResponse.builder()
+                .postId(postId)
+                .viewCount((viewCount != null ? viewCount : 0L) + viewCounter.get(postId))
+                .uniqueViewCount(uniqueViewTracker.getUniqueViewCount(postId))
+                .build();
     }
 
+    /**
+     * ViewCountFlushScheduler 가 주기를 정해 호출한다.
+     * 배치 단위로 반영과 차감을 함께 하므로, 중간에 실패해도 앞선 배치는 반영된 채 남고
+     * 나머지 증가분은 카운터와 저널에 그대로 남아 다음 flush 에서 다시 시도된다.
+     * 한 번에 하나의 flush 만 돈다. 종료 시 flush 는 진행 중인 예약 flush 가 끝나길 기다린 뒤 남은 증가분만 반영한다.
+     */
     @Override
-    @Transactional(readOnly = false)
-//    @Scheduled(fixedRate = 60000)
-    public void syncViewCount() {
-        Cache cache = cacheManager.getCache("viewcount");
-        if (cache == null) return;
+    public void syncViewCountBulk() {
+        flushLock.lock();
+        try {
+            flush();
+        } finally {
+            flushLock.unlock();
+        }
+    }
 
-        Object nativeCache = cache.getNativeCache();
-        if (nativeCache instanceof ConcurrentMap<?, ?> map) {
-            for (Map.Entry<?, ?> entry : map.entrySet()) {
-                Long key = (Long) entry.getKey();
-                Long viewcount = (Long) entry.getValue();
-                log.info("key : {}, viewcount : {}", key, viewcount);
-                postRepository.findById(key).ifPresent(post -> post.upViewcount(viewcount));
+    private void flush() {
+        Map<Long, Long> deltas = viewCountJournal.checkpoint();
+        if (deltas.isEmpty()) return;
+
+        long start = System.nanoTime();
+        int flushed = 0;
+        try {
+            for (Map<Long, Long> batch : partition(deltas, flushPolicy.batchSize())) {
+                viewCounterStore.merge(batch);
+                viewCountJournal.commit(batch);
+                recentPostFeed.onViewCountsFlushed(batch);
+                flushed += batch.size();
             }
+            long elapsed = System.nanoTime() - start;
+            flushPolicy.recordSuccess(flushed, elapsed);
+            flushMetrics.recordSuccess(flushed, elapsed);
+        } catch (Exception e) {
+            long elapsed = System.nanoTime() - start;
+            flushPolicy.recordFailure();
+            flushMetrics.recordFailure(flushed, elapsed);
+            log.error("조회수 동기화 실패 - {}/{}건 반영, 연속 실패 {}회",
+                    flushed, deltas.size(), flushPolicy.consecutiveFailures(), e);
         }
     }
 
-    @Override
-    @Transactional(readOnly = false)
-    @Scheduled(fixedRate = 60000)
-    public void syncViewCountBulk() {
-
-        Cache cache = cacheManager.getCache("viewcount");
-        if (cache == null) return;
-
-        Object nativeCache = cache.getNativeCache();
-        if (nativeCache instanceof ConcurrentMap<?, ?> map) {
-            Map<Long, Long> updateMap = new HashMap<>();
-            for (Map.Entry<?, ?> entry : map.entrySet()) {
-                Long key = (Long) entry.getKey();
-                Long viewcount = (Long) entry.getValue();
-                updateMap.put(key, viewcount);
-            }
-            if (!updateMap.isEmpty()) {
-                try {
-                    postJdbcRepository.bulkUpdateViewcounts(updateMap);
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("종료 전 조회수 동기화");
+        syncViewCountBulk();
+    }
 
-                    map.clear();
-                } catch (Exception e) {
-                    log.error("조회수 동기화 실패");
-                }
+    private static List<Map<Long, Long>> partition(Map<Long, Long> deltas, int batchSize) {
+        List<Map<Long, Long>> batches = new ArrayList<>();
+        Map<Long, Long> batch = new HashMap<>();
+        for (Map.Entry<Long, Long> entry : deltas.entrySet()) {
+            batch.put(entry.getKey(), entry.getValue());
+            if (batch.size() == batchSize) {
+                batches.add(batch);
+                batch = new HashMap<>();
             }
         }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        return batches;
     }
 }
-
-
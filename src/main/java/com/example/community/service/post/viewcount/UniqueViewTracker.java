@@ -0,0 +1,86 @@
+package com.example.community.service.post.viewcount;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 고유 조회자 모드. 같은 조회자(사용자 id 또는 IP)가 윈도우 안에서 다시 조회하면 조회수에 반영하지 않고,
+ * 게시글별 HyperLogLog 로 누적 고유 조회자 수를 추정한다.
+ * 스케치는 메모리에만 있으므로 재시작하면 고유 조회자 수는 다시 0부터 센다.
+ * 최근에 조회된 maxSketches 개 게시글의 스케치만 유지하고, 밀려난 게시글은 다음 조회부터 다시 센다.
+ */
+@Component
+public class UniqueViewTracker {
+
+    private final boolean enabled;
+    private final ViewerDedupeFilter dedupeFilter;
+    private final Map<Long, HyperLogLog> sketches;
+
+    public UniqueViewTracker(@Value("${community.viewcount.unique.enabled:false}") boolean enabled,
+                             @Value("${community.viewcount.unique.window-seconds:600}") long windowSeconds,
+                             @Value("${community.viewcount.unique.filter-bits:8388608}") int filterBits,
+                             @Value("${community.viewcount.unique.max-sketches:10000}") int maxSketches) {
+        this(enabled, new ViewerDedupeFilter(filterBits, windowSeconds * 1000, System::currentTimeMillis), maxSketches);
+    }
+
+    UniqueViewTracker(boolean enabled, ViewerDedupeFilter dedupeFilter, int maxSketches) {
+        this.enabled = enabled;
+        this.dedupeFilter = dedupeFilter;
+        this.sketches = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, HyperLogLog> eldest) {
+                return size() > maxSketches;
+            }
+        });
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 조회수로 반영해야 하는 조회면 true 를 반환한다.
+     */
+    public boolean record(Long postId, String viewer) {
+        if (!enabled || viewer == null) return true;
+
+        long viewerHash = hash(viewer);
+        if (!dedupeFilter.markIfAbsent(mix(viewerHash ^ (postId * 0x9E3779B97F4A7C15L)))) {
+            return false;
+        }
+
+        sketches.computeIfAbsent(postId, key -> new HyperLogLog()).add(viewerHash);
+        return true;
+    }
+
+    int trackedPosts() {
+        return sketches.size();
+    }
+
+    public Long getUniqueViewCount(Long postId) {
+        if (!enabled) return null;
+
+        HyperLogLog sketch = sketches.get(postId);
+        return sketch != null ? sketch.estimate() : 0L;
+    }
+
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.community.service.post.viewcount;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 조회수 flush 지표.
+ * viewcount.buffered.keys     반영 대기 중인 게시글 수
+ * viewcount.flush.duration    flush 한 번의 소요 시간
+ * viewcount.flush.rows        flush 한 번에 반영한 게시글 수
+ * viewcount.flush.lag         마지막으로 성공한 flush 이후 지난 시간
+ */
+@Component
+public class ViewCountFlushMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Timer flushDuration;
+    private final DistributionSummary flushRows;
+    private final Counter flushFailures;
+    private final AtomicLong lastSuccessNanos;
+
+    public ViewCountFlushMetrics(MeterRegistry meterRegistry, ViewCounter viewCounter, ViewCountFlushPolicy flushPolicy) {
+        this.meterRegistry = meterRegistry;
+        this.lastSuccessNanos = new AtomicLong(meterRegistry.config().clock().monotonicTime());
+
+        Gauge.builder("viewcount.buffered.keys", viewCounter, ViewCounter::pendingKeys)
+                .description("반영 대기 중인 게시글 수")
+                .register(meterRegistry);
+        Gauge.builder("viewcount.flush.batch.size", flushPolicy, ViewCountFlushPolicy::batchSize)
+                .description("현재 flush 배치 크기")
+                .register(meterRegistry);
+        TimeGauge.builder("viewcount.flush.lag", this, TimeUnit.NANOSECONDS, ViewCountFlushMetrics::lagNanos)
+                .description("마지막 flush 성공 이후 경과 시간")
+                .register(meterRegistry);
+
+        this.flushDuration = Timer.builder("viewcount.flush.duration")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.flushRows = DistributionSummary.builder("viewcount.flush.rows")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.flushFailures = Counter.builder("viewcount.flush.failures")
+                .register(meterRegistry);
+    }
+
+    public void recordSuccess(int rows, long elapsedNanos) {
+        flushDuration.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        flushRows.record(rows);
+        lastSuccessNanos.set(meterRegistry.config().clock().monotonicTime());
+    }
+
+    public void recordFailure(int rows, long elapsedNanos) {
+        flushDuration.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        flushRows.record(rows);
+        flushFailures.increment();
+    }
+
+    private double lagNanos() {
+        return meterRegistry.config().clock().monotonicTime() - lastSuccessNanos.get();
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.community.service.post.viewcount;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 조회수 flush 주기와 배치 크기를 정한다.
+ * 반영 대기 중인 게시글이 많을수록 주기를 줄이고, 직전 flush 의 행당 소요 시간으로
+ * 한 배치가 목표 시간 안에 끝나도록 배치 크기를 맞춘다.
+ * 실패하면 증가분은 그대로 둔 채 지수 백오프로 다음 시도를 미루고 배치를 절반으로 줄인다.
+ */
+@Component
+public class ViewCountFlushPolicy {
+
+    private static final int INITIAL_BATCH_SIZE = 100;
+    private static final double EWMA_WEIGHT = 0.3;
+
+    private final long minIntervalMillis;
+    private final long maxIntervalMillis;
+    private final int backlogHighWatermark;
+    private final long targetBatchNanos;
+    private final int minBatchSize;
+    private final int maxBatchSize;
+
+    private int batchSize;
+    private double nanosPerRow;
+    private long lastFlushNanos;
+    private int consecutiveFailures;
+
+    public ViewCountFlushPolicy(@Value("${community.viewcount.flush.min-interval-ms:1000}") long minIntervalMillis,
+                                @Value("${community.viewcount.flush.max-interval-ms:60000}") long maxIntervalMillis,
+                                @Value("${community.viewcount.flush.backlog-high-watermark:10000}") int backlogHighWatermark,
+                                @Value("${community.viewcount.flush.target-batch-ms:200}") long targetBatchMillis,
+                                @Value("${community.viewcount.flush.min-batch-size:50}") int minBatchSize,
+                                @Value("${community.viewcount.flush.max-batch-size:2000}") int maxBatchSize) {
+        this.minIntervalMillis = minIntervalMillis;
+        this.maxIntervalMillis = maxIntervalMillis;
+        this.backlogHighWatermark = backlogHighWatermark;
+        this.targetBatchNanos = Duration.ofMillis(targetBatchMillis).toNanos();
+        this.minBatchSize = minBatchSize;
+        this.maxBatchSize = maxBatchSize;
+        this.batchSize = clamp(INITIAL_BATCH_SIZE, minBatchSize, maxBatchSize);
+    }
+
+    public synchronized int batchSize() {
+        return batchSize;
+    }
+
+    public synchronized Duration nextDelay(int pendingKeys) {
+        if (consecutiveFailures > 0) {
+            long backoff = minIntervalMillis << Math.min(consecutiveFailures, 20);
+            return Duration.ofMillis(Math.min(backoff, maxIntervalMillis));
+        }
+        if (pendingKeys <= 0) {
+            return Duration.ofMillis(maxIntervalMillis);
+        }
+
+        double pressure = Math.min(1.0, (double) pendingKeys / backlogHighWatermark);
+        long delay = maxIntervalMillis - Math.round((maxIntervalMillis - minIntervalMillis) * pressure);
+
+        // flush 가 주기의 절반 이상을 차지하지 않도록 직전 소요 시간의 두 배는 쉰다
+        long headroom = Duration.ofNanos(lastFlushNanos * 2).toMillis();
+        return Duration.ofMillis(clamp(Math.max(delay, headroom), minIntervalMillis, maxIntervalMillis));
+    }
+
+    public synchronized void recordSuccess(int rows, long elapsedNanos) {
+        consecutiveFailures = 0;
+        lastFlushNanos = elapsedNanos;
+        if (rows <= 0) return;
+
+        double observed = (double) elapsedNanos / rows;
+        nanosPerRow = nanosPerRow == 0 ? observed : EWMA_WEIGHT * observed + (1 - EWMA_WEIGHT) * nanosPerRow;
+        if (nanosPerRow > 0) {
+            batchSize = (int) clamp(Math.round(targetBatchNanos / nanosPerRow), minBatchSize, maxBatchSize);
+        }
+    }
+
+    public synchronized void recordFailure() {
+        consecutiveFailures++;
+        batchSize = Math.max(minBatchSize, batchSize / 2);
+    }
+
+    public synchronized int consecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    private static long clamp(long value, long min, long max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.community.service.post.viewcount;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * 고정 주기 대신 flush 가 끝날 때마다 ViewCountFlushPolicy 가 정한 간격으로 다음 flush 를 예약한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountFlushScheduler {
+
+    private final TaskScheduler taskScheduler;
+    private final PostViewService postViewService;
+    private final ViewCounter viewCounter;
+    private final ViewCountFlushPolicy flushPolicy;
+
+    private ScheduledFuture<?> next;
+    private boolean stopped;
+
+    @PostConstruct
+    public void start() {
+        schedule(flushPolicy.nextDelay(viewCounter.pendingKeys()));
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        stopped = true;
+        if (next != null) {
+            next.cancel(false);
+        }
+    }
+
+    void run() {
+        try {
+            postViewService.syncViewCountBulk();
+        } catch (Exception e) {
+            log.error("조회수 flush 실행 실패", e);
+        } finally {
+            schedule(flushPolicy.nextDelay(viewCounter.pendingKeys()));
+        }
+    }
+
+    private synchronized void schedule(Duration delay) {
+        if (stopped) return;
+        next = taskScheduler.schedule(this::run, Instant.now().plus(delay));
+    }
+}
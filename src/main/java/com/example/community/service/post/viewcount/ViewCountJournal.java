@@ -0,0 +1,223 @@
+package com.example.community.service.post.viewcount;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * DB 에 반영되지 않은 조회수 증가분을 로컬 파일에 append-only 로 기록한다.
+ * 레코드는 (postId, delta, crc) 이고, 파일 전체를 더하면 아직 반영되지 않은 증가분이 된다.
+ * 기동 시 파일을 재생해 ViewCounter 에 되돌려 놓으므로 JVM 이 죽어도 checkpoint 주기만큼만 잃는다.
+ * DB 반영 직후 종료되면 같은 증가분이 한 번 더 반영될 수 있다(at-least-once).
+ */
+@Slf4j
+@Component
+public class ViewCountJournal {
+
+    private static final int RECORD_SIZE = Long.BYTES * 2 + Integer.BYTES;
+
+    private final ViewCounter viewCounter;
+    private final boolean enabled;
+    private final Path path;
+    private final long compactThresholdBytes;
+
+    private final Map<Long, Long> journaled = new HashMap<>();
+    private FileChannel channel;
+
+    public ViewCountJournal(ViewCounter viewCounter,
+                            @Value("${community.viewcount.journal.enabled:true}") boolean enabled,
+                            @Value("${community.viewcount.journal.path:./data/viewcount.journal}") Path path,
+                            @Value("${community.viewcount.journal.compact-threshold-bytes:4194304}") long compactThresholdBytes) {
+        this.viewCounter = viewCounter;
+        this.enabled = enabled;
+        this.path = path;
+        this.compactThresholdBytes = compactThresholdBytes;
+    }
+
+    @PostConstruct
+    public synchronized void open() {
+        if (!enabled) return;
+
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            if (Files.exists(path)) {
+                replay();
+            }
+            rewrite();
+        } catch (IOException e) {
+            throw new UncheckedIOException("조회수 저널을 열 수 없습니다: " + path, e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${community.viewcount.journal.checkpoint-interval:1000}")
+    public void scheduledCheckpoint() {
+        checkpoint();
+    }
+
+    /**
+     * 마지막 checkpoint 이후 늘어난 증가분을 파일에 기록하고, 기록된 시점의 증가분을 돌려준다.
+     * flush 는 이 반환값만 DB 에 반영해야 저널과 DB 가 어긋나지 않는다.
+     */
+    public synchronized Map<Long, Long> checkpoint() {
+        Map<Long, Long> snapshot = viewCounter.snapshot();
+        if (!enabled || channel == null) return snapshot;
+
+        Map<Long, Long> records = new HashMap<>();
+        snapshot.forEach((postId, pending) -> {
+            long diff = pending - journaled.getOrDefault(postId, 0L);
+            if (diff != 0L) {
+                records.put(postId, diff);
+            }
+        });
+        journaled.forEach((postId, recorded) -> {
+            if (!snapshot.containsKey(postId) && recorded != 0L) {
+                records.put(postId, -recorded);
+            }
+        });
+
+        if (!records.isEmpty()) {
+            append(channel, records);
+            journaled.clear();
+            journaled.putAll(snapshot);
+            compactIfNeeded();
+        }
+        return snapshot;
+    }
+
+    public synchronized void commit(Map<Long, Long> flushed) {
+        viewCounter.commit(flushed);
+        if (!enabled || channel == null) return;
+
+        Map<Long, Long> records = new HashMap<>();
+        flushed.forEach((postId, delta) -> {
+            records.put(postId, -delta);
+            long remaining = journaled.getOrDefault(postId, 0L) - delta;
+            if (remaining == 0L) {
+                journaled.remove(postId);
+            } else {
+                journaled.put(postId, remaining);
+            }
+        });
+        append(channel, records);
+        compactIfNeeded();
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (channel == null) return;
+
+        checkpoint();
+        try {
+            channel.force(true);
+            channel.close();
+        } catch (IOException e) {
+            log.error("조회수 저널 닫기 실패", e);
+        }
+        channel = null;
+    }
+
+    private void replay() throws IOException {
+        Map<Long, Long> pending = new HashMap<>();
+
+        try (FileChannel readChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = readChannel.size();
+            MappedByteBuffer buffer = readChannel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            CRC32 crc = new CRC32();
+
+            while (buffer.remaining() >= RECORD_SIZE) {
+                long postId = buffer.getLong();
+                long delta = buffer.getLong();
+                int checksum = buffer.getInt();
+                if (checksum != checksum(crc, postId, delta)) {
+                    log.warn("조회수 저널 손상 구간 이후는 무시합니다. position={}", buffer.position() - RECORD_SIZE);
+                    break;
+                }
+                pending.merge(postId, delta, Long::sum);
+            }
+        }
+
+        pending.forEach((postId, delta) -> {
+            if (delta != 0L) {
+                viewCounter.add(postId, delta);
+                journaled.put(postId, delta);
+            }
+        });
+        log.info("조회수 저널 복구 완료. posts={}", journaled.size());
+    }
+
+    private void append(FileChannel target, Map<Long, Long> records) {
+        ByteBuffer buffer = ByteBuffer.allocate(records.size() * RECORD_SIZE);
+        CRC32 crc = new CRC32();
+        records.forEach((postId, delta) -> {
+            buffer.putLong(postId);
+            buffer.putLong(delta);
+            buffer.putInt(checksum(crc, postId, delta));
+        });
+        buffer.flip();
+
+        try {
+            while (buffer.hasRemaining()) {
+                target.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("조회수 저널 기록 실패", e);
+        }
+    }
+
+    private void compactIfNeeded() {
+        try {
+            if (channel.size() > compactThresholdBytes) {
+                rewrite();
+            }
+        } catch (IOException e) {
+            log.error("조회수 저널 압축 실패", e);
+        }
+    }
+
+    /**
+     * 현재 반영 대기 중인 증가분만 담은 새 파일을 만든 뒤 원자적으로 교체한다.
+     */
+    private void rewrite() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+
+        Path compacted = path.resolveSibling(path.getFileName() + ".compact");
+        try (FileChannel out = FileChannel.open(compacted,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            append(out, journaled);
+            out.force(true);
+        }
+        Files.move(compacted, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private static int checksum(CRC32 crc, long postId, long delta) {
+        ByteBuffer bytes = ByteBuffer.allocate(Long.BYTES * 2);
+        bytes.putLong(postId).putLong(delta);
+        crc.reset();
+        crc.update(bytes.array());
+        return (int) crc.getValue();
+    }
+}
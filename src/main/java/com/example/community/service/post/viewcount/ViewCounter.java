@@ -0,0 +1,99 @@
+package com.example.community.service.post.viewcount;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글별 조회수 증가분을 DB 반영 전까지 메모리에 누적한다.
+ * 게시글마다 LongAdder 를 두어 같은 게시글에 요청이 몰려도 CAS 경합이 셀 단위로 분산된다.
+ * flush 는 snapshot 으로 증가분을 읽고, DB 반영에 성공한 만큼만 commit 으로 차감한다.
+ * 차감 후 0 이 된 게시글은 지워서 한 번이라도 조회된 게시글이 계속 쌓이지 않게 한다.
+ */
+@Component
+public class ViewCounter {
+
+    private static final int LIVE = 0;
+    private static final int RETIRING = 1;
+    private static final int REMOVED = 2;
+
+    /**
+     * 지우는 쪽은 RETIRING 을 쓴 뒤 합계를 읽고, 더하는 쪽은 더한 뒤 상태를 읽는다.
+     * 둘 다 volatile 이므로 더하는 쪽이 REMOVED 를 봤다면 그 증가분은 합계에 없었던 것이고, 새 셀에 다시 더한다.
+     */
+    private static final class Cell {
+        private final LongAdder adder = new LongAdder();
+        private volatile int state = LIVE;
+    }
+
+    private final ConcurrentHashMap<Long, Cell> counters = new ConcurrentHashMap<>();
+
+    public void increment(Long postId) {
+        add(postId, 1L);
+    }
+
+    /**
+     * delta 는 양수다. 저널 복구도 양수 증가분만 다시 더한다.
+     */
+    public void add(Long postId, long delta) {
+        while (true) {
+            Cell cell = counters.computeIfAbsent(postId, key -> new Cell());
+            cell.adder.add(delta);
+            int state;
+            while ((state = cell.state) == RETIRING) {
+                Thread.onSpinWait();
+            }
+            if (state == LIVE) return;
+        }
+    }
+
+    public long get(Long postId) {
+        Cell cell = counters.get(postId);
+        return cell != null ? cell.adder.sum() : 0L;
+    }
+
+    public Map<Long, Long> snapshot() {
+        Map<Long, Long> deltas = new HashMap<>();
+        counters.forEach((postId, cell) -> {
+            long delta = cell.adder.sum();
+            if (delta != 0L) {
+                deltas.put(postId, delta);
+            }
+        });
+        return deltas;
+    }
+
+    /**
+     * 반영된 만큼만 빼기 때문에 snapshot 이후 들어온 증가분은 다음 flush 로 넘어간다.
+     * 남은 증가분이 없으면 엔트리를 지운다. 그 사이 더해진 값은 add 가 새 엔트리로 옮긴다.
+     */
+    public void commit(Map<Long, Long> flushed) {
+        flushed.forEach((postId, delta) -> counters.computeIfPresent(postId, (key, cell) -> {
+            cell.adder.add(-delta);
+            cell.state = RETIRING;
+            if (cell.adder.sum() == 0L) {
+                cell.state = REMOVED;
+                return null;
+            }
+            cell.state = LIVE;
+            return cell;
+        }));
+    }
+
+    public int pendingKeys() {
+        int count = 0;
+        for (Cell cell : counters.values()) {
+            if (cell.adder.sum() != 0L) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    int trackedKeys() {
+        return counters.size();
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.community.service.post.viewcount;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * 최근 조회 기록을 두 개의 블룸 필터(현재/이전 윈도우)로 유지한다.
+ * 윈도우가 지나면 이전 필터를 버리고 새 필터로 교체하므로 메모리는 항상 고정이고,
+ * 한 번 본 조회는 window ~ 2 * window 동안 중복으로 판단된다.
+ */
+public class ViewerDedupeFilter {
+
+    private static final int HASH_COUNT = 4;
+
+    private final int bitMask;
+    private final long windowMillis;
+    private final LongSupplier clock;
+
+    private volatile AtomicLongArray current;
+    private volatile AtomicLongArray previous;
+    private volatile long windowStartedAt;
+
+    public ViewerDedupeFilter(int bits, long windowMillis, LongSupplier clock) {
+        int size = Integer.highestOneBit(Math.max(bits, Long.SIZE));
+        this.bitMask = size - 1;
+        this.windowMillis = windowMillis;
+        this.clock = clock;
+        this.current = new AtomicLongArray(size / Long.SIZE);
+        this.previous = new AtomicLongArray(size / Long.SIZE);
+        this.windowStartedAt = clock.getAsLong();
+    }
+
+    /**
+     * 윈도우 안에서 처음 보는 키면 기록하고 true, 이미 본 키면 false 를 반환한다.
+     */
+    public boolean markIfAbsent(long hash) {
+        rotateIfExpired();
+
+        if (contains(previous, hash)) {
+            return false;
+        }
+        return put(current, hash);
+    }
+
+    private void rotateIfExpired() {
+        if (clock.getAsLong() - windowStartedAt < windowMillis) return;
+
+        synchronized (this) {
+            long now = clock.getAsLong();
+            if (now - windowStartedAt < windowMillis) return;
+
+            previous = now - windowStartedAt < windowMillis * 2 ? current : new AtomicLongArray(current.length());
+            current = new AtomicLongArray(current.length());
+            windowStartedAt = now;
+        }
+    }
+
+    private boolean contains(AtomicLongArray bits, long hash) {
+        for (int i = 0; i < HASH_COUNT; i++) {
+            int index = index(hash, i);
+            if ((bits.get(index >>> 6) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean put(AtomicLongArray bits, long hash) {
+        boolean changed = false;
+        for (int i = 0; i < HASH_COUNT; i++) {
+            int index = index(hash, i);
+            long mask = 1L << index;
+            long before = bits.getAndAccumulate(index >>> 6, mask, (word, bit) -> word | bit);
+            changed |= (before & mask) == 0;
+        }
+        return changed;
+    }
+
+    private int index(long hash, int i) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        return (h1 + i * h2) & bitMask;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.community.service.post.viewcount.store;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 테스트나 단일 노드 로컬 실행용 저장소. 재시작하면 값이 사라진다.
+ */
+@Component
+@ConditionalOnProperty(name = "community.viewcount.store", havingValue = "memory")
+public class InMemoryViewCounterStore implements ViewCounterStore {
+
+    private final ConcurrentHashMap<Long, LongAdder> viewCounts = new ConcurrentHashMap<>();
+
+    @Override
+    public void merge(Map<Long, Long> deltas) {
+        deltas.forEach((postId, delta) ->
+                viewCounts.computeIfAbsent(postId, key -> new LongAdder()).add(delta));
+    }
+
+    @Override
+    public Optional<Long> find(Long postId) {
+        LongAdder viewCount = viewCounts.get(postId);
+        return Optional.of(viewCount != null ? viewCount.sum() : 0L);
+    }
+}
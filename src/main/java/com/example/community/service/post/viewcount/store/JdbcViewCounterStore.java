@@ -0,0 +1,29 @@
+package com.example.community.service.post.viewcount.store;
+
+import com.example.community.repository.post.PostJdbcRepository;
+import com.example.community.repository.post.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "community.viewcount.store", havingValue = "jdbc", matchIfMissing = true)
+public class JdbcViewCounterStore implements ViewCounterStore {
+
+    private final PostRepository postRepository;
+    private final PostJdbcRepository postJdbcRepository;
+
+    @Override
+    public void merge(Map<Long, Long> deltas) {
+        postJdbcRepository.bulkIncreaseViewcounts(deltas);
+    }
+
+    @Override
+    public Optional<Long> find(Long postId) {
+        return postRepository.findViewCountById(postId);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.community.service.post.viewcount.store;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 여러 애플리케이션 노드가 함께 쓰는 조회수 저장소.
+ * 각 노드는 자기 ViewCounter 에 쌓인 증가분만 merge 하므로, 노드 수와 관계없이 서로의 값을 덮어쓰지 않는다.
+ */
+public interface ViewCounterStore {
+
+    void merge(Map<Long, Long> deltas);
+
+    Optional<Long> find(Long postId);
+}
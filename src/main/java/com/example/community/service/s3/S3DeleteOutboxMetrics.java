@@ -0,0 +1,62 @@
+package com.example.community.service.s3;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * S3 삭제 outbox 지표.
+ * s3.outbox.pending           삭제 대기 중인 키 수(마지막 drain 기준)
+ * s3.outbox.dead.letters      재시도를 포기한 키 수(마지막 drain 기준)
+ * s3.outbox.request.duration  DeleteObjects 호출 한 번의 소요 시간
+ * s3.outbox.keys              처리한 키 수(result=deleted/retry/dead)
+ */
+@Component
+public class S3DeleteOutboxMetrics {
+
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong deadLetters = new AtomicLong();
+    private final Timer requestDuration;
+    private final Counter deleted;
+    private final Counter retried;
+    private final Counter dead;
+
+    public S3DeleteOutboxMetrics(MeterRegistry meterRegistry) {
+        Gauge.builder("s3.outbox.pending", pending, AtomicLong::get)
+                .description("삭제 대기 중인 S3 키 수")
+                .register(meterRegistry);
+        Gauge.builder("s3.outbox.dead.letters", deadLetters, AtomicLong::get)
+                .description("재시도를 포기한 S3 키 수")
+                .register(meterRegistry);
+
+        this.requestDuration = Timer.builder("s3.outbox.request.duration")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.deleted = keys(meterRegistry, "deleted");
+        this.retried = keys(meterRegistry, "retry");
+        this.dead = keys(meterRegistry, "dead");
+    }
+
+    public void recordRequest(long elapsedNanos, int deletedKeys, int retriedKeys, int deadKeys) {
+        requestDuration.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        deleted.increment(deletedKeys);
+        retried.increment(retriedKeys);
+        dead.increment(deadKeys);
+    }
+
+    public void updateBacklog(long pendingKeys, long deadLetterKeys) {
+        pending.set(pendingKeys);
+        deadLetters.set(deadLetterKeys);
+    }
+
+    private static Counter keys(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("s3.outbox.keys")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.community.service.s3;
+
+import com.example.community.domain.S3DeleteOutbox;
+import com.example.community.domain.S3DeleteStatus;
+import com.example.community.repository.s3.S3DeleteOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Error;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * s3_delete_outbox 를 읽어 DeleteObjects 한 번에 최대 1000 키씩 지운다.
+ * 트랜잭션 밖에서 돌기 때문에 S3 를 기다리는 동안 DB 커넥션을 잡고 있지 않다.
+ * 키별 실패는 지수 백오프로 다시 시도하고, maxAttempts 번 실패하면 DEAD 로 남겨 지표로 드러낸다.
+ * 이미 없는 키를 지워도 S3 는 성공으로 답하므로 여러 인스턴스가 같은 행을 집어도 결과는 같다.
+ */
+@Slf4j
+@Component
+public class S3DeleteOutboxWorker {
+
+    // DeleteObjects 한 번에 보낼 수 있는 최대 키 수
+    static final int MAX_KEYS_PER_REQUEST = 1000;
+    // 한 번의 drain 에서 보낼 최대 요청 수. 스케줄러 스레드를 다른 작업과 나눠 쓰기 때문에 상한을 둔다.
+    static final int MAX_REQUESTS_PER_DRAIN = 10;
+
+    private final S3DeleteOutboxRepository s3DeleteOutboxRepository;
+    private final S3Client s3Client;
+    private final S3DeleteOutboxMetrics metrics;
+    private final String bucket;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Supplier<LocalDateTime> clock;
+
+    @Autowired
+    public S3DeleteOutboxWorker(S3DeleteOutboxRepository s3DeleteOutboxRepository,
+                                S3Client s3Client,
+                                S3DeleteOutboxMetrics metrics,
+                                @Value("${aws.s3.bucket}") String bucket,
+                                @Value("${community.s3.outbox.max-attempts:10}") int maxAttempts,
+                                @Value("${community.s3.outbox.initial-backoff-ms:1000}") long initialBackoffMs,
+                                @Value("${community.s3.outbox.max-backoff-ms:3600000}") long maxBackoffMs) {
+        this(s3DeleteOutboxRepository, s3Client, metrics, bucket, maxAttempts,
+                Duration.ofMillis(initialBackoffMs), Duration.ofMillis(maxBackoffMs), LocalDateTime::now);
+    }
+
+    S3DeleteOutboxWorker(S3DeleteOutboxRepository s3DeleteOutboxRepository, S3Client s3Client,
+                         S3DeleteOutboxMetrics metrics, String bucket, int maxAttempts,
+                         Duration initialBackoff, Duration maxBackoff, Supplier<LocalDateTime> clock) {
+        this.s3DeleteOutboxRepository = s3DeleteOutboxRepository;
+        this.s3Client = s3Client;
+        this.metrics = metrics;
+        this.bucket = bucket;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.clock = clock;
+    }
+
+    @Scheduled(fixedDelayString = "${community.s3.outbox.poll-interval-ms:1000}")
+    public void drain() {
+        for (int i = 0; i < MAX_REQUESTS_PER_DRAIN; i++) {
+            if (drainOnce() < MAX_KEYS_PER_REQUEST) break;
+        }
+        metrics.updateBacklog(s3DeleteOutboxRepository.countByStatus(S3DeleteStatus.PENDING),
+                s3DeleteOutboxRepository.countByStatus(S3DeleteStatus.DEAD));
+    }
+
+    /**
+     * 기한이 된 행을 한 요청 분량만 처리하고, 읽은 행 수를 돌려준다.
+     */
+    int drainOnce() {
+        LocalDateTime now = clock.get();
+        List<S3DeleteOutbox> due = s3DeleteOutboxRepository.findDue(S3DeleteStatus.PENDING, now,
+                PageRequest.of(0, MAX_KEYS_PER_REQUEST));
+        if (due.isEmpty()) return 0;
+
+        // 같은 키가 여러 번 쌓였어도 요청에는 한 번만 싣는다.
+        Map<String, List<S3DeleteOutbox>> byKey = new LinkedHashMap<>();
+        for (S3DeleteOutbox entry : due) {
+            byKey.computeIfAbsent(entry.getObjectKey(), key -> new ArrayList<>()).add(entry);
+        }
+
+        long start = System.nanoTime();
+        Map<String, String> errors = deleteObjects(List.copyOf(byKey.keySet()));
+        long elapsed = System.nanoTime() - start;
+
+        List<Long> deletedIds = new ArrayList<>();
+        List<S3DeleteOutbox> failed = new ArrayList<>();
+        int dead = 0;
+        for (Map.Entry<String, List<S3DeleteOutbox>> group : byKey.entrySet()) {
+            String error = errors.get(group.getKey());
+            for (S3DeleteOutbox entry : group.getValue()) {
+                if (error == null) {
+                    deletedIds.add(entry.getId());
+                    continue;
+                }
+                if (entry.fail(error, now.plus(backoff(entry.getAttempts())), maxAttempts)) {
+                    dead++;
+                    log.warn("S3 객체 삭제 포기 - key={}, attempts={}, error={}", entry.getObjectKey(), entry.getAttempts(), error);
+                }
+                failed.add(entry);
+            }
+        }
+
+        if (!deletedIds.isEmpty()) {
+            s3DeleteOutboxRepository.deleteAllByIdInBatch(deletedIds);
+        }
+        if (!failed.isEmpty()) {
+            s3DeleteOutboxRepository.saveAll(failed);
+        }
+        metrics.recordRequest(elapsed, deletedIds.size(), failed.size() - dead, dead);
+        return due.size();
+    }
+
+    /**
+     * 실패한 키와 사유를 돌려준다. 요청 자체가 실패하면 모든 키가 실패다.
+     */
+    private Map<String, String> deleteObjects(List<String> keys) {
+        try {
+            List<ObjectIdentifier> objects = keys.stream()
+                    .map(key -> ObjectIdentifier.builder().key(key).build())
+                    .toList();
+            Map<String, String> errors = new HashMap<>();
+            for (S3Error error : s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                    .bucket(bucket)
+                    .delete(Delete.builder().objects(objects).quiet(true).build())
+                    .build()).errors()) {
+                errors.putIfAbsent(error.key(), error.code() + ": " + error.message());
+            }
+            return errors;
+        } catch (SdkException e) {
+            log.warn("S3 DeleteObjects 실패 - keys={}, error={}", keys.size(), e.getMessage());
+            Map<String, String> errors = new HashMap<>();
+            keys.forEach(key -> errors.put(key, e.getClass().getSimpleName() + ": " + e.getMessage()));
+            return errors;
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+}
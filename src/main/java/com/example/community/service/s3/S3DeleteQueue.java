@@ -0,0 +1,40 @@
+package com.example.community.service.s3;
+
+import com.example.community.domain.S3DeleteOutbox;
+import com.example.community.repository.s3.S3DeleteOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * S3 객체 삭제를 호출한 트랜잭션에 outbox 행으로 남긴다.
+ * 실제 삭제는 커밋된 뒤 S3DeleteOutboxWorker 가 하므로, 요청 처리 중에는 S3 를 기다리지 않고
+ * 롤백되면 행도 함께 사라져 객체가 남는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class S3DeleteQueue {
+
+    private final S3DeleteOutboxRepository s3DeleteOutboxRepository;
+
+
+    public void enqueue(Collection<String> keys) {
+        LocalDateTime now = LocalDateTime.now();
+        List<S3DeleteOutbox> entries = keys.stream()
+                .filter(StringUtils::hasText)
+                .distinct()
+                .map(key -> new S3DeleteOutbox(key, now))
+                .toList();
+        if (entries.isEmpty()) return;
+
+        s3DeleteOutboxRepository.saveAll(entries);
+    }
+
+    public void enqueue(String key) {
+        enqueue(List.of(key));
+    }
+}
@@ -15,15 +15,14 @@ import com.example.community.repository.comment.CommentRepository;
 import com.example.community.repository.post.PostRepository;
 import com.example.community.repository.token.RefreshTokenRepository;
 import com.example.community.repository.user.UserRepository;
+import com.example.community.service.autocomplete.AutocompleteService;
+import com.example.community.service.s3.S3DeleteQueue;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 
 import java.util.List;
 
@@ -43,11 +42,8 @@ public class UserServiceImpl implements UserService {
 
     private final PasswordEncoder passwordEncoder;
     private final AuthValidator authValidator;
-
-    private final S3Client s3Client;
-
-    @Value("${aws.s3.bucket}")
-    private String bucket;
+    private final AutocompleteService autocompleteService;
+    private final S3DeleteQueue s3DeleteQueue;
 
     @Override
     public SignUpResponse signUp(UserSignUpDto dto) {
@@ -59,6 +55,7 @@ public class UserServiceImpl implements UserService {
         String encodedPassword = passwordEncoder.encode(dto.getPassword());
         user.changePassword(encodedPassword);
         User saveUser = userRepository.save(user);
+        autocompleteService.onNicknameChanged(saveUser.getId(), saveUser.getNickname());
         return SignUpResponse.fromEntity(saveUser);
     }
 
@@ -76,10 +73,11 @@ public class UserServiceImpl implements UserService {
         String oldProfileImage = findUser.getProfileImage();
 
         if (StringUtils.hasText(oldProfileImage) && !oldProfileImage.equals(dto.getProfileImage())) {
-            s3Client.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(oldProfileImage).build());
+            s3DeleteQueue.enqueue(oldProfileImage);
         }
 
         findUser.update(dto.getNickname(), dto.getProfileImage());
+        autocompleteService.onNicknameChanged(findUser.getId(), findUser.getNickname());
 
         return UserDetailResponse.fromEntity(findUser);
     }
@@ -114,10 +112,11 @@ public class UserServiceImpl implements UserService {
         refreshTokenRepository.delete(refreshToken);
 
         if (StringUtils.hasText(user.getProfileImage())) {
-            s3Client.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(user.getProfileImage()).build());
+            s3DeleteQueue.enqueue(user.getProfileImage());
         }
 
         userRepository.delete(user);
+        autocompleteService.onUserDeleted(user.getId());
     }
 
     @Override
@@ -0,0 +1,138 @@
+package com.example.community.benchmark;
+
+import com.example.community.common.compression.ContentCodec;
+import com.example.community.common.compression.ContentCompressionMigrator;
+import com.example.community.common.compression.ContentCompressionMigrator.Result;
+import com.example.community.common.compression.ContentCompressionMigrator.Table;
+import com.example.community.domain.Post;
+import com.example.community.domain.User;
+import com.example.community.repository.post.PostRepository;
+import com.example.community.repository.user.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 본문 압축 저장 비교. ./gradlew benchmark 로만 실행된다.
+ * size : 마이그레이션 전후 post.content 저장 바이트 합
+ * write: 원문 그대로 UPDATE 대비 encode 후 UPDATE
+ * read : 원문 SELECT 대비 SELECT 후 decode
+ * 압축/해제 CPU 비용과 줄어든 전송량을 함께 보려는 것이고, 실제 I/O 차이는 디스크에 있는 DB 에서 더 크게 난다.
+ */
+@Tag("benchmark")
+@DataJpaTest
+class ContentCompressionBenchmarkTest {
+
+    private static final int POSTS = 1_000;
+    private static final int WARMUP = 2;
+
+    @Autowired private PostRepository postRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private EntityManager entityManager;
+
+    private final ContentCodec codec = new ContentCodec(true, 512);
+    private final List<Long> postIds = new ArrayList<>();
+    private final List<String> contents = new ArrayList<>();
+
+    @BeforeEach
+    void init() {
+        User user = userRepository.save(User.builder()
+                .email("test@test.com")
+                .password("1234")
+                .nickname("test")
+                .build());
+
+        for (int i = 0; i < POSTS; i++) {
+            String content = content(i);
+            contents.add(content);
+            postIds.add(postRepository.save(Post.builder().title("title" + i).content(content).user(user).build()).getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("본문 압축 - 저장 크기와 읽기/쓰기 처리량")
+    void compare_compression() {
+        long rawWrite = measure(() -> writeAll(false));
+        long rawRead = measure(() -> readAll(false));
+        long rawBytes = storedBytes();
+
+        Result result = new ContentCompressionMigrator(jdbcTemplate, codec, false, 500).migrate(Table.POST);
+        long compressedBytes = storedBytes();
+
+        long compressedWrite = measure(() -> writeAll(true));
+        long compressedRead = measure(() -> readAll(true));
+
+        System.out.printf("[benchmark] post.content x%d size raw=%dKB compressed=%dKB (%.0f%%) rewritten=%d%n",
+                POSTS, rawBytes / 1024, compressedBytes / 1024, compressedBytes * 100.0 / rawBytes, result.rewritten());
+        System.out.printf("[benchmark] post.content x%d write raw=%dms (%.0f/s) compressed=%dms (%.0f/s)%n",
+                POSTS, rawWrite / 1_000_000, throughput(rawWrite), compressedWrite / 1_000_000, throughput(compressedWrite));
+        System.out.printf("[benchmark] post.content x%d read raw=%dms (%.0f/s) compressed=%dms (%.0f/s)%n",
+                POSTS, rawRead / 1_000_000, throughput(rawRead), compressedRead / 1_000_000, throughput(compressedRead));
+
+        assertThat(compressedBytes).isLessThan(rawBytes);
+        assertThat(codec.decode(jdbcTemplate.queryForObject("SELECT content FROM post WHERE post_id = ?",
+                String.class, postIds.getFirst()))).isEqualTo(contents.getFirst());
+    }
+
+    private void writeAll(boolean compressed) {
+        List<Object[]> args = new ArrayList<>(POSTS);
+        for (int i = 0; i < POSTS; i++) {
+            String content = contents.get(i);
+            args.add(new Object[]{compressed ? codec.encode(content) : content, postIds.get(i)});
+        }
+        jdbcTemplate.batchUpdate("UPDATE post SET content = ? WHERE post_id = ?", args);
+    }
+
+    private void readAll(boolean compressed) {
+        List<String> stored = jdbcTemplate.queryForList("SELECT content FROM post ORDER BY post_id", String.class);
+        long chars = 0;
+        for (String value : stored) {
+            chars += (compressed ? codec.decode(value) : value).length();
+        }
+        assertThat(chars).isPositive();
+    }
+
+    private long measure(Runnable run) {
+        for (int i = 0; i < WARMUP; i++) {
+            run.run();
+        }
+        long start = System.nanoTime();
+        run.run();
+        return System.nanoTime() - start;
+    }
+
+    private long storedBytes() {
+        Long bytes = jdbcTemplate.queryForObject("SELECT SUM(OCTET_LENGTH(content)) FROM post", Long.class);
+        return bytes == null ? 0 : bytes;
+    }
+
+    private static double throughput(long nanos) {
+        return POSTS / (nanos / 1_000_000_000.0);
+    }
+
+    /**
+     * 실제 글처럼 공통 문장과 글마다 다른 문장을 섞어 2~4KB 본문을 만든다.
+     */
+    private static String content(int seed) {
+        StringBuilder sb = new StringBuilder();
+        for (int line = 0; sb.length() < 1_000 + (seed % 3) * 500; line++) {
+            sb.append(seed).append("번째 글의 ").append(line).append("번째 문단입니다. ")
+                    .append("오늘 스프링 부트와 JPA 로 게시판 기능을 구현하면서 겪은 문제를 정리합니다. ")
+                    .append("Thank you for reading, please leave a comment.\n");
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.community.benchmark;
+
+import com.example.community.common.paging.ExactCountStrategy;
+import com.example.community.common.paging.PageCounter;
+import com.example.community.common.util.AuthValidator;
+import com.example.community.domain.Comment;
+import com.example.community.domain.Post;
+import com.example.community.domain.PostImage;
+import com.example.community.domain.User;
+import com.example.community.dto.response.post.PostDetailCompositeResponse;
+import com.example.community.repository.comment.CommentRepository;
+import com.example.community.repository.post.PostImageRepository;
+import com.example.community.repository.post.PostJdbcRepository;
+import com.example.community.repository.post.PostRepository;
+import com.example.community.repository.user.UserRepository;
+import com.example.community.service.comment.CommentService;
+import com.example.community.service.comment.CommentServiceImpl;
+import com.example.community.service.post.PostListAssembler;
+import com.example.community.service.post.PostService;
+import com.example.community.service.post.PostServiceImpl;
+import com.example.community.service.post.delete.PostDeleter;
+import com.example.community.service.post.detail.PostDetailComposer;
+import com.example.community.service.post.detail.PostDetailPart;
+import com.example.community.service.post.feed.RecentPostFeed;
+import com.example.community.service.post.image.PostImageWriter;
+import com.example.community.service.post.like.LikeIngestionQueue;
+import com.example.community.service.post.like.LikedPostIndex;
+import com.example.community.service.post.like.PostLikeService;
+import com.example.community.service.post.like.PostLikeServiceImpl;
+import com.example.community.service.post.trending.TrendingPostService;
+import com.example.community.service.post.viewcount.PostViewService;
+import com.example.community.service.s3.S3DeleteQueue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 게시글 상세 화면 조회 비교. ./gradlew benchmark 로만 실행된다. Docker 가 없으면 건너뛴다.
+ * sequential: 지금 클라이언트가 하는 것처럼 상세 -> 이미지 -> 댓글 -> 좋아요를 차례로 호출
+ * composite : GET /posts/{id}?include=images,comments,likes 가 부르는 PostDetailComposer 로 네 조회를 동시에
+ * 두 쪽 모두 각 엔드포인트가 부르는 서비스를 MySQL 컨테이너에 그대로 돌린다. 조회마다 커넥션을 따로 잡으므로
+ * 테스트를 한 트랜잭션으로 묶지 않는다. 클라이언트-서버 왕복 3 번이 줄어드는 효과는 이 수치에 들어 있지 않다.
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "community.paging.count-strategy=exact"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({PostServiceImpl.class, CommentServiceImpl.class, PostLikeServiceImpl.class, PostDetailComposer.class,
+        PostJdbcRepository.class, LikedPostIndex.class, PageCounter.class, ExactCountStrategy.class})
+class PostDetailBenchmarkTest {
+
+    private static final int IMAGES = 3;
+    private static final int COMMENTS = 30;
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 500;
+    private static final String VIEWER = "ip:1";
+    private static final Pageable COMMENT_PAGE = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id"));
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @MockitoBean private PostViewService postViewService;
+    @MockitoBean private RecentPostFeed recentPostFeed;
+    @MockitoBean private PostListAssembler postListAssembler;
+    @MockitoBean private PostImageWriter postImageWriter;
+    @MockitoBean private PostDeleter postDeleter;
+    @MockitoBean private AuthValidator authValidator;
+    @MockitoBean private S3DeleteQueue s3DeleteQueue;
+    @MockitoBean private TrendingPostService trendingPostService;
+    @MockitoBean private LikeIngestionQueue likeIngestionQueue;
+
+    @Autowired private PostService postService;
+    @Autowired private CommentService commentService;
+    @Autowired private PostLikeService postLikeService;
+    @Autowired private PostDetailComposer postDetailComposer;
+    @Autowired private PostRepository postRepository;
+    @Autowired private PostImageRepository postImageRepository;
+    @Autowired private CommentRepository commentRepository;
+    @Autowired private UserRepository userRepository;
+
+    private Post post;
+
+    @BeforeEach
+    void init() {
+        User user = userRepository.save(User.builder()
+                .email("writer@test.com")
+                .password("1234")
+                .nickname("writer")
+                .build());
+        post = postRepository.save(Post.builder().title("title").content("content").user(user).build());
+        for (int i = 0; i < IMAGES; i++) {
+            postImageRepository.save(PostImage.builder().post(post).postImageUrl("image" + i).build());
+        }
+        for (int i = 0; i < COMMENTS; i++) {
+            commentRepository.save(Comment.builder().content("comment" + i).user(user).post(post).build());
+        }
+    }
+
+    @AfterEach
+    void clear() {
+        commentRepository.deleteAllInBatch();
+        postImageRepository.deleteAllInBatch();
+        postRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("게시글 상세 - 순차 호출 대비 묶음 조회")
+    void compare_detail_latency() {
+        long[] sequential = measure(this::sequential);
+        long[] composite = measure(this::composite);
+
+        System.out.printf("[benchmark] post detail x%d sequential p50=%.2fms p99=%.2fms composite p50=%.2fms p99=%.2fms%n",
+                ITERATIONS, percentile(sequential, 50), percentile(sequential, 99), percentile(composite, 50), percentile(composite, 99));
+    }
+
+    private void sequential() {
+        postService.getPost(post.getId(), VIEWER);
+        assertThat(postService.getAllPostImageByPostId(post.getId())).hasSize(IMAGES);
+        assertThat(commentService.getCommentByPost(post.getId(), COMMENT_PAGE).getTotalElements()).isEqualTo(COMMENTS);
+        postLikeService.getLikeCount(post.getId(), null);
+    }
+
+    private void composite() {
+        PostDetailCompositeResponse response = postDetailComposer.compose(post.getId(), VIEWER, null,
+                EnumSet.allOf(PostDetailPart.class), COMMENT_PAGE);
+        assertThat(response.getImages()).hasSize(IMAGES);
+        assertThat(response.getComments().getTotalElements()).isEqualTo(COMMENTS);
+    }
+
+    private long[] measure(Runnable request) {
+        for (int i = 0; i < WARMUP; i++) {
+            request.run();
+        }
+        long[] elapsed = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            request.run();
+            elapsed[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(elapsed);
+        return elapsed;
+    }
+
+    private static double percentile(long[] sorted, int percentile) {
+        int index = Math.min(sorted.length - 1, (int) Math.ceil(percentile / 100.0 * sorted.length) - 1);
+        return sorted[index] / 1_000_000.0;
+    }
+}
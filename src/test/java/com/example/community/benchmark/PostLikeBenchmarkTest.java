@@ -0,0 +1,109 @@
+package com.example.community.benchmark;
+
+import com.example.community.domain.Post;
+import com.example.community.domain.PostLike;
+import com.example.community.domain.User;
+import com.example.community.repository.post.PostJdbcRepository;
+import com.example.community.repository.post.PostLikeRepository;
+import com.example.community.repository.post.PostRepository;
+import com.example.community.repository.user.UserRepository;
+import com.example.community.service.post.like.LikeIngestionQueue;
+import com.example.community.service.post.like.LikedPostIndex;
+import com.example.community.service.post.like.PostLikeService;
+import com.example.community.service.post.like.PostLikeServiceImpl;
+import com.example.community.service.post.trending.TrendingPostService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 좋아요 추가 경로 비교. ./gradlew benchmark 로만 실행된다.
+ * legacy: findById -> existsByPostIdAndUserId -> save -> countByPostId
+ * current: PostLikeServiceImpl.addLike 동기 경로 (게시글 잠금과 like_count 조회 -> 조건부 INSERT -> like_count 증가)
+ */
+@Tag("benchmark")
+@DataJpaTest
+@Import({PostLikeServiceImpl.class, PostJdbcRepository.class, LikedPostIndex.class})
+class PostLikeBenchmarkTest {
+
+    private static final int USERS = 2_000;
+    private static final int WARMUP_USERS = 200;
+
+    @Autowired private PostRepository postRepository;
+    @Autowired private PostLikeRepository postLikeRepository;
+    @Autowired private PostLikeService postLikeService;
+    @Autowired private UserRepository userRepository;
+
+    @MockitoBean private TrendingPostService trendingPostService;
+    @MockitoBean private LikeIngestionQueue likeIngestionQueue;
+
+    private final List<User> users = new ArrayList<>();
+
+    @BeforeEach
+    void init() {
+        for (int i = 0; i < USERS + WARMUP_USERS; i++) {
+            users.add(userRepository.save(User.builder()
+                    .email("user" + i + "@test.com")
+                    .password("1234")
+                    .nickname("user" + i)
+                    .build()));
+        }
+    }
+
+    @Test
+    @DisplayName("좋아요 추가 - 기존 경로 대비 조건부 INSERT")
+    void compare_add_like() {
+        Post legacyPost = createPost("legacy");
+        Post currentPost = createPost("current");
+
+        long legacy = measure(legacyPost, this::legacyAddLike);
+        long current = measure(currentPost, this::currentAddLike);
+
+        System.out.printf("[benchmark] addLike x%d legacy=%dms (%.1fus/op) current=%dms (%.1fus/op)%n",
+                USERS, legacy / 1_000_000, legacy / 1_000.0 / USERS, current / 1_000_000, current / 1_000.0 / USERS);
+
+        assertThat(postRepository.findLikeCountById(currentPost.getId())).contains((long) USERS + WARMUP_USERS);
+        assertThat(postLikeRepository.countByPostId(legacyPost.getId())).isEqualTo(USERS + WARMUP_USERS);
+    }
+
+    private long measure(Post post, BiConsumer<Long, User> addLike) {
+        for (int i = 0; i < WARMUP_USERS; i++) {
+            addLike.accept(post.getId(), users.get(USERS + i));
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < USERS; i++) {
+            addLike.accept(post.getId(), users.get(i));
+        }
+        return System.nanoTime() - start;
+    }
+
+    private void legacyAddLike(Long postId, User user) {
+        Post post = postRepository.findById(postId).orElseThrow();
+        if (postLikeRepository.existsByPostIdAndUserId(postId, user.getId())) return;
+        postLikeRepository.save(PostLike.builder().post(post).user(user).build());
+        postLikeRepository.countByPostId(postId);
+    }
+
+    private void currentAddLike(Long postId, User user) {
+        postLikeService.addLike(postId, user);
+    }
+
+    private Post createPost(String title) {
+        return postRepository.save(Post.builder()
+                .title(title)
+                .content("content")
+                .user(users.getFirst())
+                .build());
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.community.common.compression;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ContentCodecTest {
+
+    private static final String LONG_CONTENT = "안녕하세요. 오늘은 스프링 부트로 커뮤니티 게시판을 만든 과정을 정리해 보려고 합니다. ".repeat(40);
+
+    private final ContentCodec codec = new ContentCodec(true, 512);
+
+    @Test
+    @DisplayName("긴 본문 - 압축해서 저장하고 원문으로 복원")
+    void round_trip() {
+        String stored = codec.encode(LONG_CONTENT);
+
+        assertThat(codec.isCompressed(stored)).isTrue();
+        assertThat(stored.length()).isLessThan(LONG_CONTENT.getBytes(StandardCharsets.UTF_8).length / 4);
+        assertThat(codec.decode(stored)).isEqualTo(LONG_CONTENT);
+    }
+
+    @Test
+    @DisplayName("짧은 본문과 null - 그대로 저장")
+    void keep_short_content() {
+        assertThat(codec.encode("짧은 댓글")).isEqualTo("짧은 댓글");
+        assertThat(codec.decode("짧은 댓글")).isEqualTo("짧은 댓글");
+        assertThat(codec.encode(null)).isNull();
+        assertThat(codec.decode(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("접두어로 시작하는 원문 - 짧아도 압축해서 복원 시 구분")
+    void encode_prefixed_content() {
+        String content = ContentCodec.PREFIX + "abc";
+
+        String stored = codec.encode(content);
+
+        assertThat(stored).isNotEqualTo(content);
+        assertThat(codec.decode(stored)).isEqualTo(content);
+        assertThat(ContentCodec.disabled().decode(ContentCodec.disabled().encode(content))).isEqualTo(content);
+    }
+
+    @Test
+    @DisplayName("압축이 꺼져 있어도 압축된 값은 풀어서 읽음")
+    void disabled_decodes() {
+        String stored = codec.encode(LONG_CONTENT);
+        ContentCodec disabled = ContentCodec.disabled();
+
+        assertThat(disabled.encode(LONG_CONTENT)).isEqualTo(LONG_CONTENT);
+        assertThat(disabled.decode(stored)).isEqualTo(LONG_CONTENT);
+    }
+
+    @Test
+    @DisplayName("접두어만 같은 깨진 값 - 저장된 그대로 돌려줌")
+    void decode_broken_value() {
+        String broken = ContentCodec.PREFIX + "not base64 !!";
+
+        assertThat(codec.decode(broken)).isEqualTo(broken);
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.community.common.compression;
+
+import com.example.community.common.compression.ContentCompressionMigrator.Result;
+import com.example.community.common.compression.ContentCompressionMigrator.Table;
+import com.example.community.domain.Comment;
+import com.example.community.domain.Post;
+import com.example.community.domain.User;
+import com.example.community.repository.comment.CommentRepository;
+import com.example.community.repository.post.PostRepository;
+import com.example.community.repository.user.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest
+class ContentCompressionMigratorTest {
+
+    private static final String LONG_CONTENT = "커뮤니티 게시판 본문입니다. 댓글과 좋아요를 남겨 주세요. ".repeat(40);
+
+    @Autowired private PostRepository postRepository;
+    @Autowired private CommentRepository commentRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private EntityManager entityManager;
+
+    private Post longPost;
+    private Post shortPost;
+    private Comment longComment;
+
+    @BeforeEach
+    void init() {
+        User user = userRepository.save(User.builder()
+                .email("test@test.com")
+                .password("1234")
+                .nickname("test")
+                .build());
+
+        longPost = postRepository.save(Post.builder().title("long").content(LONG_CONTENT).user(user).build());
+        shortPost = postRepository.save(Post.builder().title("short").content("짧은 글").user(user).build());
+        longComment = commentRepository.save(Comment.builder().content(LONG_CONTENT).user(user).post(longPost).build());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("압축 켠 뒤 변환 - 긴 본문만 압축되고 엔티티로는 원문이 읽힘")
+    void migrate_compress() {
+        jdbcTemplate.update("UPDATE post SET excerpt = NULL WHERE post_id = ?", longPost.getId());
+
+        Result posts = migrator(new ContentCodec(true, 512)).migrate(Table.POST);
+        Result comments = migrator(new ContentCodec(true, 512)).migrate(Table.COMMENT);
+
+        assertThat(posts.scanned()).isEqualTo(2);
+        assertThat(posts.rewritten()).isEqualTo(1);
+        assertThat(posts.bytesAfter()).isLessThan(posts.bytesBefore());
+        assertThat(comments.rewritten()).isEqualTo(1);
+
+        assertThat(storedContent("post", "post_id", longPost.getId())).startsWith(ContentCodec.PREFIX);
+        assertThat(storedContent("post", "post_id", shortPost.getId())).isEqualTo("짧은 글");
+        assertThat(storedContent("comment", "id", longComment.getId())).startsWith(ContentCodec.PREFIX);
+        assertThat(jdbcTemplate.queryForObject("SELECT excerpt FROM post WHERE post_id = ?", String.class, longPost.getId()))
+                .isEqualTo(Post.excerptOf(LONG_CONTENT));
+
+        assertThat(postRepository.findById(longPost.getId()).orElseThrow().getContent()).isEqualTo(LONG_CONTENT);
+        assertThat(commentRepository.findById(longComment.getId()).orElseThrow().getContent()).isEqualTo(LONG_CONTENT);
+    }
+
+    @Test
+    @DisplayName("압축 끈 뒤 변환 - 압축된 본문이 원문으로 돌아감")
+    void migrate_decompress() {
+        migrator(new ContentCodec(true, 512)).migrate(Table.POST);
+
+        Result result = migrator(ContentCodec.disabled()).migrate(Table.POST);
+
+        assertThat(result.rewritten()).isEqualTo(1);
+        assertThat(storedContent("post", "post_id", longPost.getId())).isEqualTo(LONG_CONTENT);
+    }
+
+    @Test
+    @DisplayName("변환 - 드라이버가 SUCCESS_NO_INFO 를 돌려줘도 갱신한 행으로 셈")
+    void migrate_count_success_no_info() {
+        JdbcTemplate batchRewriting = spy(jdbcTemplate);
+        doReturn(new int[]{Statement.SUCCESS_NO_INFO}).when(batchRewriting).batchUpdate(anyString(), anyList());
+
+        Result result = new ContentCompressionMigrator(batchRewriting, new ContentCodec(true, 512), false, 1)
+                .migrate(Table.POST);
+
+        assertThat(result.rewritten()).isEqualTo(1);
+    }
+
+    private ContentCompressionMigrator migrator(ContentCodec codec) {
+        return new ContentCompressionMigrator(jdbcTemplate, codec, false, 1);
+    }
+
+    private String storedContent(String table, String idColumn, Long id) {
+        return jdbcTemplate.queryForObject("SELECT content FROM " + table + " WHERE " + idColumn + " = ?", String.class, id);
+    }
+}
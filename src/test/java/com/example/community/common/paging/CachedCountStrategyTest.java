@@ -0,0 +1,56 @@
+package com.example.community.common.paging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CachedCountStrategyTest {
+
+    private static final long TTL_MS = 1_000L;
+    private static final CountKey POSTS = CountKey.all(PageCounter.POST);
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicLong queries = new AtomicLong();
+    private final CachedCountStrategy strategy = new CachedCountStrategy(TTL_MS, 100, now::get);
+
+    @Test
+    @DisplayName("TTL 안에서는 count 를 다시 세지 않고 근사값으로 표시")
+    void reuse_within_ttl() {
+        assertThat(strategy.count(POSTS, counting(10))).isEqualTo(PageTotal.exact(10));
+
+        now.addAndGet(TTL_MS - 1);
+        assertThat(strategy.count(POSTS, counting(11))).isEqualTo(PageTotal.approximate(10));
+        assertThat(queries.get()).isEqualTo(1);
+
+        now.addAndGet(1);
+        assertThat(strategy.count(POSTS, counting(12))).isEqualTo(PageTotal.exact(12));
+        assertThat(queries.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("쓰기 무효화 - 같은 테이블의 값만 버림")
+    void invalidate_table() {
+        CountKey userPosts = CountKey.of(PageCounter.POST, "user_id", 1L);
+        CountKey comments = CountKey.all(PageCounter.COMMENT);
+        strategy.count(POSTS, counting(10));
+        strategy.count(userPosts, counting(3));
+        strategy.count(comments, counting(7));
+
+        strategy.invalidate(PageCounter.POST);
+
+        assertThat(strategy.count(POSTS, counting(11))).isEqualTo(PageTotal.exact(11));
+        assertThat(strategy.count(userPosts, counting(4))).isEqualTo(PageTotal.exact(4));
+        assertThat(strategy.count(comments, counting(8))).isEqualTo(PageTotal.approximate(7));
+    }
+
+    private LongSupplier counting(long value) {
+        return () -> {
+            queries.incrementAndGet();
+            return value;
+        };
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.community.common.paging;
+
+import com.example.community.repository.stats.TableStatisticsRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PageCounterTest {
+
+    private static final CountKey POSTS = CountKey.all(PageCounter.POST);
+
+    private final PageCounter pageCounter = new PageCounter(new ExactCountStrategy());
+
+    @Test
+    @DisplayName("마지막 페이지는 목록만으로 전체 수를 정해 count 를 보내지 않음")
+    void skip_count_on_last_page() {
+        LongSupplier exactCount = mock(LongSupplier.class);
+
+        Page<String> page = pageCounter.toPage(List.of("a", "b"), PageRequest.of(3, 5), POSTS, exactCount);
+
+        assertThat(page.getTotalElements()).isEqualTo(17L);
+        assertThat(((ApproximatePage<String>) page).isApproximate()).isFalse();
+        verifyNoInteractions(exactCount);
+    }
+
+    @Test
+    @DisplayName("가득 찬 페이지는 전략으로 전체 수를 구함")
+    void count_on_full_page() {
+        Page<String> page = pageCounter.toPage(List.of("a", "b"), PageRequest.of(0, 2), POSTS, () -> 9L);
+
+        assertThat(page.getTotalElements()).isEqualTo(9L);
+        assertThat(page.getTotalPages()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("추정 전략 - 테이블 전체는 통계값, 조건이 붙은 수는 정확한 값")
+    void estimated_strategy() {
+        TableStatisticsRepository statistics = mock(TableStatisticsRepository.class);
+        when(statistics.estimateRowCount(PageCounter.POST)).thenReturn(OptionalLong.of(1_000_000L));
+        PageCounter estimated = new PageCounter(new EstimatedCountStrategy(statistics, 30_000L, 100));
+
+        ApproximatePage<String> all = (ApproximatePage<String>)
+                estimated.toPage(List.of("a"), PageRequest.of(0, 1), POSTS, () -> 999_999L);
+        ApproximatePage<String> byUser = (ApproximatePage<String>)
+                estimated.toPage(List.of("a"), PageRequest.of(0, 1), CountKey.of(PageCounter.POST, "user_id", 1L), () -> 3L);
+
+        assertThat(all.getTotalElements()).isEqualTo(1_000_000L);
+        assertThat(all.isApproximate()).isTrue();
+        assertThat(byUser.getTotalElements()).isEqualTo(3L);
+        assertThat(byUser.isApproximate()).isFalse();
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.community.config;
+
+import com.example.community.domain.Post;
+import com.example.community.domain.PostImage;
+import com.example.community.domain.User;
+import com.example.community.repository.post.PostImageRepository;
+import com.example.community.repository.post.PostRepository;
+import com.example.community.repository.user.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static com.example.community.config.SecondLevelCacheConfig.*;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 2차 캐시는 커밋 시점에 갱신되므로 테스트 전체를 한 트랜잭션으로 묶지 않고 단계마다 커밋한다.
+ */
+@DataJpaTest
+@Import(SecondLevelCacheConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheConfigTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostImageRepository postImageRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private SecondLevelCacheMetrics secondLevelCacheMetrics;
+
+    private TransactionTemplate tx;
+    private Statistics statistics;
+
+    @BeforeEach
+    void init() {
+        tx = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("사용자는 캐시에서 읽히고, 수정하면 캐시도 새 값으로 바뀜")
+    void user_cached_and_updated() {
+        Long userId = createUser().getId();
+
+        tx.executeWithoutResult(status -> userRepository.findById(userId).orElseThrow());
+        tx.executeWithoutResult(status -> userRepository.findById(userId).orElseThrow());
+        assertThat(region(USER_REGION).getHitCount()).isPositive();
+
+        tx.executeWithoutResult(status -> userRepository.findById(userId).orElseThrow().update("changed", "new.png"));
+        long hitsBefore = region(USER_REGION).getHitCount();
+
+        User reloaded = tx.execute(status -> userRepository.findById(userId).orElseThrow());
+
+        assertThat(reloaded.getNickname()).isEqualTo("changed");
+        assertThat(reloaded.getProfileImage()).isEqualTo("new.png");
+        assertThat(region(USER_REGION).getHitCount()).isGreaterThan(hitsBefore);
+    }
+
+    @Test
+    @DisplayName("게시글 이미지 목록은 컬렉션 캐시에서 읽히고, 이미지를 지우면 다시 읽음")
+    void post_images_cached_and_invalidated() {
+        User user = createUser();
+        Long postId = tx.execute(status -> {
+            Post post = postRepository.save(Post.builder().title("title").content("content").user(user).build());
+            for (String url : List.of("a.png", "b.png")) {
+                PostImage image = postImageRepository.save(PostImage.builder().post(post).postImageUrl(url).build());
+                post.addPostImages(image);
+            }
+            return post.getId();
+        });
+
+        assertThat(imageUrls(postId)).containsExactly("a.png", "b.png");
+        assertThat(imageUrls(postId)).containsExactly("a.png", "b.png");
+        assertThat(region(POST_IMAGES_REGION).getHitCount()).isPositive();
+
+        tx.executeWithoutResult(status -> {
+            Post post = postRepository.findById(postId).orElseThrow();
+            PostImage first = post.getPostImages().getFirst();
+            postImageRepository.delete(first);
+            post.getPostImages().remove(first);
+        });
+
+        assertThat(imageUrls(postId)).containsExactly("b.png");
+    }
+
+    @Test
+    @DisplayName("영역별 적중률 지표")
+    void hit_ratio_metrics() {
+        Long userId = createUser().getId();
+        tx.executeWithoutResult(status -> userRepository.findById(userId).orElseThrow());
+        tx.executeWithoutResult(status -> userRepository.findById(userId).orElseThrow());
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        secondLevelCacheMetrics.bindTo(registry);
+
+        assertThat(registry.get("hibernate.l2.hit.ratio").tag("region", USER_REGION).gauge().value()).isGreaterThan(0.0);
+        assertThat(registry.get("hibernate.l2.requests").tag("region", USER_REGION).tag("result", "hit").functionCounter().count())
+                .isPositive();
+    }
+
+    private User createUser() {
+        String name = UUID.randomUUID().toString().substring(0, 8);
+        return userRepository.save(User.builder()
+                .email(name + "@test.com")
+                .password("1234")
+                .nickname(name)
+                .profileImage("profile.png")
+                .build());
+    }
+
+    private List<String> imageUrls(Long postId) {
+        return tx.execute(status -> postRepository.findById(postId).orElseThrow().getPostImages().stream()
+                .map(PostImage::getPostImageUrl)
+                .toList());
+    }
+
+    private CacheRegionStatistics region(String name) {
+        return statistics.getCacheRegionStatistics(name);
+    }
+}
@@ -5,11 +5,24 @@ import com.example.community.common.exception.custom.UnauthorizedException;
 import com.example.community.dto.request.post.PostRequestDto;
 import com.example.community.dto.request.post.PostUpdateDto;
 import com.example.community.dto.response.post.PostCreateResponse;
+import com.example.community.dto.response.post.PostCursorResponse;
+import com.example.community.dto.response.post.PostDetailCompositeResponse;
 import com.example.community.dto.response.post.PostDetailResponse;
+import com.example.community.dto.response.post.PostLikeResponse;
 import com.example.community.dto.response.post.PostListResponse;
+import com.example.community.dto.response.post.PostViewCountResponse;
+import com.example.community.dto.response.post.TrendingPostResponse;
 import com.example.community.repository.user.UserRepository;
 import com.example.community.security.jwt.JwtAuthenticationFilter;
+import com.example.community.service.autocomplete.AutocompleteService;
+import com.example.community.service.post.PostChangedEvent;
 import com.example.community.service.post.PostService;
+import com.example.community.service.post.cache.CachedPostReader;
+import com.example.community.service.post.cache.PostResponseCache;
+import com.example.community.service.post.detail.PostDetailComposer;
+import com.example.community.service.post.detail.PostDetailPart;
+import com.example.community.service.post.search.PostSearchService;
+import com.example.community.service.post.trending.TrendingPostService;
 import com.example.community.service.post.viewcount.PostViewService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
@@ -21,18 +34,23 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.EnumSet;
 import java.util.List;
 
 import static com.example.community.common.exception.ErrorMessage.*;
+import static org.hamcrest.Matchers.not;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-@WebMvcTest(PostController.class)
+@WebMvcTest(controllers = PostController.class, properties = "community.response-cache.ttl-ms=0")
+@Import({PostResponseCache.class, CachedPostReader.class})
 @AutoConfigureMockMvc(addFilters = false)
 class PostControllerTest {
 
@@ -42,6 +60,9 @@ class PostControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private PostResponseCache postResponseCache;
+
     @MockitoBean
     private PostService postService;
 
@@ -51,6 +72,18 @@ class PostControllerTest {
     @MockitoBean
     private PostViewService postViewService;
 
+    @MockitoBean
+    private TrendingPostService trendingPostService;
+
+    @MockitoBean
+    private PostSearchService postSearchService;
+
+    @MockitoBean
+    private AutocompleteService autocompleteService;
+
+    @MockitoBean
+    private PostDetailComposer postDetailComposer;
+
     @MockitoBean
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
@@ -72,7 +105,7 @@ class PostControllerTest {
                 .modifiedDate("0000-01-01")
                 .build();
 
-        when(postService.getPost(response.getPostId())).thenReturn(response);
+        when(postService.getPost(eq(response.getPostId()), anyString())).thenReturn(response);
 
 
         //when & then
@@ -88,21 +121,76 @@ class PostControllerTest {
                 .andExpect(jsonPath("$.data.createdDate").value("0000-01-01"))
                 .andExpect(jsonPath("$.data.modifiedDate").value("0000-01-01"));
 
-        verify(postService).getPost(1L);
+        verify(postService).getPost(eq(1L), anyString());
+    }
+
+    @Test
+    @DisplayName("게시글 상세 조회 - If-None-Match 가 현재 버전 ETag 와 같으면 PostService 없이 304")
+    void get_post_not_modified() throws Exception {
+        //given
+        PostDetailResponse response = PostDetailResponse.builder()
+                .postId(2L)
+                .title("cached title")
+                .content("cached content")
+                .viewCount(1L)
+                .modifiedDate("2024-01-02 00:00:00")
+                .build();
+
+        when(postService.getPost(eq(2L), anyString())).thenReturn(response);
+
+        String etag = mockMvc.perform(get("/posts/{id}", 2L))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        //when & then
+        mockMvc.perform(get("/posts/{id}", 2L).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+
+        verify(postService, times(1)).getPost(eq(2L), anyString());
+        verify(postViewService).increaseViewcount(eq(2L), anyString());
+
+        postResponseCache.onPostChanged(PostChangedEvent.deleted(2L));
+
+        mockMvc.perform(get("/posts/{id}", 2L).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+                .andExpect(jsonPath("$.data.title").value("cached title"));
+
+        verify(postService, times(2)).getPost(eq(2L), anyString());
+    }
+
+    @Test
+    @DisplayName("게시글 목록 조회 - If-None-Match 가 현재 목록 ETag 와 같으면 PostService 없이 304")
+    void get_post_list_not_modified() throws Exception {
+        //given
+        when(postService.getAllPost(any(Pageable.class))).thenReturn(new PageImpl<>(List.of()));
+
+        String etag = mockMvc.perform(get("/posts"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        //when & then
+        mockMvc.perform(get("/posts").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        verify(postService, times(1)).getAllPost(any(Pageable.class));
     }
 
     @Test
     @DisplayName("게시글 상세 조회 - 실패")
     void get_post_fail() throws Exception {
 
-        when(postService.getPost(100L)).thenThrow(new ResourceNotFoundException(RESOURCE_NOT_FOUND));
+        when(postService.getPost(eq(100L), anyString())).thenThrow(new ResourceNotFoundException(RESOURCE_NOT_FOUND));
 
         mockMvc.perform(get("/posts/{id}", 100L))
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.message").value("존재하지 않는 페이지입니다."))
                 .andExpect(jsonPath("$.data").doesNotExist());
 
-        verify(postService).getPost(100L);
+        verify(postService).getPost(eq(100L), anyString());
     }
 
     @Test
@@ -149,6 +237,41 @@ class PostControllerTest {
     }
 
 
+    @Test
+    @DisplayName("게시글 커서 목록 조회 - 성공")
+    void get_all_post_by_cursor_success() throws Exception {
+        //given
+        PostListResponse post = PostListResponse.builder()
+                .postId(2L)
+                .title("title")
+                .content("content")
+                .writer("test")
+                .profileImage("profile.png")
+                .createdDate("0000-01-01")
+                .viewCount(10L)
+                .build();
+
+        PostCursorResponse response = PostCursorResponse.builder()
+                .posts(List.of(post))
+                .nextCursor("next")
+                .hasNext(true)
+                .build();
+
+        when(postService.getAllPostByCursor("", 1)).thenReturn(response);
+
+        //when & then
+        mockMvc.perform(get("/posts")
+                        .param("cursor", "")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.posts[0].postId").value(2))
+                .andExpect(jsonPath("$.data.nextCursor").value("next"))
+                .andExpect(jsonPath("$.data.hasNext").value(true));
+
+        verify(postService, never()).getAllPost(any(Pageable.class));
+    }
+
+
     @Test
     @DisplayName("게시글 수정 - 성공")
     void update_post_success() throws Exception {
@@ -386,12 +509,20 @@ class PostControllerTest {
 
         Long postId = 100L;
 
-        when(postViewService.getViewCount(postId)).thenReturn(10L);
+        PostViewCountResponse response = PostViewCountResponse.builder()
+                .postId(postId)
+                .viewCount(10L)
+                .uniqueViewCount(7L)
+                .build();
+
+        when(postViewService.getViewCount(postId)).thenReturn(response);
 
         mockMvc.perform(get("/posts/{id}/viewcounts", postId))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.message").value("조회수 조회 성공"))
-                .andExpect(jsonPath("$.data").value(10L));
+                .andExpect(jsonPath("$.data.postId").value(postId))
+                .andExpect(jsonPath("$.data.viewCount").value(10L))
+                .andExpect(jsonPath("$.data.uniqueViewCount").value(7L));
 
         verify(postViewService).getViewCount(postId);
     }
@@ -412,4 +543,73 @@ class PostControllerTest {
         verify(postViewService).getViewCount(postId);
     }
 
+    @Test
+    @DisplayName("인기 게시글 조회 - 성공")
+    void get_trending_post_success() throws Exception {
+
+        TrendingPostResponse response = TrendingPostResponse.builder()
+                .postId(1L)
+                .title("title")
+                .writer("test")
+                .viewCount(10L)
+                .score(12.5)
+                .createdDate("0000-01-01")
+                .build();
+
+        when(trendingPostService.getTrending(5)).thenReturn(List.of(response));
+
+        mockMvc.perform(get("/posts/trending").param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("인기 게시글 조회 성공"))
+                .andExpect(jsonPath("$.data[0].postId").value(1L))
+                .andExpect(jsonPath("$.data[0].score").value(12.5));
+
+        verify(trendingPostService).getTrending(5);
+        verifyNoInteractions(postService);
+    }
+
+    @Test
+    @DisplayName("게시글 검색 - 성공")
+    void search_post_success() throws Exception {
+
+        PostListResponse response = PostListResponse.builder()
+                .postId(3L)
+                .title("스프링 검색")
+                .writer("test")
+                .build();
+
+        when(postSearchService.search("검색", 10)).thenReturn(List.of(response));
+
+        mockMvc.perform(get("/posts/search").param("q", "검색").param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("게시글 검색 성공"))
+                .andExpect(jsonPath("$.data[0].postId").value(3L))
+                .andExpect(jsonPath("$.data[0].title").value("스프링 검색"));
+
+        verify(postSearchService).search("검색", 10);
+        verifyNoInteractions(postService);
+    }
+
+    @Test
+    @DisplayName("게시글 상세 묶음 조회 - 성공")
+    void get_post_composite_success() throws Exception {
+
+        PostDetailCompositeResponse response = PostDetailCompositeResponse.builder()
+                .post(PostDetailResponse.builder().postId(1L).title("title").build())
+                .likes(PostLikeResponse.builder().postId(1L).liked(false).likeCount(4L).build())
+                .build();
+
+        when(postDetailComposer.compose(eq(1L), anyString(), isNull(), eq(EnumSet.of(PostDetailPart.LIKES)), any(Pageable.class)))
+                .thenReturn(response);
+
+        mockMvc.perform(get("/posts/{id}", 1L).param("include", "likes"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("게시글 조회 성공"))
+                .andExpect(jsonPath("$.data.post.title").value("title"))
+                .andExpect(jsonPath("$.data.likes.likeCount").value(4L))
+                .andExpect(jsonPath("$.data.images").doesNotExist());
+
+        verifyNoInteractions(postService);
+    }
+
 }
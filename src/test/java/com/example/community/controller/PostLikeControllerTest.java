@@ -16,6 +16,8 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.List;
+
 import static com.example.community.common.exception.ErrorMessage.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -152,4 +154,26 @@ class PostLikeControllerTest {
 
         verify(postLikeService).getLikeCount(eq(POST_ID), any());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("게시글 좋아요 일괄 조회 - 성공")
+    void get_likes_success() throws Exception{
+
+        List<PostLikeResponse> responses = List.of(
+                PostLikeResponse.builder().postId(1L).liked(true).likeCount(5L).build(),
+                PostLikeResponse.builder().postId(2L).liked(false).likeCount(0L).build()
+        );
+
+        when(postLikeService.getLikes(eq(List.of(1L, 2L)), any()))
+                .thenReturn(responses);
+
+        mockMvc.perform(get("/posts/likes").param("postIds", "1,2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("좋아요 조회 성공"))
+                .andExpect(jsonPath("$.data[0].postId").value(1L))
+                .andExpect(jsonPath("$.data[0].liked").value(true))
+                .andExpect(jsonPath("$.data[1].liked").value(false));
+
+        verify(postLikeService).getLikes(eq(List.of(1L, 2L)), any());
+    }
+}
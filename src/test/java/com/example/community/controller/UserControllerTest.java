@@ -3,9 +3,11 @@ package com.example.community.controller;
 import com.example.community.common.exception.ErrorMessage;
 import com.example.community.common.exception.custom.DuplicatedException;
 import com.example.community.dto.request.user.UserSignUpDto;
+import com.example.community.dto.response.autocomplete.AutocompleteResponse;
 import com.example.community.dto.response.user.SignUpResponse;
 import com.example.community.dto.response.user.UserDetailResponse;
 import com.example.community.security.jwt.JwtAuthenticationFilter;
+import com.example.community.service.autocomplete.AutocompleteService;
 import com.example.community.service.user.UserService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
@@ -22,6 +24,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 import static org.mockito.Mockito.*;
@@ -39,6 +42,9 @@ class UserControllerTest {
     @MockitoBean
     private UserService userService;
 
+    @MockitoBean
+    private AutocompleteService autocompleteService;
+
     @MockitoBean
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
@@ -262,6 +268,23 @@ class UserControllerTest {
         verify(userService).delete(1L);
     }
 
+    @Test
+    @DisplayName("닉네임 자동완성 - 성공")
+    void autocomplete_nickname_success() throws Exception {
+
+        when(autocompleteService.suggestNicknames("te", 5))
+                .thenReturn(List.of(new AutocompleteResponse(1L, "tester"), new AutocompleteResponse(2L, "test")));
+
+        mockMvc.perform(get("/users/autocomplete").param("prefix", "te").param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("닉네임 자동완성 성공"))
+                .andExpect(jsonPath("$.data[0].text").value("tester"))
+                .andExpect(jsonPath("$.data[1].id").value(2L));
+
+        verify(autocompleteService).suggestNicknames("te", 5);
+        verifyNoInteractions(userService);
+    }
+
     static Stream<Arguments> invalidSignUpProvider() {
         return Stream.of(
                 Arguments.of(
@@ -0,0 +1,127 @@
+package com.example.community.repository.post;
+
+import com.example.community.domain.Post;
+import com.example.community.domain.User;
+import com.example.community.repository.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@Import(PostJdbcRepository.class)
+class PostJdbcRepositoryIntegrationTest {
+
+    private static final Long UNKNOWN_POST_ID = 10011L;
+
+    @Autowired
+    private PostJdbcRepository postJdbcRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+    private Post post;
+
+    @BeforeEach
+    void init() {
+        user = userRepository.save(User.builder()
+                .email("test@test.com")
+                .password("1234")
+                .nickname("test")
+                .profileImage("profileImage")
+                .build());
+
+        post = postRepository.save(Post.builder()
+                .title("test title")
+                .content("test content")
+                .user(user)
+                .build());
+    }
+
+    @Test
+    @DisplayName("좋아요 추가 - 한 번만 들어감")
+    void insert_like_if_absent() {
+        assertThat(postJdbcRepository.insertLikeIfAbsent(post.getId(), user.getId())).isTrue();
+        assertThat(postJdbcRepository.insertLikeIfAbsent(post.getId(), user.getId())).isFalse();
+
+        assertThat(postLikeRepository.countByPostId(post.getId())).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("좋아요 추가 - 없는 게시글은 넣지 않음")
+    void insert_like_unknown_post() {
+        assertThat(postJdbcRepository.insertLikeIfAbsent(UNKNOWN_POST_ID, user.getId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("게시글 락 - 삭제되지 않은 게시글만 잠그고 좋아요 수를 함께 읽음")
+    void lock_post() {
+        postRepository.increaseLikeCount(post.getId());
+
+        assertThat(postJdbcRepository.lockPost(post.getId())).contains(1L);
+        assertThat(postJdbcRepository.lockPost(UNKNOWN_POST_ID)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("좋아요 삭제 - 있을 때만 삭제")
+    void delete_like() {
+        postJdbcRepository.insertLikeIfAbsent(post.getId(), user.getId());
+
+        assertThat(postJdbcRepository.deleteLike(post.getId(), user.getId())).isTrue();
+        assertThat(postJdbcRepository.deleteLike(post.getId(), user.getId())).isFalse();
+        assertThat(postLikeRepository.countByPostId(post.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("좋아요 배치 추가/삭제 - 키마다 반영 여부 반환")
+    void batch_insert_and_delete_likes() {
+        User other = userRepository.save(User.builder()
+                .email("other@test.com")
+                .password("1234")
+                .nickname("other")
+                .build());
+        postJdbcRepository.insertLikeIfAbsent(post.getId(), user.getId());
+
+        int[] inserted = postJdbcRepository.batchInsertLikesIfAbsent(List.of(
+                new PostLikeKey(post.getId(), user.getId()),
+                new PostLikeKey(post.getId(), other.getId()),
+                new PostLikeKey(UNKNOWN_POST_ID, other.getId())));
+        assertThat(inserted).containsExactly(0, 1, 0);
+
+        int[] deleted = postJdbcRepository.batchDeleteLikes(List.of(
+                new PostLikeKey(post.getId(), user.getId()),
+                new PostLikeKey(UNKNOWN_POST_ID, user.getId())));
+        assertThat(deleted).containsExactly(1, 0);
+        assertThat(postLikeRepository.countByPostId(post.getId())).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("게시글 여러 개 락 - 삭제되지 않은 게시글 id 만 반환")
+    void lock_posts() {
+        assertThat(postJdbcRepository.lockPosts(List.of(post.getId(), UNKNOWN_POST_ID, post.getId())))
+                .containsExactly(post.getId());
+    }
+
+    @Test
+    @DisplayName("좋아요 수 일괄 조정 - 0 아래로 내려가지 않음")
+    void bulk_adjust_like_counts() {
+        postJdbcRepository.bulkAdjustLikeCounts(Map.of(post.getId(), 3L));
+        postJdbcRepository.bulkAdjustLikeCounts(Map.of(post.getId(), -5L));
+
+        assertThat(postRepository.findLikeCountById(post.getId())).contains(0L);
+    }
+}
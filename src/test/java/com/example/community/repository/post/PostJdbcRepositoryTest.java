@@ -7,9 +7,13 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.sql.BatchUpdateException;
 import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -33,13 +37,13 @@ class PostJdbcRepositoryTest {
                 2L, 20L
         );
 
-        postJdbcRepository.bulkUpdateViewcounts(viewcounts);
+        postJdbcRepository.bulkIncreaseViewcounts(viewcounts);
 
         verify(jdbcTemplate, times(1))
                 .batchUpdate(
-                        eq("UPDATE post SET view_count = ? WHERE post_id = ?"),
+                        eq("UPDATE post SET view_count = COALESCE(view_count, 0) + ? WHERE post_id = ?"),
                         eq(viewcounts.entrySet()),
-                        eq(100),
+                        eq(2),
                         any()
                 );
     }
@@ -53,13 +57,13 @@ class PostJdbcRepositoryTest {
                 ArgumentCaptor.forClass(org.springframework.jdbc.core.ParameterizedPreparedStatementSetter.class);
 
         when(jdbcTemplate.batchUpdate(
-                eq("UPDATE post SET view_count = ? WHERE post_id = ?"),
+                eq("UPDATE post SET view_count = COALESCE(view_count, 0) + ? WHERE post_id = ?"),
                 eq(viewcounts.entrySet()),
-                eq(100),
+                eq(1),
                 setterCaptor.capture()
         )).thenReturn(new int[][]{{1}});
 
-        postJdbcRepository.bulkUpdateViewcounts(viewcounts);
+        postJdbcRepository.bulkIncreaseViewcounts(viewcounts);
 
         var setter = setterCaptor.getValue();
         assertThat(setter).isNotNull();
@@ -72,4 +76,57 @@ class PostJdbcRepositoryTest {
         verify(ps).setLong(1, 10L); // entry.getValue() → index 1
         verify(ps).setLong(2, 1L);  // entry.getKey() → index 2
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("조회수 벌크 업데이트 - 증가분 없으면 실행하지 않음")
+    void bulk_update_viewcounts_empty() {
+        postJdbcRepository.bulkIncreaseViewcounts(Map.of());
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("좋아요 수 재계산 - 구간 단위 UPDATE")
+    void reconcile_like_counts() {
+        when(jdbcTemplate.update(anyString(), eq(1L), eq(1001L))).thenReturn(3);
+
+        int updated = postJdbcRepository.reconcileLikeCounts(1L, 1001L, false);
+
+        assertThat(updated).isEqualTo(3);
+        verify(jdbcTemplate).update(
+                "UPDATE post SET like_count = (SELECT COUNT(*) FROM post_like pl WHERE pl.post_id = post.post_id) " +
+                        "WHERE post_id >= ? AND post_id < ?",
+                1L, 1001L);
+    }
+
+    @Test
+    @DisplayName("좋아요 수 재계산 - 빈 값만 채우기")
+    void reconcile_like_counts_only_missing() {
+        postJdbcRepository.reconcileLikeCounts(1L, 1001L, true);
+
+        verify(jdbcTemplate).update(
+                "UPDATE post SET like_count = (SELECT COUNT(*) FROM post_like pl WHERE pl.post_id = post.post_id) " +
+                        "WHERE post_id >= ? AND post_id < ? AND like_count IS NULL",
+                1L, 1001L);
+    }
+
+    @Test
+    @DisplayName("좋아요 배치 추가 - 유니크 제약에 걸려도 드라이버의 행별 결과를 유지하고 실패한 행만 다시 넣음")
+    void batch_insert_likes_keep_per_row_results() {
+        List<PostLikeKey> keys = List.of(new PostLikeKey(1L, 10L), new PostLikeKey(1L, 11L),
+                new PostLikeKey(2L, 10L), new PostLikeKey(2L, 11L));
+        BatchUpdateException cause = new BatchUpdateException(
+                new int[]{1, Statement.EXECUTE_FAILED, Statement.SUCCESS_NO_INFO});
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DuplicateKeyException("duplicate", cause));
+        // 다시 넣을 때 (post 1) 은 이미 있고 (post 2) 는 들어감
+        when(jdbcTemplate.update(anyString(), any(Object[].class)))
+                .thenAnswer(invocation -> invocation.getArgument(2).equals(2L) ? 1 : 0);
+
+        int[] results = postJdbcRepository.batchInsertLikesIfAbsent(keys);
+
+        // 실패한 행(1, 11)은 이미 다른 경로가 넣었고, 실행되지 않은 마지막 행(2, 11)은 다시 넣어 들어감
+        assertThat(results).containsExactly(1, 0, 1, 1);
+        verify(jdbcTemplate, times(2)).update(anyString(), any(Object[].class));
+    }
+}
@@ -1,7 +1,10 @@
 package com.example.community.repository.post;
 
+import com.example.community.domain.Comment;
 import com.example.community.domain.Post;
+import com.example.community.domain.PostImage;
 import com.example.community.domain.User;
+import com.example.community.repository.comment.CommentRepository;
 import com.example.community.repository.user.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -9,7 +12,11 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,6 +35,12 @@ class PostRepositoryTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private PostImageRepository postImageRepository;
+
     private User user;
 
     @BeforeEach
@@ -107,6 +120,102 @@ class PostRepositoryTest {
 
     }
 
+    @Test
+    @DisplayName("좋아요 수 증가/감소 - 0 아래로 내려가지 않음")
+    void increase_decrease_like_count() {
+        Post post = postRepository.save(createPost(TITLE, CONTENT));
+
+        postRepository.increaseLikeCount(post.getId());
+        postRepository.increaseLikeCount(post.getId());
+        assertThat(postRepository.findLikeCountById(post.getId())).contains(2L);
+
+        postRepository.decreaseLikeCount(post.getId());
+        postRepository.decreaseLikeCount(post.getId());
+        assertThat(postRepository.decreaseLikeCount(post.getId())).isZero();
+        assertThat(postRepository.findLikeCountById(post.getId())).contains(0L);
+        assertThat(postRepository.findLikeCountById(UNKNOWN_POST_ID)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("목록 조회 - 본문 대신 잘린 excerpt 와 작성자 정보만 읽음")
+    void find_list_rows() {
+        String longContent = "가".repeat(Post.EXCERPT_LENGTH + 50);
+        Post post = postRepository.save(createPost(TITLE, longContent));
+        post.update(TITLE, longContent + "수정");
+        postRepository.flush();
+
+        List<PostListRow> rows = postRepository.findAllListRows(PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id")));
+
+        assertThat(rows).singleElement().satisfies(row -> {
+            assertThat(row.getPostId()).isEqualTo(post.getId());
+            assertThat(row.getExcerpt()).isEqualTo("가".repeat(Post.EXCERPT_LENGTH));
+            assertThat(row.getWriter()).isEqualTo(user.getNickname());
+            assertThat(row.getProfileImage()).isEqualTo(user.getProfileImage());
+            assertThat(row.getViewCount()).isZero();
+        });
+        assertThat(postRepository.findAllListRowsByUser(user, PageRequest.of(0, 10))).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("목록 집계 - 글 id 묶음으로 댓글 수와 첫 이미지를 한 번에 조회")
+    void find_list_aggregates() {
+        Post post = postRepository.save(createPost(TITLE, CONTENT));
+        Post other = postRepository.save(createPost(TITLE + "1", CONTENT + "1"));
+        postImageRepository.save(PostImage.builder().post(post).postImageUrl("first.png").build());
+        postImageRepository.save(PostImage.builder().post(post).postImageUrl("second.png").build());
+        commentRepository.save(Comment.builder().content("c1").user(user).post(post).build());
+        commentRepository.save(Comment.builder().content("c2").user(user).post(post).build());
+        postRepository.increaseLikeCount(post.getId());
+
+        List<Long> postIds = List.of(post.getId(), other.getId());
+
+        assertThat(commentRepository.countByPostIdIn(postIds))
+                .singleElement()
+                .satisfies(count -> {
+                    assertThat(count.getPostId()).isEqualTo(post.getId());
+                    assertThat(count.getCommentCount()).isEqualTo(2L);
+                });
+        assertThat(postImageRepository.findCoverImagesByPostIdIn(postIds))
+                .singleElement()
+                .satisfies(cover -> assertThat(cover.getImageUrl()).isEqualTo("first.png"));
+        assertThat(postRepository.findAllListRows(PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id"))))
+                .extracting(PostListRow::getLikeCount)
+                .containsExactly(0L, 1L);
+    }
+
+    @Test
+    @DisplayName("글별 댓글 조회 - 삭제된 글의 댓글은 목록과 수에서 빠짐")
+    void find_comments_of_deleted_post() {
+        Post post = postRepository.save(createPost(TITLE, CONTENT));
+        commentRepository.save(Comment.builder().content("c1").user(user).post(post).build());
+        assertThat(commentRepository.findAllByPostId(post.getId(), PageRequest.of(0, 10))).hasSize(1);
+
+        post.markDeleted(LocalDateTime.now());
+        postRepository.flush();
+
+        assertThat(commentRepository.findAllByPostId(post.getId(), PageRequest.of(0, 10))).isEmpty();
+        assertThat(commentRepository.countByPostId(post.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("커서 목록 조회 - 커서 다음 글부터 id 내림차순")
+    void find_slice_before_cursor() {
+        List<Post> saved = postRepository.saveAll(List.of(
+                createPost(TITLE, CONTENT),
+                createPost(TITLE + "1", CONTENT + "1"),
+                createPost(TITLE + "2", CONTENT + "2")
+        ));
+
+        Slice<PostListRow> first = postRepository.findListRowsBefore(Long.MAX_VALUE, PageRequest.of(0, 2));
+        assertThat(first.getContent()).extracting(PostListRow::getPostId)
+                .containsExactly(saved.get(2).getId(), saved.get(1).getId());
+        assertThat(first.hasNext()).isTrue();
+
+        Slice<PostListRow> next = postRepository.findListRowsBefore(saved.get(1).getId(), PageRequest.of(0, 2));
+        assertThat(next.getContent()).extracting(PostListRow::getPostId).containsExactly(saved.get(0).getId());
+        assertThat(next.hasNext()).isFalse();
+    }
+
     private Post createPost(String title, String content) {
         return Post.builder()
                 .title(title)
@@ -0,0 +1,48 @@
+package com.example.community.service.autocomplete;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AutocompleterTest {
+
+    @Test
+    @DisplayName("재구성 전 가입, 닉네임 변경, 탈퇴가 바로 반영")
+    void patches_applied_before_rebuild() {
+        Autocompleter autocompleter = new Autocompleter();
+        autocompleter.rebuilt(new PrefixIndex(List.of(
+                new PrefixIndex.Suggestion(1L, "tester", 10),
+                new PrefixIndex.Suggestion(2L, "team", 5)
+        )), autocompleter.mark());
+
+        autocompleter.put(3L, "teacher");
+        autocompleter.put(1L, "master");
+        autocompleter.remove(2L);
+
+        assertThat(autocompleter.suggest("te", 10))
+                .extracting(PrefixIndex.Suggestion::text)
+                .containsExactly("teacher");
+        assertThat(autocompleter.suggest("ma", 10))
+                .singleElement()
+                .satisfies(suggestion -> assertThat(suggestion.score()).isEqualTo(10L));
+    }
+
+    @Test
+    @DisplayName("재구성이 끝나면 그 전에 들어온 patch 만 정리")
+    void rebuild_keeps_newer_patches() {
+        Autocompleter autocompleter = new Autocompleter();
+        autocompleter.put(1L, "tester");
+        long mark = autocompleter.mark();
+        autocompleter.put(2L, "team");
+
+        autocompleter.rebuilt(new PrefixIndex(List.of(new PrefixIndex.Suggestion(1L, "tester", 3))), mark);
+
+        assertThat(autocompleter.patchCount()).isEqualTo(1);
+        assertThat(autocompleter.suggest("te", 10))
+                .extracting(PrefixIndex.Suggestion::id)
+                .containsExactly(1L, 2L);
+    }
+}
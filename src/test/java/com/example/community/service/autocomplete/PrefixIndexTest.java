@@ -0,0 +1,78 @@
+package com.example.community.service.autocomplete;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PrefixIndexTest {
+
+    @Test
+    @DisplayName("접두사가 같은 항목만 인기순으로 최대 K 개")
+    void top_k_by_score() {
+        PrefixIndex index = new PrefixIndex(List.of(
+                new PrefixIndex.Suggestion(1L, "스프링 입문", 10),
+                new PrefixIndex.Suggestion(2L, "스프링 부트 검색", 50),
+                new PrefixIndex.Suggestion(3L, "스칼라 공부", 100),
+                new PrefixIndex.Suggestion(4L, "Spring Boot", 30),
+                new PrefixIndex.Suggestion(5L, "스프링 배치", 20)
+        ));
+
+        assertThat(index.topK("스프링", 2, id -> false))
+                .extracting(PrefixIndex.Suggestion::id)
+                .containsExactly(2L, 5L);
+        assertThat(index.topK("스", 10, id -> false))
+                .extracting(PrefixIndex.Suggestion::id)
+                .containsExactly(3L, 2L, 5L, 1L);
+        assertThat(index.topK("SPRING", 10, id -> false))
+                .extracting(PrefixIndex.Suggestion::text)
+                .containsExactly("Spring Boot");
+        assertThat(index.topK("없음", 10, id -> false)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("skip 에 걸린 id 는 건너뛰고 다음 순위로 채움")
+    void skip_ids() {
+        PrefixIndex index = new PrefixIndex(List.of(
+                new PrefixIndex.Suggestion(1L, "tester", 3),
+                new PrefixIndex.Suggestion(2L, "test", 2),
+                new PrefixIndex.Suggestion(3L, "team", 1)
+        ));
+
+        assertThat(index.topK("te", 2, id -> id == 1L))
+                .extracting(PrefixIndex.Suggestion::id)
+                .containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("세그먼트 트리 결과가 전체를 정렬한 결과와 같음")
+    void matches_brute_force() {
+        Random random = new Random(7);
+        List<PrefixIndex.Suggestion> suggestions = new ArrayList<>();
+        for (long id = 1; id <= 2_000; id++) {
+            String text = "" + (char) ('a' + random.nextInt(3)) + (char) ('a' + random.nextInt(3)) + random.nextInt(100);
+            suggestions.add(new PrefixIndex.Suggestion(id, text, random.nextInt(50)));
+        }
+        PrefixIndex index = new PrefixIndex(suggestions);
+
+        for (String prefix : List.of("a", "ab", "cc1", "b")) {
+            List<Long> expected = suggestions.stream()
+                    .filter(suggestion -> suggestion.text().startsWith(prefix))
+                    .sorted(Comparator.comparingLong(PrefixIndex.Suggestion::score).reversed()
+                            .thenComparing(PrefixIndex.Suggestion::text)
+                            .thenComparingLong(PrefixIndex.Suggestion::id))
+                    .limit(15)
+                    .map(PrefixIndex.Suggestion::id)
+                    .toList();
+
+            assertThat(index.topK(prefix, 15, id -> false))
+                    .extracting(PrefixIndex.Suggestion::id)
+                    .containsExactlyElementsOf(expected);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.community.service.comment;
 
 import com.example.community.common.exception.custom.ResourceNotFoundException;
+import com.example.community.common.paging.ExactCountStrategy;
+import com.example.community.common.paging.PageCounter;
 import com.example.community.common.util.AuthValidator;
 import com.example.community.domain.Comment;
 import com.example.community.domain.Post;
@@ -10,18 +12,20 @@ import com.example.community.dto.response.comment.CommentResponse;
 import com.example.community.repository.comment.CommentRepository;
 import com.example.community.repository.post.PostRepository;
 import com.example.community.repository.user.UserRepository;
+import com.example.community.service.post.trending.TrendingPostService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -40,6 +44,10 @@ class CommentServiceTest {
     private AuthValidator authValidator;
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private TrendingPostService trendingPostService;
+    @Spy
+    private PageCounter pageCounter = new PageCounter(new ExactCountStrategy());
 
 
     @InjectMocks
@@ -67,6 +75,7 @@ class CommentServiceTest {
 
         verify(postRepository).findById(post.getId());
         verify(commentRepository).save(any(Comment.class));
+        verify(trendingPostService).recordComment(1L);
         verify(commentRepository).save(argThat(
                 c -> c.getPost().getId().equals(1L) && c.getUser().getId().equals(1L)
         ));
@@ -98,8 +107,8 @@ class CommentServiceTest {
         Comment comment = createComment(1L, user, post, "test content");
         Comment comment1 = createComment(2L, user, post, "test content");
 
-        when(commentRepository.findAllByPostIdWithUser(post.getId(), pageable))
-                .thenReturn(new PageImpl<>(List.of(comment, comment1)));
+        when(commentRepository.findAllByPostId(post.getId(), pageable))
+                .thenReturn(List.of(comment, comment1));
 
         Page<CommentResponse> response = commentService.getCommentByPost(post.getId(), pageable);
 
@@ -107,7 +116,9 @@ class CommentServiceTest {
         assertThat(response.getContent().getFirst().getContent())
                 .isEqualTo("test content");
 
-        verify(commentRepository).findAllByPostIdWithUser(post.getId(), pageable);
+        assertThat(response.getTotalElements()).isEqualTo(2L);
+        verify(commentRepository).findAllByPostId(post.getId(), pageable);
+        verify(commentRepository, never()).countByPostId(post.getId());
     }
 
     @Test
@@ -121,7 +132,7 @@ class CommentServiceTest {
         Comment comment1 = createComment(2L, user, post, "test content");
 
         when(commentRepository.findAllByUser(user, pageable))
-                .thenReturn(new PageImpl<>(List.of(comment, comment1)));
+                .thenReturn(List.of(comment, comment1));
 
         Page<CommentResponse> response = commentService.getCommentByUser(user, pageable);
 
@@ -132,6 +143,23 @@ class CommentServiceTest {
         verify(commentRepository).findAllByUser(user, pageable);
     }
 
+    @Test
+    @DisplayName("댓글 목록 조회(게시글별) - 페이지가 가득 차면 전체 수는 count 로 구함")
+    void get_comments_post_full_page() {
+        Pageable pageable = PageRequest.of(0, 2);
+        User user = createUser(1L, "test@test.com", "test");
+        Post post = createPost(1L, user, "test title", "test content");
+
+        when(commentRepository.findAllByPostId(post.getId(), pageable))
+                .thenReturn(List.of(createComment(1L, user, post, "c1"), createComment(2L, user, post, "c2")));
+        when(commentRepository.countByPostId(post.getId())).thenReturn(5L);
+
+        Page<CommentResponse> response = commentService.getCommentByPost(post.getId(), pageable);
+
+        assertThat(response.getTotalElements()).isEqualTo(5L);
+        assertThat(response.getTotalPages()).isEqualTo(3);
+    }
+
     @Test
     @DisplayName("댓글 조회 - 성공")
     void get_comment_success() {
@@ -221,6 +249,17 @@ class CommentServiceTest {
         verify(commentRepository).deleteById(comment.getId());
     }
 
+    @Test
+    @DisplayName("댓글 삭제 - 성공(삭제 표시)")
+    void delete_comment_soft() {
+        ReflectionTestUtils.setField(commentService, "softDelete", true);
+
+        commentService.delete(1L);
+
+        verify(commentRepository).markDeleted(eq(1L), any(LocalDateTime.class));
+        verify(commentRepository, never()).deleteById(any());
+    }
+
     private CommentRequestDto createCommentRequest(String content) {
 
         return CommentRequestDto.builder()
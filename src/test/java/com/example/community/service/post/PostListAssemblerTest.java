@@ -0,0 +1,70 @@
+package com.example.community.service.post;
+
+import com.example.community.dto.response.post.PostListResponse;
+import com.example.community.repository.comment.CommentRepository;
+import com.example.community.repository.comment.PostCommentCount;
+import com.example.community.repository.post.PostCoverImage;
+import com.example.community.repository.post.PostImageRepository;
+import com.example.community.repository.post.PostListRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostListAssemblerTest {
+
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private PostImageRepository postImageRepository;
+
+    @InjectMocks
+    private PostListAssembler postListAssembler;
+
+    @Test
+    @DisplayName("목록 조립 - 페이지 전체에 집계 쿼리 한 번씩")
+    void assemble_with_grouped_queries() {
+        List<PostListRow> rows = List.of(row(2L, 3L), row(1L, 0L));
+        PostCommentCount commentCount = mock(PostCommentCount.class);
+        when(commentCount.getPostId()).thenReturn(2L);
+        when(commentCount.getCommentCount()).thenReturn(4L);
+        PostCoverImage cover = mock(PostCoverImage.class);
+        when(cover.getPostId()).thenReturn(1L);
+        when(cover.getImageUrl()).thenReturn("cover.png");
+
+        when(commentRepository.countByPostIdIn(List.of(2L, 1L))).thenReturn(List.of(commentCount));
+        when(postImageRepository.findCoverImagesByPostIdIn(List.of(2L, 1L))).thenReturn(List.of(cover));
+
+        List<PostListResponse> responses = postListAssembler.assemble(rows);
+
+        assertThat(responses).extracting(PostListResponse::getPostId).containsExactly(2L, 1L);
+        assertThat(responses).extracting(PostListResponse::getCommentCount).containsExactly(4L, 0L);
+        assertThat(responses).extracting(PostListResponse::getLikeCount).containsExactly(3L, 0L);
+        assertThat(responses).extracting(PostListResponse::getCoverImageUrl).containsExactly(null, "cover.png");
+        verify(commentRepository, times(1)).countByPostIdIn(anyCollection());
+        verify(postImageRepository, times(1)).findCoverImagesByPostIdIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("목록 조립 - 빈 페이지는 조회하지 않음")
+    void assemble_empty() {
+        assertThat(postListAssembler.assemble(List.of())).isEmpty();
+
+        verifyNoInteractions(commentRepository, postImageRepository);
+    }
+
+    private PostListRow row(Long postId, Long likeCount) {
+        PostListRow row = mock(PostListRow.class);
+        when(row.getPostId()).thenReturn(postId);
+        when(row.getLikeCount()).thenReturn(likeCount);
+        return row;
+    }
+}
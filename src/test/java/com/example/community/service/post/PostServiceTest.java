@@ -5,6 +5,8 @@ import com.example.community.common.exception.custom.BadRequestException;
 import com.example.community.common.exception.custom.ForbiddenException;
 import com.example.community.common.exception.custom.ResourceNotFoundException;
 import com.example.community.common.exception.custom.UnauthorizedException;
+import com.example.community.common.paging.ExactCountStrategy;
+import com.example.community.common.paging.PageCounter;
 import com.example.community.common.util.AuthValidator;
 import com.example.community.domain.Post;
 import com.example.community.domain.PostImage;
@@ -12,24 +14,31 @@ import com.example.community.domain.User;
 import com.example.community.dto.request.post.PostRequestDto;
 import com.example.community.dto.request.post.PostUpdateDto;
 import com.example.community.dto.response.post.PostCreateResponse;
+import com.example.community.dto.response.post.PostCursorResponse;
 import com.example.community.dto.response.post.PostDetailResponse;
 import com.example.community.dto.response.post.PostImageResponse;
 import com.example.community.dto.response.post.PostListResponse;
+import com.example.community.repository.post.PostCoverImage;
 import com.example.community.repository.post.PostImageRepository;
-import com.example.community.repository.post.PostLikeRepository;
+import com.example.community.repository.post.PostListRow;
 import com.example.community.repository.post.PostRepository;
 import com.example.community.repository.user.UserRepository;
+import com.example.community.service.post.delete.PostDeleter;
+import com.example.community.service.post.feed.RecentPostFeed;
+import com.example.community.service.post.image.PostImageWriter;
 import com.example.community.service.post.viewcount.PostViewService;
+import com.example.community.service.s3.S3DeleteQueue;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 import org.springframework.test.util.ReflectionTestUtils;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 
 import java.util.*;
 
@@ -43,17 +52,27 @@ class PostServiceTest {
     @Mock
     private PostRepository postRepository;
     @Mock
-    private PostImageRepository postImageRepository;
+    private PostViewService postViewService;
     @Mock
-    private PostLikeRepository postLikeRepository;
+    private RecentPostFeed recentPostFeed;
+    @Spy
+    private PageCounter pageCounter = new PageCounter(new ExactCountStrategy());
     @Mock
-    private PostViewService postViewService;
+    private PostListAssembler postListAssembler;
+    @Mock
+    private PostImageWriter postImageWriter;
+    @Mock
+    private PostDeleter postDeleter;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     @Mock
     private AuthValidator authValidator;
     @Mock
-    private S3Client s3Client;
+    private S3DeleteQueue s3DeleteQueue;
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private PostImageRepository postImageRepository;
 
     @InjectMocks
     private PostServiceImpl postService;
@@ -79,8 +98,12 @@ class PostServiceTest {
 
         verify(userRepository).findById(user.getId());
         verify(postRepository).save(any(Post.class));
-        verify(postImageRepository, times(dto.getPostImageUrls().size())).save(any(PostImage.class));
-        verifyNoInteractions(postViewService, s3Client);
+        verify(postImageWriter).attach(1L, List.of("postImage1", "postImage2"));
+        PostChangedEvent event = publishedEvent();
+        assertThat(event.type()).isEqualTo(PostChangedEvent.Type.CREATED);
+        assertThat(event.row().getTitle()).isEqualTo("test title");
+        assertThat(event.content()).isEqualTo("test content");
+        verifyNoInteractions(postViewService, s3DeleteQueue);
     }
 
     @Test
@@ -96,8 +119,7 @@ class PostServiceTest {
                 .isInstanceOf(UnauthorizedException.class);
 
         verify(postRepository, never()).save(any());
-        verify(postImageRepository, never()).save(any());
-        verifyNoInteractions(postViewService, s3Client);
+        verifyNoInteractions(postImageWriter, postViewService, s3DeleteQueue);
     }
 
     @Test
@@ -108,7 +130,7 @@ class PostServiceTest {
         assertThatThrownBy(() -> postService.createPost(dto, null))
                 .isInstanceOf(UnauthorizedException.class);
 
-        verifyNoInteractions(postRepository, postImageRepository, s3Client, postViewService);
+        verifyNoInteractions(postRepository, postImageWriter, s3DeleteQueue, postViewService);
     }
 
     @Test
@@ -129,7 +151,7 @@ class PostServiceTest {
         verify(postRepository).findById(post.getId());
         verify(authValidator).validate(user, user);
         verify(postRepository, never()).save(any());
-        verifyNoInteractions(postImageRepository, s3Client);
+        verify(s3DeleteQueue).enqueue(List.of());
     }
 
     @Test
@@ -145,20 +167,18 @@ class PostServiceTest {
 
         when(postRepository.findById(post.getId())).thenReturn(Optional.of(post));
         doNothing().when(authValidator).validate(user, user);
-        when(postImageRepository.findById(dto.getDeletedImageIds().getFirst()))
-                .thenReturn(Optional.of(existImage));
+        when(postImageWriter.detach(post.getId(), dto.getDeletedImageIds()))
+                .thenReturn(List.of(existImage.getPostImageUrl()));
 
         PostDetailResponse response = postService.update(dto, post.getId(), user);
 
         assertThat(response.getTitle()).isEqualTo("new title");
-        assertThat(post.getPostImages()).doesNotContain(existImage);
 
         verify(postRepository).findById(post.getId());
         verify(authValidator).validate(user, user);
-        verify(postImageRepository).findById(1L);
-        verify(s3Client).deleteObject(any(DeleteObjectRequest.class));
-        verify(postImageRepository).delete(existImage);
-        verify(postImageRepository, never()).save(any());
+        verify(postImageWriter).detach(1L, List.of(1L));
+        verify(s3DeleteQueue).enqueue(List.of("oldPostImageUrl"));
+        assertThat(publishedEvent().row().getCoverImageUrl()).isNull();
     }
 
     @Test
@@ -169,21 +189,22 @@ class PostServiceTest {
         PostUpdateDto dto = createPostUpdateDto("new title", "new content",
                 List.of(), List.of("newPostImageUrl"));
 
-        PostImage existImage = createPostImage(1L, post, "newPostImageUrl");
-        post.addPostImages(existImage);
-
         when(postRepository.findById(post.getId())).thenReturn(Optional.of(post));
         doNothing().when(authValidator).validate(user, user);
+        PostCoverImage cover = createCoverImage("newPostImageUrl");
+        when(postImageRepository.findCoverImagesByPostIdIn(List.of(1L))).thenReturn(List.of(cover));
 
         PostDetailResponse response = postService.update(dto, post.getId(), user);
 
         assertThat(response.getTitle()).isEqualTo("new title");
-        assertThat(post.getPostImages()).contains(existImage);
-        assertThat(post.getPostImages()).hasSize(2);
 
         verify(postRepository).findById(post.getId());
         verify(authValidator).validate(user, user);
-        verify(postImageRepository).save(any(PostImage.class));
+        verify(postImageWriter).attach(1L, List.of("newPostImageUrl"));
+        verify(s3DeleteQueue).enqueue(List.of());
+        PostChangedEvent event = publishedEvent();
+        assertThat(event.row().getCoverImageUrl()).isEqualTo("newPostImageUrl");
+        assertThat(event.content()).isEqualTo("new content");
     }
 
     @Test
@@ -206,7 +227,7 @@ class PostServiceTest {
 
         verify(postRepository).findById(post.getId());
         verify(authValidator).validate(diffUser, owner);
-        verifyNoInteractions(postImageRepository, s3Client);
+        verifyNoInteractions(postImageWriter, s3DeleteQueue);
     }
 
     @Test
@@ -221,7 +242,7 @@ class PostServiceTest {
                 .isInstanceOf(ResourceNotFoundException.class);
 
         verify(postRepository).findById(1L);
-        verifyNoInteractions(authValidator, postImageRepository, s3Client);
+        verifyNoInteractions(authValidator, postImageWriter, s3DeleteQueue);
     }
 
     @Test
@@ -233,40 +254,36 @@ class PostServiceTest {
 
         when(postRepository.findById(post.getId())).thenReturn(Optional.of(post));
         doNothing().when(authValidator).validate(user, user);
-        when(postImageRepository.findById(anyLong()))
-                .thenReturn(Optional.empty());
+        when(postImageWriter.detach(1L, List.of(1L)))
+                .thenThrow(new ResourceNotFoundException(ErrorMessage.RESOURCE_NOT_FOUND));
 
         assertThatThrownBy(() -> postService.update(dto, 1L, user))
                 .isInstanceOf(ResourceNotFoundException.class);
 
         verify(postRepository).findById(1L);
-        verify(postImageRepository).findById(anyLong());
-        verify(postImageRepository, never()).delete(any());
-        verify(s3Client, never()).deleteObject((DeleteObjectRequest) any());
+        verify(postImageWriter, never()).attach(anyLong(), anyList());
+        verifyNoInteractions(s3DeleteQueue);
     }
 
     @Test
     @DisplayName("게시글 수정 - 실패(다른 게시물의 이미지 삭제)")
     void update_post_fail_no_image_in_post() {
         User user = createUser(1L, "test@test.com", "test");
-        Post post1 = createPost(1L, user, "old title", "old content");
         Post post2 = createPost(2L, user, "old title", "old content"); // 요청 대상 게시글
 
         PostUpdateDto dto = createPostUpdateDto("new", "new", List.of(1L), List.of());
 
-        PostImage image = createPostImage(1L, post1, "oldPostImageUrl"); // 다른 게시글의 이미지
-
         when(postRepository.findById(post2.getId())).thenReturn(Optional.of(post2));
         doNothing().when(authValidator).validate(user, user);
-        when(postImageRepository.findById(1L)).thenReturn(Optional.of(image));
+        when(postImageWriter.detach(2L, List.of(1L))) // 1번 이미지는 다른 게시글의 이미지
+                .thenThrow(new BadRequestException(ErrorMessage.NO_IMAGE_IN_POST));
 
         assertThatThrownBy(() -> postService.update(dto, 2L, user))
                 .isInstanceOf(BadRequestException.class);
 
         verify(postRepository).findById(2L);
-        verify(postImageRepository).findById(1L);
-        verify(postImageRepository, never()).delete(any());
-        verify(s3Client, never()).deleteObject((DeleteObjectRequest) any());
+        verify(postImageWriter, never()).attach(anyLong(), anyList());
+        verifyNoInteractions(s3DeleteQueue);
     }
 
     @Test
@@ -275,24 +292,24 @@ class PostServiceTest {
         User user = createUser(1L, "test@test.com", "test");
         Post post = createPost(1L, user, "title", "content");
 
-        when(postRepository.findByIdWithUser(post.getId())).thenReturn(Optional.of(post));
+        when(postRepository.findById(post.getId())).thenReturn(Optional.of(post));
 
-        PostDetailResponse response = postService.getPost(post.getId());
+        PostDetailResponse response = postService.getPost(post.getId(), "ip:127.0.0.1");
 
         assertThat(response.getTitle()).isEqualTo("title");
-        verify(postRepository).findByIdWithUser(post.getId());
-        verify(postViewService).increaseViewcount(post.getId());
+        verify(postRepository).findById(post.getId());
+        verify(postViewService).increaseViewcount(post.getId(), "ip:127.0.0.1");
     }
 
     @Test
     @DisplayName("게시글 조회 - 실패")
     void get_post_fail() {
-        when(postRepository.findByIdWithUser(100L)).thenReturn(Optional.empty());
+        when(postRepository.findById(100L)).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> postService.getPost(100L))
+        assertThatThrownBy(() -> postService.getPost(100L, "ip:127.0.0.1"))
                 .isInstanceOf(ResourceNotFoundException.class);
 
-        verify(postRepository).findByIdWithUser(100L);
+        verify(postRepository).findById(100L);
         verifyNoInteractions(postViewService);
     }
 
@@ -300,16 +317,66 @@ class PostServiceTest {
     @DisplayName("게시글 목록 조회 - 성공")
     void get_all_post_success() {
         Pageable pageable = PageRequest.of(0, 10);
-        User user = createUser(1L, "test@test.com", "test");
-        Post post = createPost(1L, user, "title", "content");
+        PostListRow row = createRow(1L, "title");
 
-        when(postRepository.findAllWithUser(pageable))
-                .thenReturn(new PageImpl<>(List.of(post)));
+        when(postRepository.findAllListRows(pageable))
+                .thenReturn(List.of(row));
+        stubAssembler();
 
         Page<PostListResponse> response = postService.getAllPost(pageable);
 
         assertThat(response.getContent()).hasSize(1);
-        verify(postRepository).findAllWithUser(pageable);
+        assertThat(response.getContent().get(0).getContent()).isEqualTo("title excerpt");
+        verify(postRepository).findAllListRows(pageable);
+        verify(postRepository, never()).findAll(any(Pageable.class));
+        verify(postRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("게시글 목록 조회 - 최신 글 캐시로 답하면 DB 를 읽지 않음")
+    void get_all_post_from_feed() {
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id"));
+        Page<PostListResponse> cached = new PageImpl<>(List.of(PostListResponse.builder().postId(1L).build()));
+
+        when(recentPostFeed.firstPage(pageable)).thenReturn(Optional.of(cached));
+
+        Page<PostListResponse> response = postService.getAllPost(pageable);
+
+        assertThat(response).isSameAs(cached);
+        verifyNoInteractions(postRepository);
+    }
+
+    @Test
+    @DisplayName("게시글 커서 목록 조회 - 다음 커서는 마지막 글 id")
+    void get_all_post_by_cursor_success() {
+        PostListRow p3 = createRow(3L, "title3");
+        PostListRow p2 = createRow(2L, "title2");
+
+        when(postRepository.findListRowsBefore(eq(Long.MAX_VALUE), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(p3, p2), PageRequest.of(0, 2), true));
+        when(postRepository.findListRowsBefore(eq(2L), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 2), false));
+        stubAssembler();
+
+        PostCursorResponse first = postService.getAllPostByCursor(null, 2);
+
+        assertThat(first.getPosts()).extracting(PostListResponse::getPostId).containsExactly(3L, 2L);
+        assertThat(first.isHasNext()).isTrue();
+
+        PostCursorResponse next = postService.getAllPostByCursor(first.getNextCursor(), 2);
+
+        assertThat(next.getPosts()).isEmpty();
+        assertThat(next.getNextCursor()).isNull();
+        verify(postRepository, never()).findAllListRows(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("게시글 커서 목록 조회 - 실패(잘못된 커서)")
+    void get_all_post_by_cursor_fail_invalid() {
+        assertThatThrownBy(() -> postService.getAllPostByCursor("not-a-cursor", 10))
+                .isInstanceOf(BadRequestException.class);
+
+        verifyNoInteractions(postRepository);
     }
 
     @Test
@@ -317,16 +384,17 @@ class PostServiceTest {
     void get_all_post_user_success() {
         Pageable pageable = PageRequest.of(0, 10);
         User user = createUser(1L, "test@test.com", "test");
-        Post p1 = createPost(1L, user, "title1", "content1");
-        Post p2 = createPost(2L, user, "title2", "content2");
+        PostListRow p1 = createRow(1L, "title1");
+        PostListRow p2 = createRow(2L, "title2");
 
-        when(postRepository.findAllByUser(user, pageable))
-                .thenReturn(new PageImpl<>(List.of(p1, p2)));
+        when(postRepository.findAllListRowsByUser(user, pageable))
+                .thenReturn(List.of(p1, p2));
+        stubAssembler();
 
         Page<PostListResponse> response = postService.getAllPostByUser(user, pageable);
 
         assertThat(response.getContent()).hasSize(2);
-        verify(postRepository).findAllByUser(user, pageable);
+        verify(postRepository).findAllListRowsByUser(user, pageable);
     }
 
     @Test
@@ -338,14 +406,14 @@ class PostServiceTest {
         PostImage img1 = PostImage.builder().post(post).postImageUrl("url1").build();
         PostImage img2 = PostImage.builder().post(post).postImageUrl("url2").build();
 
-        when(postImageRepository.findAllByPostId(post.getId()))
-                .thenReturn(List.of(img1, img2));
+        post.addPostImages(img1);
+        post.addPostImages(img2);
+        when(postRepository.findById(post.getId())).thenReturn(Optional.of(post));
 
         List<PostImageResponse> response =
                 postService.getAllPostImageByPostId(post.getId());
 
-        assertThat(response).hasSize(2);
-        verify(postImageRepository).findAllByPostId(post.getId());
+        assertThat(response).extracting(PostImageResponse::getPostImageUrl).containsExactly("url1", "url2");
     }
 
     @Test
@@ -356,20 +424,13 @@ class PostServiceTest {
         User user = createUser(1L, "test@test.com", "tester");
         Post post = createPost(1L, user, "title", "content");
 
-        PostImage image1 = createPostImage(1L, post, "img1.jpg");
-        PostImage image2 = createPostImage(2L, post, "img2.jpg");
-
         when(postRepository.findById(post.getId())).thenReturn(Optional.of(post));
-        when(postImageRepository.findAllByPostId(post.getId()))
-                .thenReturn(List.of(image1, image2));
 
         postService.delete(post.getId());
 
         verify(postRepository).findById(post.getId());
-        verify(postImageRepository).findAllByPostId(post.getId());
-        verify(s3Client, times(2)).deleteObject(any(DeleteObjectRequest.class));
-        verify(postLikeRepository).deleteAllByPostId(post.getId());
-        verify(postRepository).delete(post);
+        verify(postDeleter).delete(post);
+        assertThat(publishedEvent()).isEqualTo(PostChangedEvent.deleted(post.getId()));
     }
 
     @Test
@@ -385,10 +446,7 @@ class PostServiceTest {
                 .isInstanceOf(ResourceNotFoundException.class);
 
         verify(postRepository).findById(invalidId);
-        verify(postImageRepository, never()).findAllByPostId(any());
-        verify(s3Client, never()).deleteObject(any(DeleteObjectRequest.class));
-        verify(postLikeRepository, never()).deleteAllByPostId(any());
-        verify(postRepository, never()).delete(any());
+        verifyNoInteractions(postDeleter, eventPublisher);
     }
 
 
@@ -416,6 +474,34 @@ class PostServiceTest {
         return post;
     }
 
+    @SuppressWarnings("unchecked")
+    private void stubAssembler() {
+        when(postListAssembler.assemble(anyList())).thenAnswer(invocation ->
+                ((List<PostListRow>) invocation.getArgument(0)).stream()
+                        .map(row -> PostListResponse.fromRow(row, 0L, null))
+                        .toList());
+    }
+
+    private PostListRow createRow(Long id, String title) {
+        PostListRow row = mock(PostListRow.class);
+        when(row.getPostId()).thenReturn(id);
+        when(row.getTitle()).thenReturn(title);
+        when(row.getExcerpt()).thenReturn(title + " excerpt");
+        return row;
+    }
+
+    private PostCoverImage createCoverImage(String imageUrl) {
+        PostCoverImage cover = mock(PostCoverImage.class);
+        when(cover.getImageUrl()).thenReturn(imageUrl);
+        return cover;
+    }
+
+    private PostChangedEvent publishedEvent() {
+        ArgumentCaptor<PostChangedEvent> captor = ArgumentCaptor.forClass(PostChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        return captor.getValue();
+    }
+
     private PostImage createPostImage(Long id, Post post, String postImageUrl) {
         PostImage postImage = PostImage.builder()
                 .post(post)
@@ -0,0 +1,122 @@
+package com.example.community.service.post.cache;
+
+import com.example.community.dto.response.post.PostDetailResponse;
+import com.example.community.dto.response.post.PostListResponse;
+import com.example.community.service.post.PostChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PostResponseCacheTest {
+
+    private static final long POST_ID = 1L;
+    private static final long TTL_MS = 5_000L;
+    private static final long ETAG_MAX_AGE_MS = 60_000L;
+
+    private final AtomicLong now = new AtomicLong();
+    private final PostResponseCache cache = new PostResponseCache(TTL_MS, 100, ETAG_MAX_AGE_MS, now::get);
+
+    @Test
+    @DisplayName("상세 응답 - 저장한 값을 그대로 돌려줌")
+    void put_and_find_detail() {
+        PostDetailResponse detail = detail("title");
+
+        cache.putDetail(POST_ID, cache.detailVersion(POST_ID), detail);
+
+        assertThat(cache.findDetail(POST_ID)).containsSame(detail);
+    }
+
+    @Test
+    @DisplayName("목록 응답 - 페이지와 정렬별로 저장")
+    void put_and_find_list() {
+        Pageable first = PageRequest.of(0, 20);
+        Page<PostListResponse> page = new PageImpl<>(List.of(), first, 0);
+
+        cache.putList(first, cache.listVersion(), page);
+
+        assertThat(cache.findList(first)).containsSame(page);
+        assertThat(cache.findList(PageRequest.of(1, 20))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("변경 이벤트 - 해당 글과 목록을 무효화")
+    void invalidate_on_post_changed() {
+        Pageable first = PageRequest.of(0, 20);
+        cache.putDetail(POST_ID, cache.detailVersion(POST_ID), detail("title"));
+        cache.putList(first, cache.listVersion(), new PageImpl<>(List.of(), first, 0));
+        long listVersion = cache.listVersion();
+
+        cache.onPostChanged(PostChangedEvent.deleted(POST_ID));
+
+        assertThat(cache.findDetail(POST_ID)).isEmpty();
+        assertThat(cache.findList(first)).isEmpty();
+        assertThat(cache.detailVersion(POST_ID)).isEqualTo(1L);
+        assertThat(cache.listVersion()).isEqualTo(listVersion + 1);
+    }
+
+    @Test
+    @DisplayName("조회 중 수정되면 이전 버전 응답은 저장하지 않음")
+    void skip_put_when_version_changed() {
+        long version = cache.detailVersion(POST_ID);
+        cache.onPostChanged(PostChangedEvent.deleted(POST_ID));
+
+        cache.putDetail(POST_ID, version, detail("old"));
+
+        assertThat(cache.findDetail(POST_ID)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("TTL 이 지나면 다시 조회")
+    void expire_after_ttl() {
+        cache.putDetail(POST_ID, 0L, detail("title"));
+
+        now.addAndGet(TTL_MS);
+
+        assertThat(cache.findDetail(POST_ID)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("ETag - 변경 이벤트가 오면 상세와 목록 ETag 가 바뀜")
+    void etag_changes_on_post_changed() {
+        String detailEtag = cache.detailEtag(POST_ID);
+        String listEtag = cache.listEtag();
+        String otherEtag = cache.detailEtag(2L);
+
+        assertThat(cache.detailEtag(POST_ID)).isEqualTo(detailEtag);
+
+        cache.onPostChanged(PostChangedEvent.deleted(POST_ID));
+
+        assertThat(cache.detailEtag(POST_ID)).isNotEqualTo(detailEtag);
+        assertThat(cache.listEtag()).isNotEqualTo(listEtag);
+        assertThat(cache.detailEtag(2L)).isEqualTo(otherEtag);
+    }
+
+    @Test
+    @DisplayName("ETag - etag-max-age 가 지나면 변경이 없어도 바뀜")
+    void etag_changes_after_max_age() {
+        String etag = cache.detailEtag(POST_ID);
+
+        now.addAndGet(ETAG_MAX_AGE_MS - 1);
+        assertThat(cache.detailEtag(POST_ID)).isEqualTo(etag);
+
+        now.addAndGet(1);
+        assertThat(cache.detailEtag(POST_ID)).isNotEqualTo(etag);
+    }
+
+    private PostDetailResponse detail(String title) {
+        return PostDetailResponse.builder()
+                .postId(POST_ID)
+                .title(title)
+                .viewCount(1L)
+                .modifiedDate("2024-01-02 00:00:00")
+                .build();
+    }
+}
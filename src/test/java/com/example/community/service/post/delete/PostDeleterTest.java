@@ -0,0 +1,200 @@
+package com.example.community.service.post.delete;
+
+import com.example.community.domain.Comment;
+import com.example.community.domain.Post;
+import com.example.community.domain.PostImage;
+import com.example.community.domain.PostLike;
+import com.example.community.domain.S3DeleteOutbox;
+import com.example.community.domain.User;
+import com.example.community.repository.comment.CommentJdbcRepository;
+import com.example.community.repository.comment.CommentRepository;
+import com.example.community.repository.post.PostImageRepository;
+import com.example.community.repository.post.PostJdbcRepository;
+import com.example.community.repository.post.PostLikeRepository;
+import com.example.community.repository.post.PostRepository;
+import com.example.community.repository.s3.S3DeleteOutboxRepository;
+import com.example.community.repository.user.UserRepository;
+import com.example.community.service.s3.S3DeleteQueue;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({PostJdbcRepository.class, CommentJdbcRepository.class})
+class PostDeleterTest {
+
+    private static final int INLINE_LIMIT = 5;
+    private static final int CHUNK_SIZE = 2;
+
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private PostImageRepository postImageRepository;
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CommentJdbcRepository commentJdbcRepository;
+    @Autowired
+    private PostJdbcRepository postJdbcRepository;
+    @Autowired
+    private S3DeleteOutboxRepository s3DeleteOutboxRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private PostDeleter postDeleter;
+    private User user;
+
+    @BeforeEach
+    void init() {
+        postDeleter = createDeleter(false);
+        user = userRepository.save(User.builder()
+                .email("test@test.com")
+                .password("1234")
+                .nickname("test")
+                .profileImage("profileImage")
+                .build());
+    }
+
+    @Test
+    @DisplayName("게시글 삭제 - hard 모드에서 댓글이 적으면 바로 벌크 삭제")
+    void delete_inline() {
+        Post post = createPost(3);
+
+        assertThat(postDeleter.delete(post)).isTrue();
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(postRepository.findById(post.getId())).isEmpty();
+        assertThat(commentRepository.countByPostId(post.getId())).isZero();
+        assertThat(postLikeRepository.countByPostId(post.getId())).isZero();
+        assertThat(postImageRepository.findAllByPostId(post.getId())).isEmpty();
+        assertThat(s3DeleteOutboxRepository.findAll()).extracting(S3DeleteOutbox::getObjectKey).containsExactly("image.png");
+        assertThat(userRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("게시글 삭제 - hard 모드에서도 댓글이 많으면 숨기고 chunk 단위로 삭제")
+    void delete_in_background() {
+        Post post = createPost(INLINE_LIMIT + 1);
+
+        assertThat(postDeleter.delete(post)).isFalse();
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(postRepository.findById(post.getId())).isEmpty();
+        assertThat(postJdbcRepository.findPostIdsPendingPurge(10)).containsExactly(post.getId());
+        assertThat(commentRepository.countByPostId(post.getId())).isEqualTo(INLINE_LIMIT + 1);
+
+        PostPurgeWorker worker = new PostPurgeWorker(postJdbcRepository, postDeleter, 2, "", LocalTime::now);
+        assertThat(worker.runOnce()).isEqualTo(2);
+        assertThat(commentRepository.countByPostId(post.getId())).isEqualTo(INLINE_LIMIT + 1 - 2 * CHUNK_SIZE);
+
+        int chunks = 0;
+        while (!postJdbcRepository.findPostIdsPendingPurge(10).isEmpty()) {
+            chunks += worker.runOnce();
+        }
+
+        // 남은 댓글 2개, 좋아요 1개, 이미지와 글
+        assertThat(chunks).isEqualTo(3);
+        assertThat(commentRepository.countByPostId(post.getId())).isZero();
+        assertThat(postLikeRepository.countByPostId(post.getId())).isZero();
+        assertThat(postImageRepository.findAllByPostId(post.getId())).isEmpty();
+        assertThat(s3DeleteOutboxRepository.findAll()).extracting(S3DeleteOutbox::getObjectKey).containsExactly("image.png");
+    }
+
+    @Test
+    @DisplayName("게시글 삭제 - soft 모드면 댓글 수와 상관없이 표시만 함")
+    void delete_soft() {
+        postDeleter = createDeleter(true);
+        Post post = createPost(1);
+
+        assertThat(postDeleter.delete(post)).isFalse();
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(postRepository.findById(post.getId())).isEmpty();
+        assertThat(postRepository.count()).isZero();
+        assertThat(postJdbcRepository.findPostIdsPendingPurge(10)).containsExactly(post.getId());
+        assertThat(s3DeleteOutboxRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("댓글 정리 - 삭제 표시된 댓글만 조회에서 빠지고 purge 때 지워짐")
+    void purge_deleted_comments() {
+        Post post = createPost(3);
+        Long deletedId = commentRepository.findIdsByPostId(post.getId(), PageRequest.of(0, 1)).getFirst();
+
+        commentRepository.markDeleted(deletedId, LocalDateTime.now());
+        entityManager.clear();
+
+        assertThat(commentRepository.findById(deletedId)).isEmpty();
+        assertThat(commentRepository.countByPostId(post.getId())).isEqualTo(2);
+        assertThat(commentJdbcRepository.findDeletedIds(10)).containsExactly(deletedId);
+
+        PostPurgeWorker worker = new PostPurgeWorker(postJdbcRepository, postDeleter, 10, "", LocalTime::now);
+        assertThat(worker.runOnce()).isEqualTo(1);
+        assertThat(commentJdbcRepository.findDeletedIds(10)).isEmpty();
+        assertThat(commentRepository.countByPostId(post.getId())).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("댓글 정리 - 지워지는 글의 삭제 표시된 댓글은 글 정리에 맡기고 고르지 않음")
+    void purge_deleted_comments_skip_pending_posts() {
+        Post post = createPost(1);
+        Long deletedId = commentRepository.findIdsByPostId(post.getId(), PageRequest.of(0, 1)).getFirst();
+        commentRepository.markDeleted(deletedId, LocalDateTime.now());
+        createDeleter(true).delete(post);
+        entityManager.flush();
+
+        assertThat(commentJdbcRepository.findDeletedIds(10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("정리 - window 밖에서는 아무것도 지우지 않음")
+    void purge_outside_window() {
+        Post post = createPost(1);
+        createDeleter(true).delete(post);
+        entityManager.flush();
+
+        PostPurgeWorker worker = new PostPurgeWorker(postJdbcRepository, postDeleter, 10, "23:00-04:00", () -> LocalTime.of(12, 0));
+
+        assertThat(worker.runOnce()).isZero();
+        assertThat(worker.inWindow(LocalTime.of(23, 30))).isTrue();
+        assertThat(worker.inWindow(LocalTime.of(3, 59))).isTrue();
+        assertThat(worker.inWindow(LocalTime.of(4, 0))).isFalse();
+        assertThat(postJdbcRepository.findPostIdsPendingPurge(10)).containsExactly(post.getId());
+    }
+
+    private PostDeleter createDeleter(boolean softDelete) {
+        return new PostDeleter(postRepository, postImageRepository, postLikeRepository, commentRepository,
+                commentJdbcRepository, postJdbcRepository, new S3DeleteQueue(s3DeleteOutboxRepository),
+                softDelete, INLINE_LIMIT, CHUNK_SIZE);
+    }
+
+    private Post createPost(int comments) {
+        Post post = postRepository.save(Post.builder().title("title").content("content").user(user).build());
+        postImageRepository.save(PostImage.builder().post(post).postImageUrl("image.png").build());
+        postLikeRepository.save(PostLike.builder().post(post).user(user).build());
+        IntStream.range(0, comments).forEach(i -> commentRepository.save(Comment.builder()
+                .content("comment " + i)
+                .user(user)
+                .post(post)
+                .build()));
+        return post;
+    }
+}
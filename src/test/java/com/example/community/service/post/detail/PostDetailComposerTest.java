@@ -0,0 +1,111 @@
+package com.example.community.service.post.detail;
+
+import com.example.community.common.exception.custom.BadRequestException;
+import com.example.community.common.exception.custom.ResourceNotFoundException;
+import com.example.community.dto.response.comment.CommentResponse;
+import com.example.community.dto.response.post.PostDetailCompositeResponse;
+import com.example.community.dto.response.post.PostDetailResponse;
+import com.example.community.dto.response.post.PostImageResponse;
+import com.example.community.dto.response.post.PostLikeResponse;
+import com.example.community.service.comment.CommentService;
+import com.example.community.service.post.PostService;
+import com.example.community.service.post.like.PostLikeService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.community.common.exception.ErrorMessage.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostDetailComposerTest {
+
+    private static final Long POST_ID = 1L;
+    private static final Pageable COMMENT_PAGE = PageRequest.of(0, 10);
+
+    @Mock
+    private PostService postService;
+
+    @Mock
+    private CommentService commentService;
+
+    @Mock
+    private PostLikeService postLikeService;
+
+    @InjectMocks
+    private PostDetailComposer postDetailComposer;
+
+    @Test
+    @DisplayName("요청한 항목을 동시에 읽어 한 응답으로 묶음")
+    void compose_all_parts_concurrently() {
+        // 네 조회가 모두 시작돼야 풀리는 latch. 순서대로 실행되면 첫 조회에서 시간 초과로 실패한다.
+        CountDownLatch started = new CountDownLatch(4);
+        when(postService.getPost(POST_ID, "ip:1")).thenAnswer(invocation -> await(started, PostDetailResponse.builder().postId(POST_ID).build()));
+        when(postService.getAllPostImageByPostId(POST_ID)).thenAnswer(invocation -> await(started, List.of(new PostImageResponse(1L, "a.png"))));
+        when(commentService.getCommentByPost(POST_ID, COMMENT_PAGE)).thenAnswer(invocation -> await(started,
+                new PageImpl<>(List.of(CommentResponse.builder().commentId(7L).build()), COMMENT_PAGE, 1)));
+        when(postLikeService.getLikeCount(POST_ID, null)).thenAnswer(invocation -> await(started,
+                PostLikeResponse.builder().postId(POST_ID).liked(false).likeCount(3L).build()));
+
+        PostDetailCompositeResponse response = postDetailComposer.compose(POST_ID, "ip:1", null,
+                EnumSet.allOf(PostDetailPart.class), COMMENT_PAGE);
+
+        assertThat(response.getPost().getPostId()).isEqualTo(POST_ID);
+        assertThat(response.getImages()).hasSize(1);
+        assertThat(response.getComments().getContent()).extracting(CommentResponse::getCommentId).containsExactly(7L);
+        assertThat(response.getLikes().getLikeCount()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("include 하지 않은 항목은 조회하지 않음")
+    void compose_only_requested_parts() {
+        when(postService.getPost(POST_ID, "ip:1")).thenReturn(PostDetailResponse.builder().postId(POST_ID).build());
+        when(postService.getAllPostImageByPostId(POST_ID)).thenReturn(List.of());
+
+        PostDetailCompositeResponse response = postDetailComposer.compose(POST_ID, "ip:1", null,
+                PostDetailPart.parse("images"), COMMENT_PAGE);
+
+        assertThat(response.getImages()).isEmpty();
+        assertThat(response.getComments()).isNull();
+        assertThat(response.getLikes()).isNull();
+        verifyNoInteractions(commentService, postLikeService);
+    }
+
+    @Test
+    @DisplayName("게시글이 없으면 원래 예외를 그대로 던짐")
+    void compose_post_not_found() {
+        when(postService.getPost(eq(POST_ID), anyString())).thenThrow(new ResourceNotFoundException(RESOURCE_NOT_FOUND));
+
+        assertThatThrownBy(() -> postDetailComposer.compose(POST_ID, "ip:1", null, EnumSet.noneOf(PostDetailPart.class), COMMENT_PAGE))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("include 파싱 - 대소문자와 공백 무시, 모르는 항목은 400")
+    void parse_include() {
+        assertThat(PostDetailPart.parse(" Images, LIKES ,")).containsExactlyInAnyOrder(PostDetailPart.IMAGES, PostDetailPart.LIKES);
+        assertThatThrownBy(() -> PostDetailPart.parse("images,author"))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private static <T> T await(CountDownLatch latch, T value) throws InterruptedException {
+        latch.countDown();
+        if (!latch.await(5, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("조회가 동시에 실행되지 않았습니다.");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.community.service.post.feed;
+
+import com.example.community.common.paging.ExactCountStrategy;
+import com.example.community.common.paging.PageCounter;
+import com.example.community.dto.response.post.PostListResponse;
+import com.example.community.repository.comment.CommentRepository;
+import com.example.community.repository.post.PostImageRepository;
+import com.example.community.repository.post.PostListRow;
+import com.example.community.repository.post.PostRepository;
+import com.example.community.service.post.PostChangedEvent;
+import com.example.community.service.post.PostListAssembler;
+import com.example.community.service.post.viewcount.ViewCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RecentPostFeedTest {
+
+    private static final int CAPACITY = 3;
+    private static final long MAX_STALENESS_MS = 5_000L;
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "id"));
+
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private PostImageRepository postImageRepository;
+
+    private final ViewCounter viewCounter = new ViewCounter();
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private RecentPostFeed feed;
+
+    @BeforeEach
+    void init() {
+        feed = new RecentPostFeed(postRepository, viewCounter, new PageCounter(new ExactCountStrategy()),
+                new PostListAssembler(commentRepository, postImageRepository), CAPACITY, MAX_STALENESS_MS, now::get);
+    }
+
+    @Test
+    @DisplayName("첫 페이지 - 갱신 전에는 캐시로 답하지 않음")
+    void empty_before_refresh() {
+        assertThat(feed.firstPage(FIRST_PAGE)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("첫 페이지 - 캐시된 최신 글에 반영 대기 중인 조회수를 더함")
+    void first_page_with_pending_views() {
+        loadPosts(10, 9, 8);
+        viewCounter.add(10L, 4L);
+
+        Page<PostListResponse> page = feed.firstPage(FIRST_PAGE).orElseThrow();
+
+        assertThat(page.getContent()).extracting(PostListResponse::getPostId).containsExactly(10L, 9L);
+        assertThat(page.getContent().get(0).getViewCount()).isEqualTo(5L);
+        assertThat(page.getTotalElements()).isEqualTo(20L);
+        verify(postRepository, times(1)).findAllListRows(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("첫 페이지 - 다른 페이지/정렬/오래된 캐시는 DB 로 넘김")
+    void fall_back_when_not_servable() {
+        loadPosts(10, 9, 8);
+
+        assertThat(feed.firstPage(PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "id")))).isEmpty();
+        assertThat(feed.firstPage(PageRequest.of(0, 2, Sort.by("title")))).isEmpty();
+        assertThat(feed.firstPage(PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id")))).isEmpty();
+
+        now.addAndGet(MAX_STALENESS_MS + 1);
+        assertThat(feed.firstPage(FIRST_PAGE)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("변경 이벤트 - 작성은 맨 앞에 넣고, 수정은 교체, 삭제는 제거")
+    void apply_post_changed_events() {
+        loadPosts(10, 9, 8);
+
+        feed.onPostChanged(PostChangedEvent.created(row(11L, "new"), "new content"));
+        feed.onPostChanged(PostChangedEvent.updated(row(10L, "edited"), "edited content"));
+        feed.onPostChanged(PostChangedEvent.deleted(9L));
+
+        Page<PostListResponse> page = feed.firstPage(FIRST_PAGE).orElseThrow();
+        assertThat(page.getContent()).extracting(PostListResponse::getPostId).containsExactly(11L, 10L);
+        assertThat(page.getContent().get(0).getCommentCount()).isZero();
+        assertThat(page.getContent().get(1).getTitle()).isEqualTo("edited");
+        assertThat(page.getContent().get(1).getViewCount()).isEqualTo(1L);
+        assertThat(page.getTotalElements()).isEqualTo(20L);
+
+        // 삭제로 빈 자리는 다음 refresh 전까지 채우지 못하므로 더 큰 페이지는 DB 로 넘긴다
+        assertThat(feed.firstPage(PageRequest.of(0, 3, Sort.by(Sort.Direction.DESC, "id")))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("조회수 flush - 반영된 증가분을 기준값에 더해 합계가 유지됨")
+    void keep_view_count_across_flush() {
+        loadPosts(10, 9, 8);
+        viewCounter.add(10L, 4L);
+
+        Map<Long, Long> flushed = viewCounter.snapshot();
+        viewCounter.commit(flushed);
+        feed.onViewCountsFlushed(flushed);
+
+        assertThat(feed.firstPage(FIRST_PAGE).orElseThrow().getContent().get(0).getViewCount()).isEqualTo(5L);
+    }
+
+    private void loadPosts(long... ids) {
+        List<PostListRow> rows = LongStream.of(ids).mapToObj(this::listRow).toList();
+        when(postRepository.findAllListRows(any(Pageable.class))).thenReturn(rows);
+        when(postRepository.count()).thenReturn(20L);
+        feed.refresh();
+    }
+
+    private PostListRow listRow(long id) {
+        PostListRow row = mock(PostListRow.class);
+        when(row.getPostId()).thenReturn(id);
+        when(row.getViewCount()).thenReturn(1L);
+        return row;
+    }
+
+    private PostListResponse row(Long id, String title) {
+        return PostListResponse.builder().postId(id).title(title).viewCount(0L).build();
+    }
+}
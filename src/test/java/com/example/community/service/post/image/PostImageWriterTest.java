@@ -0,0 +1,111 @@
+package com.example.community.service.post.image;
+
+import com.example.community.common.exception.custom.BadRequestException;
+import com.example.community.common.exception.custom.ResourceNotFoundException;
+import com.example.community.domain.Post;
+import com.example.community.domain.PostImage;
+import com.example.community.domain.User;
+import com.example.community.repository.post.PostImageRepository;
+import com.example.community.repository.post.PostJdbcRepository;
+import com.example.community.repository.post.PostRepository;
+import com.example.community.repository.user.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@Import({PostImageWriter.class, PostJdbcRepository.class})
+class PostImageWriterTest {
+
+    @Autowired
+    private PostImageWriter postImageWriter;
+
+    @Autowired
+    private PostImageRepository postImageRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Post post;
+    private Post otherPost;
+
+    @BeforeEach
+    void init() {
+        User user = userRepository.save(User.builder()
+                .email("test@test.com")
+                .password("1234")
+                .nickname("test")
+                .profileImage("profileImage")
+                .build());
+
+        post = postRepository.save(Post.builder().title("title").content("content").user(user).build());
+        otherPost = postRepository.save(Post.builder().title("other").content("other").user(user).build());
+    }
+
+    @Test
+    @DisplayName("이미지 추가 - 한 문장으로 모두 들어감")
+    void attach_success() {
+        postImageWriter.attach(post.getId(), List.of("url1", "url2", "url3"));
+        entityManager.clear();
+
+        assertThat(postImageRepository.findAllByPostId(post.getId()))
+                .extracting(PostImage::getPostImageUrl)
+                .containsExactlyInAnyOrder("url1", "url2", "url3");
+        assertThat(postRepository.findById(post.getId()).orElseThrow().getPostImages()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("이미지 삭제 - 성공")
+    void detach_success() {
+        postImageWriter.attach(post.getId(), List.of("url1", "url2", "url3"));
+        List<Long> ids = postImageRepository.findAllByPostId(post.getId()).stream()
+                .filter(image -> !image.getPostImageUrl().equals("url2"))
+                .map(PostImage::getId)
+                .toList();
+
+        List<String> removed = postImageWriter.detach(post.getId(), ids);
+        entityManager.clear();
+
+        assertThat(removed).containsExactlyInAnyOrder("url1", "url3");
+        assertThat(postImageRepository.findAllByPostId(post.getId()))
+                .extracting(PostImage::getPostImageUrl)
+                .containsExactly("url2");
+    }
+
+    @Test
+    @DisplayName("이미지 삭제 - 실패(다른 게시물의 이미지 포함)")
+    void detach_fail_no_image_in_post() {
+        postImageWriter.attach(post.getId(), List.of("url1"));
+        postImageWriter.attach(otherPost.getId(), List.of("other1"));
+        List<Long> ids = postImageRepository.findAll().stream().map(PostImage::getId).toList();
+
+        assertThatThrownBy(() -> postImageWriter.detach(post.getId(), ids))
+                .isInstanceOf(BadRequestException.class);
+        assertThat(postImageRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("이미지 삭제 - 실패(존재하지 않는 이미지)")
+    void detach_fail_no_image() {
+        postImageWriter.attach(post.getId(), List.of("url1"));
+        Long id = postImageRepository.findAllByPostId(post.getId()).getFirst().getId();
+
+        assertThatThrownBy(() -> postImageWriter.detach(post.getId(), List.of(id, id + 100)))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(postImageRepository.count()).isEqualTo(1);
+    }
+}
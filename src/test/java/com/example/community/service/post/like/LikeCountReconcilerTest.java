@@ -0,0 +1,57 @@
+package com.example.community.service.post.like;
+
+import com.example.community.repository.post.PostJdbcRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LikeCountReconcilerTest {
+
+    @Mock
+    private PostJdbcRepository postJdbcRepository;
+
+    @InjectMocks
+    private LikeCountReconciler likeCountReconciler;
+
+    @Test
+    @DisplayName("전체 재계산 - post_id 구간을 나눠 갱신")
+    void reconcile_all_by_chunk() {
+        when(postJdbcRepository.findMaxPostId()).thenReturn(2500L);
+        when(postJdbcRepository.reconcileLikeCounts(anyLong(), anyLong(), eq(false))).thenReturn(10);
+
+        int updated = likeCountReconciler.reconcile(false);
+
+        assertThat(updated).isEqualTo(30);
+        verify(postJdbcRepository).reconcileLikeCounts(1L, 1001L, false);
+        verify(postJdbcRepository).reconcileLikeCounts(1001L, 2001L, false);
+        verify(postJdbcRepository).reconcileLikeCounts(2001L, 3001L, false);
+    }
+
+    @Test
+    @DisplayName("기동 시 빈 값만 채움")
+    void fill_missing_on_startup() {
+        when(postJdbcRepository.findMaxPostId()).thenReturn(10L);
+
+        likeCountReconciler.fillMissing();
+
+        verify(postJdbcRepository).reconcileLikeCounts(1L, 1001L, true);
+    }
+
+    @Test
+    @DisplayName("게시글 없으면 갱신하지 않음")
+    void reconcile_empty() {
+        when(postJdbcRepository.findMaxPostId()).thenReturn(0L);
+
+        likeCountReconciler.reconcileAll();
+
+        verify(postJdbcRepository, never()).reconcileLikeCounts(anyLong(), anyLong(), anyBoolean());
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.community.service.post.like;
+
+import com.example.community.repository.post.PostJdbcRepository;
+import com.example.community.repository.post.PostLikeKey;
+import com.example.community.service.post.trending.TrendingPostService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LikeIngestionQueueTest {
+
+    private static final Long POST_ID = 1L;
+    private static final Long USER_ID = 10L;
+
+    @Mock private PostJdbcRepository postJdbcRepository;
+    @Mock private LikedPostIndex likedPostIndex;
+    @Mock private TrendingPostService trendingPostService;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private LikeIngestionQueue queue;
+
+    @BeforeEach
+    void init() {
+        queue = create(true, 2);
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 연속 요청은 마지막 의도만 반영")
+    void coalesce_last_intent_wins() {
+        queue.offer(POST_ID, USER_ID, true);
+        queue.offer(POST_ID, USER_ID, false);
+        queue.offer(POST_ID, USER_ID, true);
+        when(postJdbcRepository.batchInsertLikesIfAbsent(anyList())).thenReturn(new int[]{1});
+
+        queue.flush();
+
+        InOrder inOrder = inOrder(postJdbcRepository);
+        inOrder.verify(postJdbcRepository).lockPosts(List.of(POST_ID));
+        inOrder.verify(postJdbcRepository).batchInsertLikesIfAbsent(List.of(new PostLikeKey(POST_ID, USER_ID)));
+        verify(postJdbcRepository, never()).batchDeleteLikes(anyList());
+        verify(postJdbcRepository).bulkAdjustLikeCounts(Map.of(POST_ID, 1L));
+        verify(likedPostIndex).onLikeChanged(USER_ID, POST_ID, true);
+        verify(trendingPostService).recordLike(POST_ID, true);
+        assertThat(queue.pendingSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("실제로 바뀐 행만 좋아요 수에 반영")
+    void adjust_only_changed_rows() {
+        queue.offer(POST_ID, 1L, true);
+        queue.offer(POST_ID, 2L, false);
+        when(postJdbcRepository.batchInsertLikesIfAbsent(anyList())).thenReturn(new int[]{0});
+        when(postJdbcRepository.batchDeleteLikes(anyList())).thenReturn(new int[]{1});
+
+        queue.flush();
+
+        verify(postJdbcRepository).bulkAdjustLikeCounts(Map.of(POST_ID, -1L));
+        verify(likedPostIndex).onLikeChanged(2L, POST_ID, false);
+        verify(likedPostIndex, never()).onLikeChanged(1L, POST_ID, true);
+    }
+
+    @Test
+    @DisplayName("용량을 넘으면 새 키는 거절하고 대기 중인 키는 덮어씀")
+    void reject_new_key_over_capacity() {
+        assertThat(queue.offer(POST_ID, 1L, true)).isTrue();
+        assertThat(queue.offer(POST_ID, 2L, true)).isTrue();
+
+        assertThat(queue.offer(POST_ID, 3L, true)).isFalse();
+        assertThat(queue.offer(POST_ID, 1L, false)).isTrue();
+        assertThat(queue.pendingSize()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("반영 실패 시 의도를 다시 대기열에 넣음")
+    void requeue_on_failure() {
+        queue.offer(POST_ID, USER_ID, true);
+        when(postJdbcRepository.batchInsertLikesIfAbsent(anyList())).thenThrow(new RuntimeException("fail"));
+
+        queue.flush();
+
+        assertThat(queue.pendingSize()).isEqualTo(1);
+        assertThat(queue.pendingDelta(POST_ID)).isEqualTo(1L);
+        verify(likedPostIndex, never()).onLikeChanged(anyLong(), anyLong(), anyBoolean());
+        verifyNoInteractions(trendingPostService);
+    }
+
+    @Test
+    @DisplayName("반영 전 조회 - 마지막 의도와 실제로 바뀔 좋아요 수를 돌려줌")
+    void pending_overlay() {
+        when(likedPostIndex.isLiked(1L, POST_ID)).thenReturn(false);
+        when(likedPostIndex.isLiked(2L, POST_ID)).thenReturn(true);
+
+        queue.offer(POST_ID, 1L, true);
+        queue.offer(POST_ID, 2L, true);
+
+        assertThat(queue.pendingLiked(POST_ID, 1L)).isTrue();
+        assertThat(queue.pendingLiked(POST_ID, 3L)).isNull();
+        assertThat(queue.pendingDelta(POST_ID)).isEqualTo(1L);
+
+        queue.offer(POST_ID, 1L, false);
+        assertThat(queue.pendingDelta(POST_ID)).isZero();
+    }
+
+    @Test
+    @DisplayName("반영이 커밋되면 대기 중인 좋아요 수 변화가 빠짐")
+    void clear_delta_after_flush() {
+        queue.offer(POST_ID, USER_ID, true);
+        when(postJdbcRepository.batchInsertLikesIfAbsent(anyList())).thenReturn(new int[]{1});
+
+        queue.flush();
+
+        assertThat(queue.pendingDelta(POST_ID)).isZero();
+        assertThat(queue.pendingLiked(POST_ID, USER_ID)).isNull();
+    }
+
+    @Test
+    @DisplayName("비활성 상태면 받지 않음")
+    void disabled() {
+        LikeIngestionQueue disabled = create(false, 10);
+
+        assertThat(disabled.offer(POST_ID, USER_ID, true)).isFalse();
+        disabled.flush();
+
+        verifyNoInteractions(postJdbcRepository);
+    }
+
+    private LikeIngestionQueue create(boolean enabled, int capacity) {
+        return new LikeIngestionQueue(postJdbcRepository, likedPostIndex, trendingPostService,
+                new TransactionTemplate(transactionManager), enabled, capacity);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.community.service.post.like;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LikedPostBitmapTest {
+
+    @Test
+    @DisplayName("추가/삭제/포함 여부")
+    void add_remove_contains() {
+        LikedPostBitmap bitmap = LikedPostBitmap.of(List.of(1L, 70_000L, 1L << 40));
+
+        assertThat(bitmap.contains(1L)).isTrue();
+        assertThat(bitmap.contains(70_000L)).isTrue();
+        assertThat(bitmap.contains(1L << 40)).isTrue();
+        assertThat(bitmap.contains(2L)).isFalse();
+
+        assertThat(bitmap.add(1L)).isFalse();
+        assertThat(bitmap.remove(70_000L)).isTrue();
+        assertThat(bitmap.remove(70_000L)).isFalse();
+        assertThat(bitmap.cardinality()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("배열 컨테이너 한도를 넘으면 비트맵으로, 다시 줄면 배열로 전환")
+    void convert_between_array_and_bitmap() {
+        LikedPostBitmap bitmap = new LikedPostBitmap();
+        for (long postId = 0; postId < 10_000; postId += 2) {
+            bitmap.add(postId);
+        }
+        assertThat(bitmap.cardinality()).isEqualTo(5_000);
+        assertThat(bitmap.contains(9_998L)).isTrue();
+        assertThat(bitmap.contains(9_999L)).isFalse();
+
+        for (long postId = 0; postId < 10_000; postId += 4) {
+            bitmap.remove(postId);
+        }
+        assertThat(bitmap.cardinality()).isEqualTo(2_500);
+        assertThat(bitmap.contains(2L)).isTrue();
+        assertThat(bitmap.contains(4L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("무작위 연산 결과가 HashSet 과 일치")
+    void matches_hash_set() {
+        Random random = new Random(42);
+        LikedPostBitmap bitmap = new LikedPostBitmap();
+        Set<Long> expected = new HashSet<>();
+
+        for (int i = 0; i < 100_000; i++) {
+            long postId = random.nextInt(3) == 0 ? random.nextLong(1L << 40) : random.nextInt(20_000);
+            if (random.nextInt(3) != 0) {
+                assertThat(bitmap.add(postId)).isEqualTo(expected.add(postId));
+            } else {
+                assertThat(bitmap.remove(postId)).isEqualTo(expected.remove(postId));
+            }
+        }
+
+        assertThat(bitmap.cardinality()).isEqualTo(expected.size());
+        for (long postId = 0; postId < 20_000; postId++) {
+            assertThat(bitmap.contains(postId)).isEqualTo(expected.contains(postId));
+        }
+    }
+}
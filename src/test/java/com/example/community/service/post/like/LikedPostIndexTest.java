@@ -0,0 +1,139 @@
+package com.example.community.service.post.like;
+
+import com.example.community.repository.post.PostLikeRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LikedPostIndexTest {
+
+    private static final Long USER_ID = 10L;
+    private static final long TTL_MILLIS = 60_000L;
+
+    @Mock
+    private PostLikeRepository postLikeRepository;
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger loadTransactions = new AtomicInteger();
+    private final TransactionOperations loadTransaction = new TransactionOperations() {
+        @Override
+        public <T> T execute(TransactionCallback<T> action) {
+            loadTransactions.incrementAndGet();
+            return action.doInTransaction(null);
+        }
+    };
+
+    @Test
+    @DisplayName("처음 조회할 때 한 번만 DB 에서 적재")
+    void load_lazily_once() {
+        LikedPostIndex index = index(100);
+        when(postLikeRepository.findPostIdsByUserId(USER_ID)).thenReturn(List.of(1L, 3L));
+
+        assertThat(index.likedOf(USER_ID, List.of(1L, 2L, 3L)))
+                .containsExactly(entry(1L, true), entry(2L, false), entry(3L, true));
+        assertThat(index.isLiked(USER_ID, 3L)).isTrue();
+
+        verify(postLikeRepository, times(1)).findPostIdsByUserId(USER_ID);
+    }
+
+    @Test
+    @DisplayName("좋아요/취소 시 적재된 비트맵 갱신")
+    void apply_like_changes() {
+        LikedPostIndex index = index(100);
+        when(postLikeRepository.findPostIdsByUserId(USER_ID)).thenReturn(List.of(1L));
+        index.isLiked(USER_ID, 1L);
+
+        index.onLikeChanged(USER_ID, 2L, true);
+        index.onLikeChanged(USER_ID, 1L, false);
+
+        assertThat(index.isLiked(USER_ID, 1L)).isFalse();
+        assertThat(index.isLiked(USER_ID, 2L)).isTrue();
+        verify(postLikeRepository, times(1)).findPostIdsByUserId(USER_ID);
+    }
+
+    @Test
+    @DisplayName("적재 전 변경은 무시하고 다음 적재 때 DB 에서 읽음")
+    void ignore_change_before_load() {
+        LikedPostIndex index = index(100);
+        index.onLikeChanged(USER_ID, 2L, true);
+
+        verifyNoInteractions(postLikeRepository);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 커밋 후 반영")
+    void apply_after_commit() {
+        LikedPostIndex index = index(100);
+        when(postLikeRepository.findPostIdsByUserId(USER_ID)).thenReturn(List.of());
+        index.isLiked(USER_ID, 1L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            index.onLikeChanged(USER_ID, 1L, true);
+            assertThat(index.isLiked(USER_ID, 1L)).isFalse();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(index.isLiked(USER_ID, 1L)).isTrue();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("최대 사용자 수를 넘으면 오래된 사용자부터 제거")
+    void evict_least_recently_used() {
+        LikedPostIndex index = index(1);
+        when(postLikeRepository.findPostIdsByUserId(anyLong())).thenReturn(List.of());
+
+        index.isLiked(1L, 1L);
+        index.isLiked(2L, 1L);
+        index.isLiked(1L, 1L);
+
+        verify(postLikeRepository, times(2)).findPostIdsByUserId(1L);
+    }
+
+    @Test
+    @DisplayName("적재는 호출 측과 별도의 트랜잭션에서 읽음")
+    void load_in_own_transaction() {
+        LikedPostIndex index = index(100);
+        when(postLikeRepository.findPostIdsByUserId(USER_ID)).thenReturn(List.of(1L));
+
+        index.isLiked(USER_ID, 1L);
+        index.isLiked(USER_ID, 1L);
+
+        assertThat(loadTransactions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("TTL 이 지나면 다른 노드의 변경을 반영하도록 다시 적재")
+    void reload_after_ttl() {
+        LikedPostIndex index = index(100);
+        when(postLikeRepository.findPostIdsByUserId(USER_ID)).thenReturn(List.of(), List.of(2L));
+
+        assertThat(index.isLiked(USER_ID, 2L)).isFalse();
+        now.addAndGet(TTL_MILLIS - 1);
+        assertThat(index.isLiked(USER_ID, 2L)).isFalse();
+        now.addAndGet(1);
+        assertThat(index.isLiked(USER_ID, 2L)).isTrue();
+
+        verify(postLikeRepository, times(2)).findPostIdsByUserId(USER_ID);
+    }
+
+    private LikedPostIndex index(int maxUsers) {
+        return new LikedPostIndex(postLikeRepository, loadTransaction, maxUsers, TTL_MILLIS, now::get);
+    }
+}
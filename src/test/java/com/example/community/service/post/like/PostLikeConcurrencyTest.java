@@ -0,0 +1,135 @@
+package com.example.community.service.post.like;
+
+import com.example.community.domain.Post;
+import com.example.community.domain.User;
+import com.example.community.repository.post.PostJdbcRepository;
+import com.example.community.repository.post.PostLikeRepository;
+import com.example.community.repository.post.PostRepository;
+import com.example.community.repository.user.UserRepository;
+import com.example.community.service.post.trending.TrendingPostService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 락 순서 교착은 InnoDB 에서만 드러나므로 MySQL 컨테이너로 돌린다. Docker 가 없으면 건너뛴다.
+ * 스레드마다 따로 커밋해야 하므로 테스트를 한 트랜잭션으로 묶지 않는다.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({PostLikeServiceImpl.class, PostJdbcRepository.class, LikedPostIndex.class})
+class PostLikeConcurrencyTest {
+
+    private static final int USERS = 50;
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @MockitoBean private TrendingPostService trendingPostService;
+    @MockitoBean private LikeIngestionQueue likeIngestionQueue;
+
+    @Autowired private PostLikeService postLikeService;
+    @Autowired private PostRepository postRepository;
+    @Autowired private PostLikeRepository postLikeRepository;
+    @Autowired private UserRepository userRepository;
+
+    private final List<User> users = new ArrayList<>();
+    private Post post;
+
+    @BeforeEach
+    void init() {
+        for (int i = 0; i < USERS; i++) {
+            users.add(userRepository.save(User.builder()
+                    .email("user" + i + "@test.com")
+                    .password("1234")
+                    .nickname("user" + i)
+                    .build()));
+        }
+        post = postRepository.save(Post.builder().title("hot").content("hot post").user(users.getFirst()).build());
+    }
+
+    @AfterEach
+    void clear() {
+        postLikeRepository.deleteAllInBatch();
+        postRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("같은 게시글에 동시에 좋아요해도 교착 없이 모두 반영")
+    void concurrent_add_like_without_deadlock() throws InterruptedException {
+        List<Throwable> errors = runConcurrently((postId, user) -> postLikeService.addLike(postId, user));
+
+        assertThat(errors).isEmpty();
+        assertThat(postRepository.findLikeCountById(post.getId())).contains((long) USERS);
+        assertThat(postLikeRepository.countByPostId(post.getId())).isEqualTo(USERS);
+    }
+
+    @Test
+    @DisplayName("같은 게시글에 좋아요와 취소가 섞여도 교착 없이 수가 맞음")
+    void concurrent_add_and_remove_like_without_deadlock() throws InterruptedException {
+        for (int i = 0; i < USERS; i += 2) {
+            postLikeService.addLike(post.getId(), users.get(i));
+        }
+
+        List<Throwable> errors = runConcurrently((postId, user) -> {
+            if (users.indexOf(user) % 2 == 0) {
+                postLikeService.removeLike(postId, user);
+            } else {
+                postLikeService.addLike(postId, user);
+            }
+        });
+
+        assertThat(errors).isEmpty();
+        long likes = postLikeRepository.countByPostId(post.getId());
+        assertThat(likes).isEqualTo(USERS / 2);
+        assertThat(postRepository.findLikeCountById(post.getId())).contains(likes);
+    }
+
+    private List<Throwable> runConcurrently(BiConsumer<Long, User> action) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(USERS);
+        CountDownLatch start = new CountDownLatch(1);
+        Queue<Throwable> errors = new ConcurrentLinkedQueue<>();
+        for (User user : users) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    action.accept(post.getId(), user);
+                } catch (Throwable e) {
+                    errors.add(e);
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        return new ArrayList<>(errors);
+    }
+}
@@ -1,26 +1,30 @@
 package com.example.community.service.post.like;
 
 import com.example.community.common.exception.custom.BadRequestException;
-import com.example.community.common.exception.custom.DuplicatedException;
 import com.example.community.common.exception.custom.ResourceNotFoundException;
-import com.example.community.domain.Post;
-import com.example.community.domain.PostLike;
 import com.example.community.domain.User;
 import com.example.community.dto.response.post.PostLikeResponse;
-import com.example.community.repository.post.PostLikeRepository;
+import com.example.community.repository.post.PostJdbcRepository;
+import com.example.community.repository.post.PostLikeCount;
 import com.example.community.repository.post.PostRepository;
+import com.example.community.service.post.trending.TrendingPostService;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,22 +36,31 @@ class PostLikeServiceTest {
     @Mock
     private PostRepository postRepository;
     @Mock
-    private PostLikeRepository postLikeRepository;
+    private PostJdbcRepository postJdbcRepository;
+    @Mock
+    private TrendingPostService trendingPostService;
+    @Mock
+    private LikedPostIndex likedPostIndex;
+    @Mock
+    private LikeIngestionQueue likeIngestionQueue;
+    @Mock
+    private PlatformTransactionManager transactionManager;
 
-    @InjectMocks
     private PostLikeServiceImpl postLikeService;
 
+    @BeforeEach
+    void init() {
+        postLikeService = new PostLikeServiceImpl(postRepository, postJdbcRepository, trendingPostService,
+                likedPostIndex, likeIngestionQueue, new TransactionTemplate(transactionManager));
+    }
+
     @Test
     @DisplayName("게시글 좋아요 추가 - 성공")
     void add_post_like_success() {
         User user = createUser(USER_ID);
-        Post post = createPost(POST_ID, user);
 
-        when(postRepository.findById(POST_ID)).thenReturn(Optional.of(post));
-        when(postLikeRepository.existsByPostIdAndUserId(POST_ID, USER_ID)).thenReturn(false);
-        when(postLikeRepository.save(any(PostLike.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
-        when(postLikeRepository.countByPostId(POST_ID)).thenReturn(1L);
+        when(postJdbcRepository.lockPost(POST_ID)).thenReturn(Optional.of(0L));
+        when(postJdbcRepository.insertLikeIfAbsent(POST_ID, USER_ID)).thenReturn(true);
 
         PostLikeResponse response = postLikeService.addLike(POST_ID, user);
 
@@ -55,10 +68,14 @@ class PostLikeServiceTest {
         assertThat(response.getLiked()).isTrue();
         assertThat(response.getLikeCount()).isEqualTo(1L);
 
-        verify(postRepository).findById(POST_ID);
-        verify(postLikeRepository).existsByPostIdAndUserId(POST_ID, USER_ID);
-        verify(postLikeRepository).save(any(PostLike.class));
-        verify(postLikeRepository).countByPostId(POST_ID);
+        InOrder inOrder = inOrder(postJdbcRepository, postRepository);
+        inOrder.verify(postJdbcRepository).lockPost(POST_ID);
+        inOrder.verify(postJdbcRepository).insertLikeIfAbsent(POST_ID, USER_ID);
+        inOrder.verify(postRepository).increaseLikeCount(POST_ID);
+        verify(likedPostIndex).onLikeChanged(USER_ID, POST_ID, true);
+        verify(trendingPostService).recordLike(POST_ID, true);
+        verify(postRepository, never()).findById(POST_ID);
+        verify(postRepository, never()).findLikeCountById(POST_ID);
     }
 
     @Test
@@ -67,46 +84,91 @@ class PostLikeServiceTest {
         User user = createUser(USER_ID);
         Long wrongId = 100L;
 
-        when(postRepository.findById(wrongId)).thenReturn(Optional.empty());
+        when(postJdbcRepository.lockPost(wrongId)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> postLikeService.addLike(wrongId, user))
                 .isInstanceOf(ResourceNotFoundException.class);
 
-        verify(postRepository).findById(wrongId);
-        verify(postLikeRepository, never()).existsByPostIdAndUserId(wrongId, USER_ID);
-        verify(postLikeRepository, never()).save(any(PostLike.class));
-        verify(postLikeRepository, never()).countByPostId(wrongId);
+        verify(postJdbcRepository, never()).insertLikeIfAbsent(wrongId, USER_ID);
+        verify(postRepository, never()).increaseLikeCount(wrongId);
+        verifyNoInteractions(likedPostIndex, trendingPostService);
     }
 
     @Test
-    @DisplayName("게시글 좋아요 추가 - 실패(중복 좋아요)")
-    void add_post_like_fail_duplicate() {
+    @DisplayName("게시글 좋아요 추가 - 이미 좋아요한 게시글은 상태만 반환")
+    void add_post_like_idempotent() {
         User user = createUser(USER_ID);
-        Post post = createPost(POST_ID, user);
 
-        when(postRepository.findById(POST_ID)).thenReturn(Optional.of(post));
-        when(postLikeRepository.existsByPostIdAndUserId(POST_ID, USER_ID))
-                .thenReturn(true);
+        when(postJdbcRepository.lockPost(POST_ID)).thenReturn(Optional.of(3L));
+        when(postJdbcRepository.insertLikeIfAbsent(POST_ID, USER_ID)).thenReturn(false);
+
+        PostLikeResponse response = postLikeService.addLike(POST_ID, user);
 
-        assertThatThrownBy(() -> postLikeService.addLike(POST_ID, user))
-                .isInstanceOf(DuplicatedException.class);
+        assertThat(response.getLiked()).isTrue();
+        assertThat(response.getLikeCount()).isEqualTo(3L);
 
-        verify(postRepository).findById(POST_ID);
-        verify(postLikeRepository).existsByPostIdAndUserId(POST_ID, USER_ID);
-        verify(postLikeRepository, never()).save(any(PostLike.class));
-        verify(postLikeRepository, never()).countByPostId(POST_ID);
+        verify(postRepository, never()).increaseLikeCount(POST_ID);
+        verifyNoInteractions(likedPostIndex, trendingPostService);
+    }
+
+    @Test
+    @DisplayName("게시글 좋아요 추가 - 비동기 모드는 큐에 넣고 반영될 좋아요 수로 바로 응답")
+    void add_post_like_async() {
+        User user = createUser(USER_ID);
+
+        when(likeIngestionQueue.isEnabled()).thenReturn(true);
+        when(likeIngestionQueue.offer(POST_ID, USER_ID, true)).thenReturn(true);
+        when(likeIngestionQueue.pendingDelta(POST_ID)).thenReturn(1L);
+        when(postRepository.findLikeCountById(POST_ID)).thenReturn(Optional.of(3L));
+
+        PostLikeResponse response = postLikeService.addLike(POST_ID, user);
+
+        assertThat(response.getLiked()).isTrue();
+        assertThat(response.getLikeCount()).isEqualTo(4L);
+        verifyNoInteractions(postJdbcRepository, likedPostIndex, trendingPostService, transactionManager);
+    }
+
+    @Test
+    @DisplayName("게시글 좋아요 추가 - 큐가 가득 차면 동기로 처리")
+    void add_post_like_async_overflow() {
+        User user = createUser(USER_ID);
+
+        when(postJdbcRepository.lockPost(POST_ID)).thenReturn(Optional.of(3L));
+        when(likeIngestionQueue.isEnabled()).thenReturn(true);
+        when(likeIngestionQueue.offer(POST_ID, USER_ID, true)).thenReturn(false);
+        when(postJdbcRepository.insertLikeIfAbsent(POST_ID, USER_ID)).thenReturn(true);
+        when(postRepository.findLikeCountById(POST_ID)).thenReturn(Optional.of(3L));
+
+        PostLikeResponse response = postLikeService.addLike(POST_ID, user);
+
+        assertThat(response.getLikeCount()).isEqualTo(4L);
+        verify(postRepository).increaseLikeCount(POST_ID);
+    }
+
+    @Test
+    @DisplayName("게시글 좋아요 취소 - 비동기 모드는 큐에 넣고 바로 응답")
+    void remove_like_async() {
+        User user = createUser(USER_ID);
+
+        when(likeIngestionQueue.isEnabled()).thenReturn(true);
+        when(likeIngestionQueue.offer(POST_ID, USER_ID, false)).thenReturn(true);
+        when(likeIngestionQueue.pendingDelta(POST_ID)).thenReturn(-1L);
+        when(postRepository.findLikeCountById(POST_ID)).thenReturn(Optional.of(3L));
+
+        PostLikeResponse response = postLikeService.removeLike(POST_ID, user);
+
+        assertThat(response.getLiked()).isFalse();
+        assertThat(response.getLikeCount()).isEqualTo(2L);
+        verifyNoInteractions(postJdbcRepository, transactionManager);
     }
 
     @Test
     @DisplayName("게시글 좋아요 취소 - 성공")
     void remove_like_success() {
         User user = createUser(USER_ID);
-        Post post = createPost(POST_ID, user);
-        PostLike postLike = createPostLike(post, user);
 
-        when(postLikeRepository.findByPostIdAndUserId(POST_ID, USER_ID))
-                .thenReturn(Optional.of(postLike));
-        when(postLikeRepository.countByPostId(POST_ID)).thenReturn(0L);
+        when(postJdbcRepository.lockPost(POST_ID)).thenReturn(Optional.of(1L));
+        when(postJdbcRepository.deleteLike(POST_ID, USER_ID)).thenReturn(true);
 
         PostLikeResponse response = postLikeService.removeLike(POST_ID, user);
 
@@ -114,25 +176,40 @@ class PostLikeServiceTest {
         assertThat(response.getLikeCount()).isEqualTo(0L);
         assertThat(response.getLiked()).isFalse();
 
-        verify(postLikeRepository).findByPostIdAndUserId(POST_ID, USER_ID);
-        verify(postLikeRepository).delete(postLike);
-        verify(postLikeRepository).countByPostId(POST_ID);
+        verify(postJdbcRepository).deleteLike(POST_ID, USER_ID);
+        verify(postRepository).decreaseLikeCount(POST_ID);
+        verify(likedPostIndex).onLikeChanged(USER_ID, POST_ID, false);
+        verify(trendingPostService).recordLike(POST_ID, false);
+    }
+
+    @Test
+    @DisplayName("게시글 좋아요 취소 - 좋아요하지 않은 게시글은 상태만 반환")
+    void remove_like_idempotent() {
+        User user = createUser(USER_ID);
+
+        when(postJdbcRepository.lockPost(POST_ID)).thenReturn(Optional.of(2L));
+        when(postJdbcRepository.deleteLike(POST_ID, USER_ID)).thenReturn(false);
+
+        PostLikeResponse response = postLikeService.removeLike(POST_ID, user);
+
+        assertThat(response.getLiked()).isFalse();
+        assertThat(response.getLikeCount()).isEqualTo(2L);
+
+        verify(postRepository, never()).decreaseLikeCount(POST_ID);
+        verifyNoInteractions(likedPostIndex, trendingPostService);
     }
 
     @Test
-    @DisplayName("게시글 좋아요 취소 - 실패(좋아요 없음)")
-    void remove_like_fail() {
+    @DisplayName("게시글 좋아요 취소 - 실패(존재하지 않는 게시글)")
+    void remove_like_fail_no_post() {
         User user = createUser(USER_ID);
 
-        when(postLikeRepository.findByPostIdAndUserId(POST_ID, USER_ID))
-                .thenReturn(Optional.empty());
+        when(postJdbcRepository.lockPost(POST_ID)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> postLikeService.removeLike(POST_ID, user))
-                .isInstanceOf(BadRequestException.class);
+                .isInstanceOf(ResourceNotFoundException.class);
 
-        verify(postLikeRepository).findByPostIdAndUserId(POST_ID, USER_ID);
-        verify(postLikeRepository, never()).delete(any(PostLike.class));
-        verify(postLikeRepository, never()).countByPostId(POST_ID);
+        verify(postJdbcRepository, never()).deleteLike(POST_ID, USER_ID);
     }
 
     @Test
@@ -140,10 +217,10 @@ class PostLikeServiceTest {
     void get_like_count_success() {
         User user = createUser(USER_ID);
 
-        when(postLikeRepository.existsByPostIdAndUserId(POST_ID, USER_ID))
+        when(likedPostIndex.isLiked(USER_ID, POST_ID))
                 .thenReturn(true);
-        when(postLikeRepository.countByPostId(POST_ID))
-                .thenReturn(5L);
+        when(postRepository.findLikeCountById(POST_ID))
+                .thenReturn(Optional.of(5L));
 
         PostLikeResponse response = postLikeService.getLikeCount(POST_ID, user);
 
@@ -151,8 +228,94 @@ class PostLikeServiceTest {
         assertThat(response.getLikeCount()).isEqualTo(5L);
         assertThat(response.getLiked()).isTrue();
 
-        verify(postLikeRepository).existsByPostIdAndUserId(POST_ID, USER_ID);
-        verify(postLikeRepository).countByPostId(POST_ID);
+        verify(likedPostIndex).isLiked(USER_ID, POST_ID);
+        verify(postRepository).findLikeCountById(POST_ID);
+    }
+
+    @Test
+    @DisplayName("게시글 좋아요 조회 - 반영 대기 중인 내 좋아요가 보임")
+    void get_like_count_pending() {
+        User user = createUser(USER_ID);
+
+        when(likeIngestionQueue.pendingLiked(POST_ID, USER_ID)).thenReturn(true);
+        when(likeIngestionQueue.pendingDelta(POST_ID)).thenReturn(1L);
+        when(postRepository.findLikeCountById(POST_ID)).thenReturn(Optional.of(5L));
+
+        PostLikeResponse response = postLikeService.getLikeCount(POST_ID, user);
+
+        assertThat(response.getLiked()).isTrue();
+        assertThat(response.getLikeCount()).isEqualTo(6L);
+        verifyNoInteractions(likedPostIndex);
+    }
+
+    @Test
+    @DisplayName("게시글 좋아요 일괄 조회 - 반영 대기 중인 의도를 겹쳐 보여줌")
+    void get_likes_pending() {
+        User user = createUser(USER_ID);
+        List<Long> postIds = List.of(1L, 2L);
+
+        when(postRepository.findLikeCountsByIdIn(postIds))
+                .thenReturn(List.of(likeCount(1L, 5L), likeCount(2L, 1L)));
+        when(likedPostIndex.likedOf(USER_ID, postIds)).thenReturn(Map.of(1L, false, 2L, true));
+        when(likeIngestionQueue.pendingLiked(1L, USER_ID)).thenReturn(true);
+        when(likeIngestionQueue.pendingLiked(2L, USER_ID)).thenReturn(false);
+        when(likeIngestionQueue.pendingDelta(1L)).thenReturn(1L);
+        when(likeIngestionQueue.pendingDelta(2L)).thenReturn(-1L);
+
+        List<PostLikeResponse> responses = postLikeService.getLikes(postIds, user);
+
+        assertThat(responses).extracting(PostLikeResponse::getLiked).containsExactly(true, false);
+        assertThat(responses).extracting(PostLikeResponse::getLikeCount).containsExactly(6L, 0L);
+    }
+
+    @Test
+    @DisplayName("게시글 좋아요 일괄 조회 - 성공")
+    void get_likes_success() {
+        User user = createUser(USER_ID);
+        List<Long> postIds = List.of(1L, 2L, 3L, 2L);
+
+        when(postRepository.findLikeCountsByIdIn(List.of(1L, 2L, 3L)))
+                .thenReturn(List.of(likeCount(1L, 5L), likeCount(2L, 0L)));
+        when(likedPostIndex.likedOf(USER_ID, List.of(1L, 2L, 3L)))
+                .thenReturn(Map.of(1L, true, 2L, false, 3L, false));
+
+        List<PostLikeResponse> responses = postLikeService.getLikes(postIds, user);
+
+        assertThat(responses).extracting(PostLikeResponse::getPostId).containsExactly(1L, 2L);
+        assertThat(responses).extracting(PostLikeResponse::getLiked).containsExactly(true, false);
+        assertThat(responses).extracting(PostLikeResponse::getLikeCount).containsExactly(5L, 0L);
+        verifyNoInteractions(postJdbcRepository);
+    }
+
+    @Test
+    @DisplayName("게시글 좋아요 일괄 조회 - 비로그인은 모두 false")
+    void get_likes_anonymous() {
+        when(postRepository.findLikeCountsByIdIn(List.of(1L)))
+                .thenReturn(List.of(likeCount(1L, 5L)));
+
+        List<PostLikeResponse> responses = postLikeService.getLikes(List.of(1L), null);
+
+        assertThat(responses).singleElement()
+                .satisfies(response -> assertThat(response.getLiked()).isFalse());
+        verifyNoInteractions(likedPostIndex);
+    }
+
+    @Test
+    @DisplayName("게시글 좋아요 일괄 조회 - 실패(개수 초과)")
+    void get_likes_fail_too_many() {
+        List<Long> postIds = LongStream.rangeClosed(1, 101).boxed().toList();
+
+        assertThatThrownBy(() -> postLikeService.getLikes(postIds, createUser(USER_ID)))
+                .isInstanceOf(BadRequestException.class);
+
+        verifyNoInteractions(postRepository, likedPostIndex);
+    }
+
+    private PostLikeCount likeCount(Long postId, Long likeCount) {
+        return new PostLikeCount() {
+            public Long getPostId() { return postId; }
+            public Long getLikeCount() { return likeCount; }
+        };
     }
 
     private User createUser(Long id) {
@@ -165,23 +328,4 @@ class PostLikeServiceTest {
         ReflectionTestUtils.setField(user, "id", id);
         return user;
     }
-
-    private Post createPost(Long id, User user) {
-        Post post = Post.builder()
-                .title("title")
-                .content("content")
-                .user(user)
-                .build();
-        ReflectionTestUtils.setField(post, "id", id);
-        return post;
-    }
-
-    private PostLike createPostLike(Post post, User user) {
-        PostLike like = PostLike.builder()
-                .post(post)
-                .user(user)
-                .build();
-        ReflectionTestUtils.setField(like, "id", 100L);
-        return like;
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,93 @@
+package com.example.community.service.post.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PostSearchIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("조사가 붙은 한글도 부분 문자열로 검색되고 최신 글부터 나옴")
+    void search_korean_substring() {
+        PostSearchIndex index = open(8);
+
+        index.index(1L, "스프링 부트 시작하기", "처음 만드는 게시판");
+        index.index(2L, "자바 공부", "스프링부트에서 검색 기능 만들기");
+        index.index(3L, "오늘 점심", "김치찌개");
+
+        assertThat(index.search("스프링", 10)).containsExactly(2L, 1L);
+        assertThat(index.search("게시판", 10)).containsExactly(1L);
+        assertThat(index.search("찌", 10)).containsExactly(3L);
+        assertThat(index.search("스프링 없는말", 10)).isEmpty();
+        assertThat(index.search("스프링", 1)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("수정하면 이전 내용으로는 검색되지 않고, 삭제하면 빠짐")
+    void update_and_delete() {
+        PostSearchIndex index = open(8);
+        index.index(1L, "고양이 사진", "귀여운 고양이");
+        index.flush();
+
+        index.index(1L, "강아지 사진", "귀여운 강아지");
+        index.index(2L, "고양이 근황", "");
+
+        assertThat(index.search("고양이", 10)).containsExactly(2L);
+        assertThat(index.search("강아지", 10)).containsExactly(1L);
+
+        index.delete(2L);
+        assertThat(index.search("고양이", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("flush 한 세그먼트는 재시작 후 DB 없이 다시 열림")
+    void reopen_after_restart() {
+        PostSearchIndex index = open(8);
+        index.index(1L, "고양이 사진", "");
+        index.index(2L, "고양이 근황", "");
+        index.flush();
+        index.delete(1L);
+        index.index(3L, "강아지 사진", "");
+        index.close();
+
+        PostSearchIndex restarted = open(8);
+
+        assertThat(restarted.durableUntil()).isPresent();
+        assertThat(restarted.search("고양이", 10)).containsExactly(2L);
+        assertThat(restarted.search("사진", 10)).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("세그먼트가 많아지면 살아 있는 글만 남기고 하나로 병합")
+    void merge_segments() {
+        PostSearchIndex index = open(2);
+        index.index(1L, "고양이", "");
+        index.flush();
+        index.index(2L, "고양이", "");
+        index.flush();
+        index.index(1L, "강아지", "");
+        index.flush();
+
+        assertThat(index.segmentCount()).isEqualTo(1);
+        assertThat(index.search("고양이", 10)).containsExactly(2L);
+        assertThat(index.search("강아지", 10)).containsExactly(1L);
+
+        PostSearchIndex restarted = open(2);
+        assertThat(restarted.segmentCount()).isEqualTo(1);
+        assertThat(restarted.search("고양이", 10)).containsExactly(2L);
+        assertThat(restarted.search("강아지", 10)).containsExactly(1L);
+    }
+
+    private PostSearchIndex open(int maxSegments) {
+        PostSearchIndex index = new PostSearchIndex(tempDir, maxSegments, System::currentTimeMillis);
+        index.open();
+        return index;
+    }
+}
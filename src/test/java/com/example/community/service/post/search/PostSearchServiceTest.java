@@ -0,0 +1,106 @@
+package com.example.community.service.post.search;
+
+import com.example.community.dto.response.post.PostListResponse;
+import com.example.community.repository.post.PostListRow;
+import com.example.community.repository.post.PostRepository;
+import com.example.community.service.post.PostChangedEvent;
+import com.example.community.service.post.PostListAssembler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostSearchServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PostListAssembler postListAssembler;
+
+    private PostSearchIndex postSearchIndex;
+    private PostSearchServiceImpl postSearchService;
+
+    @BeforeEach
+    void init() {
+        postSearchIndex = new PostSearchIndex(tempDir, 8, () -> 0L);
+        postSearchIndex.open();
+        postSearchService = new PostSearchServiceImpl(postSearchIndex, postRepository, postListAssembler);
+    }
+
+    @Test
+    @DisplayName("검색 - DB 에 없는 글은 색인에서 지우고 다음 글로 채움")
+    void search_refill_missing_posts() {
+        for (long postId = 1; postId <= 4; postId++) {
+            postSearchIndex.index(postId, "스프링 " + postId, "");
+        }
+        // 3, 4 번 글은 DB 에서 지워졌다.
+        Map<Long, PostListRow> live = Map.of(1L, row(1L), 2L, row(2L));
+        when(postRepository.findListRowsByIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> postIds = invocation.getArgument(0);
+            return postIds.stream().filter(live::containsKey).map(live::get).toList();
+        });
+
+        postSearchService.search("스프링", 2);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PostListRow>> rows = ArgumentCaptor.forClass(List.class);
+        verify(postListAssembler).assemble(rows.capture());
+        assertThat(rows.getValue()).extracting(PostListRow::getPostId).containsExactly(2L, 1L);
+        assertThat(postSearchIndex.search("스프링", 10)).containsExactly(2L, 1L);
+        verify(postRepository).findListRowsByIdIn(List.of(4L, 3L));
+        verify(postRepository).findListRowsByIdIn(List.of(2L, 1L));
+    }
+
+    @Test
+    @DisplayName("검색 - 후보가 limit 보다 적으면 한 번만 조회")
+    void search_stop_when_exhausted() {
+        postSearchIndex.index(1L, "스프링", "");
+        when(postRepository.findListRowsByIdIn(anyCollection())).thenReturn(List.of());
+
+        postSearchService.search("스프링", 2);
+
+        verify(postRepository, times(1)).findListRowsByIdIn(anyCollection());
+        verify(postListAssembler).assemble(List.of());
+        assertThat(postSearchIndex.search("스프링", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("변경 이벤트 - 작성/수정은 본문 전체로 색인하고 삭제는 색인에서 제거")
+    void apply_post_changed_events() {
+        PostListResponse row = PostListResponse.builder().postId(1L).title("제목").content("요약").build();
+
+        postSearchService.onPostChanged(PostChangedEvent.created(row, "본문 끝의 스프링"));
+        assertThat(postSearchIndex.search("스프링", 10)).containsExactly(1L);
+
+        postSearchService.onPostChanged(PostChangedEvent.updated(row, "자바"));
+        assertThat(postSearchIndex.search("스프링", 10)).isEmpty();
+        assertThat(postSearchIndex.search("자바", 10)).containsExactly(1L);
+
+        postSearchService.onPostChanged(PostChangedEvent.deleted(1L));
+        assertThat(postSearchIndex.search("자바", 10)).isEmpty();
+    }
+
+    private PostListRow row(Long postId) {
+        PostListRow row = mock(PostListRow.class);
+        when(row.getPostId()).thenReturn(postId);
+        return row;
+    }
+}
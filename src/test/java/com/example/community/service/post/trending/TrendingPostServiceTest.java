@@ -0,0 +1,181 @@
+package com.example.community.service.post.trending;
+
+import com.example.community.domain.Post;
+import com.example.community.domain.User;
+import com.example.community.dto.response.post.TrendingPostResponse;
+import com.example.community.repository.post.PostRepository;
+import com.example.community.repository.post.PostTrendingSource;
+import com.example.community.service.post.PostChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TrendingPostServiceTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Spy
+    private TrendingRanking trendingRanking = new TrendingRanking(360, 1000);
+
+    @InjectMocks
+    private TrendingPostServiceImpl trendingPostService;
+
+    @Test
+    @DisplayName("인기 게시글 조회 - 이벤트 가중치 순으로 정렬")
+    void get_trending_success() {
+        User user = createUser();
+        Post first = createPost(1L, user);
+        Post second = createPost(2L, user);
+
+        trendingPostService.recordView(1L);
+        trendingPostService.recordView(1L);
+        trendingPostService.recordLike(2L, true);
+
+        when(postRepository.findAllByIdInWithUser(anyCollection())).thenReturn(List.of(first, second));
+
+        List<TrendingPostResponse> result = trendingPostService.getTrending(10);
+
+        assertThat(result).extracting(TrendingPostResponse::getPostId).containsExactly(2L, 1L);
+        verify(postRepository).findAllByIdInWithUser(List.of(2L, 1L));
+    }
+
+    @Test
+    @DisplayName("인기 게시글 조회 - 삭제된 게시글 제외")
+    void get_trending_skip_deleted() {
+        Post post = createPost(1L, createUser());
+        trendingPostService.recordComment(1L);
+        trendingPostService.recordComment(2L);
+
+        when(postRepository.findAllByIdInWithUser(anyCollection())).thenReturn(List.of(post));
+
+        assertThat(trendingPostService.getTrending(10))
+                .extracting(TrendingPostResponse::getPostId)
+                .containsExactly(1L);
+        assertThat(trendingRanking.top(10)).extracting(TrendingRanking.Entry::postId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("인기 게시글 조회 - 삭제된 게시글만큼 다음 순위로 채움")
+    void get_trending_refill() {
+        User user = createUser();
+        trendingPostService.recordLike(3L, true);
+        trendingPostService.recordComment(2L);
+        trendingPostService.recordView(1L);
+
+        when(postRepository.findAllByIdInWithUser(List.of(3L, 2L))).thenReturn(List.of(createPost(2L, user)));
+        when(postRepository.findAllByIdInWithUser(List.of(1L))).thenReturn(List.of(createPost(1L, user)));
+
+        assertThat(trendingPostService.getTrending(2))
+                .extracting(TrendingPostResponse::getPostId)
+                .containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("게시글 삭제 이벤트 - 순위에서 제외")
+    void remove_on_post_deleted() {
+        trendingPostService.recordComment(1L);
+        trendingPostService.recordComment(2L);
+
+        trendingPostService.onPostChanged(PostChangedEvent.deleted(1L));
+
+        assertThat(trendingRanking.top(10)).extracting(TrendingRanking.Entry::postId).containsExactly(2L);
+        verify(trendingRanking).remove(1L);
+    }
+
+    @Test
+    @DisplayName("인기 게시글 조회 - 순위 비어 있으면 DB 조회 안 함")
+    void get_trending_empty() {
+        assertThat(trendingPostService.getTrending(10)).isEmpty();
+
+        verifyNoInteractions(postRepository);
+    }
+
+    @Test
+    @DisplayName("좋아요 취소 시 점수 차감")
+    void record_unlike() {
+        trendingPostService.recordLike(1L, true);
+        trendingPostService.recordLike(1L, false);
+
+        assertThat(trendingRanking.top(10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("순위 재구성 - 누적 수치에 작성 이후 경과 시간만큼 감쇠 적용")
+    void rebuild_from_db() {
+        LocalDateTime now = LocalDateTime.now();
+        when(postRepository.findTrendingSources(any(LocalDateTime.class))).thenReturn(List.of(
+                source(1L, 100L, 0L, 0L, now.minusHours(12)),
+                source(2L, 10L, 2L, 1L, now.minusMinutes(1)),
+                source(3L, 0L, 0L, 0L, now)
+        ));
+
+        trendingPostService.rebuild();
+
+        List<TrendingRanking.Entry> top = trendingRanking.top(10);
+        assertThat(top).extracting(TrendingRanking.Entry::postId).containsExactly(1L, 2L);
+        // 100 * 2^-2 = 25, 10 + 2 * 5 + 1 * 3 = 23
+        assertThat(top.get(0).score()).isCloseTo(25.0, within(0.1));
+        assertThat(top.get(1).score()).isCloseTo(23.0, within(0.1));
+        verify(trendingRanking).seed(anyMap());
+    }
+
+    @Test
+    @DisplayName("순위 보충 - 이벤트로 기록된 게시글은 DB 값으로 덮어쓰지 않음")
+    void rebuild_keeps_recorded_events() {
+        trendingPostService.recordView(1L);
+        when(postRepository.findTrendingSources(any(LocalDateTime.class))).thenReturn(List.of(
+                source(1L, 1_000L, 0L, 0L, LocalDateTime.now())
+        ));
+
+        trendingPostService.rebuild();
+
+        assertThat(trendingRanking.top(10)).singleElement()
+                .satisfies(entry -> assertThat(entry.score()).isCloseTo(1.0, within(0.01)));
+    }
+
+    private PostTrendingSource source(Long postId, Long viewCount, Long likeCount, Long commentCount, LocalDateTime createdDate) {
+        return new PostTrendingSource() {
+            public Long getPostId() { return postId; }
+            public Long getViewCount() { return viewCount; }
+            public Long getLikeCount() { return likeCount; }
+            public Long getCommentCount() { return commentCount; }
+            public LocalDateTime getCreatedDate() { return createdDate; }
+        };
+    }
+
+    private User createUser() {
+        User user = User.builder()
+                .email("test@test.com")
+                .password("password")
+                .nickname("test")
+                .profileImage("profile.jpg")
+                .build();
+        ReflectionTestUtils.setField(user, "id", 1L);
+        return user;
+    }
+
+    private Post createPost(Long id, User user) {
+        Post post = Post.builder()
+                .title("title")
+                .content("content")
+                .user(user)
+                .build();
+        ReflectionTestUtils.setField(post, "id", id);
+        return post;
+    }
+}
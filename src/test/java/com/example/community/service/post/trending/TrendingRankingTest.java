@@ -0,0 +1,144 @@
+package com.example.community.service.post.trending;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TrendingRankingTest {
+
+    private static final long HALF_LIFE = Duration.ofHours(1).toMillis();
+
+    private final AtomicLong now = new AtomicLong(0L);
+    private final TrendingRanking ranking = new TrendingRanking(HALF_LIFE, 100, now::get);
+
+    @Test
+    @DisplayName("점수 내림차순으로 상위 K 개 반환")
+    void top_k_by_score() {
+        ranking.add(1L, 1.0);
+        ranking.add(2L, 5.0);
+        ranking.add(3L, 3.0);
+        ranking.add(1L, 3.0);
+
+        List<TrendingRanking.Entry> top = ranking.top(2);
+
+        assertThat(top).extracting(TrendingRanking.Entry::postId).containsExactly(2L, 1L);
+        assertThat(top.getFirst().score()).isEqualTo(5.0);
+    }
+
+    @Test
+    @DisplayName("반감기마다 점수가 절반으로 감쇠")
+    void score_decays_by_half_life() {
+        ranking.add(1L, 8.0);
+
+        now.set(HALF_LIFE * 2);
+
+        assertThat(ranking.top(1).getFirst().score()).isCloseTo(2.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("최근 이벤트가 오래된 같은 크기의 이벤트보다 앞섬")
+    void recent_event_outranks_old_one() {
+        ranking.add(1L, 10.0);
+        now.set(HALF_LIFE);
+        ranking.add(2L, 6.0);
+
+        assertThat(ranking.top(2)).extracting(TrendingRanking.Entry::postId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("점수가 0 이하가 되면 순위에서 제외")
+    void remove_when_score_not_positive() {
+        ranking.add(1L, 5.0);
+        ranking.add(1L, -5.0);
+
+        assertThat(ranking.top(10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("용량을 넘으면 가장 낮은 점수부터 제거")
+    void evict_lowest_over_capacity() {
+        TrendingRanking small = new TrendingRanking(HALF_LIFE, 2, now::get);
+        small.add(1L, 1.0);
+        small.add(2L, 2.0);
+        small.add(3L, 3.0);
+
+        assertThat(small.top(10)).extracting(TrendingRanking.Entry::postId).containsExactly(3L, 2L);
+    }
+
+    @Test
+    @DisplayName("DB 점수로 보충 시 순위에 없는 게시글만 채우고 이벤트로 쌓인 점수는 유지")
+    void seed_only_missing_posts() {
+        ranking.add(1L, 10.0);
+        now.set(HALF_LIFE);
+
+        ranking.seed(Map.of(1L, 100.0, 2L, 4.0, 3L, 2.0));
+        ranking.add(3L, 4.0);
+
+        List<TrendingRanking.Entry> top = ranking.top(10);
+        assertThat(top).extracting(TrendingRanking.Entry::postId).containsExactly(3L, 1L, 2L);
+        assertThat(top.get(1).score()).isCloseTo(5.0, within(1e-9));
+        assertThat(top.get(2).score()).isCloseTo(4.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("삭제하거나 용량에서 밀려난 게시글은 보충으로 되살아나지 않음")
+    void seed_skips_dropped_posts() {
+        TrendingRanking small = new TrendingRanking(HALF_LIFE, 2, now::get);
+        small.add(1L, 1.0);
+        small.add(2L, 5.0);
+        small.add(3L, 3.0);
+        small.remove(2L);
+
+        small.seed(Map.of(1L, 100.0, 2L, 100.0));
+
+        assertThat(small.top(10)).extracting(TrendingRanking.Entry::postId).containsExactly(3L);
+
+        small.add(1L, 1.0);
+        assertThat(small.top(10)).extracting(TrendingRanking.Entry::postId).containsExactly(3L, 1L);
+    }
+
+    @Test
+    @DisplayName("오랜 시간이 지나도 점수가 넘치지 않음")
+    void rebase_before_overflow() {
+        ranking.add(1L, 1.0);
+        now.set(HALF_LIFE * 950);
+        ranking.add(2L, 1.0);
+        now.set(HALF_LIFE * 951);
+        ranking.add(3L, 1.0);
+
+        List<TrendingRanking.Entry> top = ranking.top(10);
+
+        // 1번은 950 반감기가 지나 0 으로 사라지고, 2번은 한 반감기만큼 감쇠
+        assertThat(top).extracting(TrendingRanking.Entry::postId).containsExactly(3L, 2L);
+        assertThat(top.get(0).score()).isCloseTo(1.0, within(1e-9));
+        assertThat(top.get(1).score()).isCloseTo(0.5, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("동시 갱신 후에도 게시글당 한 항목만 남음")
+    void concurrent_updates_keep_single_entry_per_post() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    ranking.add((long) (i % 10), 1.0);
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        List<TrendingRanking.Entry> top = ranking.top(100);
+        assertThat(top).hasSize(10);
+        assertThat(top).allSatisfy(entry -> assertThat(entry.score()).isEqualTo(8_000.0));
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.community.service.post.viewcount;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.*;
+
+class HyperLogLogTest {
+
+    @Test
+    @DisplayName("적은 수의 조회자는 정확히 추정")
+    void estimate_small_cardinality() {
+        HyperLogLog sketch = new HyperLogLog();
+        SplittableRandom random = new SplittableRandom(1);
+
+        for (int i = 0; i < 100; i++) {
+            sketch.add(random.nextLong());
+        }
+
+        assertThat(sketch.estimate()).isBetween(98L, 102L);
+        assertThat(sketch.isSparse()).isTrue();
+    }
+
+    @Test
+    @DisplayName("희소 표현에서 4KB 배열로 바뀌어도 추정치 유지")
+    void keep_estimate_when_switching_to_dense() {
+        HyperLogLog sketch = new HyperLogLog();
+        SplittableRandom random = new SplittableRandom(5);
+
+        for (int i = 0; i < 256; i++) {
+            sketch.add(random.nextLong());
+        }
+        long sparseEstimate = sketch.estimate();
+        while (sketch.isSparse()) {
+            sketch.add(random.nextLong());
+        }
+
+        assertThat(sparseEstimate).isCloseTo(256L, withinPercentage(3));
+        assertThat(sketch.estimate()).isGreaterThanOrEqualTo(sparseEstimate);
+    }
+
+    @Test
+    @DisplayName("많은 수의 조회자도 오차 5% 이내로 추정")
+    void estimate_large_cardinality() {
+        HyperLogLog sketch = new HyperLogLog();
+        SplittableRandom random = new SplittableRandom(7);
+        int distinct = 200_000;
+
+        for (int i = 0; i < distinct; i++) {
+            sketch.add(random.nextLong());
+        }
+
+        assertThat(sketch.estimate()).isCloseTo(distinct, withinPercentage(5));
+    }
+
+    @Test
+    @DisplayName("같은 값을 반복해서 추가해도 추정치는 변하지 않음")
+    void duplicates_do_not_change_estimate() {
+        HyperLogLog sketch = new HyperLogLog();
+        SplittableRandom random = new SplittableRandom(3);
+        long[] values = random.longs(1_000).toArray();
+
+        for (long value : values) {
+            sketch.add(value);
+        }
+        long estimate = sketch.estimate();
+        for (long value : values) {
+            assertThat(sketch.add(value)).isFalse();
+        }
+
+        assertThat(sketch.estimate()).isEqualTo(estimate);
+    }
+}
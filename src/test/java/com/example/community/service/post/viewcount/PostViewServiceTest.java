@@ -1,24 +1,28 @@
 package com.example.community.service.post.viewcount;
 
 import com.example.community.common.exception.custom.ResourceNotFoundException;
-import com.example.community.domain.Post;
-import com.example.community.domain.User;
-import com.example.community.repository.post.PostJdbcRepository;
-import com.example.community.repository.post.PostRepository;
+import com.example.community.dto.response.post.PostViewCountResponse;
+import com.example.community.service.post.feed.RecentPostFeed;
+import com.example.community.service.post.trending.TrendingPostService;
+import com.example.community.service.post.viewcount.store.ViewCounterStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
-import org.springframework.test.util.ReflectionTestUtils;
 
+import java.nio.file.Path;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -28,213 +32,211 @@ class PostViewServiceTest {
 
     private static final long POST_ID = 1L;
     private static final long INITIAL_VIEW_COUNT = 3L;
-    private static final long USER_ID = 100L;
+    private static final String VIEWER = "ip:127.0.0.1";
 
-    @Mock private PostRepository postRepository;
-    @Mock private PostJdbcRepository postJdbcRepository;
-    @Mock private CacheManager cacheManager;
-    @Mock private Cache cache;
+    @Mock private ViewCounterStore viewCounterStore;
+    @Mock private TrendingPostService trendingPostService;
+    @Mock private RecentPostFeed recentPostFeed;
+    @Spy private ViewCounter viewCounter = new ViewCounter();
+    @Spy private ViewCountJournal viewCountJournal =
+            new ViewCountJournal(viewCounter, false, Path.of("unused.journal"), 0L);
+    @Spy private UniqueViewTracker uniqueViewTracker = new UniqueViewTracker(false, 600, 1 << 16, 10_000);
+    @Spy private ViewCountFlushPolicy flushPolicy = new ViewCountFlushPolicy(1000, 60000, 10000, 200, 1, 2000);
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    @Spy private ViewCountFlushMetrics flushMetrics = new ViewCountFlushMetrics(meterRegistry, viewCounter, flushPolicy);
 
     @InjectMocks
     private PostViewServiceImpl postViewService;
 
     @Test
-    @DisplayName("조회수 증가 - 캐시에 값이 존재하는 경우")
-    void increaseViewcount_success_cache_present() {
-        Post post = createPost(POST_ID, INITIAL_VIEW_COUNT);
-
-        when(postRepository.findById(POST_ID)).thenReturn(Optional.of(post));
-        when(cacheManager.getCache("viewcount")).thenReturn(cache);
-        when(cache.get(POST_ID, Long.class)).thenReturn(5L);
-
-        Long result = postViewService.increaseViewcount(POST_ID);
-
-        assertThat(result).isEqualTo(6L);
-        verify(cache).put(POST_ID, 6L);
+    @DisplayName("조회수 증가 - DB 조회 없이 카운터에 누적")
+    void increaseViewcount_success_without_db() {
+        postViewService.increaseViewcount(POST_ID, VIEWER);
+        postViewService.increaseViewcount(POST_ID, VIEWER);
+
+        assertThat(viewCounter.get(POST_ID)).isEqualTo(2L);
+        verify(trendingPostService, times(2)).recordView(POST_ID);
+        verifyNoInteractions(viewCounterStore);
     }
 
     @Test
-    @DisplayName("조회수 증가 - 캐시에 값이 없는 경우(Post 값 사용)")
-    void increaseViewcount_success_cache_empty() {
-        Post post = createPost(POST_ID, INITIAL_VIEW_COUNT);
-
-        when(postRepository.findById(POST_ID)).thenReturn(Optional.of(post));
-        when(cacheManager.getCache("viewcount")).thenReturn(cache);
-        when(cache.get(POST_ID, Long.class)).thenReturn(null);
+    @DisplayName("조회수 조회 - DB 값에 반영 대기 중인 증가분을 더함")
+    void get_viewcount_success_with_pending() {
+        viewCounter.add(POST_ID, 5L);
+        when(viewCounterStore.find(POST_ID)).thenReturn(Optional.of(INITIAL_VIEW_COUNT));
 
-        Long result = postViewService.increaseViewcount(POST_ID);
+        PostViewCountResponse result = postViewService.getViewCount(POST_ID);
 
-        assertThat(result).isEqualTo(INITIAL_VIEW_COUNT + 1);
-        verify(cache).put(POST_ID, INITIAL_VIEW_COUNT + 1);
+        assertThat(result.getViewCount()).isEqualTo(INITIAL_VIEW_COUNT + 5L);
+        assertThat(result.getUniqueViewCount()).isNull();
     }
 
     @Test
-    @DisplayName("조회수 증가 - 캐시 매니저 없음")
-    void increaseViewcount_success_no_cache_manager() {
-        Post post = createPost(POST_ID, INITIAL_VIEW_COUNT);
-
-        when(postRepository.findById(POST_ID)).thenReturn(Optional.of(post));
-        when(cacheManager.getCache("viewcount")).thenReturn(null);
+    @DisplayName("조회수 조회 - 반영 대기 중인 증가분 없음")
+    void get_viewcount_success_no_pending() {
+        when(viewCounterStore.find(POST_ID)).thenReturn(Optional.of(INITIAL_VIEW_COUNT));
 
-        Long result = postViewService.increaseViewcount(POST_ID);
+        PostViewCountResponse result = postViewService.getViewCount(POST_ID);
 
-        assertThat(result).isEqualTo(INITIAL_VIEW_COUNT + 1);
-        verifyNoInteractions(cache);
+        assertThat(result.getViewCount()).isEqualTo(INITIAL_VIEW_COUNT);
     }
 
     @Test
-    @DisplayName("조회수 증가 - 게시글 없음")
-    void increaseViewcount_fail_post_not_found() {
-        when(postRepository.findById(POST_ID)).thenReturn(Optional.empty());
-
-        assertThatThrownBy(() -> postViewService.increaseViewcount(POST_ID))
-                .isInstanceOf(ResourceNotFoundException.class);
+    @DisplayName("고유 조회자 모드 - 같은 조회자의 반복 조회는 반영하지 않음")
+    void increaseViewcount_unique_mode_drop_repeated_view() {
+        UniqueViewTracker tracker = new UniqueViewTracker(true, 600, 1 << 16, 10_000);
+        PostViewServiceImpl uniqueViewService =
+                new PostViewServiceImpl(viewCounterStore, viewCounter, viewCountJournal, tracker, flushPolicy, flushMetrics, trendingPostService, recentPostFeed);
+        when(viewCounterStore.find(POST_ID)).thenReturn(Optional.of(0L));
+
+        uniqueViewService.increaseViewcount(POST_ID, VIEWER);
+        uniqueViewService.increaseViewcount(POST_ID, VIEWER);
+        uniqueViewService.increaseViewcount(POST_ID, "user:2");
+
+        PostViewCountResponse result = uniqueViewService.getViewCount(POST_ID);
+        assertThat(result.getViewCount()).isEqualTo(2L);
+        assertThat(result.getUniqueViewCount()).isEqualTo(2L);
     }
 
     @Test
-    @DisplayName("조회수 조회 - 캐시에 값이 있을 경우")
-    void get_viewcount_success_cache_present() {
-        when(cacheManager.getCache("viewcount")).thenReturn(cache);
-        when(cache.get(POST_ID, Long.class)).thenReturn(8L);
-
-        Long result = postViewService.getViewCount(POST_ID);
+    @DisplayName("조회수 조회 - 게시글 없음")
+    void get_viewcount_fail_not_found() {
+        when(viewCounterStore.find(POST_ID)).thenReturn(Optional.empty());
 
-        assertThat(result).isEqualTo(8L);
-        verify(postRepository, never()).findById(anyLong());
+        assertThatThrownBy(() -> postViewService.getViewCount(POST_ID))
+                .isInstanceOf(ResourceNotFoundException.class);
     }
 
     @Test
-    @DisplayName("조회수 조회 - 캐시에 값이 없을 경우")
-    void get_viewcount_success_cache_miss() {
-        Post post = createPost(POST_ID, INITIAL_VIEW_COUNT);
-
-        when(cacheManager.getCache("viewcount")).thenReturn(cache);
-        when(cache.get(POST_ID, Long.class)).thenReturn(null);
-        when(postRepository.findById(POST_ID)).thenReturn(Optional.of(post));
-
-        Long result = postViewService.getViewCount(POST_ID);
+    @DisplayName("조회수 벌크 동기화 - 증가분 없음")
+    void sync_viewcount_bulk_success_nothing_pending() {
+        postViewService.syncViewCountBulk();
 
-        assertThat(result).isEqualTo(INITIAL_VIEW_COUNT);
+        verifyNoInteractions(viewCounterStore);
     }
 
     @Test
-    @DisplayName("조회수 조회 - 캐시 미사용")
-    void get_viewcount_success_no_cache() {
-        Post post = createPost(POST_ID, INITIAL_VIEW_COUNT);
-
-        when(cacheManager.getCache("viewcount")).thenReturn(null);
-        when(postRepository.findById(POST_ID)).thenReturn(Optional.of(post));
+    @DisplayName("조회수 벌크 동기화 - 증가분 반영 후 카운터 차감")
+    void sync_viewcount_bulk_success_commit_deltas() {
+        viewCounter.add(POST_ID, 30L);
+        viewCounter.add(2L, 40L);
 
-        Long result = postViewService.getViewCount(POST_ID);
+        postViewService.syncViewCountBulk();
 
-        assertThat(result).isEqualTo(INITIAL_VIEW_COUNT);
-    }
+        ArgumentCaptor<Map<Long, Long>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(viewCounterStore).merge(captor.capture());
 
-    @Test
-    @DisplayName("조회수 조회 - 게시글 없음")
-    void get_viewcount_fail_not_found() {
-        when(cacheManager.getCache("viewcount")).thenReturn(cache);
-        when(cache.get(POST_ID, Long.class)).thenReturn(null);
-        when(postRepository.findById(POST_ID)).thenReturn(Optional.empty());
+        assertThat(captor.getValue())
+                .containsEntry(POST_ID, 30L)
+                .containsEntry(2L, 40L);
 
-        assertThatThrownBy(() -> postViewService.getViewCount(POST_ID))
-                .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(viewCounter.snapshot()).isEmpty();
+        verify(recentPostFeed).onViewCountsFlushed(captor.getValue());
     }
 
     @Test
-    @DisplayName("조회수 동기화 - 캐시 없음")
-    void sync_viewcount_success_no_cache() {
-        when(cacheManager.getCache("viewcount")).thenReturn(null);
+    @DisplayName("조회수 벌크 동기화 - 반영 중 들어온 조회수는 유지")
+    void sync_viewcount_bulk_success_keep_concurrent_increments() {
+        viewCounter.add(POST_ID, 10L);
+        doAnswer(invocation -> {
+            viewCounter.increment(POST_ID);
+            return null;
+        }).when(viewCounterStore).merge(anyMap());
 
-        postViewService.syncViewCount();
+        postViewService.syncViewCountBulk();
 
-        verifyNoInteractions(postRepository);
+        assertThat(viewCounter.get(POST_ID)).isEqualTo(1L);
     }
 
     @Test
-    @DisplayName("조회수 동기화 - 캐시 값 DB 반영")
-    void sync_viewcount_success_update_to_post() {
-        Post post = createPost(POST_ID, INITIAL_VIEW_COUNT);
-        ConcurrentHashMap<Long, Long> cacheStore = new ConcurrentHashMap<>();
-        cacheStore.put(POST_ID, 20L);
-
-        when(cacheManager.getCache("viewcount")).thenReturn(cache);
-        when(cache.getNativeCache()).thenReturn(cacheStore);
-        when(postRepository.findById(POST_ID)).thenReturn(Optional.of(post));
+    @DisplayName("조회수 벌크 동기화 - 실패 시 증가분 유지")
+    void sync_viewcount_bulk_fail_keep_deltas() {
+        viewCounter.add(POST_ID, 50L);
+        doThrow(new RuntimeException("fail"))
+                .when(viewCounterStore).merge(anyMap());
 
-        postViewService.syncViewCount();
+        postViewService.syncViewCountBulk();
 
-        assertThat(post.getViewCount()).isEqualTo(20L);
-        verify(postRepository).findById(POST_ID);
+        assertThat(viewCounter.get(POST_ID)).isEqualTo(50L);
+        verify(viewCountJournal, never()).commit(anyMap());
+        verify(flushPolicy).recordFailure();
+        assertThat(meterRegistry.get("viewcount.flush.failures").counter().count()).isEqualTo(1.0);
     }
 
     @Test
-    @DisplayName("조회수 벌크 동기화 - 캐시 없음")
-    void sync_viewcount_bulk_success_no_cache() {
-        when(cacheManager.getCache("viewcount")).thenReturn(null);
+    @DisplayName("조회수 벌크 동기화 - 배치 크기 단위로 나눠 반영")
+    void sync_viewcount_bulk_success_partition_by_batch_size() {
+        when(flushPolicy.batchSize()).thenReturn(2);
+        for (long postId = 1; postId <= 5; postId++) {
+            viewCounter.add(postId, postId);
+        }
 
         postViewService.syncViewCountBulk();
 
-        verifyNoInteractions(postJdbcRepository);
+        verify(viewCounterStore, times(3)).merge(anyMap());
+        assertThat(viewCounter.snapshot()).isEmpty();
+        assertThat(meterRegistry.get("viewcount.flush.rows").summary().totalAmount()).isEqualTo(5.0);
+        assertThat(meterRegistry.get("viewcount.flush.duration").timer().count()).isEqualTo(1L);
     }
 
     @Test
-    @DisplayName("조회수 벌크 동기화 - 정상 업데이트 후 캐시 비우기")
-    void sync_viewcount_bulk_success_clear_cache() {
-        ConcurrentHashMap<Long, Long> cacheStore = new ConcurrentHashMap<>();
-        cacheStore.put(POST_ID, 30L);
-        cacheStore.put(2L, 40L);
-
-        when(cacheManager.getCache("viewcount")).thenReturn(cache);
-        when(cache.getNativeCache()).thenReturn(cacheStore);
+    @DisplayName("조회수 벌크 동기화 - 중간 배치 실패 시 반영된 배치만 차감")
+    void sync_viewcount_bulk_fail_keep_unflushed_batches() {
+        when(flushPolicy.batchSize()).thenReturn(1);
+        viewCounter.add(POST_ID, 10L);
+        viewCounter.add(2L, 20L);
+        doNothing()
+                .doThrow(new RuntimeException("fail"))
+                .when(viewCounterStore).merge(anyMap());
 
         postViewService.syncViewCountBulk();
 
-        ArgumentCaptor<Map<Long, Long>> captor = ArgumentCaptor.forClass(Map.class);
-        verify(postJdbcRepository).bulkUpdateViewcounts(captor.capture());
-
-        assertThat(captor.getValue())
-                .containsEntry(POST_ID, 30L)
-                .containsEntry(2L, 40L);
-
-        assertThat(cacheStore).isEmpty();
+        assertThat(viewCounter.get(POST_ID) + viewCounter.get(2L)).isIn(10L, 20L);
+        assertThat(viewCounter.pendingKeys()).isEqualTo(1);
+        verify(viewCountJournal, times(1)).commit(anyMap());
     }
 
     @Test
-    @DisplayName("조회수 벌크 동기화 - 실패 시 캐시 유지")
-    void sync_viewcount_bulk_fail_keep_cache() {
-        ConcurrentHashMap<Long, Long> cacheStore = new ConcurrentHashMap<>();
-        cacheStore.put(POST_ID, 50L);
-
-        when(cacheManager.getCache("viewcount")).thenReturn(cache);
-        when(cache.getNativeCache()).thenReturn(cacheStore);
-        doThrow(new RuntimeException("fail"))
-                .when(postJdbcRepository).bulkUpdateViewcounts(anyMap());
-
-        postViewService.syncViewCountBulk();
-
-        assertThat(cacheStore).hasSize(1);
+    @DisplayName("조회수 벌크 동기화 - 진행 중인 flush 와 겹쳐도 같은 증가분을 두 번 반영하지 않음")
+    void sync_viewcount_bulk_not_overlapping() throws Exception {
+        viewCounter.add(POST_ID, 7L);
+        CountDownLatch merging = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            merging.countDown();
+            release.await();
+            return null;
+        }).when(viewCounterStore).merge(anyMap());
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> scheduled = executor.submit(postViewService::syncViewCountBulk);
+            merging.await();
+            Thread shutdown = new Thread(postViewService::flushOnShutdown);
+            shutdown.start();
+            while (shutdown.getState() != Thread.State.WAITING) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+            scheduled.get();
+            shutdown.join();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(viewCounterStore, times(1)).merge(Map.of(POST_ID, 7L));
+        assertThat(viewCounter.get(POST_ID)).isZero();
     }
 
-    private Post createPost(Long id, Long viewCount) {
-        Post post = Post.builder()
-                .title("title")
-                .content("content")
-                .user(createUser())
-                .build();
-        ReflectionTestUtils.setField(post, "id", id);
-        post.upViewcount(viewCount);
-        return post;
-    }
+    @Test
+    @DisplayName("종료 시 남은 조회수 동기화")
+    void flush_on_shutdown() {
+        viewCounter.add(POST_ID, 7L);
+
+        postViewService.flushOnShutdown();
 
-    private User createUser() {
-        User user = User.builder()
-                .email("user@test.com")
-                .password("password")
-                .nickname("tester")
-                .profileImage("profile")
-                .build();
-        ReflectionTestUtils.setField(user, "id", USER_ID);
-        return user;
+        verify(viewCounterStore).merge(Map.of(POST_ID, 7L));
+        assertThat(viewCounter.get(POST_ID)).isZero();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,73 @@
+package com.example.community.service.post.viewcount;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class UniqueViewTrackerTest {
+
+    private static final long POST_ID = 1L;
+    private static final long WINDOW_MILLIS = 60_000L;
+
+    private final AtomicLong clock = new AtomicLong();
+    private final UniqueViewTracker tracker =
+            new UniqueViewTracker(true, new ViewerDedupeFilter(1 << 16, WINDOW_MILLIS, clock::get), 3);
+
+    @Test
+    @DisplayName("비활성화 시 모든 조회를 반영")
+    void disabled_counts_every_view() {
+        UniqueViewTracker disabled = new UniqueViewTracker(false, 600, 1 << 16, 10_000);
+
+        assertThat(disabled.record(POST_ID, "ip:1.1.1.1")).isTrue();
+        assertThat(disabled.record(POST_ID, "ip:1.1.1.1")).isTrue();
+        assertThat(disabled.getUniqueViewCount(POST_ID)).isNull();
+    }
+
+    @Test
+    @DisplayName("윈도우 안의 반복 조회는 제외")
+    void drop_repeated_view_within_window() {
+        assertThat(tracker.record(POST_ID, "user:1")).isTrue();
+        assertThat(tracker.record(POST_ID, "user:1")).isFalse();
+        assertThat(tracker.record(POST_ID, "user:2")).isTrue();
+        assertThat(tracker.record(2L, "user:1")).isTrue();
+
+        assertThat(tracker.getUniqueViewCount(POST_ID)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("윈도우가 두 번 지나면 다시 조회수로 반영")
+    void count_again_after_window_expired() {
+        assertThat(tracker.record(POST_ID, "ip:10.0.0.1")).isTrue();
+
+        clock.addAndGet(WINDOW_MILLIS);
+        assertThat(tracker.record(POST_ID, "ip:10.0.0.1")).isFalse();
+
+        clock.addAndGet(WINDOW_MILLIS * 2);
+        assertThat(tracker.record(POST_ID, "ip:10.0.0.1")).isTrue();
+
+        assertThat(tracker.getUniqueViewCount(POST_ID)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("조회자를 알 수 없으면 그대로 반영")
+    void count_unknown_viewer() {
+        assertThat(tracker.record(POST_ID, null)).isTrue();
+        assertThat(tracker.record(POST_ID, null)).isTrue();
+        assertThat(tracker.getUniqueViewCount(POST_ID)).isZero();
+    }
+
+    @Test
+    @DisplayName("스케치는 최근 조회된 게시글 수만큼만 유지")
+    void evict_least_recently_viewed_post() {
+        for (long postId = 1; postId <= 4; postId++) {
+            tracker.record(postId, "user:1");
+        }
+
+        assertThat(tracker.trackedPosts()).isEqualTo(3);
+        assertThat(tracker.getUniqueViewCount(1L)).isZero();
+        assertThat(tracker.getUniqueViewCount(4L)).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.community.service.post.viewcount;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ViewCountFlushPolicyTest {
+
+    private final ViewCountFlushPolicy policy = new ViewCountFlushPolicy(1000, 60000, 10000, 200, 50, 2000);
+
+    @Test
+    @DisplayName("대기 중인 게시글이 없으면 최대 주기")
+    void next_delay_idle() {
+        assertThat(policy.nextDelay(0)).isEqualTo(Duration.ofMillis(60000));
+    }
+
+    @Test
+    @DisplayName("대기 중인 게시글이 많을수록 주기가 짧아짐")
+    void next_delay_shrinks_with_backlog() {
+        Duration small = policy.nextDelay(100);
+        Duration half = policy.nextDelay(5000);
+        Duration full = policy.nextDelay(50000);
+
+        assertThat(small).isGreaterThan(half);
+        assertThat(half).isGreaterThan(full);
+        assertThat(full).isEqualTo(Duration.ofMillis(1000));
+    }
+
+    @Test
+    @DisplayName("직전 flush 소요 시간의 두 배보다 짧게 잡지 않음")
+    void next_delay_keeps_headroom() {
+        policy.recordSuccess(1000, Duration.ofSeconds(3).toNanos());
+
+        assertThat(policy.nextDelay(50000)).isEqualTo(Duration.ofSeconds(6));
+    }
+
+    @Test
+    @DisplayName("행당 소요 시간으로 배치 크기 조정")
+    void batch_size_follows_latency() {
+        assertThat(policy.batchSize()).isEqualTo(100);
+
+        // 행당 0.2ms -> 200ms 안에 1000행
+        policy.recordSuccess(100, Duration.ofMillis(20).toNanos());
+        assertThat(policy.batchSize()).isEqualTo(1000);
+
+        // 행당 10ms 가 여러 번 관측되면 하한까지 줄어듦
+        for (int i = 0; i < 20; i++) {
+            policy.recordSuccess(100, Duration.ofSeconds(1).toNanos());
+        }
+        assertThat(policy.batchSize()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("실패 시 지수 백오프 후 성공하면 복구")
+    void failure_backoff_and_recover() {
+        policy.recordFailure();
+        assertThat(policy.nextDelay(50000)).isEqualTo(Duration.ofMillis(2000));
+        assertThat(policy.batchSize()).isEqualTo(50);
+
+        policy.recordFailure();
+        assertThat(policy.nextDelay(50000)).isEqualTo(Duration.ofMillis(4000));
+
+        for (int i = 0; i < 10; i++) {
+            policy.recordFailure();
+        }
+        assertThat(policy.nextDelay(50000)).isEqualTo(Duration.ofMillis(60000));
+
+        policy.recordSuccess(10, Duration.ofMillis(1).toNanos());
+        assertThat(policy.consecutiveFailures()).isZero();
+        assertThat(policy.nextDelay(50000)).isEqualTo(Duration.ofMillis(1000));
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.community.service.post.viewcount;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Instant;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ViewCountFlushSchedulerTest {
+
+    @Mock private TaskScheduler taskScheduler;
+    @Mock private PostViewService postViewService;
+    @Spy private ViewCounter viewCounter = new ViewCounter();
+    @Spy private ViewCountFlushPolicy flushPolicy = new ViewCountFlushPolicy(1000, 60000, 10000, 200, 50, 2000);
+
+    @InjectMocks
+    private ViewCountFlushScheduler scheduler;
+
+    @Test
+    @DisplayName("flush 후 다음 flush 예약")
+    void run_reschedules() {
+        scheduler.start();
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).schedule(task.capture(), any(Instant.class));
+
+        task.getValue().run();
+
+        verify(postViewService).syncViewCountBulk();
+        verify(taskScheduler, times(2)).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("flush 가 예외를 던져도 다음 flush 예약")
+    void run_reschedules_on_exception() {
+        doThrow(new RuntimeException("fail")).when(postViewService).syncViewCountBulk();
+
+        scheduler.run();
+
+        verify(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("종료 후에는 예약하지 않음")
+    void stop_prevents_reschedule() {
+        scheduler.stop();
+
+        scheduler.run();
+
+        verify(postViewService).syncViewCountBulk();
+        verifyNoInteractions(taskScheduler);
+    }
+}
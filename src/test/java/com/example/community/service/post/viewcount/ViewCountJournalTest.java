@@ -0,0 +1,121 @@
+package com.example.community.service.post.viewcount;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ViewCountJournalTest {
+
+    private static final long POST_ID = 1L;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("checkpoint 한 증가분은 재시작 후 복구")
+    void replay_after_restart() {
+        Path path = tempDir.resolve("viewcount.journal");
+        ViewCounter counter = new ViewCounter();
+        ViewCountJournal journal = open(counter, path, 1024 * 1024);
+
+        counter.add(POST_ID, 5L);
+        counter.add(2L, 3L);
+        journal.checkpoint();
+        counter.increment(POST_ID);
+        journal.checkpoint();
+
+        ViewCounter restarted = new ViewCounter();
+        open(restarted, path, 1024 * 1024);
+
+        assertThat(restarted.snapshot()).containsEntry(POST_ID, 6L).containsEntry(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("DB 에 반영된 증가분은 재시작 후 다시 복구되지 않음")
+    void committed_deltas_not_replayed() {
+        Path path = tempDir.resolve("viewcount.journal");
+        ViewCounter counter = new ViewCounter();
+        ViewCountJournal journal = open(counter, path, 1024 * 1024);
+
+        counter.add(POST_ID, 10L);
+        Map<Long, Long> flushed = journal.checkpoint();
+        counter.add(POST_ID, 2L);
+        journal.commit(flushed);
+        journal.checkpoint();
+
+        ViewCounter restarted = new ViewCounter();
+        open(restarted, path, 1024 * 1024);
+
+        assertThat(counter.get(POST_ID)).isEqualTo(2L);
+        assertThat(restarted.snapshot()).containsOnly(Map.entry(POST_ID, 2L));
+    }
+
+    @Test
+    @DisplayName("임계치를 넘으면 남은 증가분만 남기고 파일 압축")
+    void compact_when_threshold_exceeded() throws IOException {
+        Path path = tempDir.resolve("viewcount.journal");
+        ViewCounter counter = new ViewCounter();
+        ViewCountJournal journal = open(counter, path, 200);
+
+        for (long i = 0; i < 50; i++) {
+            counter.increment(i);
+            journal.commit(journal.checkpoint());
+        }
+        counter.add(POST_ID, 4L);
+        journal.checkpoint();
+
+        assertThat(Files.size(path)).isLessThanOrEqualTo(200);
+
+        ViewCounter restarted = new ViewCounter();
+        open(restarted, path, 200);
+        assertThat(restarted.snapshot()).containsOnly(Map.entry(POST_ID, 4L));
+    }
+
+    @Test
+    @DisplayName("마지막 레코드가 잘린 경우 온전한 레코드까지만 복구")
+    void ignore_torn_tail_record() throws IOException {
+        Path path = tempDir.resolve("viewcount.journal");
+        ViewCounter counter = new ViewCounter();
+        ViewCountJournal journal = open(counter, path, 1024 * 1024);
+
+        counter.add(POST_ID, 8L);
+        journal.checkpoint();
+        Files.write(path, new byte[]{1, 2, 3, 4, 5}, StandardOpenOption.APPEND);
+
+        ViewCounter restarted = new ViewCounter();
+        open(restarted, path, 1024 * 1024);
+
+        assertThat(restarted.snapshot()).containsOnly(Map.entry(POST_ID, 8L));
+    }
+
+    @Test
+    @DisplayName("비활성화 시 파일을 만들지 않고 카운터만 사용")
+    void disabled_journal() {
+        Path path = tempDir.resolve("viewcount.journal");
+        ViewCounter counter = new ViewCounter();
+        ViewCountJournal journal = new ViewCountJournal(counter, false, path, 0L);
+        journal.open();
+
+        counter.add(POST_ID, 3L);
+        Map<Long, Long> snapshot = journal.checkpoint();
+        journal.commit(snapshot);
+
+        assertThat(snapshot).containsEntry(POST_ID, 3L);
+        assertThat(counter.get(POST_ID)).isZero();
+        assertThat(path).doesNotExist();
+    }
+
+    private ViewCountJournal open(ViewCounter counter, Path path, long compactThresholdBytes) {
+        ViewCountJournal journal = new ViewCountJournal(counter, true, path, compactThresholdBytes);
+        journal.open();
+        return journal;
+    }
+}
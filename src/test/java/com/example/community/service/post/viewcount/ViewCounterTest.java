@@ -0,0 +1,125 @@
+package com.example.community.service.post.viewcount;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ViewCounterTest {
+
+    private static final long HOT_POST_ID = 1L;
+
+    private final ViewCounter viewCounter = new ViewCounter();
+
+    @Test
+    @DisplayName("증가분 snapshot 후 commit 하면 반영한 만큼만 차감")
+    void snapshot_and_commit() {
+        viewCounter.add(HOT_POST_ID, 3L);
+        viewCounter.increment(2L);
+
+        Map<Long, Long> snapshot = viewCounter.snapshot();
+        viewCounter.increment(HOT_POST_ID);
+        viewCounter.commit(snapshot);
+
+        assertThat(snapshot).containsEntry(HOT_POST_ID, 3L).containsEntry(2L, 1L);
+        assertThat(viewCounter.get(HOT_POST_ID)).isEqualTo(1L);
+        assertThat(viewCounter.get(2L)).isZero();
+        assertThat(viewCounter.pendingKeys()).isEqualTo(1);
+        assertThat(viewCounter.trackedKeys()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("수천 개 스레드가 같은 게시글을 조회하고 동시에 flush 해도 유실 없음")
+    void concurrent_increment_and_flush_without_lost_updates() throws InterruptedException {
+        int threadCount = 2_000;
+        int viewsPerThread = 500;
+
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+        AtomicLong flushed = new AtomicLong();
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        Thread flusher = new Thread(() -> {
+            while (running.get()) {
+                Map<Long, Long> snapshot = viewCounter.snapshot();
+                snapshot.values().forEach(flushed::addAndGet);
+                viewCounter.commit(snapshot);
+            }
+        });
+        flusher.start();
+
+        List<Thread> viewers = new ArrayList<>(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            Thread viewer = new Thread(() -> {
+                try {
+                    start.await();
+                    for (int j = 0; j < viewsPerThread; j++) {
+                        viewCounter.increment(HOT_POST_ID);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+            viewer.start();
+            viewers.add(viewer);
+        }
+
+        start.countDown();
+        done.await();
+        running.set(false);
+        flusher.join();
+        for (Thread viewer : viewers) {
+            viewer.join();
+        }
+
+        long total = flushed.get() + viewCounter.get(HOT_POST_ID);
+        assertThat(total).isEqualTo((long) threadCount * viewsPerThread);
+
+        viewCounter.commit(viewCounter.snapshot());
+        assertThat(viewCounter.trackedKeys()).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 게시글에 동시에 조회수가 들어와도 게시글별 합계 정확")
+    void concurrent_increment_multiple_posts() throws InterruptedException {
+        int threadCount = 1_000;
+        int postCount = 16;
+        int viewsPerThread = 160;
+
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+
+        for (int i = 0; i < threadCount; i++) {
+            Thread viewer = new Thread(() -> {
+                try {
+                    start.await();
+                    for (int j = 0; j < viewsPerThread; j++) {
+                        viewCounter.increment((long) (j % postCount));
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+            viewer.start();
+        }
+
+        start.countDown();
+        done.await();
+
+        Map<Long, Long> snapshot = viewCounter.snapshot();
+        assertThat(snapshot).hasSize(postCount);
+        assertThat(snapshot.values())
+                .allMatch(count -> count == (long) threadCount * viewsPerThread / postCount);
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.community.service.post.viewcount.store;
+
+import com.example.community.service.post.feed.RecentPostFeed;
+import com.example.community.service.post.trending.TrendingPostService;
+import com.example.community.service.post.viewcount.PostViewServiceImpl;
+import com.example.community.service.post.viewcount.UniqueViewTracker;
+import com.example.community.service.post.viewcount.ViewCountFlushMetrics;
+import com.example.community.service.post.viewcount.ViewCountFlushPolicy;
+import com.example.community.service.post.viewcount.ViewCountJournal;
+import com.example.community.service.post.viewcount.ViewCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class InMemoryViewCounterStoreTest {
+
+    private static final long POST_ID = 1L;
+
+    private final InMemoryViewCounterStore store = new InMemoryViewCounterStore();
+
+    @Test
+    @DisplayName("증가분 병합")
+    void merge_deltas() {
+        store.merge(Map.of(POST_ID, 3L, 2L, 1L));
+        store.merge(Map.of(POST_ID, 4L));
+
+        assertThat(store.find(POST_ID)).contains(7L);
+        assertThat(store.find(2L)).contains(1L);
+        assertThat(store.find(3L)).contains(0L);
+    }
+
+    @Test
+    @DisplayName("여러 노드가 동시에 조회수를 받고 flush 해도 합계가 정확")
+    void multiple_nodes_merge_into_shared_store() throws InterruptedException {
+        int nodeCount = 4;
+        int viewsPerNode = 50_000;
+
+        List<PostViewServiceImpl> nodes = new ArrayList<>();
+        for (int i = 0; i < nodeCount; i++) {
+            ViewCounter counter = new ViewCounter();
+            ViewCountFlushPolicy policy = new ViewCountFlushPolicy(1000, 60000, 10000, 200, 50, 2000);
+            nodes.add(new PostViewServiceImpl(
+                    store,
+                    counter,
+                    new ViewCountJournal(counter, false, Path.of("unused.journal"), 0L),
+                    new UniqueViewTracker(false, 600, 1 << 16, 10_000),
+                    policy,
+                    new ViewCountFlushMetrics(new SimpleMeterRegistry(), counter, policy),
+                    mock(TrendingPostService.class),
+                    mock(RecentPostFeed.class)));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(nodeCount * 2);
+        CountDownLatch done = new CountDownLatch(nodeCount);
+        for (PostViewServiceImpl node : nodes) {
+            executor.submit(() -> {
+                for (int i = 0; i < viewsPerNode; i++) {
+                    node.increaseViewcount(POST_ID, null);
+                }
+                done.countDown();
+            });
+            executor.submit(() -> {
+                while (done.getCount() > 0) {
+                    node.syncViewCountBulk();
+                }
+            });
+        }
+        done.await();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        nodes.forEach(PostViewServiceImpl::syncViewCountBulk);
+
+        assertThat(store.find(POST_ID)).contains((long) nodeCount * viewsPerNode);
+        assertThat(nodes.getFirst().getViewCount(POST_ID).getViewCount()).isEqualTo((long) nodeCount * viewsPerNode);
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.community.service.s3;
+
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ServiceClientConfiguration;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.DeletedObject;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 S3. 키만 저장하고 삭제 계열 호출만 흉내 낸다.
+ * failOn 으로 특정 키의 삭제를 실패시키고, unavailable 로 요청 자체를 실패시킬 수 있다.
+ */
+public class InMemoryS3Client implements S3Client {
+
+    private final Set<String> objects = ConcurrentHashMap.newKeySet();
+    private final Set<String> failingKeys = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger deleteObjectsCalls = new AtomicInteger();
+    private volatile boolean unavailable;
+
+    public void put(String key) {
+        objects.add(key);
+    }
+
+    public boolean contains(String key) {
+        return objects.contains(key);
+    }
+
+    public void failOn(String key) {
+        failingKeys.add(key);
+    }
+
+    public void recover(String key) {
+        failingKeys.remove(key);
+    }
+
+    public void setUnavailable(boolean unavailable) {
+        this.unavailable = unavailable;
+    }
+
+    public int deleteObjectsCalls() {
+        return deleteObjectsCalls.get();
+    }
+
+    @Override
+    public DeleteObjectResponse deleteObject(DeleteObjectRequest request) {
+        checkAvailable();
+        objects.remove(request.key());
+        return DeleteObjectResponse.builder().build();
+    }
+
+    @Override
+    public DeleteObjectsResponse deleteObjects(DeleteObjectsRequest request) {
+        deleteObjectsCalls.incrementAndGet();
+        checkAvailable();
+
+        List<ObjectIdentifier> keys = request.delete().objects();
+        if (keys.size() > 1000) {
+            throw (S3Exception) S3Exception.builder().statusCode(400).message("MalformedXML").build();
+        }
+
+        List<DeletedObject> deleted = new ArrayList<>();
+        List<S3Error> errors = new ArrayList<>();
+        for (ObjectIdentifier object : keys) {
+            if (failingKeys.contains(object.key())) {
+                errors.add(S3Error.builder().key(object.key()).code("InternalError").message("injected").build());
+                continue;
+            }
+            // 없는 키도 S3 처럼 성공으로 답한다.
+            objects.remove(object.key());
+            deleted.add(DeletedObject.builder().key(object.key()).build());
+        }
+
+        boolean quiet = Boolean.TRUE.equals(request.delete().quiet());
+        return DeleteObjectsResponse.builder()
+                .deleted(quiet ? List.of() : deleted)
+                .errors(errors)
+                .build();
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public S3ServiceClientConfiguration serviceClientConfiguration() {
+        return S3ServiceClientConfiguration.builder().build();
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private void checkAvailable() {
+        if (unavailable) {
+            throw SdkClientException.create("S3 unavailable");
+        }
+    }
+}
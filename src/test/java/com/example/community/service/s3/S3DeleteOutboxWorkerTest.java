@@ -0,0 +1,121 @@
+package com.example.community.service.s3;
+
+import com.example.community.domain.S3DeleteOutbox;
+import com.example.community.domain.S3DeleteStatus;
+import com.example.community.repository.s3.S3DeleteOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class S3DeleteOutboxWorkerTest {
+
+    @Autowired
+    private S3DeleteOutboxRepository s3DeleteOutboxRepository;
+
+    private InMemoryS3Client s3Client;
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicReference<LocalDateTime> now;
+    private S3DeleteQueue queue;
+    private S3DeleteOutboxWorker worker;
+
+    @BeforeEach
+    void init() {
+        s3Client = new InMemoryS3Client();
+        meterRegistry = new SimpleMeterRegistry();
+        now = new AtomicReference<>(LocalDateTime.now().plusSeconds(1));
+        queue = new S3DeleteQueue(s3DeleteOutboxRepository);
+        worker = new S3DeleteOutboxWorker(s3DeleteOutboxRepository, s3Client, new S3DeleteOutboxMetrics(meterRegistry),
+                "test-bucket", 3, Duration.ofSeconds(1), Duration.ofMinutes(1), now::get);
+    }
+
+    @Test
+    @DisplayName("삭제 - 1000 키씩 묶어서 지우고 outbox 를 비움")
+    void drain_in_batches() {
+        List<String> keys = IntStream.range(0, 1500).mapToObj(i -> "post/" + i + ".png").toList();
+        keys.forEach(s3Client::put);
+        queue.enqueue(keys);
+
+        worker.drain();
+
+        assertThat(s3Client.deleteObjectsCalls()).isEqualTo(2);
+        assertThat(keys).noneMatch(s3Client::contains);
+        assertThat(s3DeleteOutboxRepository.count()).isZero();
+        assertThat(meterRegistry.get("s3.outbox.keys").tag("result", "deleted").counter().count()).isEqualTo(1500);
+    }
+
+    @Test
+    @DisplayName("삭제 - 같은 키는 한 번만 요청")
+    void drain_duplicate_keys() {
+        s3Client.put("a.png");
+        queue.enqueue(List.of("a.png", "", "a.png"));
+        queue.enqueue("a.png");
+
+        worker.drain();
+
+        assertThat(s3Client.contains("a.png")).isFalse();
+        assertThat(s3Client.deleteObjectsCalls()).isEqualTo(1);
+        assertThat(s3DeleteOutboxRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("삭제 - 실패한 키만 백오프 뒤에 다시 시도")
+    void retry_failed_key_after_backoff() {
+        s3Client.put("a.png");
+        s3Client.put("b.png");
+        s3Client.failOn("b.png");
+        queue.enqueue(List.of("a.png", "b.png"));
+
+        worker.drain();
+
+        assertThat(s3Client.contains("a.png")).isFalse();
+        S3DeleteOutbox remaining = s3DeleteOutboxRepository.findAll().getFirst();
+        assertThat(remaining.getObjectKey()).isEqualTo("b.png");
+        assertThat(remaining.getAttempts()).isEqualTo(1);
+        assertThat(remaining.getStatus()).isEqualTo(S3DeleteStatus.PENDING);
+
+        s3Client.recover("b.png");
+        worker.drain();
+        assertThat(s3Client.deleteObjectsCalls()).isEqualTo(1);
+
+        now.set(now.get().plusSeconds(2));
+        worker.drain();
+
+        assertThat(s3Client.contains("b.png")).isFalse();
+        assertThat(s3DeleteOutboxRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("삭제 - 재시도 한도를 넘기면 DEAD 로 남김")
+    void dead_letter_after_max_attempts() {
+        s3Client.put("a.png");
+        s3Client.setUnavailable(true);
+        queue.enqueue(List.of("a.png"));
+
+        for (int i = 0; i < 3; i++) {
+            worker.drain();
+            now.set(now.get().plusMinutes(1));
+        }
+        worker.drain();
+
+        assertThat(s3Client.deleteObjectsCalls()).isEqualTo(3);
+        assertThat(s3Client.contains("a.png")).isTrue();
+        S3DeleteOutbox dead = s3DeleteOutboxRepository.findAll().getFirst();
+        assertThat(dead.getStatus()).isEqualTo(S3DeleteStatus.DEAD);
+        assertThat(dead.getLastError()).contains("S3 unavailable");
+        assertThat(meterRegistry.get("s3.outbox.keys").tag("result", "dead").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("s3.outbox.dead.letters").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("s3.outbox.pending").gauge().value()).isZero();
+    }
+}
@@ -18,7 +18,8 @@ import com.example.community.repository.comment.CommentRepository;
 import com.example.community.repository.post.PostRepository;
 import com.example.community.repository.token.RefreshTokenRepository;
 import com.example.community.repository.user.UserRepository;
-import org.junit.jupiter.api.BeforeEach;
+import com.example.community.service.autocomplete.AutocompleteService;
+import com.example.community.service.s3.S3DeleteQueue;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -26,10 +27,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.test.util.ReflectionTestUtils;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
-import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -63,16 +60,14 @@ class UserServiceTest {
     private AuthValidator authValidator;
 
     @Mock
-    private S3Client s3Client;
+    private AutocompleteService autocompleteService;
+
+    @Mock
+    private S3DeleteQueue s3DeleteQueue;
 
     @InjectMocks
     private UserServiceImpl userService;
 
-    @BeforeEach
-    void setUp() {
-        ReflectionTestUtils.setField(userService, "bucket", "test-bucket");
-    }
-
     @Test
     @DisplayName("회원가입 성공")
     void signup_success() {
@@ -145,13 +140,13 @@ class UserServiceTest {
 
         when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(persisted));
         when(userRepository.existsByNickname(dto.getNickname())).thenReturn(false);
-        when(s3Client.deleteObject(any(DeleteObjectRequest.class))).thenReturn(DeleteObjectResponse.builder().build());
 
         UserDetailResponse response = userService.updateUser(dto, user);
 
         assertThat(response.getNickname()).isEqualTo("updated");
         assertThat(response.getProfileImage()).isEqualTo("new.png");
-        verify(s3Client).deleteObject(any(DeleteObjectRequest.class));
+        verify(s3DeleteQueue).enqueue("old.png");
+        verify(autocompleteService).onNicknameChanged(persisted.getId(), "updated");
     }
 
     @Test
@@ -305,6 +300,7 @@ class UserServiceTest {
         verify(commentRepository).findAllByUser(user);
         verify(refreshTokenRepository).findByUser(user);
         verify(refreshTokenRepository).delete(refreshToken);
+        verify(s3DeleteQueue).enqueue("profile");
         verify(userRepository).delete(user);
     }
 
@@ -323,6 +319,7 @@ class UserServiceTest {
         verify(commentRepository).findAllByUser(user);
         verify(refreshTokenRepository).findByUser(user);
         verify(refreshTokenRepository, never()).delete(any());
+        verifyNoInteractions(s3DeleteQueue);
         verify(userRepository, never()).delete(user);
     }
 